@@ -0,0 +1,46 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.models.orm.process.internal.StandardPersistentAttributeMemberResolver;
+import org.hibernate.models.spi.ClassDetails;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import jakarta.persistence.AccessType;
+
+/**
+ * Benchmarks {@linkplain StandardPersistentAttributeMemberResolver#resolveAttributesMembers resolving
+ * the attribute members} of each entity of the categorized model.
+ *
+ * @author Steve Ebersole
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 3 )
+@Measurement( iterations = 5 )
+@Fork( 1 )
+public class AttributeMemberResolverBenchmark {
+	@Benchmark
+	public void resolveAttributesMembers(CategorizedModelState state, Blackhole blackhole) {
+		for ( ClassDetails entityClass : state.getEntityClasses() ) {
+			blackhole.consume( StandardPersistentAttributeMemberResolver.INSTANCE.resolveAttributesMembers(
+					entityClass,
+					AccessType.FIELD,
+					blackhole::consume,
+					state.getCategorizationContext()
+			) );
+		}
+	}
+}
@@ -0,0 +1,286 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process.jmh;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+
+/**
+ * A generated domain model of {@code entityCount} entities, organized in hierarchies of
+ * {@code inheritanceDepth} levels.  Each root entity has an id, a version, a couple of basic
+ * attributes, a many-to-one to the previous root, a sequence generator and a named query; each
+ * subclass adds basic attributes of its own.
+ * <p/>
+ * The classes are compiled from generated sources.  When {@linkplain Sourcing#XML sourced from XML}
+ * the classes have no annotations, and are mapped by a complete {@code orm.xml} instead.
+ * <p/>
+ * The sources, classes and mapping are generated into a temporary directory, which
+ * {@linkplain #close() closing} the model deletes, along with closing the loader of its classes.
+ *
+ * @author Steve Ebersole
+ */
+public class BenchmarkModel implements AutoCloseable {
+	public enum Sourcing {
+		ANNOTATIONS,
+		XML
+	}
+
+	public static final String PACKAGE = "org.hibernate.models.orm.process.jmh.model";
+
+	private final Path directory;
+	private final List<String> classNames;
+	private final Path mappingFile;
+	private final URLClassLoader classLoader;
+
+	private BenchmarkModel(Path directory, List<String> classNames, Path mappingFile, URLClassLoader classLoader) {
+		this.directory = directory;
+		this.classNames = classNames;
+		this.mappingFile = mappingFile;
+		this.classLoader = classLoader;
+	}
+
+	/**
+	 * The names of all the entity classes
+	 */
+	public List<String> getClassNames() {
+		return classNames;
+	}
+
+	/**
+	 * The loader of the generated classes
+	 */
+	public ClassLoader getClassLoader() {
+		return classLoader;
+	}
+
+	public MetadataSources metadataSources(StandardServiceRegistry serviceRegistry) {
+		final MetadataSources metadataSources = new MetadataSources( serviceRegistry );
+		if ( mappingFile == null ) {
+			classNames.forEach( metadataSources::addAnnotatedClassName );
+		}
+		else {
+			metadataSources.addFile( mappingFile.toFile() );
+		}
+		return metadataSources;
+	}
+
+	/**
+	 * Closes the loader of the generated classes and deletes the directory they were generated into
+	 */
+	@Override
+	public void close() {
+		try {
+			classLoader.close();
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException( e );
+		}
+		finally {
+			delete( directory );
+		}
+	}
+
+	public static BenchmarkModel generate(int entityCount, int inheritanceDepth, Sourcing sourcing) {
+		final Path directory;
+		try {
+			directory = Files.createTempDirectory( "categorization-benchmark" );
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException( e );
+		}
+
+		try {
+			final Path sourceDirectory = Files.createDirectories( directory.resolve( "src" ) );
+			final Path classesDirectory = Files.createDirectories( directory.resolve( "classes" ) );
+
+			final boolean annotated = sourcing == Sourcing.ANNOTATIONS;
+			final List<String> classNames = new ArrayList<>( entityCount );
+			final List<String> sourceFiles = new ArrayList<>( entityCount );
+			final StringWriter mapping = new StringWriter();
+			mapping.append( "<entity-mappings xmlns=\"http://www.hibernate.org/xsd/orm/mapping\" version=\"7.0\">\n" );
+
+			int previousRoot = -1;
+			for ( int i = 0; i < entityCount; i++ ) {
+				final int level = i % inheritanceDepth;
+				final String source = level == 0
+						? rootSource( i, previousRoot, inheritanceDepth > 1, annotated )
+						: subclassSource( i, level, annotated );
+				if ( !annotated ) {
+					mapping.append( level == 0
+							? rootMapping( i, previousRoot, inheritanceDepth > 1 )
+							: subclassMapping( i, level ) );
+				}
+				if ( level == 0 ) {
+					previousRoot = i;
+				}
+
+				final Path sourceFile = sourceDirectory.resolve( entityName( i ) + ".java" );
+				Files.writeString( sourceFile, source );
+				sourceFiles.add( sourceFile.toString() );
+				classNames.add( PACKAGE + "." + entityName( i ) );
+			}
+
+			compile( sourceFiles, classesDirectory );
+
+			Path mappingFile = null;
+			if ( !annotated ) {
+				mapping.append( "</entity-mappings>\n" );
+				mappingFile = Files.writeString( directory.resolve( "orm.xml" ), mapping.toString() );
+			}
+			return new BenchmarkModel( directory, classNames, mappingFile, classLoader( classesDirectory ) );
+		}
+		catch (IOException e) {
+			delete( directory );
+			throw new UncheckedIOException( e );
+		}
+		catch (RuntimeException e) {
+			delete( directory );
+			throw e;
+		}
+	}
+
+	private static void delete(Path directory) {
+		try (Stream<Path> paths = Files.walk( directory )) {
+			// children before their parents
+			paths.sorted( Comparator.reverseOrder() ).forEach( (path) -> {
+				try {
+					Files.delete( path );
+				}
+				catch (IOException e) {
+					throw new UncheckedIOException( e );
+				}
+			} );
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException( e );
+		}
+	}
+
+	private static String entityName(int index) {
+		return "Entity" + index;
+	}
+
+	private static String rootSource(int index, int previousRoot, boolean inherited, boolean annotated) {
+		final String name = entityName( index );
+		final StringBuilder source = new StringBuilder();
+		source.append( "package " ).append( PACKAGE ).append( ";\n" );
+		source.append( "import jakarta.persistence.*;\n" );
+		if ( annotated ) {
+			source.append( "@Entity(name = \"" ).append( name ).append( "\")\n" );
+			if ( inherited ) {
+				source.append( "@Inheritance(strategy = InheritanceType.JOINED)\n" );
+			}
+			source.append( "@SequenceGenerator(name = \"" ).append( name ).append( "_seq\")\n" );
+			source.append( "@NamedQuery(name = \"" ).append( name ).append( ".all\", query = \"from " ).append( name ).append( "\")\n" );
+		}
+		source.append( "public class " ).append( name ).append( " {\n" );
+		if ( annotated ) {
+			source.append( "\t@Id @GeneratedValue(generator = \"" ).append( name ).append( "_seq\")\n" );
+		}
+		source.append( "\tprivate Long id;\n" );
+		if ( annotated ) {
+			source.append( "\t@Version\n" );
+		}
+		source.append( "\tprivate int version;\n" );
+		source.append( "\tprivate String name;\n" );
+		source.append( "\tprivate java.time.LocalDate created;\n" );
+		if ( previousRoot >= 0 ) {
+			if ( annotated ) {
+				source.append( "\t@ManyToOne\n" );
+			}
+			source.append( "\tprivate " ).append( entityName( previousRoot ) ).append( " previous;\n" );
+		}
+		source.append( "}\n" );
+		return source.toString();
+	}
+
+	private static String subclassSource(int index, int level, boolean annotated) {
+		final String name = entityName( index );
+		final StringBuilder source = new StringBuilder();
+		source.append( "package " ).append( PACKAGE ).append( ";\n" );
+		if ( annotated ) {
+			source.append( "@jakarta.persistence.Entity(name = \"" ).append( name ).append( "\")\n" );
+		}
+		source.append( "public class " ).append( name ).append( " extends " ).append( entityName( index - 1 ) ).append( " {\n" );
+		source.append( "\tprivate String description" ).append( level ).append( ";\n" );
+		source.append( "\tprivate long amount" ).append( level ).append( ";\n" );
+		source.append( "}\n" );
+		return source.toString();
+	}
+
+	private static String rootMapping(int index, int previousRoot, boolean inherited) {
+		final String name = entityName( index );
+		final StringBuilder mapping = new StringBuilder();
+		mapping.append( "\t<entity class=\"" ).append( PACKAGE ).append( '.' ).append( name )
+				.append( "\" name=\"" ).append( name ).append( "\" metadata-complete=\"true\" access=\"FIELD\">\n" );
+		if ( inherited ) {
+			mapping.append( "\t\t<inheritance strategy=\"JOINED\"/>\n" );
+		}
+		mapping.append( "\t\t<sequence-generator name=\"" ).append( name ).append( "_seq\"/>\n" );
+		mapping.append( "\t\t<named-query name=\"" ).append( name ).append( ".all\"><query>from " ).append( name ).append( "</query></named-query>\n" );
+		mapping.append( "\t\t<attributes>\n" );
+		mapping.append( "\t\t\t<id name=\"id\"><generated-value generator=\"" ).append( name ).append( "_seq\"/></id>\n" );
+		mapping.append( "\t\t\t<basic name=\"name\"/>\n" );
+		mapping.append( "\t\t\t<basic name=\"created\"/>\n" );
+		mapping.append( "\t\t\t<version name=\"version\"/>\n" );
+		if ( previousRoot >= 0 ) {
+			mapping.append( "\t\t\t<many-to-one name=\"previous\"/>\n" );
+		}
+		mapping.append( "\t\t</attributes>\n" );
+		mapping.append( "\t</entity>\n" );
+		return mapping.toString();
+	}
+
+	private static String subclassMapping(int index, int level) {
+		final String name = entityName( index );
+		return "\t<entity class=\"" + PACKAGE + '.' + name + "\" name=\"" + name + "\" metadata-complete=\"true\" access=\"FIELD\">\n"
+				+ "\t\t<attributes>\n"
+				+ "\t\t\t<basic name=\"description" + level + "\"/>\n"
+				+ "\t\t\t<basic name=\"amount" + level + "\"/>\n"
+				+ "\t\t</attributes>\n"
+				+ "\t</entity>\n";
+	}
+
+	private static void compile(List<String> sourceFiles, Path classesDirectory) {
+		final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		final List<String> arguments = new ArrayList<>( sourceFiles.size() + 5 );
+		arguments.add( "-proc:none" );
+		arguments.add( "-classpath" );
+		arguments.add( System.getProperty( "java.class.path" ) );
+		arguments.add( "-d" );
+		arguments.add( classesDirectory.toString() );
+		arguments.addAll( sourceFiles );
+		if ( compiler.run( null, null, System.err, arguments.toArray( new String[0] ) ) != 0 ) {
+			throw new IllegalStateException( "Unable to compile the benchmark model" );
+		}
+	}
+
+	private static URLClassLoader classLoader(Path classesDirectory) {
+		try {
+			return new URLClassLoader(
+					new URL[] { classesDirectory.toUri().toURL() },
+					BenchmarkModel.class.getClassLoader()
+			);
+		}
+		catch (MalformedURLException e) {
+			throw new IllegalStateException( e );
+		}
+	}
+}
@@ -0,0 +1,36 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.models.orm.process.spi.CategorizedDomainModel;
+import org.hibernate.models.orm.process.spi.ManagedResourcesCategorizer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@linkplain ManagedResourcesCategorizer#categorizeManagedResources categorization}
+ * end to end, starting from an empty ClassDetails registry.
+ *
+ * @author Steve Ebersole
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 3 )
+@Measurement( iterations = 5 )
+@Fork( 1 )
+public class CategorizationBenchmark {
+	@Benchmark
+	public CategorizedDomainModel categorizeManagedResources(ModelState state) {
+		return state.categorize( state.createBootstrapContext() );
+	}
+}
@@ -0,0 +1,103 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process.jmh;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.boot.jaxb.mapping.spi.JaxbEntityMappingsImpl;
+import org.hibernate.boot.model.process.spi.MetadataBuildingProcess;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.models.orm.process.internal.ModelCategorizationContextImpl;
+import org.hibernate.models.orm.process.spi.CategorizedDomainModel;
+import org.hibernate.models.orm.process.spi.ModelCategorizationContext;
+import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.ClassDetailsRegistry;
+import org.hibernate.models.spi.SourceModelBuildingContext;
+
+import jakarta.persistence.SharedCacheMode;
+
+/**
+ * The {@linkplain ModelState model}, categorized once up front, for benchmarking the individual
+ * steps of categorization against its ClassDetails.
+ *
+ * @author Steve Ebersole
+ */
+public class CategorizedModelState extends ModelState {
+	private BootstrapContext bootstrapContext;
+	private CategorizedDomainModel domainModel;
+	private ModelCategorizationContext categorizationContext;
+	private Set<ClassDetails> rootEntities;
+	private List<ClassDetails> entityClasses;
+	private List<JaxbEntityMappingsImpl> xmlMappings;
+
+	@Override
+	protected void modelGenerated() {
+		bootstrapContext = createBootstrapContext();
+		domainModel = categorize( bootstrapContext );
+
+		final SourceModelBuildingContext modelsContext = bootstrapContext.getModelsContext();
+		categorizationContext = new ModelCategorizationContextImpl(
+				modelsContext,
+				domainModel.globalRegistrations(),
+				SharedCacheMode.UNSPECIFIED
+		);
+
+		rootEntities = new LinkedHashSet<>();
+		domainModel.forEachEntityHierarchy( (index, hierarchy) -> rootEntities.add( hierarchy.getRoot().getClassDetails() ) );
+
+		final ClassDetailsRegistry classDetailsRegistry = modelsContext.getClassDetailsRegistry();
+		entityClasses = new ArrayList<>( getModel().getClassNames().size() );
+		getModel().getClassNames().forEach( (className) -> entityClasses.add( classDetailsRegistry.getClassDetails( className ) ) );
+
+		xmlMappings = new ArrayList<>();
+		MetadataBuildingProcess.prepare( getModel().metadataSources( getServiceRegistry() ), bootstrapContext )
+				.getXmlMappingBindings()
+				.forEach( (binding) -> {
+					if ( binding.getRoot() instanceof JaxbEntityMappingsImpl jaxbRoot ) {
+						xmlMappings.add( jaxbRoot );
+					}
+				} );
+	}
+
+	public BootstrapContext getBootstrapContext() {
+		return bootstrapContext;
+	}
+
+	public SourceModelBuildingContext getModelsContext() {
+		return bootstrapContext.getModelsContext();
+	}
+
+	public CategorizedDomainModel getDomainModel() {
+		return domainModel;
+	}
+
+	public ModelCategorizationContext getCategorizationContext() {
+		return categorizationContext;
+	}
+
+	/**
+	 * The ClassDetails of the root entities
+	 */
+	public Set<ClassDetails> getRootEntities() {
+		return rootEntities;
+	}
+
+	/**
+	 * The ClassDetails of all the entities
+	 */
+	public List<ClassDetails> getEntityClasses() {
+		return entityClasses;
+	}
+
+	/**
+	 * The XML mappings of the model, if {@linkplain BenchmarkModel.Sourcing#XML sourced from XML}
+	 */
+	public List<JaxbEntityMappingsImpl> getXmlMappings() {
+		return xmlMappings;
+	}
+}
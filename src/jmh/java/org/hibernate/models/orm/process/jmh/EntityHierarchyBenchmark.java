@@ -0,0 +1,41 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process.jmh;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.models.orm.process.internal.EntityHierarchyBuilder;
+import org.hibernate.models.orm.process.spi.EntityHierarchy;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@linkplain EntityHierarchyBuilder#createEntityHierarchies building the entity hierarchies}
+ * of the categorized model's root entities.
+ *
+ * @author Steve Ebersole
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 3 )
+@Measurement( iterations = 5 )
+@Fork( 1 )
+public class EntityHierarchyBenchmark {
+	@Benchmark
+	public Set<EntityHierarchy> createEntityHierarchies(CategorizedModelState state) {
+		return EntityHierarchyBuilder.createEntityHierarchies(
+				state.getRootEntities(),
+				(type) -> {},
+				state.getCategorizationContext()
+		);
+	}
+}
@@ -0,0 +1,82 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.boot.jaxb.mapping.spi.JaxbEntityMappingsImpl;
+import org.hibernate.models.orm.process.internal.GlobalRegistrationsImpl;
+import org.hibernate.models.spi.ClassDetails;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks collecting the {@linkplain GlobalRegistrationsImpl global registrations} of the
+ * categorized model - from its XML mappings when {@linkplain BenchmarkModel.Sourcing#XML sourced
+ * from XML}, otherwise from the annotations of its classes.  {@linkplain #collectClassRegistrations}
+ * collects the same from the classes in a single pass over the annotations of each.
+ *
+ * @author Steve Ebersole
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 3 )
+@Measurement( iterations = 5 )
+@Fork( 1 )
+public class GlobalRegistrationsBenchmark {
+	@Benchmark
+	public GlobalRegistrationsImpl collectRegistrations(CategorizedModelState state) {
+		final GlobalRegistrationsImpl registrations = new GlobalRegistrationsImpl(
+				state.getModelsContext(),
+				state.getBootstrapContext()
+		);
+		if ( state.sourcing == BenchmarkModel.Sourcing.XML ) {
+			for ( JaxbEntityMappingsImpl jaxbRoot : state.getXmlMappings() ) {
+				registrations.collectJavaTypeRegistrations( jaxbRoot.getJavaTypeRegistrations() );
+				registrations.collectJdbcTypeRegistrations( jaxbRoot.getJdbcTypeRegistrations() );
+				registrations.collectConverterRegistrations( jaxbRoot.getConverterRegistrations() );
+				registrations.collectUserTypeRegistrations( jaxbRoot.getUserTypeRegistrations() );
+				registrations.collectCompositeUserTypeRegistrations( jaxbRoot.getCompositeUserTypeRegistrations() );
+				registrations.collectCollectionTypeRegistrations( jaxbRoot.getCollectionUserTypeRegistrations() );
+				registrations.collectEmbeddableInstantiatorRegistrations( jaxbRoot.getEmbeddableInstantiatorRegistrations() );
+				registrations.collectFilterDefinitions( jaxbRoot.getFilterDefinitions() );
+				registrations.collectIdGenerators( jaxbRoot );
+			}
+		}
+		else {
+			for ( ClassDetails entityClass : state.getEntityClasses() ) {
+				registrations.collectJavaTypeRegistrations( entityClass );
+				registrations.collectJdbcTypeRegistrations( entityClass );
+				registrations.collectConverterRegistrations( entityClass );
+				registrations.collectUserTypeRegistrations( entityClass );
+				registrations.collectCompositeUserTypeRegistrations( entityClass );
+				registrations.collectCollectionTypeRegistrations( entityClass );
+				registrations.collectEmbeddableInstantiatorRegistrations( entityClass );
+				registrations.collectFilterDefinitions( entityClass );
+				registrations.collectIdGenerators( entityClass );
+				registrations.collectQueryReferences( entityClass );
+			}
+		}
+		return registrations;
+	}
+
+	@Benchmark
+	public GlobalRegistrationsImpl collectClassRegistrations(CategorizedModelState state) {
+		final GlobalRegistrationsImpl registrations = new GlobalRegistrationsImpl(
+				state.getModelsContext(),
+				state.getBootstrapContext()
+		);
+		for ( ClassDetails entityClass : state.getEntityClasses() ) {
+			registrations.collectClassRegistrations( entityClass );
+		}
+		return registrations;
+	}
+}
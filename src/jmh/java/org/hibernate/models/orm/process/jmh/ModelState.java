@@ -0,0 +1,116 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process.jmh;
+
+import org.hibernate.boot.internal.BootstrapContextImpl;
+import org.hibernate.boot.internal.MetadataBuilderImpl;
+import org.hibernate.boot.model.process.spi.ManagedResources;
+import org.hibernate.boot.model.process.spi.MetadataBuildingProcess;
+import org.hibernate.boot.models.xml.internal.PersistenceUnitMetadataImpl;
+import org.hibernate.boot.registry.BootstrapServiceRegistryBuilder;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.models.orm.process.spi.CategorizedDomainModel;
+import org.hibernate.models.orm.process.spi.ManagedResourcesCategorizer;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import jakarta.persistence.SharedCacheMode;
+
+/**
+ * The {@linkplain BenchmarkModel generated domain model} to benchmark, and a service registry
+ * able to load its classes.
+ *
+ * @author Steve Ebersole
+ */
+@State( Scope.Benchmark )
+public class ModelState {
+	@Param( { "100", "1000", "10000" } )
+	public int entityCount;
+
+	@Param( { "1", "4" } )
+	public int inheritanceDepth;
+
+	@Param( { "ANNOTATIONS", "XML" } )
+	public BenchmarkModel.Sourcing sourcing;
+
+	private BenchmarkModel model;
+	private StandardServiceRegistry serviceRegistry;
+
+	@Setup( Level.Trial )
+	public void generateModel() {
+		model = BenchmarkModel.generate( entityCount, inheritanceDepth, sourcing );
+		try {
+			serviceRegistry = new StandardServiceRegistryBuilder(
+					new BootstrapServiceRegistryBuilder().applyClassLoader( model.getClassLoader() ).build()
+			).build();
+			modelGenerated();
+		}
+		catch (RuntimeException | Error e) {
+			// the trial's tear-down is not called when its set-up fails
+			destroyModel();
+			throw e;
+		}
+	}
+
+	/**
+	 * Called once the model is generated and its service registry built
+	 */
+	protected void modelGenerated() {
+	}
+
+	@TearDown( Level.Trial )
+	public void destroyModel() {
+		try {
+			if ( serviceRegistry != null ) {
+				StandardServiceRegistryBuilder.destroy( serviceRegistry );
+			}
+		}
+		finally {
+			model.close();
+		}
+	}
+
+	public BenchmarkModel getModel() {
+		return model;
+	}
+
+	public StandardServiceRegistry getServiceRegistry() {
+		return serviceRegistry;
+	}
+
+	/**
+	 * A new bootstrap context, and with it a new (empty) ClassDetails registry
+	 */
+	public BootstrapContext createBootstrapContext() {
+		return new BootstrapContextImpl(
+				serviceRegistry,
+				new MetadataBuilderImpl.MetadataBuildingOptionsImpl( serviceRegistry )
+		);
+	}
+
+	/**
+	 * Categorize the model from scratch, including the preparation of its managed resources
+	 */
+	public CategorizedDomainModel categorize(BootstrapContext bootstrapContext) {
+		final ManagedResources managedResources = MetadataBuildingProcess.prepare(
+				model.metadataSources( serviceRegistry ),
+				bootstrapContext
+		);
+		return ManagedResourcesCategorizer.categorizeManagedResources(
+				managedResources,
+				new PersistenceUnitMetadataImpl(),
+				new MetadataBuilderImpl.MappingDefaultsImpl( serviceRegistry ),
+				SharedCacheMode.UNSPECIFIED,
+				bootstrapContext
+		);
+	}
+}
@@ -0,0 +1,103 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.boot.internal.BootstrapContextImpl;
+import org.hibernate.boot.internal.MetadataBuilderImpl;
+import org.hibernate.boot.model.process.spi.ManagedResources;
+import org.hibernate.boot.models.xml.internal.PersistenceUnitMetadataImpl;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.models.orm.process.spi.CategorizedDomainModel;
+import org.hibernate.models.orm.process.spi.ManagedResourcesCategorizer;
+import org.hibernate.models.orm.process.synthetic.SyntheticModelGenerator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jakarta.persistence.InheritanceType;
+import jakarta.persistence.SharedCacheMode;
+
+/**
+ * Benchmarks {@linkplain ManagedResourcesCategorizer#categorizeManagedResources categorization} of
+ * {@linkplain SyntheticModelGenerator synthetic models}, which reach sizes impractical for compiled models.
+ * The model is generated into a new ClassDetails registry before each invocation.
+ *
+ * @author Steve Ebersole
+ */
+@BenchmarkMode( Mode.SingleShotTime )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 5 )
+@Measurement( iterations = 10 )
+@Fork( 1 )
+@State( Scope.Benchmark )
+public class SyntheticCategorizationBenchmark {
+	@Param( { "1000", "10000", "50000" } )
+	public int entityCount;
+
+	@Param( { "1", "4" } )
+	public int hierarchyDepth;
+
+	@Param( { "0", "10" } )
+	public int mappedSuperclasses;
+
+	private StandardServiceRegistry serviceRegistry;
+	private BootstrapContext bootstrapContext;
+	private ManagedResources managedResources;
+
+	@Setup( Level.Trial )
+	public void createServiceRegistry() {
+		serviceRegistry = new StandardServiceRegistryBuilder().build();
+	}
+
+	@TearDown( Level.Trial )
+	public void destroyServiceRegistry() {
+		StandardServiceRegistryBuilder.destroy( serviceRegistry );
+	}
+
+	@Setup( Level.Invocation )
+	public void generateModel() {
+		bootstrapContext = new BootstrapContextImpl(
+				serviceRegistry,
+				new MetadataBuilderImpl.MetadataBuildingOptionsImpl( serviceRegistry )
+		);
+		managedResources = new SyntheticModelGenerator()
+				.entityCount( entityCount )
+				.hierarchyDepth( hierarchyDepth )
+				.inheritanceTypes( InheritanceType.SINGLE_TABLE, InheritanceType.JOINED, InheritanceType.TABLE_PER_CLASS )
+				.basicAttributes( 8 )
+				.oneToManyAttributes( 1 )
+				.elementCollectionAttributes( 1 )
+				.embeddables( 10 )
+				.mappedSuperclasses( mappedSuperclasses )
+				.generate( bootstrapContext.getModelsContext() )
+				.createManagedResources();
+	}
+
+	@Benchmark
+	public CategorizedDomainModel categorizeSyntheticModel() {
+		return ManagedResourcesCategorizer.categorizeManagedResources(
+				managedResources,
+				new PersistenceUnitMetadataImpl(),
+				new MetadataBuilderImpl.MappingDefaultsImpl( serviceRegistry ),
+				SharedCacheMode.UNSPECIFIED,
+				bootstrapContext
+		);
+	}
+}
@@ -92,9 +92,15 @@ public abstract class AbstractIdentifiableTypeMetadata
 
 	private void walkSubclasses(ClassDetails base, HierarchyTypeConsumer typeConsumer) {
 		final ClassDetailsRegistry classDetailsRegistry = getCategorizationContext().getClassDetailsRegistry();
+		final ManagedTypeKinds managedTypeKinds = getCategorizationContext().getManagedTypeKinds();
 		classDetailsRegistry.forEachDirectSubType( base.getName(), (subClassDetails) -> {
+			if ( getCategorizationContext().isSuperseded( subClassDetails )
+					|| !typeConsumer.shouldWalkSubType( base, subClassDetails ) ) {
+				return;
+			}
+
 			final AbstractIdentifiableTypeMetadata subTypeMetadata;
-			if ( CategorizationHelper.isEntity( subClassDetails ) ) {
+			if ( managedTypeKinds.isEntity( subClassDetails ) ) {
 				subTypeMetadata = new EntityTypeMetadataImpl(
 						subClassDetails,
 						getHierarchy(),
@@ -104,7 +110,7 @@ public abstract class AbstractIdentifiableTypeMetadata
 				);
 				addSubclass( subTypeMetadata );
 			}
-			else if ( CategorizationHelper.isMappedSuperclass( subClassDetails ) ) {
+			else if ( managedTypeKinds.isMappedSuperclass( subClassDetails ) ) {
 				subTypeMetadata = new MappedSuperclassTypeMetadataImpl(
 						subClassDetails,
 						getHierarchy(),
@@ -123,7 +129,7 @@ public abstract class AbstractIdentifiableTypeMetadata
 	}
 
 	private AccessType determineAccessType(AccessType defaultAccessType) {
-		final Access annotation = getClassDetails().getDirectAnnotationUsage( Access.class );
+		final Access annotation = getCategorizationContext().getKeyMemberSummary( getClassDetails() ).getExplicitAccess();
 		if ( annotation != null ) {
 			return annotation.value();
 		}
@@ -0,0 +1,188 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process.internal;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import org.hibernate.boot.models.spi.JpaEventListener;
+import org.hibernate.internal.util.IndexedConsumer;
+import org.hibernate.models.orm.process.spi.AttributeMetadata;
+import org.hibernate.models.orm.process.spi.EntityHierarchy;
+import org.hibernate.models.orm.process.spi.IdentifiableTypeMetadata;
+import org.hibernate.models.spi.ClassDetails;
+
+import jakarta.persistence.AccessType;
+
+/**
+ * Base support for identifiable-type metadata built from already determined values (a
+ * {@linkplain org.hibernate.models.orm.process.internal.snapshot.DomainModelSnapshot snapshot},
+ * e.g.) rather than by interpreting annotations.
+ * <p/>
+ * Types are built top-down (super-type first) and then {@linkplain #attach attached} to their
+ * hierarchy as part of {@linkplain ImmutableEntityHierarchy its} creation; after that they are
+ * not changed.
+ * <p/>
+ * Sub-types are held in an array (shared, when there are none), and an {@linkplain AttributeTable attribute table}
+ * is used as-is rather than copied.
+ *
+ * @author Steve Ebersole
+ */
+public abstract class AbstractImmutableIdentifiableTypeMetadata implements IdentifiableTypeMetadata {
+	private static final IdentifiableTypeMetadata[] NO_SUB_TYPES = new IdentifiableTypeMetadata[0];
+
+	private final ClassDetails classDetails;
+	private final AccessType accessType;
+	private final List<AttributeMetadata> attributeList;
+	private final AbstractImmutableIdentifiableTypeMetadata superType;
+	private IdentifiableTypeMetadata[] subTypes = NO_SUB_TYPES;
+	private final List<JpaEventListener> hierarchyEventListeners;
+	private final List<JpaEventListener> completeEventListeners;
+
+	private EntityHierarchy hierarchy;
+	private volatile AttributeIndex attributeIndex;
+
+	public AbstractImmutableIdentifiableTypeMetadata(
+			ClassDetails classDetails,
+			AccessType accessType,
+			List<AttributeMetadata> attributeList,
+			AbstractImmutableIdentifiableTypeMetadata superType,
+			List<JpaEventListener> hierarchyEventListeners,
+			List<JpaEventListener> completeEventListeners) {
+		this.classDetails = classDetails;
+		this.accessType = accessType;
+		this.attributeList = attributeList instanceof AttributeTable ? attributeList : List.copyOf( attributeList );
+		this.superType = superType;
+		this.hierarchyEventListeners = List.copyOf( hierarchyEventListeners );
+		this.completeEventListeners = List.copyOf( completeEventListeners );
+
+		if ( superType != null ) {
+			superType.addSubType( this );
+		}
+	}
+
+	private void addSubType(IdentifiableTypeMetadata subType) {
+		subTypes = Arrays.copyOf( subTypes, subTypes.length + 1 );
+		subTypes[subTypes.length - 1] = subType;
+	}
+
+	void attach(EntityHierarchy hierarchy) {
+		assert this.hierarchy == null;
+		this.hierarchy = hierarchy;
+		for ( IdentifiableTypeMetadata subType : subTypes ) {
+			( (AbstractImmutableIdentifiableTypeMetadata) subType ).attach( hierarchy );
+		}
+	}
+
+	@Override
+	public ClassDetails getClassDetails() {
+		return classDetails;
+	}
+
+	@Override
+	public AccessType getAccessType() {
+		return accessType;
+	}
+
+	@Override
+	public EntityHierarchy getHierarchy() {
+		return hierarchy;
+	}
+
+	@Override
+	public IdentifiableTypeMetadata getSuperType() {
+		return superType;
+	}
+
+	@Override
+	public boolean hasSubTypes() {
+		return subTypes.length > 0;
+	}
+
+	@Override
+	public int getNumberOfSubTypes() {
+		return subTypes.length;
+	}
+
+	@Override
+	public Iterable<IdentifiableTypeMetadata> getSubTypes() {
+		return Collections.unmodifiableList( Arrays.asList( subTypes ) );
+	}
+
+	@Override
+	public void forEachSubType(Consumer<IdentifiableTypeMetadata> consumer) {
+		for ( IdentifiableTypeMetadata subType : subTypes ) {
+			consumer.accept( subType );
+		}
+	}
+
+	@Override
+	public List<JpaEventListener> getHierarchyJpaEventListeners() {
+		return hierarchyEventListeners;
+	}
+
+	@Override
+	public List<JpaEventListener> getCompleteJpaEventListeners() {
+		return completeEventListeners;
+	}
+
+	@Override
+	public int getNumberOfAttributes() {
+		return attributeList.size();
+	}
+
+	@Override
+	public Collection<AttributeMetadata> getAttributes() {
+		return attributeList;
+	}
+
+	@Override
+	public AttributeMetadata findAttribute(String name) {
+		final int index = attributeIndex( name );
+		return index < 0 ? null : attributeList.get( index );
+	}
+
+	@Override
+	public int attributeIndex(String name) {
+		AttributeIndex index = attributeIndex;
+		if ( index == null && attributeList.size() >= AttributeIndex.THRESHOLD ) {
+			attributeIndex = index = AttributeIndex.build( attributeList );
+		}
+		return AttributeIndex.indexOf( attributeList, index, name );
+	}
+
+	@Override
+	public void forEachAttribute(IndexedConsumer<AttributeMetadata> consumer) {
+		for ( int i = 0; i < attributeList.size(); i++ ) {
+			consumer.accept( i, attributeList.get( i ) );
+		}
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if ( this == o ) {
+			return true;
+		}
+		if ( o == null || getClass() != o.getClass() ) {
+			return false;
+		}
+		final AbstractImmutableIdentifiableTypeMetadata that = (AbstractImmutableIdentifiableTypeMetadata) o;
+		return Objects.equals( classDetails.getName(), that.classDetails.getName() );
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash( classDetails.getName() );
+	}
+
+	@Override
+	public String toString() {
+		return "ManagedTypeMetadata(" + classDetails.getName() + ")";
+	}
+}
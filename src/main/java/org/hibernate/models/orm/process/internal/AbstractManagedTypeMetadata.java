@@ -6,9 +6,11 @@
  */
 package org.hibernate.models.orm.process.internal;
 
+import java.lang.annotation.Annotation;
 import java.util.Collection;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import org.hibernate.annotations.Any;
@@ -36,8 +38,6 @@ import org.hibernate.boot.model.source.spi.AttributePath;
 import org.hibernate.boot.model.source.spi.AttributeRole;
 import org.hibernate.boot.model.source.spi.NaturalIdMutability;
 import org.hibernate.boot.models.AttributeNature;
-import org.hibernate.boot.models.HibernateAnnotations;
-import org.hibernate.boot.models.JpaAnnotations;
 import org.hibernate.boot.models.MultipleAttributeNaturesException;
 import org.hibernate.internal.util.IndexedConsumer;
 import org.hibernate.models.orm.process.spi.AllMemberConsumer;
@@ -62,6 +62,7 @@ import jakarta.persistence.OneToOne;
 import jakarta.persistence.Temporal;
 import jakarta.persistence.Version;
 
+import static java.util.Map.entry;
 import static org.hibernate.internal.util.collections.CollectionHelper.arrayList;
 import static org.hibernate.models.orm.process.spi.ModelCategorizationLogging.MODEL_CATEGORIZATION_LOGGER;
 
@@ -79,6 +80,8 @@ public abstract class AbstractManagedTypeMetadata implements ManagedTypeMetadata
 	private final AttributePath attributePathBase;
 	private final AttributeRole attributeRoleBase;
 
+	private volatile AttributeIndex attributeIndex;
+
 	/**
 	 * This form is intended for construction of the root of an entity hierarchy
 	 * and its mapped-superclasses
@@ -156,14 +159,19 @@ public abstract class AbstractManagedTypeMetadata implements ManagedTypeMetadata
 
 	@Override
 	public AttributeMetadata findAttribute(String name) {
+		final int index = attributeIndex( name );
+		return index < 0 ? null : attributeList().get( index );
+	}
+
+	@Override
+	public int attributeIndex(String name) {
 		final List<AttributeMetadata> attributeList = attributeList();
-		for ( int i = 0; i < attributeList.size(); i++ ) {
-			final AttributeMetadata attribute = attributeList.get( i );
-			if ( attribute.name().equals( name ) ) {
-				return attribute;
-			}
+		AttributeIndex index = attributeIndex;
+		if ( index == null && attributeList.size() >= AttributeIndex.THRESHOLD ) {
+			// the attributes are fixed once resolved, so a racing build produces an equivalent index
+			attributeIndex = index = AttributeIndex.build( attributeList );
 		}
-		return null;
+		return AttributeIndex.indexOf( attributeList, index, name );
 	}
 
 	@Override
@@ -192,112 +200,103 @@ public abstract class AbstractManagedTypeMetadata implements ManagedTypeMetadata
 		return attributeList;
 	}
 
+	/**
+	 * Offset of the bits for the natures an annotation implies, rather than indicates explicitly
+	 */
+	private static final int IMPLIED = 16;
+	private static final int EXPLICIT_NATURES = ( 1 << IMPLIED ) - 1;
+	private static final int PLURAL_NATURES = nature( AttributeNature.ONE_TO_MANY )
+			| nature( AttributeNature.MANY_TO_MANY )
+			| nature( AttributeNature.ELEMENT_COLLECTION )
+			| nature( AttributeNature.MANY_TO_ANY );
+	private static final AttributeNature[] NATURES = AttributeNature.values();
+
+	/**
+	 * The attribute nature each annotation contributes, as a bitmask of nature ordinals - natures the
+	 * annotation indicates explicitly in the low bits, and natures it implies in the bits from {@link #IMPLIED}
+	 */
+	private static final Map<Class<? extends Annotation>, Integer> NATURE_CONTRIBUTIONS = Map.ofEntries(
+			// explicit nature annotations
+			entry( Basic.class, nature( AttributeNature.BASIC ) ),
+			entry( Embedded.class, nature( AttributeNature.EMBEDDED ) ),
+			entry( EmbeddedId.class, nature( AttributeNature.EMBEDDED ) ),
+			entry( Any.class, nature( AttributeNature.ANY ) ),
+			entry( OneToOne.class, nature( AttributeNature.TO_ONE ) ),
+			entry( ManyToOne.class, nature( AttributeNature.TO_ONE ) ),
+			entry( OneToMany.class, nature( AttributeNature.ONE_TO_MANY ) ),
+			entry( ManyToMany.class, nature( AttributeNature.MANY_TO_MANY ) ),
+			entry( ElementCollection.class, nature( AttributeNature.ELEMENT_COLLECTION ) ),
+			entry( ManyToAny.class, nature( AttributeNature.MANY_TO_ANY ) ),
+
+			// annotations implying basic
+			entry( Temporal.class, impliedNature( AttributeNature.BASIC ) ),
+			entry( Lob.class, impliedNature( AttributeNature.BASIC ) ),
+			entry( Enumerated.class, impliedNature( AttributeNature.BASIC ) ),
+			entry( Convert.class, impliedNature( AttributeNature.BASIC ) ),
+			entry( Version.class, impliedNature( AttributeNature.BASIC ) ),
+			entry( Generated.class, impliedNature( AttributeNature.BASIC ) ),
+			entry( Nationalized.class, impliedNature( AttributeNature.BASIC ) ),
+			entry( TimeZoneColumn.class, impliedNature( AttributeNature.BASIC ) ),
+			entry( TimeZoneStorage.class, impliedNature( AttributeNature.BASIC ) ),
+			entry( Type.class, impliedNature( AttributeNature.BASIC ) ),
+			entry( TenantId.class, impliedNature( AttributeNature.BASIC ) ),
+			entry( JavaType.class, impliedNature( AttributeNature.BASIC ) ),
+			entry( JdbcTypeCode.class, impliedNature( AttributeNature.BASIC ) ),
+			entry( JdbcType.class, impliedNature( AttributeNature.BASIC ) ),
+
+			// annotations implying embedded
+			entry( EmbeddableInstantiator.class, impliedNature( AttributeNature.EMBEDDED ) ),
+			entry( EmbeddedColumnNaming.class, impliedNature( AttributeNature.EMBEDDED ) ),
+			entry( CompositeType.class, impliedNature( AttributeNature.EMBEDDED ) ),
+
+			// annotations implying any
+			entry( AnyDiscriminator.class, impliedNature( AttributeNature.ANY ) ),
+			entry( AnyDiscriminatorValue.class, impliedNature( AttributeNature.ANY ) ),
+			entry( AnyDiscriminatorValues.class, impliedNature( AttributeNature.ANY ) ),
+			entry( AnyKeyJavaType.class, impliedNature( AttributeNature.ANY ) ),
+			entry( AnyKeyJavaClass.class, impliedNature( AttributeNature.ANY ) ),
+			entry( AnyKeyJdbcType.class, impliedNature( AttributeNature.ANY ) ),
+			entry( AnyKeyJdbcTypeCode.class, impliedNature( AttributeNature.ANY ) )
+	);
+
+	private static int nature(AttributeNature nature) {
+		return 1 << nature.ordinal();
+	}
+
+	private static int impliedNature(AttributeNature nature) {
+		return 1 << ( nature.ordinal() + IMPLIED );
+	}
+
 	/**
 	 * Determine the attribute's nature - is it a basic mapping, an embeddable, ...?
 	 *
 	 * Also performs some simple validation around multiple natures being indicated
 	 */
 	private AttributeNature determineAttributeNature(MemberDetails backingMember) {
-		final EnumSet<AttributeNature> natures = EnumSet.noneOf( AttributeNature.class );
-
-		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
-		// first, look for explicit nature annotations
-
-		final Any any = backingMember.getDirectAnnotationUsage( HibernateAnnotations.ANY );
-		final Basic basic = backingMember.getDirectAnnotationUsage( JpaAnnotations.BASIC );
-		final ElementCollection elementCollection = backingMember.getDirectAnnotationUsage( JpaAnnotations.ELEMENT_COLLECTION );
-		final Embedded embedded = backingMember.getDirectAnnotationUsage( JpaAnnotations.EMBEDDED );
-		final EmbeddedId embeddedId = backingMember.getDirectAnnotationUsage( JpaAnnotations.EMBEDDED_ID );
-		final ManyToAny manyToAny = backingMember.getDirectAnnotationUsage( HibernateAnnotations.MANY_TO_ANY );
-		final ManyToMany manyToMany = backingMember.getDirectAnnotationUsage( JpaAnnotations.MANY_TO_MANY );
-		final ManyToOne manyToOne = backingMember.getDirectAnnotationUsage( JpaAnnotations.MANY_TO_ONE );
-		final OneToMany oneToMany = backingMember.getDirectAnnotationUsage( JpaAnnotations.ONE_TO_MANY );
-		final OneToOne oneToOne = backingMember.getDirectAnnotationUsage( JpaAnnotations.ONE_TO_ONE );
-
-		if ( basic != null ) {
-			natures.add( AttributeNature.BASIC );
-		}
-
-		if ( embedded != null
-				|| embeddedId != null
-				|| ( backingMember.getType() != null && backingMember.getType().determineRawClass().hasDirectAnnotationUsage( Embeddable.class ) ) ) {
-			natures.add( AttributeNature.EMBEDDED );
-		}
-
-		if ( any != null ) {
-			natures.add( AttributeNature.ANY );
+		// a single pass over the member's annotations, collecting the natures they contribute
+		int natures = 0;
+		for ( Annotation usage : backingMember.getDirectAnnotationUsages() ) {
+			final Integer contribution = NATURE_CONTRIBUTIONS.get( usage.annotationType() );
+			if ( contribution != null ) {
+				natures |= contribution;
+			}
 		}
 
-		if ( oneToOne != null
-				|| manyToOne != null ) {
-			natures.add( AttributeNature.TO_ONE );
+		if ( backingMember.getType() != null
+				&& backingMember.getType().determineRawClass().hasDirectAnnotationUsage( Embeddable.class ) ) {
+			natures |= nature( AttributeNature.EMBEDDED );
 		}
 
-		if ( oneToMany != null ) {
-			natures.add( AttributeNature.ONE_TO_MANY );
+		// annotations implying a nature could apply to the element or index of a
+		// collection, so only account for those if it is not a collection
+		if ( ( natures & PLURAL_NATURES ) == 0 ) {
+			natures = ( natures & EXPLICIT_NATURES ) | ( natures >>> IMPLIED );
 		}
-
-		if ( manyToMany != null ) {
-			natures.add( AttributeNature.MANY_TO_MANY );
+		else {
+			natures &= EXPLICIT_NATURES;
 		}
 
-		if ( elementCollection != null ) {
-			natures.add( AttributeNature.ELEMENT_COLLECTION );
-		}
-
-		if ( manyToAny != null ) {
-			natures.add( AttributeNature.MANY_TO_ANY );
-		}
-
-		final boolean plural = oneToMany != null
-				|| manyToMany != null
-				|| elementCollection != null
-				|| manyToAny != null;
-
-		// look at annotations that imply a nature
-		//		NOTE : these could apply to the element or index of collection, so
-		//		only do these if it is not a collection
-
-		if ( !plural ) {
-			// first implicit basic nature
-			if ( backingMember.hasDirectAnnotationUsage( Temporal.class )
-					|| backingMember.hasDirectAnnotationUsage( Lob.class )
-					|| backingMember.hasDirectAnnotationUsage( Enumerated.class )
-					|| backingMember.hasDirectAnnotationUsage( Convert.class )
-					|| backingMember.hasDirectAnnotationUsage( Version.class )
-					|| backingMember.hasDirectAnnotationUsage( Generated.class )
-					|| backingMember.hasDirectAnnotationUsage( Nationalized.class )
-					|| backingMember.hasDirectAnnotationUsage( TimeZoneColumn.class )
-					|| backingMember.hasDirectAnnotationUsage( TimeZoneStorage.class )
-					|| backingMember.hasDirectAnnotationUsage( Type.class )
-					|| backingMember.hasDirectAnnotationUsage( TenantId.class )
-					|| backingMember.hasDirectAnnotationUsage( JavaType.class )
-					|| backingMember.hasDirectAnnotationUsage( JdbcTypeCode.class )
-					|| backingMember.hasDirectAnnotationUsage( JdbcType.class ) ) {
-				natures.add( AttributeNature.BASIC );
-			}
-
-			// then embedded
-			if ( backingMember.hasDirectAnnotationUsage( EmbeddableInstantiator.class )
-					|| backingMember.hasDirectAnnotationUsage( EmbeddedColumnNaming.class )
-					|| backingMember.hasDirectAnnotationUsage( CompositeType.class ) ) {
-				natures.add( AttributeNature.EMBEDDED );
-			}
-
-			// and any
-			if ( backingMember.hasDirectAnnotationUsage( AnyDiscriminator.class )
-					|| backingMember.hasDirectAnnotationUsage( AnyDiscriminatorValue.class )
-					|| backingMember.hasDirectAnnotationUsage( AnyDiscriminatorValues.class )
-					|| backingMember.hasDirectAnnotationUsage( AnyKeyJavaType.class )
-					|| backingMember.hasDirectAnnotationUsage( AnyKeyJavaClass.class )
-					|| backingMember.hasDirectAnnotationUsage( AnyKeyJdbcType.class )
-					|| backingMember.hasDirectAnnotationUsage( AnyKeyJdbcTypeCode.class ) ) {
-				natures.add( AttributeNature.ANY );
-			}
-		}
-
-		int size = natures.size();
-		return switch ( size ) {
+		return switch ( Integer.bitCount( natures ) ) {
 			case 0 -> {
 				MODEL_CATEGORIZATION_LOGGER.debugf(
 						"Implicitly interpreting attribute `%s` as BASIC",
@@ -305,11 +304,21 @@ public abstract class AbstractManagedTypeMetadata implements ManagedTypeMetadata
 				);
 				yield AttributeNature.BASIC;
 			}
-			case 1 -> natures.iterator().next();
-			default -> throw new MultipleAttributeNaturesException( backingMember.resolveAttributeName(), natures );
+			case 1 -> NATURES[Integer.numberOfTrailingZeros( natures )];
+			default -> throw new MultipleAttributeNaturesException( backingMember.resolveAttributeName(), toNatures( natures ) );
 		};
 	}
 
+	private static EnumSet<AttributeNature> toNatures(int natures) {
+		final EnumSet<AttributeNature> natureSet = EnumSet.noneOf( AttributeNature.class );
+		for ( AttributeNature nature : NATURES ) {
+			if ( ( natures & nature( nature ) ) != 0 ) {
+				natureSet.add( nature );
+			}
+		}
+		return natureSet;
+	}
+
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Stuff affecting attributes built from this managed type.
@@ -0,0 +1,110 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process.internal;
+
+import java.util.List;
+
+import org.hibernate.models.orm.process.spi.AttributeMetadata;
+
+/**
+ * Immutable index of a managed type's declared attributes by name, resolving a name to the
+ * attribute's position in O(1).
+ * <p/>
+ * The index is an open-addressing (linear probing) table, at most half full, holding the
+ * attribute names and their positions in parallel arrays.  Attribute names are member names
+ * and are generally interned, so candidates are compared by identity before falling back to
+ * {@code equals}.  Where a name is declared more than once the first position wins, matching
+ * a front-to-back scan of the attributes.
+ * <p/>
+ * Building the table only pays off for wider types - {@linkplain #indexOf(List, AttributeIndex, String)}
+ * scans the attributes directly when no index was {@linkplain #build built}, which is the case
+ * below {@linkplain #THRESHOLD}.
+ *
+ * @author Steve Ebersole
+ */
+public final class AttributeIndex {
+	/**
+	 * The number of attributes from which a type's lookups go through an index
+	 */
+	public static final int THRESHOLD = 16;
+
+	private final String[] names;
+	private final int[] positions;
+	private final int mask;
+
+	private AttributeIndex(String[] names, int[] positions) {
+		this.names = names;
+		this.positions = positions;
+		this.mask = names.length - 1;
+	}
+
+	/**
+	 * Build the index for the given attributes, or {@code null} if they are too
+	 * few to warrant one.
+	 */
+	public static AttributeIndex build(List<AttributeMetadata> attributes) {
+		final int size = attributes.size();
+		if ( size < THRESHOLD ) {
+			return null;
+		}
+
+		final int capacity = Integer.highestOneBit( size ) << 2;
+		final String[] names = new String[capacity];
+		final int[] positions = new int[capacity];
+		final int mask = capacity - 1;
+
+		for ( int i = 0; i < size; i++ ) {
+			final String name = attributes.get( i ).name();
+			int slot = spread( name.hashCode() ) & mask;
+			while ( names[slot] != null && !names[slot].equals( name ) ) {
+				slot = ( slot + 1 ) & mask;
+			}
+			if ( names[slot] == null ) {
+				names[slot] = name;
+				positions[slot] = i;
+			}
+		}
+
+		return new AttributeIndex( names, positions );
+	}
+
+	/**
+	 * The position of the named attribute, or {@code -1} if there is none.
+	 */
+	public int indexOf(String name) {
+		if ( name == null ) {
+			return -1;
+		}
+		int slot = spread( name.hashCode() ) & mask;
+		String candidate;
+		while ( ( candidate = names[slot] ) != null ) {
+			if ( candidate == name || candidate.equals( name ) ) {
+				return positions[slot];
+			}
+			slot = ( slot + 1 ) & mask;
+		}
+		return -1;
+	}
+
+	/**
+	 * The position of the named attribute within {@code attributes}, or {@code -1} if
+	 * there is none - through the {@code index} when there is one, otherwise by scanning.
+	 */
+	public static int indexOf(List<AttributeMetadata> attributes, AttributeIndex index, String name) {
+		if ( index != null ) {
+			return index.indexOf( name );
+		}
+		for ( int i = 0; i < attributes.size(); i++ ) {
+			if ( attributes.get( i ).name().equals( name ) ) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static int spread(int hash) {
+		return hash ^ ( hash >>> 16 );
+	}
+}
@@ -0,0 +1,125 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process.internal;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+import org.hibernate.boot.models.AttributeNature;
+import org.hibernate.models.orm.process.spi.AttributeMetadata;
+import org.hibernate.models.spi.MemberDetails;
+
+/**
+ * Compact, immutable list of the declared attributes of a
+ * {@linkplain DomainModelFreezer frozen} managed type.
+ * <p/>
+ * Rather than one object per attribute, the name, nature (as its ordinal) and backing
+ * member of the attributes are held in parallel arrays.  The {@linkplain AttributeMetadata}
+ * handed out are lightweight views of a position within the table, created on first access and
+ * then reused, so that each attribute is the same instance on every access - key mappings,
+ * snapshot capture, etc. compare attributes by identity.
+ *
+ * @author Steve Ebersole
+ */
+public final class AttributeTable extends AbstractList<AttributeMetadata> implements RandomAccess {
+	public static final AttributeTable EMPTY = new AttributeTable( new String[0], new byte[0], new MemberDetails[0] );
+
+	private static final AttributeNature[] NATURES = AttributeNature.values();
+
+	private final String[] names;
+	private final byte[] natures;
+	private final MemberDetails[] members;
+
+	// created on first access, as most attributes of a frozen model are never looked at
+	private volatile Attribute[] views;
+
+	private AttributeTable(String[] names, byte[] natures, MemberDetails[] members) {
+		this.names = names;
+		this.natures = natures;
+		this.members = members;
+	}
+
+	public static AttributeTable from(List<AttributeMetadata> attributes) {
+		final int size = attributes.size();
+		if ( size == 0 ) {
+			return EMPTY;
+		}
+
+		final String[] names = new String[size];
+		final byte[] natures = new byte[size];
+		final MemberDetails[] members = new MemberDetails[size];
+		for ( int i = 0; i < size; i++ ) {
+			final AttributeMetadata attribute = attributes.get( i );
+			names[i] = attribute.name();
+			natures[i] = (byte) attribute.nature().ordinal();
+			members[i] = attribute.member();
+		}
+		return new AttributeTable( names, natures, members );
+	}
+
+	@Override
+	public AttributeMetadata get(int index) {
+		if ( index < 0 || index >= names.length ) {
+			throw new IndexOutOfBoundsException( index );
+		}
+		// the view's fields are final, so it is safely visible once seen
+		final Attribute[] views = this.views;
+		final Attribute view = views == null ? null : views[index];
+		return view == null ? resolveView( index ) : view;
+	}
+
+	private synchronized Attribute resolveView(int index) {
+		Attribute[] views = this.views;
+		if ( views == null ) {
+			views = new Attribute[names.length];
+			this.views = views;
+		}
+		Attribute view = views[index];
+		if ( view == null ) {
+			view = new Attribute( this, index );
+			views[index] = view;
+		}
+		return view;
+	}
+
+	@Override
+	public int size() {
+		return names.length;
+	}
+
+	/**
+	 * View of one position of the table
+	 */
+	private static final class Attribute implements AttributeMetadata {
+		private final AttributeTable table;
+		private final int position;
+
+		private Attribute(AttributeTable table, int position) {
+			this.table = table;
+			this.position = position;
+		}
+
+		@Override
+		public String name() {
+			return table.names[position];
+		}
+
+		@Override
+		public AttributeNature nature() {
+			return NATURES[table.natures[position]];
+		}
+
+		@Override
+		public MemberDetails member() {
+			return table.members[position];
+		}
+
+		@Override
+		public String toString() {
+			return "AttributeMetadata(`" + name() + "`)";
+		}
+	}
+}
@@ -6,6 +6,10 @@
  */
 package org.hibernate.models.orm.process.internal;
 
+import org.hibernate.models.orm.process.spi.EntityHierarchy;
+import org.hibernate.models.orm.process.spi.EntityHierarchy.HierarchyRelation;
+import org.hibernate.models.orm.process.spi.EntityHierarchy.HierarchyTypeVisitor;
+import org.hibernate.models.orm.process.spi.IdentifiableTypeMetadata;
 import org.hibernate.models.spi.ClassDetails;
 
 import jakarta.persistence.Entity;
@@ -26,4 +30,47 @@ public class CategorizationHelper {
 	public static boolean isIdentifiable(ClassDetails classDetails) {
 		return isEntity( classDetails ) || isMappedSuperclass( classDetails );
 	}
+
+	/**
+	 * Visits each type of the {@code hierarchy}, starting from its absolute root.
+	 *
+	 * @see EntityHierarchy#forEachType
+	 */
+	public static void forEachType(EntityHierarchy hierarchy, HierarchyTypeVisitor typeVisitor) {
+		final IdentifiableTypeMetadata absoluteRoot = hierarchy.getAbsoluteRoot();
+		final HierarchyRelation hierarchyRelation;
+		if ( absoluteRoot == hierarchy.getRoot() ) {
+			hierarchyRelation = HierarchyRelation.ROOT;
+		}
+		else {
+			hierarchyRelation = HierarchyRelation.SUPER;
+		}
+
+		forEachType( hierarchy, absoluteRoot, null, hierarchyRelation, typeVisitor );
+	}
+
+	private static void forEachType(
+			EntityHierarchy hierarchy,
+			IdentifiableTypeMetadata type,
+			IdentifiableTypeMetadata superType,
+			HierarchyRelation hierarchyRelation,
+			HierarchyTypeVisitor typeVisitor) {
+		typeVisitor.visitType( type, superType, hierarchy, hierarchyRelation );
+
+		final HierarchyRelation nextRelation;
+		if ( hierarchyRelation == HierarchyRelation.SUPER ) {
+			if ( type == hierarchy.getRoot().getSuperType() ) {
+				// the next iteration will be the root
+				nextRelation = HierarchyRelation.ROOT;
+			}
+			else {
+				nextRelation = HierarchyRelation.SUPER;
+			}
+		}
+		else {
+			nextRelation = HierarchyRelation.SUB;
+		}
+
+		type.forEachSubType( subType -> forEachType( hierarchy, subType, type, nextRelation, typeVisitor ) );
+	}
 }
@@ -0,0 +1,316 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process.internal;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.boot.jaxb.mapping.spi.JaxbEntityMappingsImpl;
+import org.hibernate.boot.models.spi.JpaEventListener;
+import org.hibernate.models.orm.process.spi.CategorizedDomainModel;
+import org.hibernate.models.orm.process.spi.EntityHierarchy;
+import org.hibernate.models.orm.process.spi.EntityTypeMetadata;
+import org.hibernate.models.orm.process.spi.ManagedResourcesChanges;
+import org.hibernate.models.orm.process.spi.NonAggregatedKeyMapping;
+import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.ClassLoading;
+import org.hibernate.models.spi.MemberDetails;
+import org.hibernate.models.spi.TypeDetails;
+
+/**
+ * Determines what part of a previously categorized domain model is affected by a set of
+ * {@linkplain ManagedResourcesChanges changes}.
+ * <p/>
+ * Class details link directly to those of their super class and of their members' types, so
+ * besides the changed classes themselves, the classes built on top of them - subclasses and
+ * classes embedding them - need their details rebuilt as well.  Classes which merely associate
+ * with a changed class are not rebuilt; they keep referring to the details of the associated
+ * class as they were when the referring class was last built.  XML mappings are re-applied
+ * whenever one of the classes they map is rebuilt, which in turn rebuilds all the classes they map.
+ * <p/>
+ * An entity hierarchy is affected when one of its types is rebuilt or removed, when one of
+ * its listeners or its id-class changed, or when a changed class extends one of its entities.
+ *
+ * @author Steve Ebersole
+ */
+public class CategorizationImpact {
+	private final Set<String> rebuiltClasses;
+	private final Set<String> removedClasses;
+	private final Set<String> reprocessedDocuments;
+	private final Set<String> excludedDocuments;
+	private final Set<EntityHierarchy> affectedHierarchies;
+
+	private CategorizationImpact(
+			Set<String> rebuiltClasses,
+			Set<String> removedClasses,
+			Set<String> reprocessedDocuments,
+			Set<String> excludedDocuments,
+			Set<EntityHierarchy> affectedHierarchies) {
+		this.rebuiltClasses = rebuiltClasses;
+		this.removedClasses = removedClasses;
+		this.reprocessedDocuments = reprocessedDocuments;
+		this.excludedDocuments = excludedDocuments;
+		this.affectedHierarchies = affectedHierarchies;
+	}
+
+	/**
+	 * Names of the classes whose details need to be rebuilt (and which are then re-categorized).
+	 */
+	public Set<String> getRebuiltClasses() {
+		return rebuiltClasses;
+	}
+
+	public Set<String> getRemovedClasses() {
+		return removedClasses;
+	}
+
+	/**
+	 * Whether what the named class contributed to the previous model must be discarded.
+	 */
+	public boolean isExcluded(String className) {
+		return rebuiltClasses.contains( className ) || removedClasses.contains( className );
+	}
+
+	/**
+	 * Names of the (current) XML mappings which need to be re-applied.
+	 */
+	public Set<String> getReprocessedDocuments() {
+		return reprocessedDocuments;
+	}
+
+	/**
+	 * Names of the XML mappings whose previous contributions must be discarded - the re-applied
+	 * ones plus the removed ones.
+	 */
+	public Set<String> getExcludedDocuments() {
+		return excludedDocuments;
+	}
+
+	public boolean isAffected(EntityHierarchy hierarchy) {
+		return affectedHierarchies.contains( hierarchy );
+	}
+
+	public int getNumberOfAffectedHierarchies() {
+		return affectedHierarchies.size();
+	}
+
+	/**
+	 * Whether the changes influence the persistence-unit defaults (and therefore every class).
+	 */
+	public static boolean affectsPersistenceUnitMetadata(
+			ManagedResourcesChanges changes,
+			CategorizationSources previousSources,
+			Map<String, JaxbEntityMappingsImpl> documents) {
+		for ( String documentName : changes.changedXmlMappings() ) {
+			final CategorizationSources.DocumentSource previous = previousSources.getDocuments().get( documentName );
+			if ( previous != null && previous.definesPersistenceUnitMetadata() ) {
+				return true;
+			}
+			final JaxbEntityMappingsImpl current = documents.get( documentName );
+			if ( current != null && current.getPersistenceUnitMetadata() != null ) {
+				return true;
+			}
+		}
+		for ( String documentName : changes.removedXmlMappings() ) {
+			final CategorizationSources.DocumentSource previous = previousSources.getDocuments().get( documentName );
+			if ( previous != null && previous.definesPersistenceUnitMetadata() ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	public static CategorizationImpact resolve(
+			CategorizedDomainModel previousModel,
+			CategorizationSources previousSources,
+			ManagedResourcesChanges changes,
+			Map<String, JaxbEntityMappingsImpl> documents,
+			ClassLoading classLoading) {
+		final Set<String> removedClasses = changes.removedClasses();
+		final Set<String> changedOrRemovedClasses = new HashSet<>( changes.changedClasses() );
+		changedOrRemovedClasses.addAll( removedClasses );
+
+		// the classes of the previous model, whose details may need rebuilding
+		final Map<String, ClassDetails> knownClasses = new HashMap<>();
+		previousModel.forEachEntityHierarchy( (index, hierarchy) -> hierarchy.forEachType(
+				(type, superType, entityHierarchy, relation) -> knownClasses.put( type.getClassDetails().getName(), type.getClassDetails() )
+		) );
+		knownClasses.putAll( previousModel.mappedSuperclasses() );
+		knownClasses.putAll( previousModel.embeddables() );
+
+		// the classes mapped by each XML mapping, before and after the changes
+		final Map<String, Set<String>> documentClasses = new HashMap<>();
+		previousSources.getDocuments().forEach( (name, document) -> documentClasses.put( name, new HashSet<>( document.mappedClasses() ) ) );
+		documents.forEach( (name, jaxbRoot) -> documentClasses
+				.computeIfAbsent( name, (key) -> new HashSet<>() )
+				.addAll( CategorizationSources.collectMappedClasses( jaxbRoot ) ) );
+
+		final Set<String> rebuiltClasses = new LinkedHashSet<>( changes.changedClasses() );
+		final Set<String> excludedDocuments = new HashSet<>( changes.changedXmlMappings() );
+		excludedDocuments.addAll( changes.removedXmlMappings() );
+
+		final Map<String, Set<String>> superClassNames = new HashMap<>();
+		final Map<String, Set<String>> memberTypeNames = new HashMap<>();
+
+		boolean grew;
+		do {
+			grew = false;
+
+			for ( Map.Entry<String, Set<String>> entry : documentClasses.entrySet() ) {
+				if ( excludedDocuments.contains( entry.getKey() )
+						|| !Collections.disjoint( entry.getValue(), rebuiltClasses ) ) {
+					grew |= excludedDocuments.add( entry.getKey() );
+					grew |= rebuiltClasses.addAll( entry.getValue() );
+				}
+			}
+
+			for ( Map.Entry<String, ClassDetails> entry : knownClasses.entrySet() ) {
+				if ( rebuiltClasses.contains( entry.getKey() ) ) {
+					continue;
+				}
+				final Set<String> supers = superClassNames.computeIfAbsent(
+						entry.getKey(),
+						(name) -> collectSuperClassNames( entry.getValue() )
+				);
+				final Set<String> memberTypes = memberTypeNames.computeIfAbsent(
+						entry.getKey(),
+						(name) -> collectMemberTypeNames( entry.getValue() )
+				);
+				if ( !Collections.disjoint( supers, rebuiltClasses )
+						|| !Collections.disjoint( supers, removedClasses )
+						|| !Collections.disjoint( memberTypes, changedOrRemovedClasses )
+						|| embedsAny( memberTypes, rebuiltClasses, previousModel ) ) {
+					rebuiltClasses.add( entry.getKey() );
+					grew = true;
+				}
+			}
+		} while ( grew );
+
+		rebuiltClasses.removeAll( removedClasses );
+
+		final Set<String> reprocessedDocuments = new LinkedHashSet<>();
+		documents.keySet().forEach( (name) -> {
+			if ( excludedDocuments.contains( name ) ) {
+				reprocessedDocuments.add( name );
+			}
+		} );
+
+		// the entities which the rebuilt classes (now) extend
+		final Set<String> extendedClasses = new HashSet<>();
+		rebuiltClasses.forEach( (name) -> collectCurrentSuperClassNames( name, classLoading, extendedClasses ) );
+
+		final Set<EntityHierarchy> affectedHierarchies = Collections.newSetFromMap( new IdentityHashMap<>() );
+		previousModel.forEachEntityHierarchy( (index, hierarchy) -> {
+			if ( isAffected( hierarchy, rebuiltClasses, changedOrRemovedClasses, extendedClasses ) ) {
+				affectedHierarchies.add( hierarchy );
+			}
+		} );
+
+		return new CategorizationImpact(
+				rebuiltClasses,
+				removedClasses,
+				reprocessedDocuments,
+				excludedDocuments,
+				affectedHierarchies
+		);
+	}
+
+	private static boolean isAffected(
+			EntityHierarchy hierarchy,
+			Set<String> rebuiltClasses,
+			Set<String> changedOrRemovedClasses,
+			Set<String> extendedClasses) {
+		final boolean[] affected = new boolean[1];
+		hierarchy.forEachType( (type, superType, entityHierarchy, relation) -> {
+			final String typeName = type.getClassDetails().getName();
+			if ( rebuiltClasses.contains( typeName ) || changedOrRemovedClasses.contains( typeName ) ) {
+				affected[0] = true;
+			}
+			else if ( type instanceof EntityTypeMetadata && extendedClasses.contains( typeName ) ) {
+				affected[0] = true;
+			}
+			else {
+				for ( JpaEventListener listener : type.getHierarchyJpaEventListeners() ) {
+					if ( changedOrRemovedClasses.contains( listener.getCallbackClass().getName() ) ) {
+						affected[0] = true;
+					}
+				}
+			}
+		} );
+
+		if ( !affected[0] && hierarchy.getIdMapping() instanceof NonAggregatedKeyMapping nonAggregatedKeyMapping ) {
+			final ClassDetails idClassType = nonAggregatedKeyMapping.idClassType();
+			affected[0] = idClassType != null && changedOrRemovedClasses.contains( idClassType.getName() );
+		}
+
+		return affected[0];
+	}
+
+	private static boolean embedsAny(Set<String> memberTypes, Set<String> rebuiltClasses, CategorizedDomainModel previousModel) {
+		for ( String memberType : memberTypes ) {
+			if ( rebuiltClasses.contains( memberType ) && previousModel.embeddables().containsKey( memberType ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static Set<String> collectSuperClassNames(ClassDetails classDetails) {
+		final Set<String> names = new HashSet<>();
+		ClassDetails current = classDetails.getSuperClass();
+		while ( current != null && !Object.class.getName().equals( current.getName() ) ) {
+			names.add( current.getName() );
+			current = current.getSuperClass();
+		}
+		return names;
+	}
+
+	private static Set<String> collectMemberTypeNames(ClassDetails classDetails) {
+		final Set<String> names = new HashSet<>();
+		classDetails.getFields().forEach( (member) -> collectMemberTypeNames( member, names ) );
+		classDetails.getMethods().forEach( (member) -> collectMemberTypeNames( member, names ) );
+		classDetails.getRecordComponents().forEach( (member) -> collectMemberTypeNames( member, names ) );
+		return names;
+	}
+
+	private static void collectMemberTypeNames(MemberDetails member, Set<String> names) {
+		if ( member.getType() == null ) {
+			return;
+		}
+		collectTypeName( member.getType(), names );
+		collectTypeName( member.getAssociatedType(), names );
+		if ( member.isPlural() && member.getType().isImplementor( Map.class ) ) {
+			collectTypeName( member.getMapKeyType(), names );
+		}
+	}
+
+	private static void collectTypeName(TypeDetails type, Set<String> names) {
+		if ( type == null ) {
+			return;
+		}
+		final ClassDetails rawClass = type.determineRawClass();
+		if ( rawClass != null ) {
+			names.add( rawClass.getName() );
+		}
+	}
+
+	private static void collectCurrentSuperClassNames(String className, ClassLoading classLoading, Set<String> names) {
+		final Class<?> javaClass = classLoading.findClassForName( className );
+		if ( javaClass == null ) {
+			// e.g. a dynamic model
+			return;
+		}
+		Class<?> current = javaClass.getSuperclass();
+		while ( current != null && current != Object.class ) {
+			names.add( current.getName() );
+			current = current.getSuperclass();
+		}
+	}
+}
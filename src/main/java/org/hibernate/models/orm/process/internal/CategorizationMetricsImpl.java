@@ -0,0 +1,146 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process.internal;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.models.orm.process.spi.CategorizationMetrics;
+
+import static org.hibernate.models.orm.process.spi.ModelCategorizationLogging.MODEL_CATEGORIZATION_LOGGER;
+
+/**
+ * Standard {@linkplain CategorizationMetrics} implementation, which also acts as the
+ * recorder during categorization.  Phases are tracked in arrays indexed by
+ * {@linkplain Phase#ordinal() ordinal}; when {@linkplain #DISABLED disabled} recording
+ * is a single branch.
+ *
+ * @author Steve Ebersole
+ */
+public class CategorizationMetricsImpl implements CategorizationMetrics {
+	/**
+	 * Shared instance used when metrics are not being collected
+	 */
+	public static final CategorizationMetricsImpl DISABLED = new CategorizationMetricsImpl( false );
+
+	private static final Phase[] PHASES = Phase.values();
+
+	private final boolean enabled;
+	private final ThreadMXBean threadBean;
+	private final com.sun.management.ThreadMXBean allocationBean;
+
+	private final long[] wallStarts;
+	private final long[] cpuStarts;
+	private final long[] allocationStarts;
+	private final PhaseMetrics[] phaseMetrics;
+
+	private CategorizationMetricsImpl(boolean enabled) {
+		this.enabled = enabled;
+		if ( enabled ) {
+			this.threadBean = ManagementFactory.getThreadMXBean();
+			this.allocationBean = resolveAllocationBean( threadBean );
+			this.wallStarts = new long[PHASES.length];
+			this.cpuStarts = new long[PHASES.length];
+			this.allocationStarts = new long[PHASES.length];
+			this.phaseMetrics = new PhaseMetrics[PHASES.length];
+		}
+		else {
+			this.threadBean = null;
+			this.allocationBean = null;
+			this.wallStarts = null;
+			this.cpuStarts = null;
+			this.allocationStarts = null;
+			this.phaseMetrics = null;
+		}
+	}
+
+	private static com.sun.management.ThreadMXBean resolveAllocationBean(ThreadMXBean threadBean) {
+		if ( threadBean instanceof com.sun.management.ThreadMXBean allocationBean
+				&& allocationBean.isThreadAllocatedMemorySupported()
+				&& allocationBean.isThreadAllocatedMemoryEnabled() ) {
+			return allocationBean;
+		}
+		return null;
+	}
+
+	/**
+	 * Creates a recording instance if {@code enabled}, otherwise returns {@linkplain #DISABLED}
+	 */
+	public static CategorizationMetricsImpl create(boolean enabled) {
+		return enabled ? new CategorizationMetricsImpl( true ) : DISABLED;
+	}
+
+	/**
+	 * Mark the start of a phase.  Must be called on the categorizing thread.
+	 */
+	public void beginPhase(Phase phase) {
+		if ( !enabled ) {
+			return;
+		}
+		final int index = phase.ordinal();
+		cpuStarts[index] = currentCpuTime();
+		allocationStarts[index] = currentAllocatedBytes();
+		wallStarts[index] = System.nanoTime();
+	}
+
+	/**
+	 * Mark the end of a phase previously {@linkplain #beginPhase begun} on the same thread.
+	 */
+	public void endPhase(Phase phase) {
+		if ( !enabled ) {
+			return;
+		}
+		final long wallEnd = System.nanoTime();
+		final long cpuEnd = currentCpuTime();
+		final long allocationEnd = currentAllocatedBytes();
+
+		final int index = phase.ordinal();
+		phaseMetrics[index] = new PhaseMetrics(
+				phase,
+				wallEnd - wallStarts[index],
+				cpuEnd < 0 ? -1 : cpuEnd - cpuStarts[index],
+				allocationEnd < 0 ? -1 : allocationEnd - allocationStarts[index]
+		);
+
+		if ( MODEL_CATEGORIZATION_LOGGER.isDebugEnabled() ) {
+			MODEL_CATEGORIZATION_LOGGER.debugf( "Categorization phase %s : %s", phase, phaseMetrics[index] );
+		}
+	}
+
+	private long currentCpuTime() {
+		return threadBean.isCurrentThreadCpuTimeSupported() ? threadBean.getCurrentThreadCpuTime() : -1;
+	}
+
+	private long currentAllocatedBytes() {
+		return allocationBean == null ? -1 : allocationBean.getCurrentThreadAllocatedBytes();
+	}
+
+	@Override
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	@Override
+	public PhaseMetrics getPhaseMetrics(Phase phase) {
+		return enabled ? phaseMetrics[phase.ordinal()] : null;
+	}
+
+	@Override
+	public List<PhaseMetrics> getPhaseMetrics() {
+		if ( !enabled ) {
+			return Collections.emptyList();
+		}
+		final List<PhaseMetrics> result = new ArrayList<>( phaseMetrics.length );
+		for ( PhaseMetrics metrics : phaseMetrics ) {
+			if ( metrics != null ) {
+				result.add( metrics );
+			}
+		}
+		return result;
+	}
+}
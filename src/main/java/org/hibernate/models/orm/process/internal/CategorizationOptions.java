@@ -0,0 +1,147 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process.internal;
+
+import java.nio.file.Path;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.models.ModelsException;
+import org.hibernate.models.orm.process.spi.CategorizationIndexer;
+
+import static org.hibernate.models.orm.process.spi.CategorizationSettings.CATEGORIZATION_EXECUTOR;
+import static org.hibernate.models.orm.process.spi.CategorizationSettings.CATEGORIZATION_INDEX;
+import static org.hibernate.models.orm.process.spi.CategorizationSettings.COLLECT_METRICS;
+import static org.hibernate.models.orm.process.spi.CategorizationSettings.FREEZE;
+import static org.hibernate.models.orm.process.spi.CategorizationSettings.INCREMENTAL;
+import static org.hibernate.models.orm.process.spi.CategorizationSettings.PARALLEL_CATEGORIZATION;
+import static org.hibernate.models.orm.process.spi.CategorizationSettings.PARALLEL_THRESHOLD;
+import static org.hibernate.models.orm.process.spi.CategorizationSettings.READ_CLASS_FILES;
+import static org.hibernate.models.orm.process.spi.CategorizationSettings.SNAPSHOT_FILE;
+import static org.hibernate.models.orm.process.spi.CategorizationSettings.SNAPSHOT_MAPPED;
+
+/**
+ * Resolved view of the {@linkplain org.hibernate.models.orm.process.spi.CategorizationSettings categorization settings}.
+ *
+ * @author Steve Ebersole
+ */
+public class CategorizationOptions {
+	public static final int DEFAULT_PARALLEL_THRESHOLD = 50;
+
+	private final Executor executor;
+	private final int parallelThreshold;
+	private final boolean collectMetrics;
+	private final Path snapshotFile;
+	private final boolean snapshotMapped;
+	private final String indexResourceName;
+	private final boolean incremental;
+	private final boolean readClassFiles;
+	private final boolean freeze;
+
+	public CategorizationOptions(BootstrapContext bootstrapContext) {
+		final ConfigurationService configurationService = bootstrapContext.getConfigurationService();
+
+		final boolean parallel = configurationService.getSetting( PARALLEL_CATEGORIZATION, StandardConverters.BOOLEAN, false );
+		this.executor = parallel ? resolveExecutor( configurationService ) : null;
+		this.parallelThreshold = configurationService.getSetting(
+				PARALLEL_THRESHOLD,
+				StandardConverters.INTEGER,
+				DEFAULT_PARALLEL_THRESHOLD
+		);
+		this.collectMetrics = configurationService.getSetting( COLLECT_METRICS, StandardConverters.BOOLEAN, false );
+
+		final String snapshotFileName = configurationService.getSetting( SNAPSHOT_FILE, StandardConverters.STRING );
+		this.snapshotFile = snapshotFileName == null || snapshotFileName.isBlank() ? null : Path.of( snapshotFileName );
+		this.snapshotMapped = configurationService.getSetting( SNAPSHOT_MAPPED, StandardConverters.BOOLEAN, false );
+		final String indexResourceName = configurationService.getSetting(
+				CATEGORIZATION_INDEX,
+				StandardConverters.STRING,
+				CategorizationIndexer.DEFAULT_INDEX_RESOURCE
+		);
+		this.indexResourceName = indexResourceName == null || indexResourceName.isBlank() ? null : indexResourceName;
+		this.incremental = configurationService.getSetting( INCREMENTAL, StandardConverters.BOOLEAN, false );
+		this.readClassFiles = configurationService.getSetting( READ_CLASS_FILES, StandardConverters.BOOLEAN, false );
+		this.freeze = configurationService.getSetting( FREEZE, StandardConverters.BOOLEAN, false );
+	}
+
+	private static Executor resolveExecutor(ConfigurationService configurationService) {
+		final Object setting = configurationService.getSettings().get( CATEGORIZATION_EXECUTOR );
+		if ( setting == null ) {
+			return ForkJoinPool.commonPool();
+		}
+		if ( setting instanceof Executor executor ) {
+			return executor;
+		}
+		throw new ModelsException( "Setting `" + CATEGORIZATION_EXECUTOR + "` must specify an Executor instance - " + setting );
+	}
+
+	/**
+	 * The executor to use for parallel work, or {@code null} if parallel categorization is disabled.
+	 */
+	public Executor getExecutor() {
+		return executor;
+	}
+
+	public int getParallelThreshold() {
+		return parallelThreshold;
+	}
+
+	/**
+	 * Whether the given number of units of work should be processed in parallel.
+	 */
+	public boolean shouldParallelize(int units) {
+		return executor != null && units >= parallelThreshold;
+	}
+
+	public boolean shouldCollectMetrics() {
+		return collectMetrics;
+	}
+
+	/**
+	 * The file in which to keep the categorization snapshot, or {@code null} if snapshots are not used.
+	 */
+	public Path getSnapshotFile() {
+		return snapshotFile;
+	}
+
+	/**
+	 * Whether the snapshot should be memory mapped and lazily decoded.
+	 */
+	public boolean isSnapshotMapped() {
+		return snapshotMapped;
+	}
+
+	/**
+	 * Name of the classpath resource holding the categorization index, or {@code null} if the index is not used.
+	 */
+	public String getIndexResourceName() {
+		return indexResourceName;
+	}
+
+	/**
+	 * Whether to retain the {@linkplain CategorizationSources sources} of the categorization,
+	 * allowing incremental re-categorization.
+	 */
+	public boolean isIncremental() {
+		return incremental;
+	}
+
+	/**
+	 * Whether named classes should be categorized from their class files, rather than loaded.
+	 */
+	public boolean shouldReadClassFiles() {
+		return readClassFiles;
+	}
+
+	/**
+	 * Whether the categorized model should be frozen once built.
+	 */
+	public boolean shouldFreeze() {
+		return freeze;
+	}
+}
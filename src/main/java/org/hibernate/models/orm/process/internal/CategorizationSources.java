@@ -0,0 +1,217 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process.internal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.boot.jaxb.mapping.spi.JaxbEntityMappingsImpl;
+import org.hibernate.boot.jaxb.spi.Binding;
+import org.hibernate.boot.jaxb.spi.JaxbBindableMappingDescriptor;
+import org.hibernate.boot.model.process.spi.ManagedResources;
+import org.hibernate.boot.models.xml.internal.XmlPreProcessingResultImpl;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.models.orm.process.spi.CategorizedDomainModel;
+import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.SourceModelBuildingContext;
+
+/**
+ * What each source (class or XML mapping) of a categorized domain model contributed to it,
+ * retained when {@linkplain org.hibernate.models.orm.process.spi.CategorizationSettings#INCREMENTAL enabled}
+ * so that the model can later be re-categorized incrementally.
+ * <p/>
+ * The {@linkplain GlobalRegistrationsImpl global registrations} are kept per source so that
+ * the ones contributed by changed sources can be replaced; the complete registrations are
+ * {@linkplain #composeRegistrations composed} from them in the same order a complete
+ * categorization applies them - XML mappings in document order followed by classes in name order.
+ * <p/>
+ * The sources are carried by the {@linkplain CategorizedDomainModel#sources() model} they describe,
+ * and so are retained for exactly as long as the model itself.
+ * <p/>
+ * Re-categorization replaces the details of changed classes in the (shared) class details registry,
+ * which keeps listing the previous details as subtypes of their super class.  Those
+ * {@linkplain #isSuperseded superseded} details are tracked here, to be skipped when walking subtypes.
+ *
+ * @author Steve Ebersole
+ */
+public class CategorizationSources {
+	/**
+	 * What a single XML mapping contributed.
+	 *
+	 * @param registrations The global registrations defined by the mapping
+	 * @param mappedClasses Names of the classes the mapping maps
+	 * @param definesPersistenceUnitMetadata Whether the mapping defines persistence-unit metadata,
+	 * which influences every class in the persistence-unit
+	 */
+	public record DocumentSource(
+			GlobalRegistrationsImpl registrations,
+			Set<String> mappedClasses,
+			boolean definesPersistenceUnitMetadata) {
+	}
+
+	private final Map<String, GlobalRegistrationsImpl> classRegistrations;
+	private final Map<String, DocumentSource> documents;
+	private final Set<ClassDetails> supersededClasses;
+
+	// names of the XML mappings being processed, keyed by (the identity of) their root
+	private final Map<JaxbEntityMappingsImpl, String> documentNames = new IdentityHashMap<>();
+	private final List<String> documentOrder = new ArrayList<>();
+
+	private CategorizationSources(
+			Map<String, GlobalRegistrationsImpl> classRegistrations,
+			Map<String, DocumentSource> documents,
+			Set<ClassDetails> supersededClasses) {
+		this.classRegistrations = classRegistrations;
+		this.documents = documents;
+		this.supersededClasses = supersededClasses;
+	}
+
+	/**
+	 * Sources for a complete categorization of the given resources.
+	 */
+	public static CategorizationSources create(ManagedResources managedResources) {
+		final CategorizationSources sources = new CategorizationSources( new HashMap<>(), new HashMap<>(), identitySet() );
+		sources.registerDocuments( managedResources.getXmlMappingBindings() );
+		return sources;
+	}
+
+	/**
+	 * Copy of these sources for a re-categorization of the given (changed) resources, minus
+	 * what the given classes and XML mappings contributed.
+	 *
+	 * @param excludedClasses Names of the classes which are re-categorized or removed
+	 * @param excludedDocuments Names of the XML mappings which are re-processed or removed
+	 */
+	public CategorizationSources retain(
+			Set<String> excludedClasses,
+			Set<String> excludedDocuments,
+			ManagedResources managedResources) {
+		final Map<String, GlobalRegistrationsImpl> retainedClassRegistrations = new HashMap<>( classRegistrations );
+		retainedClassRegistrations.keySet().removeAll( excludedClasses );
+		final Map<String, DocumentSource> retainedDocuments = new HashMap<>( documents );
+		retainedDocuments.keySet().removeAll( excludedDocuments );
+
+		final Set<ClassDetails> retainedSupersededClasses = identitySet();
+		retainedSupersededClasses.addAll( supersededClasses );
+
+		final CategorizationSources sources = new CategorizationSources(
+				retainedClassRegistrations,
+				retainedDocuments,
+				retainedSupersededClasses
+		);
+		sources.registerDocuments( managedResources.getXmlMappingBindings() );
+		return sources;
+	}
+
+	private static Set<ClassDetails> identitySet() {
+		return Collections.newSetFromMap( new IdentityHashMap<>() );
+	}
+
+	private void registerDocuments(Collection<Binding<JaxbBindableMappingDescriptor>> xmlMappingBindings) {
+		for ( Binding<JaxbBindableMappingDescriptor> binding : xmlMappingBindings ) {
+			if ( binding.getRoot() instanceof JaxbEntityMappingsImpl jaxbRoot ) {
+				final String name = binding.getOrigin().getName();
+				documentNames.put( jaxbRoot, name );
+				documentOrder.add( name );
+			}
+		}
+	}
+
+	/**
+	 * The XML mappings of the given resources, keyed by name in document order.
+	 */
+	public static Map<String, JaxbEntityMappingsImpl> collectDocuments(ManagedResources managedResources) {
+		final Map<String, JaxbEntityMappingsImpl> documents = new LinkedHashMap<>();
+		for ( Binding<JaxbBindableMappingDescriptor> binding : managedResources.getXmlMappingBindings() ) {
+			if ( binding.getRoot() instanceof JaxbEntityMappingsImpl jaxbRoot ) {
+				documents.put( binding.getOrigin().getName(), jaxbRoot );
+			}
+		}
+		return documents;
+	}
+
+	/**
+	 * Names of the classes mapped by the given XML mapping.
+	 */
+	public static Set<String> collectMappedClasses(JaxbEntityMappingsImpl jaxbRoot) {
+		final XmlPreProcessingResultImpl preProcessingResult = new XmlPreProcessingResultImpl();
+		preProcessingResult.addDocument( jaxbRoot );
+		return new LinkedHashSet<>( preProcessingResult.getMappedClasses() );
+	}
+
+	public void addClass(String className, GlobalRegistrationsImpl registrations) {
+		classRegistrations.put( className, registrations );
+	}
+
+	public void addDocument(JaxbEntityMappingsImpl jaxbRoot, GlobalRegistrationsImpl registrations) {
+		String name = documentNames.get( jaxbRoot );
+		if ( name == null ) {
+			// not one of the registered bindings - still track it, under a name of its own
+			name = "<unnamed mapping " + System.identityHashCode( jaxbRoot ) + ">";
+			documentNames.put( jaxbRoot, name );
+			documentOrder.add( name );
+		}
+		documents.put( name, new DocumentSource(
+				registrations,
+				collectMappedClasses( jaxbRoot ),
+				jaxbRoot.getPersistenceUnitMetadata() != null
+		) );
+	}
+
+	/**
+	 * Record that the given details were replaced (or their class removed), though the registry
+	 * may still list them as a subtype.
+	 */
+	public void supersede(ClassDetails classDetails) {
+		supersededClasses.add( classDetails );
+	}
+
+	/**
+	 * Whether the given details were {@linkplain #supersede superseded}.
+	 */
+	public boolean isSuperseded(ClassDetails classDetails) {
+		return supersededClasses.contains( classDetails );
+	}
+
+	/**
+	 * Whether the named class was categorized.
+	 */
+	public boolean isKnownClass(String className) {
+		return classRegistrations.containsKey( className );
+	}
+
+	public Map<String, DocumentSource> getDocuments() {
+		return documents;
+	}
+
+	/**
+	 * Compose the complete global registrations from those of the individual sources.
+	 */
+	public GlobalRegistrationsImpl composeRegistrations(
+			SourceModelBuildingContext modelsContext,
+			BootstrapContext bootstrapContext) {
+		final GlobalRegistrationsImpl globalRegistrations = new GlobalRegistrationsImpl( modelsContext, bootstrapContext );
+		for ( String documentName : documentOrder ) {
+			final DocumentSource document = documents.get( documentName );
+			if ( document != null ) {
+				globalRegistrations.merge( document.registrations() );
+			}
+		}
+
+		final List<String> classNames = new ArrayList<>( classRegistrations.keySet() );
+		classNames.sort( null );
+		classNames.forEach( (className) -> globalRegistrations.merge( classRegistrations.get( className ) ) );
+
+		return globalRegistrations;
+	}
+}
@@ -0,0 +1,120 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import org.hibernate.models.ModelsException;
+import org.hibernate.models.internal.MutableClassDetailsRegistry;
+import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.ClassDetailsRegistry;
+
+/**
+ * Helpers for fanning categorization work out over an {@linkplain Executor executor}.
+ *
+ * @author Steve Ebersole
+ */
+public class ConcurrencyHelper {
+	/**
+	 * Applies the {@code function} to each of the {@code inputs} using the given {@code executor},
+	 * returning the results in the same order as the inputs regardless of the order in which
+	 * they complete.
+	 */
+	public static <I,O> List<O> mapInParallel(List<I> inputs, Function<I,O> function, Executor executor) {
+		return joinAll( forkAll( inputs, function, executor ) );
+	}
+
+	/**
+	 * Schedules the {@code function} to be applied to each of the {@code inputs} using the given
+	 * {@code executor}, without waiting.  Allows callers to start several batches before
+	 * {@linkplain #joinAll joining} any of them.
+	 */
+	public static <I,O> List<CompletableFuture<O>> forkAll(List<I> inputs, Function<I,O> function, Executor executor) {
+		final List<CompletableFuture<O>> futures = new ArrayList<>( inputs.size() );
+		for ( int i = 0; i < inputs.size(); i++ ) {
+			final I input = inputs.get( i );
+			futures.add( CompletableFuture.supplyAsync( () -> function.apply( input ), executor ) );
+		}
+		return futures;
+	}
+
+	/**
+	 * A future completing, without waiting, once all the {@code futures} complete - with their
+	 * results in order, or with the failure of any of them.
+	 */
+	public static <O> CompletableFuture<List<O>> allOf(List<CompletableFuture<O>> futures) {
+		return CompletableFuture.allOf( futures.toArray( new CompletableFuture<?>[0] ) )
+				.thenApply( (ignored) -> joinAll( futures ) );
+	}
+
+	/**
+	 * Wait for all the {@code futures} to complete, returning their results in order.
+	 */
+	public static <O> List<O> joinAll(List<CompletableFuture<O>> futures) {
+		final List<O> results = new ArrayList<>( futures.size() );
+		for ( int i = 0; i < futures.size(); i++ ) {
+			results.add( join( futures.get( i ) ) );
+		}
+		return results;
+	}
+
+	/**
+	 * Wait for the {@code future} to complete, unwrapping any failure so that callers see
+	 * the same exceptions they would have seen from serial processing.
+	 */
+	public static <T> T join(CompletableFuture<T> future) {
+		try {
+			return future.join();
+		}
+		catch (CompletionException e) {
+			final Throwable cause = e.getCause();
+			if ( cause instanceof RuntimeException runtimeException ) {
+				throw runtimeException;
+			}
+			if ( cause instanceof Error error ) {
+				throw error;
+			}
+			throw new ModelsException( "Error during parallel categorization", cause );
+		}
+	}
+
+	/**
+	 * Resolve the named {@linkplain ClassDetails} from a task which may run concurrently
+	 * with others.  {@linkplain ClassDetailsRegistry#resolveClassDetails} is not safe for
+	 * concurrent misses, so creation is serialized on the registry while already
+	 * registered classes are returned without locking.
+	 */
+	public static ClassDetails resolveClassDetails(ClassDetailsRegistry registry, String name) {
+		final ClassDetails existing = registry.findClassDetails( name );
+		if ( existing != null ) {
+			return existing;
+		}
+		synchronized ( registry ) {
+			return registry.resolveClassDetails( name );
+		}
+	}
+
+	/**
+	 * Form of {@linkplain #resolveClassDetails(ClassDetailsRegistry, String)} creating a missing
+	 * class through the given {@code creator}, while holding the registry's lock.
+	 */
+	public static ClassDetails resolveClassDetails(
+			MutableClassDetailsRegistry registry,
+			String name,
+			MutableClassDetailsRegistry.ClassDetailsCreator creator) {
+		final ClassDetails existing = registry.findClassDetails( name );
+		if ( existing != null ) {
+			return existing;
+		}
+		synchronized ( registry ) {
+			return registry.resolveClassDetails( name, creator );
+		}
+	}
+}
@@ -6,12 +6,14 @@
  */
 package org.hibernate.models.orm.process.internal;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
 import org.hibernate.boot.jaxb.mapping.spi.JaxbEntityListenerContainerImpl;
 import org.hibernate.boot.jaxb.mapping.spi.JaxbEntityMappingsImpl;
@@ -20,15 +22,15 @@ import org.hibernate.boot.jaxb.mapping.spi.JaxbPersistenceUnitMetadataImpl;
 import org.hibernate.boot.models.xml.spi.PersistenceUnitMetadata;
 import org.hibernate.boot.models.xml.spi.XmlDocumentContext;
 import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.models.orm.process.internal.jfr.CategorizationEvents;
+import org.hibernate.models.orm.process.internal.jfr.ClassCategorizationEvent;
+import org.hibernate.models.orm.process.spi.CategorizationMetrics;
 import org.hibernate.models.orm.process.spi.CategorizedDomainModel;
 import org.hibernate.models.orm.process.spi.EntityHierarchy;
 import org.hibernate.models.orm.process.spi.ManagedResourcesCategorizer;
 import org.hibernate.models.spi.ClassDetails;
 import org.hibernate.models.spi.SourceModelBuildingContext;
 
-import jakarta.persistence.Embeddable;
-import jakarta.persistence.Entity;
-import jakarta.persistence.MappedSuperclass;
 
 /**
  * In-flight holder for various categorizations of the application's domain model.
@@ -38,17 +40,47 @@ import jakarta.persistence.MappedSuperclass;
  * @author Steve Ebersole
  */
 public class DomainModelCategorizationCollector {
-	private final Set<ClassDetails> rootEntities = new HashSet<>();
-	private final Map<String,ClassDetails> mappedSuperclasses = new HashMap<>();
-	private final Map<String,ClassDetails> embeddables = new HashMap<>();
+	private final SourceModelBuildingContext modelsContext;
+	private final BootstrapContext bootstrapContext;
+
+	// concurrent as classes may be categorized in parallel
+	private final Set<ClassDetails> rootEntities = ConcurrentHashMap.newKeySet();
+	private final Map<String,ClassDetails> mappedSuperclasses = new ConcurrentHashMap<>();
+	private final Map<String,ClassDetails> embeddables = new ConcurrentHashMap<>();
 	private final GlobalRegistrationsImpl globalRegistrations;
+	private final ManagedTypeKinds managedTypeKinds = new ManagedTypeKinds();
+	private final HierarchyRootResolver hierarchyRootResolver = new HierarchyRootResolver( managedTypeKinds );
+
+	// names of the classes already processed
+	private final Set<String> processedClasses = ConcurrentHashMap.newKeySet();
+
+	// registrations collected before the class is applied, keyed by class name
+	private final Map<String,GlobalRegistrationsImpl> registrationsCollectedAhead = new ConcurrentHashMap<>();
 
-	private final Set<ClassDetails> processedClasses = new TreeSet<>( Comparator.comparing( ClassDetails::getName ) );
+	// XML mappings whose registrations are yet to be collected, in document order
+	private final List<DeferredDocument> deferredDocuments = new ArrayList<>();
+
+	// what each class and XML mapping contributes, if tracked
+	private final CategorizationSources sources;
 
 	public DomainModelCategorizationCollector(
 			SourceModelBuildingContext modelsContext,
 			BootstrapContext bootstrapContext) {
+		this( modelsContext, bootstrapContext, null );
+	}
+
+	/**
+	 * @param sources Where to track what each class and XML mapping contributes; {@code null} indicates
+	 * not to track it
+	 */
+	public DomainModelCategorizationCollector(
+			SourceModelBuildingContext modelsContext,
+			BootstrapContext bootstrapContext,
+			CategorizationSources sources) {
+		this.modelsContext = modelsContext;
+		this.bootstrapContext = bootstrapContext;
 		this.globalRegistrations = new GlobalRegistrationsImpl( modelsContext, bootstrapContext );
+		this.sources = sources;
 	}
 
 	public Set<ClassDetails> getRootEntities() {
@@ -63,69 +95,213 @@ public class DomainModelCategorizationCollector {
 		return embeddables;
 	}
 
+	/**
+	 * The kinds of the classes categorized, shared with the later phases of the categorization
+	 */
+	public ManagedTypeKinds getManagedTypeKinds() {
+		return managedTypeKinds;
+	}
+
+	/**
+	 * Where the classes categorized sit in their hierarchies, shared with the later phases of the categorization
+	 */
+	public HierarchyRootResolver getHierarchyRootResolver() {
+		return hierarchyRootResolver;
+	}
+
 	public GlobalRegistrationsImpl getGlobalRegistrations() {
 		return globalRegistrations;
 	}
 
 
 	public void apply(JaxbEntityMappingsImpl jaxbRoot, XmlDocumentContext xmlDocumentContext) {
-		getGlobalRegistrations().collectJavaTypeRegistrations( jaxbRoot.getJavaTypeRegistrations() );
-		getGlobalRegistrations().collectJdbcTypeRegistrations( jaxbRoot.getJdbcTypeRegistrations() );
-		getGlobalRegistrations().collectConverterRegistrations( jaxbRoot.getConverterRegistrations() );
-		getGlobalRegistrations().collectUserTypeRegistrations( jaxbRoot.getUserTypeRegistrations() );
-		getGlobalRegistrations().collectCompositeUserTypeRegistrations( jaxbRoot.getCompositeUserTypeRegistrations() );
-		getGlobalRegistrations().collectCollectionTypeRegistrations( jaxbRoot.getCollectionUserTypeRegistrations() );
-		getGlobalRegistrations().collectEmbeddableInstantiatorRegistrations( jaxbRoot.getEmbeddableInstantiatorRegistrations() );
-		getGlobalRegistrations().collectFilterDefinitions( jaxbRoot.getFilterDefinitions() );
+		if ( sources == null ) {
+			collectRegistrations( jaxbRoot, xmlDocumentContext, getGlobalRegistrations() );
+			return;
+		}
+
+		final GlobalRegistrationsImpl documentRegistrations = new GlobalRegistrationsImpl( modelsContext, bootstrapContext );
+		collectRegistrations( jaxbRoot, xmlDocumentContext, documentRegistrations );
+		sources.addDocument( jaxbRoot, documentRegistrations );
+		getGlobalRegistrations().merge( documentRegistrations );
+	}
+
+	/**
+	 * Form of {@linkplain #apply(JaxbEntityMappingsImpl, XmlDocumentContext)} which only records the XML
+	 * mapping, leaving the collection of its registrations to {@linkplain #applyDeferredDocuments}.
+	 */
+	public void defer(JaxbEntityMappingsImpl jaxbRoot, XmlDocumentContext xmlDocumentContext) {
+		deferredDocuments.add( new DeferredDocument( jaxbRoot, xmlDocumentContext ) );
+	}
+
+	/**
+	 * Collect the registrations of the {@linkplain #defer deferred} XML mappings, fanning the work out
+	 * over the {@code executor}.  Registrations are collected per document and merged in document order
+	 * so that the outcome is the same as applying the documents one at a time.
+	 */
+	public void applyDeferredDocuments(Executor executor) {
+		final List<GlobalRegistrationsImpl> documentRegistrations = ConcurrencyHelper.mapInParallel(
+				deferredDocuments,
+				(document) -> {
+					final GlobalRegistrationsImpl registrations = new GlobalRegistrationsImpl( modelsContext, bootstrapContext );
+					collectRegistrations( document.jaxbRoot(), document.xmlDocumentContext(), registrations );
+					return registrations;
+				},
+				executor
+		);
+		for ( int i = 0; i < deferredDocuments.size(); i++ ) {
+			if ( sources != null ) {
+				sources.addDocument( deferredDocuments.get( i ).jaxbRoot(), documentRegistrations.get( i ) );
+			}
+			getGlobalRegistrations().merge( documentRegistrations.get( i ) );
+		}
+		deferredDocuments.clear();
+	}
+
+	private record DeferredDocument(JaxbEntityMappingsImpl jaxbRoot, XmlDocumentContext xmlDocumentContext) {
+	}
+
+	private void collectRegistrations(
+			JaxbEntityMappingsImpl jaxbRoot,
+			XmlDocumentContext xmlDocumentContext,
+			GlobalRegistrationsImpl registrations) {
+		registrations.collectJavaTypeRegistrations( jaxbRoot.getJavaTypeRegistrations() );
+		registrations.collectJdbcTypeRegistrations( jaxbRoot.getJdbcTypeRegistrations() );
+		registrations.collectConverterRegistrations( jaxbRoot.getConverterRegistrations() );
+		registrations.collectUserTypeRegistrations( jaxbRoot.getUserTypeRegistrations() );
+		registrations.collectCompositeUserTypeRegistrations( jaxbRoot.getCompositeUserTypeRegistrations() );
+		registrations.collectCollectionTypeRegistrations( jaxbRoot.getCollectionUserTypeRegistrations() );
+		registrations.collectEmbeddableInstantiatorRegistrations( jaxbRoot.getEmbeddableInstantiatorRegistrations() );
+		registrations.collectFilterDefinitions( jaxbRoot.getFilterDefinitions() );
 
 		final JaxbPersistenceUnitMetadataImpl persistenceUnitMetadata = jaxbRoot.getPersistenceUnitMetadata();
 		if ( persistenceUnitMetadata != null ) {
 			final JaxbPersistenceUnitDefaultsImpl persistenceUnitDefaults = persistenceUnitMetadata.getPersistenceUnitDefaults();
 			final JaxbEntityListenerContainerImpl listenerContainer = persistenceUnitDefaults.getEntityListenerContainer();
 			if ( listenerContainer != null ) {
-				getGlobalRegistrations().collectEntityListenerRegistrations(
+				registrations.collectEntityListenerRegistrations(
 						listenerContainer.getEntityListeners(),
 						xmlDocumentContext.getModelBuildingContext()
 				);
 			}
 		}
 
-		getGlobalRegistrations().collectIdGenerators( jaxbRoot );
+		registrations.collectIdGenerators( jaxbRoot );
 		// todo : named queries
 		// todo : named graphs
 	}
 
+	/**
+	 * Collect the global registrations of the class ahead of {@linkplain #apply applying} it, e.g. while
+	 * other work is still in progress.  They are merged when the class is applied, exactly as if they
+	 * had been collected then.  Must not be called for classes to which XML mappings may still apply.
+	 */
+	public void collectRegistrationsAhead(ClassDetails classDetails) {
+		final GlobalRegistrationsImpl registrations = new GlobalRegistrationsImpl( modelsContext, bootstrapContext );
+		collectRegistrations( classDetails, registrations );
+		registrationsCollectedAhead.put( classDetails.getName(), registrations );
+	}
+
 	public void apply(ClassDetails classDetails) {
-		final boolean alreadyProcessed = !processedClasses.add( classDetails );
+		final boolean alreadyProcessed = !processedClasses.add( classDetails.getName() );
 		if ( alreadyProcessed ) {
 			return;
 		}
 
-		getGlobalRegistrations().collectJavaTypeRegistrations( classDetails );
-		getGlobalRegistrations().collectJdbcTypeRegistrations( classDetails );
-		getGlobalRegistrations().collectConverterRegistrations( classDetails );
-		getGlobalRegistrations().collectUserTypeRegistrations( classDetails );
-		getGlobalRegistrations().collectCompositeUserTypeRegistrations( classDetails );
-		getGlobalRegistrations().collectCollectionTypeRegistrations( classDetails );
-		getGlobalRegistrations().collectEmbeddableInstantiatorRegistrations( classDetails );
-		getGlobalRegistrations().collectFilterDefinitions( classDetails );
+		categorize( classDetails );
+	}
 
-		getGlobalRegistrations().collectIdGenerators( classDetails );
-		getGlobalRegistrations().collectQueryReferences( classDetails );
+	/**
+	 * Apply all the given classes, fanning the work out over the {@code executor} when one
+	 * is given.  Global registrations are collected per class and merged in class-name order
+	 * so that the outcome does not depend on scheduling.
+	 *
+	 * @param executor The executor to use, or {@code null} to process serially
+	 */
+	public void apply(Collection<ClassDetails> classes, Executor executor) {
+		final List<ClassDetails> toProcess = new ArrayList<>( classes.size() );
+		for ( ClassDetails classDetails : classes ) {
+			if ( processedClasses.add( classDetails.getName() ) ) {
+				toProcess.add( classDetails );
+			}
+		}
+		toProcess.sort( Comparator.comparing( ClassDetails::getName ) );
+
+		if ( executor == null ) {
+			toProcess.forEach( this::categorize );
+			return;
+		}
+
+		final List<GlobalRegistrationsImpl> classRegistrations = ConcurrencyHelper.mapInParallel(
+				toProcess,
+				(classDetails) -> {
+					final GlobalRegistrationsImpl registrations = new GlobalRegistrationsImpl( modelsContext, bootstrapContext );
+					categorize( classDetails, registrations );
+					return registrations;
+				},
+				executor
+		);
+		for ( int i = 0; i < toProcess.size(); i++ ) {
+			if ( sources != null ) {
+				sources.addClass( toProcess.get( i ).getName(), classRegistrations.get( i ) );
+			}
+			getGlobalRegistrations().merge( classRegistrations.get( i ) );
+		}
+	}
+
+	/**
+	 * What each class and XML mapping contributed, or {@code null} if not tracked.
+	 */
+	public CategorizationSources getSources() {
+		return sources;
+	}
+
+	private void categorize(ClassDetails classDetails) {
+		if ( sources == null ) {
+			categorize( classDetails, getGlobalRegistrations() );
+			return;
+		}
+
+		final GlobalRegistrationsImpl classRegistrations = new GlobalRegistrationsImpl( modelsContext, bootstrapContext );
+		categorize( classDetails, classRegistrations );
+		sources.addClass( classDetails.getName(), classRegistrations );
+		getGlobalRegistrations().merge( classRegistrations );
+	}
+
+	private void categorize(ClassDetails classDetails, GlobalRegistrationsImpl registrations) {
+		final ClassCategorizationEvent event = CategorizationEvents.beginClass();
+		final GlobalRegistrationsImpl collectedAhead = registrationsCollectedAhead.remove( classDetails.getName() );
+		if ( collectedAhead == null ) {
+			collectRegistrations( classDetails, registrations );
+		}
+		else {
+			registrations.merge( collectedAhead );
+		}
+		categorizeType( classDetails );
+		CategorizationEvents.endClass( event, classDetails );
+	}
+
+	private void collectRegistrations(ClassDetails classDetails, GlobalRegistrationsImpl registrations) {
+		// the annotations are scanned for the class's kind anyway, which notes whether any define registrations
+		if ( managedTypeKinds.hasGlobalRegistrations( classDetails ) ) {
+			registrations.collectClassRegistrations( classDetails );
+		}
 
 		// todo : named graphs
+	}
 
-		if ( classDetails.hasDirectAnnotationUsage( MappedSuperclass.class ) ) {
+	private void categorizeType(ClassDetails classDetails) {
+		if ( managedTypeKinds.isMappedSuperclass( classDetails ) ) {
 			if ( classDetails.getClassName() != null ) {
 				mappedSuperclasses.put( classDetails.getClassName(), classDetails );
 			}
 		}
-		else if ( classDetails.hasDirectAnnotationUsage( Entity.class ) ) {
-			if ( EntityHierarchyBuilder.isRoot( classDetails ) ) {
+		else if ( managedTypeKinds.isEntity( classDetails ) ) {
+			if ( hierarchyRootResolver.isRoot( classDetails ) ) {
 				rootEntities.add( classDetails );
 			}
 		}
-		else if ( classDetails.hasDirectAnnotationUsage( Embeddable.class ) ) {
+		else if ( managedTypeKinds.isEmbeddable( classDetails ) ) {
 			if ( classDetails.getClassName() != null ) {
 				embeddables.put( classDetails.getClassName(), classDetails );
 			}
@@ -142,12 +318,25 @@ public class DomainModelCategorizationCollector {
 	 * on {@linkplain #getRootEntities()}
 	 */
 	public CategorizedDomainModel createResult(Set<EntityHierarchy> entityHierarchies, PersistenceUnitMetadata persistenceUnitMetadata) {
+		return createResult( entityHierarchies, persistenceUnitMetadata, CategorizationMetricsImpl.DISABLED );
+	}
+
+	/**
+	 * Form of {@linkplain #createResult(Set, PersistenceUnitMetadata)} also accepting
+	 * the metrics collected during categorization.
+	 */
+	public CategorizedDomainModel createResult(
+			Set<EntityHierarchy> entityHierarchies,
+			PersistenceUnitMetadata persistenceUnitMetadata,
+			CategorizationMetrics metrics) {
 		return new CategorizedDomainModel(
 				entityHierarchies,
 				mappedSuperclasses,
 				embeddables,
 				persistenceUnitMetadata,
-				getGlobalRegistrations()
+				getGlobalRegistrations(),
+				metrics,
+				sources
 		);
 	}
 }
@@ -0,0 +1,208 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process.internal;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.models.ModelsException;
+import org.hibernate.models.orm.process.spi.AggregatedKeyMapping;
+import org.hibernate.models.orm.process.spi.AttributeMetadata;
+import org.hibernate.models.orm.process.spi.BasicKeyMapping;
+import org.hibernate.models.orm.process.spi.CategorizedDomainModel;
+import org.hibernate.models.orm.process.spi.EntityHierarchy;
+import org.hibernate.models.orm.process.spi.EntityTypeMetadata;
+import org.hibernate.models.orm.process.spi.IdentifiableTypeMetadata;
+import org.hibernate.models.orm.process.spi.KeyMapping;
+import org.hibernate.models.orm.process.spi.NonAggregatedKeyMapping;
+
+/**
+ * Turns a {@linkplain CategorizedDomainModel categorized domain model} into a compact, immutable
+ * form once it is built, dropping what was only needed to build it.
+ * <p/>
+ * Entity hierarchies which were built by interpreting annotations (and which hold on to the
+ * {@linkplain org.hibernate.models.orm.process.spi.ModelCategorizationContext categorization context},
+ * mutable collections, attribute roles and paths, etc.) are copied into their
+ * {@linkplain ImmutableEntityHierarchy immutable form}, with the attributes of each type held in an
+ * {@linkplain AttributeTable attribute table}.  Hierarchies which are already immutable (restored from
+ * a snapshot or index, e.g.) are kept as they are.  Collections are replaced by array-backed ones,
+ * sharing the empty instances.
+ *
+ * @author Steve Ebersole
+ */
+public class DomainModelFreezer {
+	private static final String[] NO_TABLE_NAMES = new String[0];
+
+	public static CategorizedDomainModel freeze(CategorizedDomainModel domainModel) {
+		return new CategorizedDomainModel(
+				freezeHierarchies( domainModel.entityHierarchies() ),
+				Map.copyOf( domainModel.mappedSuperclasses() ),
+				Map.copyOf( domainModel.embeddables() ),
+				domainModel.persistenceUnitMetadata(),
+				domainModel.globalRegistrations(),
+				domainModel.metrics(),
+				domainModel.sources()
+		);
+	}
+
+	private static Set<EntityHierarchy> freezeHierarchies(Set<EntityHierarchy> entityHierarchies) {
+		if ( entityHierarchies.isEmpty() ) {
+			return Set.of();
+		}
+		final EntityHierarchy[] frozen = new EntityHierarchy[entityHierarchies.size()];
+		int i = 0;
+		for ( EntityHierarchy entityHierarchy : entityHierarchies ) {
+			frozen[i++] = freeze( entityHierarchy );
+		}
+		return new ArraySet<>( frozen );
+	}
+
+	public static EntityHierarchy freeze(EntityHierarchy hierarchy) {
+		if ( !( hierarchy instanceof EntityHierarchyImpl ) ) {
+			return hierarchy;
+		}
+
+		// key mappings, version, etc. refer to attributes of the hierarchy's types by identity
+		final Map<AttributeMetadata, AttributeSlot> attributes = new IdentityHashMap<>();
+		final Map<IdentifiableTypeMetadata, AbstractImmutableIdentifiableTypeMetadata> types = new IdentityHashMap<>();
+		final AbstractImmutableIdentifiableTypeMetadata absoluteRoot = freezeType(
+				hierarchy.getAbsoluteRoot(),
+				null,
+				types,
+				attributes
+		);
+
+		return new ImmutableEntityHierarchy(
+				absoluteRoot,
+				(EntityTypeMetadata) types.get( hierarchy.getRoot() ),
+				hierarchy.getInheritanceType(),
+				hierarchy.getOptimisticLockStyle(),
+				freezeKey( hierarchy.getIdMapping(), attributes ),
+				freezeKey( hierarchy.getNaturalIdMapping(), attributes ),
+				frozenAttribute( hierarchy.getVersionAttribute(), attributes ),
+				frozenAttribute( hierarchy.getTenantIdAttribute(), attributes ),
+				hierarchy.getCacheRegion(),
+				hierarchy.getNaturalIdCacheRegion()
+		);
+	}
+
+	private static AbstractImmutableIdentifiableTypeMetadata freezeType(
+			IdentifiableTypeMetadata type,
+			AbstractImmutableIdentifiableTypeMetadata superType,
+			Map<IdentifiableTypeMetadata, AbstractImmutableIdentifiableTypeMetadata> types,
+			Map<AttributeMetadata, AttributeSlot> attributes) {
+		final List<AttributeMetadata> liveAttributes = new ArrayList<>( type.getAttributes() );
+		final AttributeTable attributeTable = AttributeTable.from( liveAttributes );
+		for ( int i = 0; i < liveAttributes.size(); i++ ) {
+			attributes.put( liveAttributes.get( i ), new AttributeSlot( attributeTable, i ) );
+		}
+
+		final AbstractImmutableIdentifiableTypeMetadata frozen;
+		if ( type instanceof EntityTypeMetadata entityType ) {
+			frozen = new ImmutableEntityTypeMetadata(
+					type.getClassDetails(),
+					type.getAccessType(),
+					attributeTable,
+					superType,
+					type.getHierarchyJpaEventListeners(),
+					type.getCompleteJpaEventListeners(),
+					entityType.getEntityName(),
+					entityType.getJpaEntityName(),
+					entityType.isMutable(),
+					entityType.isCacheable(),
+					freezeTableNames( entityType.getSynchronizedTableNames() ),
+					entityType.getBatchSize(),
+					entityType.isDynamicInsert(),
+					entityType.isDynamicUpdate(),
+					entityType.getCustomInsert(),
+					entityType.getCustomUpdate(),
+					entityType.getCustomDelete(),
+					entityType instanceof EntityTypeMetadataImpl entityTypeImpl ? entityTypeImpl.getDiscriminatorMatchValue() : null
+			);
+		}
+		else {
+			frozen = new ImmutableMappedSuperclassTypeMetadata(
+					type.getClassDetails(),
+					type.getAccessType(),
+					attributeTable,
+					superType,
+					type.getHierarchyJpaEventListeners(),
+					type.getCompleteJpaEventListeners()
+			);
+		}
+		types.put( type, frozen );
+
+		type.forEachSubType( (subType) -> freezeType( subType, frozen, types, attributes ) );
+
+		return frozen;
+	}
+
+	private static String[] freezeTableNames(String[] tableNames) {
+		return tableNames == null || tableNames.length == 0 ? NO_TABLE_NAMES : tableNames;
+	}
+
+	private static KeyMapping freezeKey(KeyMapping keyMapping, Map<AttributeMetadata, AttributeSlot> attributes) {
+		if ( keyMapping == null ) {
+			return null;
+		}
+		if ( keyMapping instanceof NonAggregatedKeyMapping nonAggregatedKeyMapping ) {
+			final AttributeMetadata[] idAttributes = new AttributeMetadata[nonAggregatedKeyMapping.idAttributes().size()];
+			nonAggregatedKeyMapping.forEachAttribute( (index, attribute) -> idAttributes[index] = frozenAttribute( attribute, attributes ) );
+			return new NonAggregatedKeyMappingImpl( List.of( idAttributes ), nonAggregatedKeyMapping.idClassType() );
+		}
+		if ( keyMapping instanceof AggregatedKeyMapping aggregatedKeyMapping ) {
+			return new AggregatedKeyMappingImpl( frozenAttribute( aggregatedKeyMapping.attribute(), attributes ) );
+		}
+		if ( keyMapping instanceof BasicKeyMapping basicKeyMapping ) {
+			return new BasicKeyMappingImpl( frozenAttribute( basicKeyMapping.attribute(), attributes ) );
+		}
+		throw new ModelsException( "Unexpected key mapping - " + keyMapping );
+	}
+
+	private static AttributeMetadata frozenAttribute(AttributeMetadata attribute, Map<AttributeMetadata, AttributeSlot> attributes) {
+		if ( attribute == null ) {
+			return null;
+		}
+		final AttributeSlot slot = attributes.get( attribute );
+		if ( slot == null ) {
+			throw new ModelsException( "Attribute is not part of the hierarchy - " + attribute );
+		}
+		return slot.table().get( slot.index() );
+	}
+
+	/**
+	 * Position of a frozen attribute, so that only the attributes referenced by the hierarchy
+	 * have their {@linkplain AttributeTable view} created while freezing
+	 */
+	private record AttributeSlot(AttributeTable table, int index) {
+	}
+
+	/**
+	 * Immutable set backed by an array of distinct elements, retaining their order
+	 */
+	private static class ArraySet<E> extends AbstractSet<E> {
+		private final E[] elements;
+
+		private ArraySet(E[] elements) {
+			this.elements = elements;
+		}
+
+		@Override
+		public Iterator<E> iterator() {
+			return Arrays.asList( elements ).iterator();
+		}
+
+		@Override
+		public int size() {
+			return elements.length;
+		}
+	}
+}
@@ -6,27 +6,27 @@
  */
 package org.hibernate.models.orm.process.internal;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 import org.hibernate.boot.models.AccessTypeDeterminationException;
-import org.hibernate.boot.models.JpaAnnotations;
 import org.hibernate.internal.util.collections.CollectionHelper;
+import org.hibernate.models.orm.process.internal.jfr.CategorizationEvents;
+import org.hibernate.models.orm.process.internal.jfr.EntityHierarchyBuildEvent;
 import org.hibernate.models.orm.process.spi.EntityHierarchy;
 import org.hibernate.models.orm.process.spi.IdentifiableTypeMetadata;
 import org.hibernate.models.orm.process.spi.ModelCategorizationContext;
-import org.hibernate.models.spi.AnnotationTarget;
 import org.hibernate.models.spi.ClassDetails;
 import org.hibernate.models.spi.ClassDetailsRegistry;
-import org.hibernate.models.spi.FieldDetails;
-import org.hibernate.models.spi.MethodDetails;
+import org.hibernate.models.spi.MemberDetails;
 
 import jakarta.persistence.Access;
 import jakarta.persistence.AccessType;
-import jakarta.persistence.EmbeddedId;
-import jakarta.persistence.Entity;
-import jakarta.persistence.Id;
 
 /**
  * Builds {@link EntityHierarchy} references from
@@ -52,6 +52,30 @@ public class EntityHierarchyBuilder {
 		return new EntityHierarchyBuilder( buildingContext ).process( rootEntities, typeConsumer );
 	}
 
+	/**
+	 * Form of {@linkplain #createEntityHierarchies(Set, HierarchyTypeConsumer, ModelCategorizationContext)}
+	 * which builds the hierarchies concurrently using the given {@code executor}.  Whether to build in
+	 * parallel is decided by the caller, along with the other categorization phases.
+	 * <p/>
+	 * The returned set is ordered by root entity name, regardless of the order in which
+	 * the individual hierarchies complete.
+	 *
+	 * @param typeConsumer Callback for any identifiable-type metadata references.  Must be thread-safe
+	 * as it will be called from multiple threads.
+	 * @param executor The executor to use for building hierarchies; {@code null} indicates to build serially
+	 */
+	public static Set<EntityHierarchy> createEntityHierarchies(
+			Set<ClassDetails> rootEntities,
+			HierarchyTypeConsumer typeConsumer,
+			ModelCategorizationContext buildingContext,
+			Executor executor) {
+		final EntityHierarchyBuilder builder = new EntityHierarchyBuilder( buildingContext );
+		if ( executor == null ) {
+			return builder.process( rootEntities, typeConsumer );
+		}
+		return builder.processInParallel( rootEntities, typeConsumer, executor );
+	}
+
 	/**
 	 * Pre-processes the annotated entities from the index and create a set of entity hierarchies which can be bound
 	 * to the metamodel.
@@ -65,7 +89,7 @@ public class EntityHierarchyBuilder {
 			HierarchyTypeConsumer typeConsumer,
 			ModelCategorizationContext buildingContext) {
 		return createEntityHierarchies(
-				collectRootEntityTypes( buildingContext.getClassDetailsRegistry() ),
+				collectRootEntityTypes( buildingContext ),
 				typeConsumer,
 				buildingContext
 		);
@@ -82,33 +106,71 @@ public class EntityHierarchyBuilder {
 			HierarchyTypeConsumer typeConsumer) {
 		final Set<EntityHierarchy> hierarchies = CollectionHelper.setOfSize( rootEntities.size() );
 
-		rootEntities.forEach( (rootEntity) -> {
-			final AccessType defaultAccessType = determineDefaultAccessTypeForHierarchy( rootEntity );
-			hierarchies.add( new EntityHierarchyImpl(
-					rootEntity,
-					defaultAccessType,
-					org.hibernate.cache.spi.access.AccessType.TRANSACTIONAL,
-					typeConsumer,
-					modelContext
-			) );
-		} );
+		rootEntities.forEach( (rootEntity) -> hierarchies.add( buildHierarchy( rootEntity, typeConsumer ) ) );
 
 		return hierarchies;
 	}
 
+	private Set<EntityHierarchy> processInParallel(
+			Set<ClassDetails> rootEntities,
+			HierarchyTypeConsumer typeConsumer,
+			Executor executor) {
+		// each hierarchy is independent once the roots are known.  order the roots so that
+		// the result is deterministic regardless of the order in which the hierarchies complete
+		final List<ClassDetails> orderedRoots = new ArrayList<>( rootEntities );
+		orderedRoots.sort( Comparator.comparing( ClassDetails::getName ) );
+
+		// the hierarchies also pick up sub-types which are not managed classes, and so have not been resolved
+		// up front.  build their members here, serially, as doing so resolves types through the registry
+		final ClassDetailsRegistry classDetailsRegistry = modelContext.getClassDetailsRegistry();
+		orderedRoots.forEach( (rootEntity) -> resolveMembers( rootEntity, classDetailsRegistry ) );
+
+		final List<EntityHierarchy> built = ConcurrencyHelper.mapInParallel(
+				orderedRoots,
+				(rootEntity) -> buildHierarchy( rootEntity, typeConsumer ),
+				executor
+		);
+		return new LinkedHashSet<>( built );
+	}
+
+	private static void resolveMembers(ClassDetails classDetails, ClassDetailsRegistry classDetailsRegistry) {
+		classDetails.getFields();
+		classDetails.getMethods();
+		classDetailsRegistry.forEachDirectSubType(
+				classDetails.getName(),
+				(subType) -> resolveMembers( subType, classDetailsRegistry )
+		);
+	}
+
+	private EntityHierarchy buildHierarchy(ClassDetails rootEntity, HierarchyTypeConsumer typeConsumer) {
+		final EntityHierarchyBuildEvent event = CategorizationEvents.beginHierarchy( rootEntity );
+		final AccessType defaultAccessType = determineDefaultAccessTypeForHierarchy( rootEntity );
+		final EntityHierarchy hierarchy = new EntityHierarchyImpl(
+				rootEntity,
+				defaultAccessType,
+				org.hibernate.cache.spi.access.AccessType.TRANSACTIONAL,
+				typeConsumer,
+				modelContext
+		);
+		CategorizationEvents.endHierarchy( event, hierarchy );
+		return hierarchy;
+	}
+
 	private AccessType determineDefaultAccessTypeForHierarchy(ClassDetails rootEntityType) {
 		assert rootEntityType != null;
 
 		ClassDetails current = rootEntityType;
 		while ( current != null ) {
+			final KeyMemberSummary keyMembers = modelContext.getKeyMemberSummary( current );
+
 			// look for `@Access` on the class
-			final Access accessAnnotation = current.getDirectAnnotationUsage( JpaAnnotations.ACCESS );
+			final Access accessAnnotation = keyMembers.getExplicitAccess();
 			if ( accessAnnotation != null ) {
 				return accessAnnotation.value();
 			}
 
 			// look for `@Id` or `@EmbeddedId`
-			final AnnotationTarget idMember = determineIdMember( current );
+			final MemberDetails idMember = keyMembers.getIdMember();
 			if ( idMember != null ) {
 				switch ( idMember.getKind() ) {
 					case FIELD: {
@@ -133,38 +195,13 @@ public class EntityHierarchyBuilder {
 		throw new AccessTypeDeterminationException( rootEntityType );
 	}
 
-	private AnnotationTarget determineIdMember(ClassDetails current) {
-		final List<MethodDetails> methods = current.getMethods();
-		for ( int i = 0; i < methods.size(); i++ ) {
-			final MethodDetails methodDetails = methods.get( i );
-			if ( methodDetails.hasDirectAnnotationUsage( Id.class )
-					|| methodDetails.hasDirectAnnotationUsage( EmbeddedId.class ) ) {
-				return methodDetails;
-			}
-		}
-
-		final List<FieldDetails> fields = current.getFields();
-		for ( int i = 0; i < fields.size(); i++ ) {
-			final FieldDetails fieldDetails = fields.get( i );
-			if ( fieldDetails.hasDirectAnnotationUsage( Id.class )
-					|| fieldDetails.hasDirectAnnotationUsage( EmbeddedId.class ) ) {
-				return fieldDetails;
-			}
-		}
-
-		return null;
-	}
-
-	private Set<ClassDetails> collectRootEntityTypes() {
-		return collectRootEntityTypes( modelContext.getClassDetailsRegistry() );
-	}
-
-	private static Set<ClassDetails> collectRootEntityTypes(ClassDetailsRegistry classDetailsRegistry) {
+	private static Set<ClassDetails> collectRootEntityTypes(ModelCategorizationContext modelContext) {
 		final Set<ClassDetails> collectedTypes = new HashSet<>();
 
-		classDetailsRegistry.forEachClassDetails( (managedType) -> {
-			if ( managedType.hasDirectAnnotationUsage( Entity.class )
-					&& isRoot( managedType ) ) {
+		final HierarchyRootResolver hierarchyRootResolver = modelContext.getHierarchyRootResolver();
+		modelContext.getClassDetailsRegistry().forEachClassDetails( (managedType) -> {
+			if ( hierarchyRootResolver.getManagedTypeKinds().isEntity( managedType )
+					&& hierarchyRootResolver.isRoot( managedType ) ) {
 				collectedTypes.add( managedType );
 			}
 		} );
@@ -172,28 +209,16 @@ public class EntityHierarchyBuilder {
 		return collectedTypes;
 	}
 
-	public static boolean isRoot(ClassDetails classInfo) {
-		// perform a series of opt-out checks against the super-type hierarchy
-
+	/**
+	 * Whether the entity is the root of its hierarchy.
+	 *
+	 * @see HierarchyRootResolver#isRoot
+	 */
+	public static boolean isRoot(ClassDetails classInfo, ModelCategorizationContext modelContext) {
 		// an entity is considered a root of the hierarchy if:
 		// 		1) it has no super-types
 		//		2) its super types contain no entities (MappedSuperclasses are allowed)
-
-		if ( classInfo.getSuperClass() == null ) {
-			return true;
-		}
-
-		ClassDetails current = classInfo.getSuperClass();
-		while (  current != null ) {
-			if ( current.hasDirectAnnotationUsage( Entity.class ) ) {
-				// a super type has `@Entity`, cannot be root
-				return false;
-			}
-			current = current.getSuperClass();
-		}
-
-		// if we hit no opt-outs we have a root
-		return true;
+		return modelContext.getHierarchyRootResolver().isRoot( classInfo );
 	}
 
 
@@ -202,7 +227,7 @@ public class EntityHierarchyBuilder {
 	 */
 	public static Set<EntityHierarchy> createEntityHierarchies(ModelCategorizationContext processingContext) {
 		return new EntityHierarchyBuilder( processingContext ).process(
-				collectRootEntityTypes( processingContext.getClassDetailsRegistry() ),
+				collectRootEntityTypes( processingContext ),
 				EntityHierarchyBuilder::ignore
 		);
 	}
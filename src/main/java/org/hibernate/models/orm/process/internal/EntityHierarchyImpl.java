@@ -53,7 +53,9 @@ public class EntityHierarchyImpl implements EntityHierarchy {
 			AccessType defaultCacheAccessType,
 			HierarchyTypeConsumer typeConsumer,
 			ModelCategorizationContext categorizationContext) {
-		final ClassDetails absoluteRootClassDetails = findRootRoot( rootEntityClassDetails );
+		final ManagedTypeKinds managedTypeKinds = categorizationContext.getManagedTypeKinds();
+		final ClassDetails absoluteRootClassDetails = categorizationContext.getHierarchyRootResolver()
+				.findAbsoluteRoot( rootEntityClassDetails );
 		final HierarchyMetadataCollector metadataCollector = new HierarchyMetadataCollector(
 				this,
 				rootEntityClassDetails,
@@ -61,7 +63,7 @@ public class EntityHierarchyImpl implements EntityHierarchy {
 				categorizationContext
 		);
 
-		if ( CategorizationHelper.isEntity( absoluteRootClassDetails ) ) {
+		if ( managedTypeKinds.isEntity( absoluteRootClassDetails ) ) {
 			this.absoluteRootTypeMetadata = new EntityTypeMetadataImpl(
 					absoluteRootClassDetails,
 					this,
@@ -71,7 +73,7 @@ public class EntityHierarchyImpl implements EntityHierarchy {
 			);
 		}
 		else {
-			assert CategorizationHelper.isMappedSuperclass( absoluteRootClassDetails );
+			assert managedTypeKinds.isMappedSuperclass( absoluteRootClassDetails );
 			this.absoluteRootTypeMetadata = new MappedSuperclassTypeMetadataImpl(
 					absoluteRootClassDetails,
 					this,
@@ -96,33 +98,6 @@ public class EntityHierarchyImpl implements EntityHierarchy {
 		this.naturalIdCacheRegion = determineNaturalIdCacheRegion( metadataCollector, cacheRegion );
 	}
 
-	private ClassDetails findRootRoot(ClassDetails rootEntityClassDetails) {
-		if ( rootEntityClassDetails.getSuperClass() != null ) {
-			final ClassDetails match = walkSupers( rootEntityClassDetails.getSuperClass() );
-			if ( match != null ) {
-				return match;
-			}
-		}
-		return rootEntityClassDetails;
-	}
-
-	private ClassDetails walkSupers(ClassDetails type) {
-		assert type != null;
-
-		if ( type.getSuperClass() != null ) {
-			final ClassDetails match = walkSupers( type.getSuperClass() );
-			if ( match != null ) {
-				return match;
-			}
-		}
-
-		if ( CategorizationHelper.isIdentifiable( type ) ) {
-			return type;
-		}
-
-		return null;
-	}
-
 	@Override
 	public EntityTypeMetadata getRoot() {
 		return rootEntityTypeMetadata;
@@ -175,40 +150,7 @@ public class EntityHierarchyImpl implements EntityHierarchy {
 
 	@Override
 	public void forEachType(HierarchyTypeVisitor typeVisitor) {
-		final IdentifiableTypeMetadata absoluteRoot = getAbsoluteRoot();
-		final HierarchyRelation hierarchyRelation;
-		if ( absoluteRoot == getRoot() ) {
-			hierarchyRelation = HierarchyRelation.ROOT;
-		}
-		else {
-			hierarchyRelation = HierarchyRelation.SUPER;
-		}
-
-		forEachType( absoluteRoot, null, hierarchyRelation, typeVisitor );
-	}
-
-	private void forEachType(
-			IdentifiableTypeMetadata type,
-			IdentifiableTypeMetadata superType,
-			HierarchyRelation hierarchyRelation,
-			HierarchyTypeVisitor typeVisitor) {
-		typeVisitor.visitType( type, superType, this, hierarchyRelation );
-
-		final HierarchyRelation nextRelation;
-		if ( hierarchyRelation == HierarchyRelation.SUPER ) {
-			if ( type == getRoot().getSuperType() ) {
-				// the next iteration will be the root
-				nextRelation = HierarchyRelation.ROOT;
-			}
-			else {
-				nextRelation = HierarchyRelation.SUPER;
-			}
-		}
-		else {
-			nextRelation = HierarchyRelation.SUB;
-		}
-
-		type.forEachSubType( subType -> forEachType( subType, type, nextRelation, typeVisitor ) );
+		CategorizationHelper.forEachType( this, typeVisitor );
 	}
 
 	@Override
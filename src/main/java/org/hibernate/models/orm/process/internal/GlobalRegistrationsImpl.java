@@ -4,6 +4,7 @@
  */
 package org.hibernate.models.orm.process.internal;
 
+import java.lang.annotation.Annotation;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -11,13 +12,26 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import org.hibernate.AnnotationException;
+import org.hibernate.annotations.CollectionTypeRegistrations;
+import org.hibernate.annotations.CompositeTypeRegistration;
+import org.hibernate.annotations.CompositeTypeRegistrations;
+import org.hibernate.annotations.ConverterRegistrations;
+import org.hibernate.annotations.EmbeddableInstantiatorRegistrations;
+import org.hibernate.annotations.FilterDef;
+import org.hibernate.annotations.FilterDefs;
 import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.GenericGenerators;
 import org.hibernate.annotations.Imported;
+import org.hibernate.annotations.JavaTypeRegistrations;
+import org.hibernate.annotations.JdbcTypeRegistrations;
 import org.hibernate.annotations.ParamDef;
 import org.hibernate.annotations.Parameter;
+import org.hibernate.annotations.TypeRegistration;
+import org.hibernate.annotations.TypeRegistrations;
 import org.hibernate.boot.jaxb.mapping.spi.JaxbCollectionUserTypeRegistrationImpl;
 import org.hibernate.boot.jaxb.mapping.spi.JaxbCompositeUserTypeRegistrationImpl;
 import org.hibernate.boot.jaxb.mapping.spi.JaxbConfigurationParameterImpl;
@@ -79,6 +93,7 @@ import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.jpa.AvailableHints;
 import org.hibernate.metamodel.CollectionClassification;
 import org.hibernate.metamodel.spi.EmbeddableInstantiator;
+import org.hibernate.models.spi.AnnotationDescriptor;
 import org.hibernate.models.spi.AnnotationTarget;
 import org.hibernate.models.spi.ClassDetails;
 import org.hibernate.models.spi.MemberDetails;
@@ -89,9 +104,19 @@ import org.hibernate.usertype.UserType;
 
 import jakarta.persistence.AttributeConverter;
 import jakarta.persistence.Entity;
+import jakarta.persistence.NamedNativeQueries;
+import jakarta.persistence.NamedNativeQuery;
+import jakarta.persistence.NamedQueries;
+import jakarta.persistence.NamedQuery;
+import jakarta.persistence.NamedStoredProcedureQueries;
+import jakarta.persistence.NamedStoredProcedureQuery;
 import jakarta.persistence.QueryHint;
 import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.SequenceGenerators;
+import jakarta.persistence.SqlResultSetMapping;
+import jakarta.persistence.SqlResultSetMappings;
 import jakarta.persistence.TableGenerator;
+import jakarta.persistence.TableGenerators;
 
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
@@ -247,14 +272,131 @@ public class GlobalRegistrationsImpl implements GlobalRegistrations, GlobalRegis
 	}
 
 
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Class-level registrations
+
+	/**
+	 * Collects a single usage of a registration annotation found on a class
+	 */
+	@FunctionalInterface
+	private interface UsageCollector<A extends Annotation> {
+		void collect(GlobalRegistrationsImpl registrations, ClassDetails classDetails, A usage);
+	}
+
+	/**
+	 * The collector for each registration annotation, and for each of their repeatable containers
+	 */
+	private static final Map<Class<? extends Annotation>, UsageCollector<Annotation>> CLASS_USAGE_COLLECTORS = buildClassUsageCollectors();
+
+	private static Map<Class<? extends Annotation>, UsageCollector<Annotation>> buildClassUsageCollectors() {
+		final Map<Class<? extends Annotation>, UsageCollector<Annotation>> collectors = new HashMap<>();
+		addUsageCollector( collectors, JAVA_TYPE_REGISTRATION, JavaTypeRegistrations::value,
+				(registrations, classDetails, usage) -> registrations.collectJavaTypeRegistration( usage ) );
+		addUsageCollector( collectors, JDBC_TYPE_REGISTRATION, JdbcTypeRegistrations::value,
+				(registrations, classDetails, usage) -> registrations.collectJdbcTypeRegistration( usage ) );
+		addUsageCollector( collectors, CONVERTER_REGISTRATION, ConverterRegistrations::value,
+				(registrations, classDetails, usage) -> registrations.collectConverterRegistration( usage ) );
+		addUsageCollector( collectors, TYPE_REGISTRATION, TypeRegistrations::value,
+				(registrations, classDetails, usage) -> registrations.collectUserTypeRegistration( usage ) );
+		addUsageCollector( collectors, COMPOSITE_TYPE_REGISTRATION, CompositeTypeRegistrations::value,
+				(registrations, classDetails, usage) -> registrations.collectCompositeUserTypeRegistration( usage ) );
+		addUsageCollector( collectors, COLLECTION_TYPE_REGISTRATION, CollectionTypeRegistrations::value,
+				(registrations, classDetails, usage) -> registrations.collectCollectionTypeRegistration( usage ) );
+		addUsageCollector( collectors, EMBEDDABLE_INSTANTIATOR_REGISTRATION, EmbeddableInstantiatorRegistrations::value,
+				(registrations, classDetails, usage) -> registrations.collectEmbeddableInstantiatorRegistration( usage ) );
+		addUsageCollector( collectors, FILTER_DEF, FilterDefs::value,
+				(registrations, classDetails, usage) -> registrations.collectFilterDefinition( usage ) );
+
+		addUsageCollector( collectors, SEQUENCE_GENERATOR, SequenceGenerators::value, (registrations, classDetails, usage) -> {
+			if ( registrations.collectsIdGenerators( classDetails ) ) {
+				registrations.collectSequenceGenerator( classDetails, usage );
+			}
+		} );
+		addUsageCollector( collectors, TABLE_GENERATOR, TableGenerators::value, (registrations, classDetails, usage) -> {
+			if ( registrations.collectsIdGenerators( classDetails ) ) {
+				registrations.collectTableGenerator( classDetails, usage );
+			}
+		} );
+		addUsageCollector( collectors, GENERIC_GENERATOR, GenericGenerators::value, (registrations, classDetails, usage) -> {
+			if ( registrations.collectsIdGenerators( classDetails ) ) {
+				registrations.collectGenericGenerator( usage );
+			}
+		} );
+
+		addUsageCollector( collectors, SQL_RESULT_SET_MAPPING, SqlResultSetMappings::value,
+				(registrations, classDetails, usage) -> registrations.collectNamedSqlResultSetMapping( usage ) );
+		addUsageCollector( collectors, NAMED_QUERY, NamedQueries::value,
+				(registrations, classDetails, usage) -> registrations.collectJpaNamedQuery( usage ) );
+		addUsageCollector( collectors, NAMED_NATIVE_QUERY, NamedNativeQueries::value,
+				(registrations, classDetails, usage) -> registrations.collectJpaNamedNativeQuery( usage ) );
+		addUsageCollector( collectors, NAMED_STORED_PROCEDURE_QUERY, NamedStoredProcedureQueries::value,
+				(registrations, classDetails, usage) -> registrations.collectStoredProcedureQuery( usage ) );
+		return Map.copyOf( collectors );
+	}
+
+	private static <A extends Annotation, C extends Annotation> void addUsageCollector(
+			Map<Class<? extends Annotation>, UsageCollector<Annotation>> collectors,
+			AnnotationDescriptor<A> descriptor,
+			Function<C, A[]> containerValues,
+			UsageCollector<A> collector) {
+		final Class<A> annotationType = descriptor.getAnnotationType();
+		collectors.put(
+				annotationType,
+				(registrations, classDetails, usage) -> collector.collect( registrations, classDetails, annotationType.cast( usage ) )
+		);
+
+		//noinspection unchecked
+		final Class<C> containerType = (Class<C>) descriptor.getRepeatableContainer().getAnnotationType();
+		collectors.put(
+				containerType,
+				(registrations, classDetails, usage) -> {
+					for ( A repeated : containerValues.apply( containerType.cast( usage ) ) ) {
+						collector.collect( registrations, classDetails, repeated );
+					}
+				}
+		);
+	}
+
+	/**
+	 * Whether the annotation, used on a class, defines global registrations - that is, whether
+	 * {@linkplain #collectClassRegistrations} handles it
+	 */
+	public static boolean isClassRegistrationAnnotation(Class<? extends Annotation> annotationType) {
+		return CLASS_USAGE_COLLECTORS.containsKey( annotationType );
+	}
+
+	/**
+	 * Collects all the global registrations defined on the class - the same as
+	 * calling each of the {@code collect*} methods accepting an annotation target
+	 * (plus {@linkplain #collectIdGenerators(ClassDetails)} and
+	 * {@linkplain #collectQueryReferences(ClassDetails)}) in turn, but in a single
+	 * pass over the class's annotations, each usage routed to its collector.
+	 * <p/>
+	 * Classes with no {@linkplain #isClassRegistrationAnnotation registration annotations}
+	 * can be skipped up front - see {@linkplain ManagedTypeKinds#hasGlobalRegistrations}.
+	 */
+	public void collectClassRegistrations(ClassDetails classDetails) {
+		for ( Annotation usage : classDetails.getDirectAnnotationUsages() ) {
+			final UsageCollector<Annotation> collector = CLASS_USAGE_COLLECTORS.get( usage.annotationType() );
+			if ( collector != null ) {
+				collector.collect( this, classDetails, usage );
+			}
+		}
+	}
+
+
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// JavaTypeRegistration
 
 	public void collectJavaTypeRegistrations(AnnotationTarget annotationTarget) {
-		annotationTarget.forEachAnnotationUsage( JAVA_TYPE_REGISTRATION, sourceModelContext, (usage) -> collectJavaTypeRegistration(
+		annotationTarget.forEachAnnotationUsage( JAVA_TYPE_REGISTRATION, sourceModelContext, this::collectJavaTypeRegistration );
+	}
+
+	public void collectJavaTypeRegistration(org.hibernate.annotations.JavaTypeRegistration usage) {
+		collectJavaTypeRegistration(
 				toClassDetails( usage.javaType().getName() ),
 				toClassDetails( usage.descriptorClass().getName() )
-		) );
+		);
 	}
 
 	public void collectJavaTypeRegistrations(List<JaxbJavaTypeRegistrationImpl> registrations) {
@@ -284,10 +426,11 @@ public class GlobalRegistrationsImpl implements GlobalRegistrations, GlobalRegis
 	// JdbcTypeRegistration
 
 	public void collectJdbcTypeRegistrations(AnnotationTarget annotationTarget) {
-		annotationTarget.forEachAnnotationUsage( JDBC_TYPE_REGISTRATION, sourceModelContext, (usage) -> collectJdbcTypeRegistration(
-				usage.registrationCode(),
-				sourceModelContext.getClassDetailsRegistry().resolveClassDetails( usage.value().getName() )
-		) );
+		annotationTarget.forEachAnnotationUsage( JDBC_TYPE_REGISTRATION, sourceModelContext, this::collectJdbcTypeRegistration );
+	}
+
+	public void collectJdbcTypeRegistration(org.hibernate.annotations.JdbcTypeRegistration usage) {
+		collectJdbcTypeRegistration( usage.registrationCode(), toClassDetails( usage.value() ) );
 	}
 
 	public void collectJdbcTypeRegistrations(List<JaxbJdbcTypeRegistrationImpl> registrations) {
@@ -313,14 +456,16 @@ public class GlobalRegistrationsImpl implements GlobalRegistrations, GlobalRegis
 	// ConversionRegistration
 
 	public void collectConverterRegistrations(AnnotationTarget annotationTarget) {
-		annotationTarget.forEachAnnotationUsage( CONVERTER_REGISTRATION, sourceModelContext, (usage) -> {
-			collectConverterRegistration( new ConversionRegistration(
-					usage.domainType(),
-					usage.converter(),
-					usage.autoApply(),
-					CONVERTER_REGISTRATION
-			) );
-		} );
+		annotationTarget.forEachAnnotationUsage( CONVERTER_REGISTRATION, sourceModelContext, this::collectConverterRegistration );
+	}
+
+	public void collectConverterRegistration(org.hibernate.annotations.ConverterRegistration usage) {
+		collectConverterRegistration( new ConversionRegistration(
+				usage.domainType(),
+				usage.converter(),
+				usage.autoApply(),
+				CONVERTER_REGISTRATION
+		) );
 	}
 
 	public void collectConverterRegistrations(List<JaxbConverterRegistrationImpl> registrations) {
@@ -332,12 +477,12 @@ public class GlobalRegistrationsImpl implements GlobalRegistrations, GlobalRegis
 			final Class<?> explicitDomainType;
 			final String explicitDomainTypeName = registration.getClazz();
 			if ( isNotEmpty( explicitDomainTypeName ) ) {
-				explicitDomainType = sourceModelContext.getClassDetailsRegistry().resolveClassDetails( explicitDomainTypeName ).toJavaClass();
+				explicitDomainType = toClassDetails( explicitDomainTypeName ).toJavaClass();
 			}
 			else {
 				explicitDomainType = null;
 			}
-			final Class<? extends AttributeConverter<?,?>> converterType = sourceModelContext.getClassDetailsRegistry().resolveClassDetails( registration.getConverter() ).toJavaClass();
+			final Class<? extends AttributeConverter<?,?>> converterType = toClassDetails( registration.getConverter() ).toJavaClass();
 			final boolean autoApply = registration.isAutoApply();
 			collectConverterRegistration( new ConversionRegistration(
 					explicitDomainType,
@@ -360,10 +505,11 @@ public class GlobalRegistrationsImpl implements GlobalRegistrations, GlobalRegis
 	// UserTypeRegistration
 
 	public void collectUserTypeRegistrations(AnnotationTarget annotationTarget) {
-		annotationTarget.forEachAnnotationUsage( TYPE_REGISTRATION, sourceModelContext, (usage) -> collectUserTypeRegistration(
-				usage.basicClass(),
-				usage.userType()
-		) );
+		annotationTarget.forEachAnnotationUsage( TYPE_REGISTRATION, sourceModelContext, this::collectUserTypeRegistration );
+	}
+
+	public void collectUserTypeRegistration(TypeRegistration usage) {
+		collectUserTypeRegistration( usage.basicClass(), usage.userType() );
 	}
 
 	public void collectUserTypeRegistrations(List<JaxbUserTypeRegistrationImpl> registrations) {
@@ -397,10 +543,11 @@ public class GlobalRegistrationsImpl implements GlobalRegistrations, GlobalRegis
 	// CompositeUserTypeRegistration
 
 	public void collectCompositeUserTypeRegistrations(AnnotationTarget annotationTarget) {
-		annotationTarget.forEachAnnotationUsage( COMPOSITE_TYPE_REGISTRATION, sourceModelContext, (usage) -> collectCompositeUserTypeRegistration(
-				usage.embeddableClass(),
-				usage.userType()
-		) );
+		annotationTarget.forEachAnnotationUsage( COMPOSITE_TYPE_REGISTRATION, sourceModelContext, this::collectCompositeUserTypeRegistration );
+	}
+
+	public void collectCompositeUserTypeRegistration(CompositeTypeRegistration usage) {
+		collectCompositeUserTypeRegistration( usage.embeddableClass(), usage.userType() );
 	}
 
 	public void collectCompositeUserTypeRegistrations(List<JaxbCompositeUserTypeRegistrationImpl> registrations) {
@@ -433,11 +580,15 @@ public class GlobalRegistrationsImpl implements GlobalRegistrations, GlobalRegis
 	// CollectionTypeRegistration
 
 	public void collectCollectionTypeRegistrations(AnnotationTarget annotationTarget) {
-		annotationTarget.forEachAnnotationUsage( COLLECTION_TYPE_REGISTRATION, sourceModelContext, (usage) -> collectCollectionTypeRegistration(
+		annotationTarget.forEachAnnotationUsage( COLLECTION_TYPE_REGISTRATION, sourceModelContext, this::collectCollectionTypeRegistration );
+	}
+
+	public void collectCollectionTypeRegistration(org.hibernate.annotations.CollectionTypeRegistration usage) {
+		collectCollectionTypeRegistration(
 				usage.classification(),
 				usage.type(),
 				extractParameterMap( usage.parameters() )
-		) );
+		);
 	}
 
 	private Map<String,String> extractParameterMap(Parameter[] parameters) {
@@ -496,10 +647,11 @@ public class GlobalRegistrationsImpl implements GlobalRegistrations, GlobalRegis
 	// EmbeddableInstantiatorRegistration
 
 	public void collectEmbeddableInstantiatorRegistrations(AnnotationTarget annotationTarget) {
-		annotationTarget.forEachAnnotationUsage( EMBEDDABLE_INSTANTIATOR_REGISTRATION, sourceModelContext, (usage) -> collectEmbeddableInstantiatorRegistration(
-				usage.embeddableClass(),
-				usage.instantiator()
-		) );
+		annotationTarget.forEachAnnotationUsage( EMBEDDABLE_INSTANTIATOR_REGISTRATION, sourceModelContext, this::collectEmbeddableInstantiatorRegistration );
+	}
+
+	public void collectEmbeddableInstantiatorRegistration(org.hibernate.annotations.EmbeddableInstantiatorRegistration usage) {
+		collectEmbeddableInstantiatorRegistration( usage.embeddableClass(), usage.instantiator() );
 	}
 
 	public void collectEmbeddableInstantiatorRegistrations(List<JaxbEmbeddableInstantiatorRegistrationImpl> registrations) {
@@ -508,8 +660,8 @@ public class GlobalRegistrationsImpl implements GlobalRegistrations, GlobalRegis
 		}
 
 		registrations.forEach( (reg) -> collectEmbeddableInstantiatorRegistration(
-				sourceModelContext.getClassDetailsRegistry().resolveClassDetails( reg.getEmbeddableClass() ),
-				sourceModelContext.getClassDetailsRegistry().resolveClassDetails( reg.getInstantiator() )
+				toClassDetails( reg.getEmbeddableClass() ),
+				toClassDetails( reg.getInstantiator() )
 		) );
 	}
 
@@ -532,44 +684,47 @@ public class GlobalRegistrationsImpl implements GlobalRegistrations, GlobalRegis
 	// Filter-defs
 
 	public void collectFilterDefinitions(AnnotationTarget annotationTarget) {
-		annotationTarget.forEachAnnotationUsage( FILTER_DEF, sourceModelContext, (usage) -> {
-			final Map<String, ClassDetails> paramJdbcMappings;
-			final Map<String, ClassDetails> parameterResolvers;
-			final ParamDef[] parameters = usage.parameters();
-			if ( CollectionHelper.isEmpty( parameters ) ) {
-				paramJdbcMappings = emptyMap();
-				parameterResolvers = emptyMap();
-			}
-			else {
-				paramJdbcMappings = new HashMap<>();
-				parameterResolvers = new HashMap<>();
+		annotationTarget.forEachAnnotationUsage( FILTER_DEF, sourceModelContext, this::collectFilterDefinition );
+	}
 
-				for ( ParamDef parameter : parameters ) {
-					paramJdbcMappings.put( parameter.name(), toClassDetails( parameter.type() ) );
-					final ClassDetails resolverClassDetails = toClassDetails( parameter.resolver() );
-					if ( !resolverClassDetails.getName().equals( Supplier.class.getName() ) ) {
-						parameterResolvers.put( parameter.name(), resolverClassDetails );
-					}
+	public void collectFilterDefinition(FilterDef usage) {
+		final Map<String, ClassDetails> paramJdbcMappings;
+		final Map<String, ClassDetails> parameterResolvers;
+		final ParamDef[] parameters = usage.parameters();
+		if ( CollectionHelper.isEmpty( parameters ) ) {
+			paramJdbcMappings = emptyMap();
+			parameterResolvers = emptyMap();
+		}
+		else {
+			paramJdbcMappings = new HashMap<>();
+			parameterResolvers = new HashMap<>();
+
+			for ( ParamDef parameter : parameters ) {
+				paramJdbcMappings.put( parameter.name(), toClassDetails( parameter.type() ) );
+				final ClassDetails resolverClassDetails = toClassDetails( parameter.resolver() );
+				if ( !resolverClassDetails.getName().equals( Supplier.class.getName() ) ) {
+					parameterResolvers.put( parameter.name(), resolverClassDetails );
 				}
 			}
+		}
 
-			collectFilterDefinition(
-					usage.name(),
-					usage.defaultCondition(),
-					usage.autoEnabled(),
-					usage.applyToLoadByKey(),
-					paramJdbcMappings,
-					parameterResolvers
-			);
-		} );
+		collectFilterDefinition(
+				usage.name(),
+				usage.defaultCondition(),
+				usage.autoEnabled(),
+				usage.applyToLoadByKey(),
+				paramJdbcMappings,
+				parameterResolvers
+		);
 	}
 
 	private ClassDetails toClassDetails(Class<?> type) {
-		return sourceModelContext.getClassDetailsRegistry().resolveClassDetails( type.getName() );
+		return toClassDetails( type.getName() );
 	}
 
 	private ClassDetails toClassDetails(String typeName) {
-		return sourceModelContext.getClassDetailsRegistry().resolveClassDetails( typeName );
+		// registrations may be collected concurrently, from classes as well as from XML mappings
+		return ConcurrencyHelper.resolveClassDetails( sourceModelContext.getClassDetailsRegistry(), typeName );
 	}
 
 	public void collectFilterDefinitions(List<JaxbFilterDefImpl> filterDefinitions) {
@@ -590,16 +745,19 @@ public class GlobalRegistrationsImpl implements GlobalRegistrations, GlobalRegis
 				parameterResolvers = new HashMap<>();
 
 				for ( JaxbFilterDefImpl.JaxbFilterParamImpl jaxbParameter : jaxbParameters ) {
-					final ClassDetails targetClassDetails = XmlAnnotationHelper.resolveSimpleJavaType(
-							jaxbParameter.getType(),
-							sourceModelContext.getClassDetailsRegistry()
-					);
+					final ClassDetails targetClassDetails;
+					synchronized ( sourceModelContext.getClassDetailsRegistry() ) {
+						targetClassDetails = XmlAnnotationHelper.resolveSimpleJavaType(
+								jaxbParameter.getType(),
+								sourceModelContext.getClassDetailsRegistry()
+						);
+					}
 					paramJdbcMappings.put( jaxbParameter.getName(), targetClassDetails );
 
 					if ( isNotEmpty( jaxbParameter.getResolver() ) ) {
 						parameterResolvers.put(
 								jaxbParameter.getName(),
-								sourceModelContext.getClassDetailsRegistry().resolveClassDetails( jaxbParameter.getResolver() )
+								toClassDetails( jaxbParameter.getResolver() )
 						);
 					}
 				}
@@ -671,7 +829,7 @@ public class GlobalRegistrationsImpl implements GlobalRegistrations, GlobalRegis
 		}
 
 		listeners.forEach( (jaxbEntityListener) -> {
-			final ClassDetails classDetails = sourceModelContext.getClassDetailsRegistry().resolveClassDetails( jaxbEntityListener.getClazz() );
+			final ClassDetails classDetails = toClassDetails( jaxbEntityListener.getClazz() );
 			final JpaEventListener listener = JpaEventListener.from(
 					JpaEventListenerStyle.LISTENER,
 					classDetails,
@@ -703,8 +861,7 @@ public class GlobalRegistrationsImpl implements GlobalRegistrations, GlobalRegis
 	}
 
 	public void collectIdGenerators(ClassDetails classDetails) {
-		if ( !classDetails.getName().endsWith( ".package-info" )
-				&& !bootstrapContext.getJpaCompliance().isGlobalGeneratorScopeEnabled() ) {
+		if ( !collectsIdGenerators( classDetails ) ) {
 			return;
 		}
 
@@ -725,6 +882,14 @@ public class GlobalRegistrationsImpl implements GlobalRegistrations, GlobalRegis
 		);
 	}
 
+	/**
+	 * Whether the id generators defined on the class are global registrations
+	 */
+	private boolean collectsIdGenerators(ClassDetails classDetails) {
+		return classDetails.getName().endsWith( ".package-info" )
+				|| bootstrapContext.getJpaCompliance().isGlobalGeneratorScopeEnabled();
+	}
+
 	@Override
 	public void collectIdGenerators(MemberDetails memberDetails) {
 		if ( !bootstrapContext.getJpaCompliance().isGlobalGeneratorScopeEnabled() ) {
@@ -1005,7 +1170,7 @@ public class GlobalRegistrationsImpl implements GlobalRegistrations, GlobalRegis
 		converters.forEach( (jaxbConverter) -> {
 			final String converterClassName = jaxbConverter.getClazz();
 			assert converterClassName != null;
-			final ClassDetails converterType = sourceModelContext.getClassDetailsRegistry().resolveClassDetails( converterClassName );
+			final ClassDetails converterType = toClassDetails( converterClassName );
 			final boolean autoApply = jaxbConverter.isAutoApply();
 
 			jpaConverters.add( new ConverterRegistration( converterType, autoApply ) );
@@ -1024,66 +1189,58 @@ public class GlobalRegistrationsImpl implements GlobalRegistrations, GlobalRegis
 	}
 
 	private void collectNamedSqlResultSetMappings(ClassDetails classDetails) {
-		classDetails.forEachRepeatedAnnotationUsages(
-				SQL_RESULT_SET_MAPPING,
-				sourceModelContext,
-				(sqlResultSetMapping) -> {
-					if ( sqlResultSetMappingRegistrations == null ) {
-						sqlResultSetMappingRegistrations = new HashMap<>();
-					}
-					sqlResultSetMappingRegistrations.put(
-							sqlResultSetMapping.name(),
-							new SqlResultSetMappingRegistration( sqlResultSetMapping.name(), sqlResultSetMapping )
-					);
-				}
+		classDetails.forEachRepeatedAnnotationUsages( SQL_RESULT_SET_MAPPING, sourceModelContext, this::collectNamedSqlResultSetMapping );
+	}
+
+	private void collectNamedSqlResultSetMapping(SqlResultSetMapping sqlResultSetMapping) {
+		if ( sqlResultSetMappingRegistrations == null ) {
+			sqlResultSetMappingRegistrations = new HashMap<>();
+		}
+		sqlResultSetMappingRegistrations.put(
+				sqlResultSetMapping.name(),
+				new SqlResultSetMappingRegistration( sqlResultSetMapping.name(), sqlResultSetMapping )
 		);
 	}
 
 	private void collectJpaNamedQueries(ClassDetails classDetails) {
-		classDetails.forEachRepeatedAnnotationUsages(
-				NAMED_QUERY,
-				sourceModelContext,
-				(namedQuery) -> {
-					if ( namedQueryRegistrations == null ) {
-						namedQueryRegistrations = new HashMap<>();
-					}
-					namedQueryRegistrations.put(
-							namedQuery.name(),
-							new NamedQueryRegistration( namedQuery.name(), namedQuery )
-					);
-				}
+		classDetails.forEachRepeatedAnnotationUsages( NAMED_QUERY, sourceModelContext, this::collectJpaNamedQuery );
+	}
+
+	private void collectJpaNamedQuery(NamedQuery namedQuery) {
+		if ( namedQueryRegistrations == null ) {
+			namedQueryRegistrations = new HashMap<>();
+		}
+		namedQueryRegistrations.put(
+				namedQuery.name(),
+				new NamedQueryRegistration( namedQuery.name(), namedQuery )
 		);
 	}
 
 	private void collectJpaNamedNativeQueries(ClassDetails classDetails) {
-		classDetails.forEachRepeatedAnnotationUsages(
-				NAMED_NATIVE_QUERY,
-				sourceModelContext,
-				(namedQuery) -> {
-					if ( namedNativeQueryRegistrations == null ) {
-						namedNativeQueryRegistrations = new HashMap<>();
-					}
-					namedNativeQueryRegistrations.put(
-							namedQuery.name(),
-							new NamedNativeQueryRegistration( namedQuery.name(), namedQuery )
-					);
-				}
+		classDetails.forEachRepeatedAnnotationUsages( NAMED_NATIVE_QUERY, sourceModelContext, this::collectJpaNamedNativeQuery );
+	}
+
+	private void collectJpaNamedNativeQuery(NamedNativeQuery namedQuery) {
+		if ( namedNativeQueryRegistrations == null ) {
+			namedNativeQueryRegistrations = new HashMap<>();
+		}
+		namedNativeQueryRegistrations.put(
+				namedQuery.name(),
+				new NamedNativeQueryRegistration( namedQuery.name(), namedQuery )
 		);
 	}
 
 	private void collectStoredProcedureQueries(ClassDetails classDetails) {
-		classDetails.forEachRepeatedAnnotationUsages(
-				NAMED_STORED_PROCEDURE_QUERY,
-				sourceModelContext,
-				(namedQuery) -> {
-					if ( namedStoredProcedureQueryRegistrations == null ) {
-						namedStoredProcedureQueryRegistrations = new HashMap<>();
-					}
-					namedStoredProcedureQueryRegistrations.put(
-							namedQuery.name(),
-							new NamedStoredProcedureQueryRegistration( namedQuery.name(), namedQuery )
-					);
-				}
+		classDetails.forEachRepeatedAnnotationUsages( NAMED_STORED_PROCEDURE_QUERY, sourceModelContext, this::collectStoredProcedureQuery );
+	}
+
+	private void collectStoredProcedureQuery(NamedStoredProcedureQuery namedQuery) {
+		if ( namedStoredProcedureQueryRegistrations == null ) {
+			namedStoredProcedureQueryRegistrations = new HashMap<>();
+		}
+		namedStoredProcedureQueryRegistrations.put(
+				namedQuery.name(),
+				new NamedStoredProcedureQueryRegistration( namedQuery.name(), namedQuery )
 		);
 	}
 
@@ -1356,4 +1513,73 @@ public class GlobalRegistrationsImpl implements GlobalRegistrations, GlobalRegis
 		}
 		return hints;
 	}
+
+
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Merging
+
+	/**
+	 * Merge the registrations collected by {@code other} into this instance, as if
+	 * they had been collected here directly.  Used to combine the per-class registrations
+	 * collected during concurrent categorization in a deterministic order.
+	 */
+	public void merge(GlobalRegistrationsImpl other) {
+		other.getEntityListenerRegistrations().forEach( this::addJpaEventListener );
+		other.getConverterRegistrations().forEach( this::collectConverterRegistration );
+		other.getJavaTypeRegistrations().forEach( this::collectJavaTypeRegistration );
+		other.getJdbcTypeRegistrations().forEach( (registration) -> collectJdbcTypeRegistration(
+				registration.getCode(),
+				registration.getDescriptor()
+		) );
+		other.getUserTypeRegistrations().forEach( (registration) -> collectUserTypeRegistration(
+				registration.getDomainClass(),
+				registration.getUserTypeClass()
+		) );
+		other.getCompositeUserTypeRegistrations().forEach( (registration) -> collectCompositeUserTypeRegistration(
+				registration.getEmbeddableClass(),
+				registration.getUserTypeClass()
+		) );
+		if ( !other.getCollectionTypeRegistrations().isEmpty() ) {
+			if ( collectionTypeRegistrations == null ) {
+				collectionTypeRegistrations = new ArrayList<>();
+			}
+			collectionTypeRegistrations.addAll( other.getCollectionTypeRegistrations() );
+		}
+		other.getEmbeddableInstantiatorRegistrations().forEach( (registration) -> collectEmbeddableInstantiatorRegistration(
+				registration.getEmbeddableClass(),
+				registration.getInstantiator()
+		) );
+		other.getFilterDefRegistrations().forEach( (name, registration) -> {
+			if ( filterDefRegistrations == null ) {
+				filterDefRegistrations = new HashMap<>();
+			}
+			filterDefRegistrations.put( name, registration );
+		} );
+		other.getImportedRenames().forEach( this::collectImportRename );
+
+		other.getSequenceGeneratorRegistrations().values().forEach( this::collectSequenceGenerator );
+		other.getTableGeneratorRegistrations().values().forEach( this::collectTableGenerator );
+		other.getGenericGeneratorRegistrations().values().forEach( this::collectGenericGenerator );
+
+		if ( !other.getJpaConverters().isEmpty() ) {
+			if ( jpaConverters == null ) {
+				jpaConverters = new HashSet<>();
+			}
+			jpaConverters.addAll( other.getJpaConverters() );
+		}
+
+		sqlResultSetMappingRegistrations = mergeMaps( sqlResultSetMappingRegistrations, other.sqlResultSetMappingRegistrations );
+		namedQueryRegistrations = mergeMaps( namedQueryRegistrations, other.namedQueryRegistrations );
+		namedNativeQueryRegistrations = mergeMaps( namedNativeQueryRegistrations, other.namedNativeQueryRegistrations );
+		namedStoredProcedureQueryRegistrations = mergeMaps( namedStoredProcedureQueryRegistrations, other.namedStoredProcedureQueryRegistrations );
+	}
+
+	private static <R> Map<String, R> mergeMaps(Map<String, R> target, Map<String, R> source) {
+		if ( source == null || source.isEmpty() ) {
+			return target;
+		}
+		final Map<String, R> result = target == null ? new HashMap<>() : target;
+		result.putAll( source );
+		return result;
+	}
 }
@@ -8,14 +8,14 @@ package org.hibernate.models.orm.process.internal;
 
 import java.lang.annotation.Annotation;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Set;
 
 import org.hibernate.annotations.Cache;
-import org.hibernate.annotations.NaturalId;
 import org.hibernate.annotations.NaturalIdCache;
 import org.hibernate.annotations.OptimisticLocking;
-import org.hibernate.annotations.TenantId;
 import org.hibernate.boot.models.AttributeNature;
 import org.hibernate.models.ModelsException;
 import org.hibernate.models.orm.process.spi.AttributeMetadata;
@@ -25,13 +25,9 @@ import org.hibernate.models.orm.process.spi.IdentifiableTypeMetadata;
 import org.hibernate.models.orm.process.spi.KeyMapping;
 import org.hibernate.models.orm.process.spi.ModelCategorizationContext;
 import org.hibernate.models.spi.ClassDetails;
-import org.hibernate.models.spi.MemberDetails;
 
-import jakarta.persistence.EmbeddedId;
-import jakarta.persistence.Id;
 import jakarta.persistence.IdClass;
 import jakarta.persistence.Inheritance;
-import jakarta.persistence.Version;
 
 import static org.hibernate.models.orm.process.spi.ModelCategorizationLogging.MODEL_CATEGORIZATION_LOGGER;
 
@@ -47,6 +43,7 @@ import static org.hibernate.models.orm.process.spi.ModelCategorizationLogging.MO
 public class HierarchyMetadataCollector implements HierarchyTypeConsumer {
 	private final EntityHierarchy entityHierarchy;
 	private final ClassDetails rootEntityClassDetails;
+	private final Set<ClassDetails> rootEntitySuperTypes;
 	private final HierarchyTypeConsumer delegateConsumer;
 	private final ModelCategorizationContext categorizationContext;
 
@@ -73,10 +70,19 @@ public class HierarchyMetadataCollector implements HierarchyTypeConsumer {
 			ModelCategorizationContext categorizationContext) {
 		this.entityHierarchy = entityHierarchy;
 		this.rootEntityClassDetails = rootEntityClassDetails;
+		this.rootEntitySuperTypes = collectSuperTypes( rootEntityClassDetails );
 		this.delegateConsumer = delegateConsumer;
 		this.categorizationContext = categorizationContext;
 	}
 
+	private static Set<ClassDetails> collectSuperTypes(ClassDetails classDetails) {
+		final Set<ClassDetails> superTypes = new HashSet<>();
+		for ( ClassDetails current = classDetails.getSuperClass(); current != null; current = current.getSuperClass() ) {
+			superTypes.add( current );
+		}
+		return superTypes;
+	}
+
 	public EntityTypeMetadata getRootEntityMetadata() {
 		return rootEntityMetadata;
 	}
@@ -179,6 +185,19 @@ public class HierarchyMetadataCollector implements HierarchyTypeConsumer {
 		);
 	}
 
+	/**
+	 * Above the root entity, only the path down to the root entity belongs to the hierarchy - a mapped
+	 * superclass may be shared by several root entities, whose subtypes belong to other hierarchies.
+	 * Walking those as well would make building all the hierarchies quadratic in the number of root
+	 * entities sharing the mapped superclass.
+	 */
+	@Override
+	public boolean shouldWalkSubType(ClassDetails type, ClassDetails subType) {
+		return !rootEntitySuperTypes.contains( type )
+				|| subType == rootEntityClassDetails
+				|| rootEntitySuperTypes.contains( subType );
+	}
+
 	@Override
 	public void acceptType(IdentifiableTypeMetadata typeMetadata) {
 		if ( delegateConsumer != null ) {
@@ -203,35 +222,37 @@ public class HierarchyMetadataCollector implements HierarchyTypeConsumer {
 		idClassAnnotation = applyLocalAnnotation( IdClass.class, classDetails, idClassAnnotation );
 
 		final boolean collectIds = collectedIdAttributes == null;
-		if ( collectIds || versionAttribute == null || tenantIdAttribute == null ) {
+		final KeyMemberSummary keyMembers = categorizationContext.getKeyMemberSummary( classDetails );
+		if ( keyMembers.hasKeyMembers() && ( collectIds || versionAttribute == null || tenantIdAttribute == null ) ) {
 			// walk the attributes
 			typeMetadata.forEachAttribute( (index, attributeMetadata) -> {
-				final MemberDetails attributeMember = attributeMetadata.member();
+				final int keyRoles = keyMembers.getKeyRoles( attributeMetadata.member() );
+				if ( keyRoles == 0 ) {
+					return;
+				}
 
 				if ( collectIds ) {
-					final EmbeddedId eIdAnn = attributeMember.getDirectAnnotationUsage( EmbeddedId.class );
-					if ( eIdAnn != null ) {
+					if ( ( keyRoles & KeyMemberSummary.EMBEDDED_ID ) != 0 ) {
 						collectIdAttribute( attributeMetadata );
 					}
 
-					final Id idAnn = attributeMember.getDirectAnnotationUsage( Id.class );
-					if ( idAnn != null ) {
+					if ( ( keyRoles & KeyMemberSummary.ID ) != 0 ) {
 						collectIdAttribute( attributeMetadata );
 					}
 				}
 
-				if ( attributeMember.hasDirectAnnotationUsage( NaturalId.class ) ) {
+				if ( ( keyRoles & KeyMemberSummary.NATURAL_ID ) != 0 ) {
 					collectNaturalIdAttribute( attributeMetadata );
 				}
 
 				if ( versionAttribute == null ) {
-					if ( attributeMember.hasDirectAnnotationUsage( Version.class ) ) {
+					if ( ( keyRoles & KeyMemberSummary.VERSION ) != 0 ) {
 						versionAttribute = attributeMetadata;
 					}
 				}
 
 				if ( tenantIdAttribute == null ) {
-					if ( attributeMember.hasDirectAnnotationUsage( TenantId.class ) ) {
+					if ( ( keyRoles & KeyMemberSummary.TENANT_ID ) != 0 ) {
 						tenantIdAttribute = attributeMetadata;
 					}
 				}
@@ -0,0 +1,112 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.models.spi.ClassDetails;
+
+/**
+ * Resolves where classes sit in their entity hierarchy - whether an entity is the
+ * {@linkplain #isRoot root} of its hierarchy, and the {@linkplain #findAbsoluteRoot absolute root}
+ * of the hierarchy - from the {@linkplain ManagedTypeKinds kinds} of their super classes.
+ * <p/>
+ * The ancestry of each class is memoized, and resolved from that of its super class, so each
+ * class is visited once across the whole model rather than once per subclass.  The super class
+ * chain is walked iteratively.  Safe for concurrent use.
+ *
+ * @author Steve Ebersole
+ */
+public class HierarchyRootResolver {
+	/**
+	 * @param nearestEntity The nearest super class which is an entity, if any
+	 * @param absoluteRoot The top-most of the class and its super classes which is an entity or mapped-superclass, if any
+	 */
+	private record Ancestry(ClassDetails nearestEntity, ClassDetails absoluteRoot) {
+	}
+
+	private final ManagedTypeKinds managedTypeKinds;
+	private final Map<ClassDetails, Ancestry> ancestries = new ConcurrentHashMap<>();
+
+	public HierarchyRootResolver(ManagedTypeKinds managedTypeKinds) {
+		this.managedTypeKinds = managedTypeKinds;
+	}
+
+	public ManagedTypeKinds getManagedTypeKinds() {
+		return managedTypeKinds;
+	}
+
+	/**
+	 * Whether the class is a root of an entity hierarchy, i.e. none of its super classes
+	 * is an entity (mapped-superclasses are allowed)
+	 */
+	public boolean isRoot(ClassDetails classDetails) {
+		return findNearestEntitySuperClass( classDetails ) == null;
+	}
+
+	/**
+	 * The nearest super class of the class which is an entity, or {@code null} if there is none
+	 */
+	public ClassDetails findNearestEntitySuperClass(ClassDetails classDetails) {
+		return resolveAncestry( classDetails ).nearestEntity();
+	}
+
+	/**
+	 * The absolute root of the hierarchy rooted at the given root entity - the top-most of
+	 * its super classes which is an entity or mapped-superclass, or the root entity itself
+	 */
+	public ClassDetails findAbsoluteRoot(ClassDetails rootEntity) {
+		final ClassDetails absoluteRoot = resolveAncestry( rootEntity ).absoluteRoot();
+		return absoluteRoot == null ? rootEntity : absoluteRoot;
+	}
+
+	private Ancestry resolveAncestry(ClassDetails classDetails) {
+		final Ancestry known = ancestries.get( classDetails );
+		if ( known != null ) {
+			return known;
+		}
+
+		// collect the classes yet to be resolved, up to the first one which is, nearest first
+		final List<ClassDetails> unresolved = new ArrayList<>();
+		ClassDetails resolved = classDetails;
+		Ancestry resolvedAncestry = null;
+		while ( resolved != null ) {
+			resolvedAncestry = ancestries.get( resolved );
+			if ( resolvedAncestry != null ) {
+				break;
+			}
+			unresolved.add( resolved );
+			resolved = resolved.getSuperClass();
+		}
+
+		// and resolve each from its super class, top-most first
+		for ( int i = unresolved.size() - 1; i >= 0; i-- ) {
+			final ClassDetails type = unresolved.get( i );
+			final ClassDetails nearestEntity;
+			final ClassDetails absoluteRoot;
+			if ( resolved == null ) {
+				nearestEntity = null;
+				absoluteRoot = managedTypeKinds.isIdentifiable( type ) ? type : null;
+			}
+			else {
+				nearestEntity = managedTypeKinds.isEntity( resolved ) ? resolved : resolvedAncestry.nearestEntity();
+				absoluteRoot = resolvedAncestry.absoluteRoot() != null
+						? resolvedAncestry.absoluteRoot()
+						: managedTypeKinds.isIdentifiable( type ) ? type : null;
+			}
+
+			resolvedAncestry = new Ancestry( nearestEntity, absoluteRoot );
+			ancestries.putIfAbsent( type, resolvedAncestry );
+			resolved = type;
+		}
+
+		return resolvedAncestry;
+	}
+}
@@ -7,6 +7,7 @@
 package org.hibernate.models.orm.process.internal;
 
 import org.hibernate.models.orm.process.spi.IdentifiableTypeMetadata;
+import org.hibernate.models.spi.ClassDetails;
 
 /**
  * Consumer of types as we walk the managed-type hierarchy
@@ -16,4 +17,11 @@ import org.hibernate.models.orm.process.spi.IdentifiableTypeMetadata;
 @FunctionalInterface
 public interface HierarchyTypeConsumer {
 	void acceptType(IdentifiableTypeMetadata type);
+
+	/**
+	 * Whether the walk should descend from the given type into one of its subtypes
+	 */
+	default boolean shouldWalkSubType(ClassDetails type, ClassDetails subType) {
+		return true;
+	}
 }
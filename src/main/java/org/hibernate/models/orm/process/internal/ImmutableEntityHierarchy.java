@@ -0,0 +1,162 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process.internal;
+
+import java.util.Locale;
+
+import org.hibernate.engine.OptimisticLockStyle;
+import org.hibernate.models.orm.process.spi.AttributeMetadata;
+import org.hibernate.models.orm.process.spi.CacheRegion;
+import org.hibernate.models.orm.process.spi.EntityHierarchy;
+import org.hibernate.models.orm.process.spi.EntityTypeMetadata;
+import org.hibernate.models.orm.process.spi.IdentifiableTypeMetadata;
+import org.hibernate.models.orm.process.spi.KeyMapping;
+import org.hibernate.models.orm.process.spi.NaturalIdCacheRegion;
+
+import jakarta.persistence.InheritanceType;
+
+/**
+ * Immutable form of {@linkplain EntityHierarchyImpl}, built from already determined values.
+ * Creation {@linkplain AbstractImmutableIdentifiableTypeMetadata#attach attaches} the
+ * types to the hierarchy - or to the view wrapping the hierarchy, if one.
+ *
+ * @author Steve Ebersole
+ */
+public class ImmutableEntityHierarchy implements EntityHierarchy {
+	private final AbstractImmutableIdentifiableTypeMetadata absoluteRootTypeMetadata;
+	private final EntityTypeMetadata rootEntityTypeMetadata;
+
+	private final InheritanceType inheritanceType;
+	private final OptimisticLockStyle optimisticLockStyle;
+
+	private final KeyMapping idMapping;
+	private final KeyMapping naturalIdMapping;
+	private final AttributeMetadata versionAttribute;
+	private final AttributeMetadata tenantIdAttribute;
+
+	private final CacheRegion cacheRegion;
+	private final NaturalIdCacheRegion naturalIdCacheRegion;
+
+	public ImmutableEntityHierarchy(
+			AbstractImmutableIdentifiableTypeMetadata absoluteRootTypeMetadata,
+			EntityTypeMetadata rootEntityTypeMetadata,
+			InheritanceType inheritanceType,
+			OptimisticLockStyle optimisticLockStyle,
+			KeyMapping idMapping,
+			KeyMapping naturalIdMapping,
+			AttributeMetadata versionAttribute,
+			AttributeMetadata tenantIdAttribute,
+			CacheRegion cacheRegion,
+			NaturalIdCacheRegion naturalIdCacheRegion) {
+		this(
+				absoluteRootTypeMetadata,
+				rootEntityTypeMetadata,
+				inheritanceType,
+				optimisticLockStyle,
+				idMapping,
+				naturalIdMapping,
+				versionAttribute,
+				tenantIdAttribute,
+				cacheRegion,
+				naturalIdCacheRegion,
+				null
+		);
+	}
+
+	/**
+	 * @param view The hierarchy which the types should report as theirs when this hierarchy
+	 * is exposed through another (lazy) one; {@code null} indicates this hierarchy.
+	 */
+	public ImmutableEntityHierarchy(
+			AbstractImmutableIdentifiableTypeMetadata absoluteRootTypeMetadata,
+			EntityTypeMetadata rootEntityTypeMetadata,
+			InheritanceType inheritanceType,
+			OptimisticLockStyle optimisticLockStyle,
+			KeyMapping idMapping,
+			KeyMapping naturalIdMapping,
+			AttributeMetadata versionAttribute,
+			AttributeMetadata tenantIdAttribute,
+			CacheRegion cacheRegion,
+			NaturalIdCacheRegion naturalIdCacheRegion,
+			EntityHierarchy view) {
+		this.absoluteRootTypeMetadata = absoluteRootTypeMetadata;
+		this.rootEntityTypeMetadata = rootEntityTypeMetadata;
+		this.inheritanceType = inheritanceType;
+		this.optimisticLockStyle = optimisticLockStyle;
+		this.idMapping = idMapping;
+		this.naturalIdMapping = naturalIdMapping;
+		this.versionAttribute = versionAttribute;
+		this.tenantIdAttribute = tenantIdAttribute;
+		this.cacheRegion = cacheRegion;
+		this.naturalIdCacheRegion = naturalIdCacheRegion;
+
+		absoluteRootTypeMetadata.attach( view == null ? this : view );
+	}
+
+	@Override
+	public EntityTypeMetadata getRoot() {
+		return rootEntityTypeMetadata;
+	}
+
+	@Override
+	public IdentifiableTypeMetadata getAbsoluteRoot() {
+		return absoluteRootTypeMetadata;
+	}
+
+	@Override
+	public void forEachType(HierarchyTypeVisitor typeVisitor) {
+		CategorizationHelper.forEachType( this, typeVisitor );
+	}
+
+	@Override
+	public InheritanceType getInheritanceType() {
+		return inheritanceType;
+	}
+
+	@Override
+	public KeyMapping getIdMapping() {
+		return idMapping;
+	}
+
+	@Override
+	public KeyMapping getNaturalIdMapping() {
+		return naturalIdMapping;
+	}
+
+	@Override
+	public AttributeMetadata getVersionAttribute() {
+		return versionAttribute;
+	}
+
+	@Override
+	public AttributeMetadata getTenantIdAttribute() {
+		return tenantIdAttribute;
+	}
+
+	@Override
+	public OptimisticLockStyle getOptimisticLockStyle() {
+		return optimisticLockStyle;
+	}
+
+	@Override
+	public CacheRegion getCacheRegion() {
+		return cacheRegion;
+	}
+
+	@Override
+	public NaturalIdCacheRegion getNaturalIdCacheRegion() {
+		return naturalIdCacheRegion;
+	}
+
+	@Override
+	public String toString() {
+		return String.format(
+				Locale.ROOT,
+				"EntityHierarchy(`%s` (%s))",
+				rootEntityTypeMetadata.getEntityName(),
+				inheritanceType.name()
+		);
+	}
+}
@@ -0,0 +1,143 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process.internal;
+
+import java.util.List;
+
+import org.hibernate.boot.models.spi.JpaEventListener;
+import org.hibernate.models.orm.process.spi.AttributeMetadata;
+import org.hibernate.models.orm.process.spi.CustomSql;
+import org.hibernate.models.orm.process.spi.EntityTypeMetadata;
+import org.hibernate.models.spi.ClassDetails;
+
+import jakarta.persistence.AccessType;
+
+/**
+ * Immutable form of {@linkplain EntityTypeMetadataImpl}.
+ *
+ * @author Steve Ebersole
+ */
+public class ImmutableEntityTypeMetadata
+		extends AbstractImmutableIdentifiableTypeMetadata
+		implements EntityTypeMetadata {
+	private final String entityName;
+	private final String jpaEntityName;
+	private final boolean mutable;
+	private final boolean cacheable;
+	private final String[] synchronizedTableNames;
+	private final int batchSize;
+	private final boolean isDynamicInsert;
+	private final boolean isDynamicUpdate;
+	private final CustomSql customInsert;
+	private final CustomSql customUpdate;
+	private final CustomSql customDelete;
+	private final String discriminatorMatchValue;
+
+	public ImmutableEntityTypeMetadata(
+			ClassDetails classDetails,
+			AccessType accessType,
+			List<AttributeMetadata> attributeList,
+			AbstractImmutableIdentifiableTypeMetadata superType,
+			List<JpaEventListener> hierarchyEventListeners,
+			List<JpaEventListener> completeEventListeners,
+			String entityName,
+			String jpaEntityName,
+			boolean mutable,
+			boolean cacheable,
+			String[] synchronizedTableNames,
+			int batchSize,
+			boolean isDynamicInsert,
+			boolean isDynamicUpdate,
+			CustomSql customInsert,
+			CustomSql customUpdate,
+			CustomSql customDelete,
+			String discriminatorMatchValue) {
+		super( classDetails, accessType, attributeList, superType, hierarchyEventListeners, completeEventListeners );
+		this.entityName = entityName;
+		this.jpaEntityName = jpaEntityName;
+		this.mutable = mutable;
+		this.cacheable = cacheable;
+		this.synchronizedTableNames = synchronizedTableNames;
+		this.batchSize = batchSize;
+		this.isDynamicInsert = isDynamicInsert;
+		this.isDynamicUpdate = isDynamicUpdate;
+		this.customInsert = customInsert;
+		this.customUpdate = customUpdate;
+		this.customDelete = customDelete;
+		this.discriminatorMatchValue = discriminatorMatchValue;
+	}
+
+	@Override
+	public String getEntityName() {
+		return entityName;
+	}
+
+	@Override
+	public String getJpaEntityName() {
+		return jpaEntityName;
+	}
+
+	@Override
+	public String getClassName() {
+		return getClassDetails().getClassName();
+	}
+
+	@Override
+	public boolean isMutable() {
+		return mutable;
+	}
+
+	@Override
+	public boolean isCacheable() {
+		return cacheable;
+	}
+
+	@Override
+	public String[] getSynchronizedTableNames() {
+		return synchronizedTableNames;
+	}
+
+	@Override
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	@Override
+	public boolean isDynamicInsert() {
+		return isDynamicInsert;
+	}
+
+	@Override
+	public boolean isDynamicUpdate() {
+		return isDynamicUpdate;
+	}
+
+	@Override
+	public CustomSql getCustomInsert() {
+		return customInsert;
+	}
+
+	@Override
+	public CustomSql getCustomUpdate() {
+		return customUpdate;
+	}
+
+	@Override
+	public CustomSql getCustomDelete() {
+		return customDelete;
+	}
+
+	public String getDiscriminatorMatchValue() {
+		return discriminatorMatchValue;
+	}
+
+	public boolean isLazy() {
+		return true;
+	}
+
+	public String getProxy() {
+		return entityName;
+	}
+}
@@ -0,0 +1,33 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process.internal;
+
+import java.util.List;
+
+import org.hibernate.boot.models.spi.JpaEventListener;
+import org.hibernate.models.orm.process.spi.AttributeMetadata;
+import org.hibernate.models.orm.process.spi.MappedSuperclassTypeMetadata;
+import org.hibernate.models.spi.ClassDetails;
+
+import jakarta.persistence.AccessType;
+
+/**
+ * Immutable form of {@linkplain MappedSuperclassTypeMetadataImpl}.
+ *
+ * @author Steve Ebersole
+ */
+public class ImmutableMappedSuperclassTypeMetadata
+		extends AbstractImmutableIdentifiableTypeMetadata
+		implements MappedSuperclassTypeMetadata {
+	public ImmutableMappedSuperclassTypeMetadata(
+			ClassDetails classDetails,
+			AccessType accessType,
+			List<AttributeMetadata> attributeList,
+			AbstractImmutableIdentifiableTypeMetadata superType,
+			List<JpaEventListener> hierarchyEventListeners,
+			List<JpaEventListener> completeEventListeners) {
+		super( classDetails, accessType, attributeList, superType, hierarchyEventListeners, completeEventListeners );
+	}
+}
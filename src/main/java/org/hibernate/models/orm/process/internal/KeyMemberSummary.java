@@ -0,0 +1,133 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process.internal;
+
+import java.lang.annotation.Annotation;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.TenantId;
+import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.MemberDetails;
+
+import jakarta.persistence.Access;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Id;
+import jakarta.persistence.Version;
+
+import static java.util.Map.entry;
+
+/**
+ * Summary of the members of a class which play a part in the keys of its hierarchy - its
+ * {@code @Id}, {@code @EmbeddedId}, {@code @Version}, {@code @TenantId} and {@code @NaturalId}
+ * members - along with the explicit {@code @Access} of the class.
+ * <p/>
+ * Built with a single pass over the annotations of each member of the class, once per class
+ * (see {@linkplain org.hibernate.models.orm.process.spi.ModelCategorizationContext#getKeyMemberSummary}),
+ * and shared by the determination of the hierarchy's access type and the collection of its key attributes.
+ *
+ * @author Steve Ebersole
+ */
+public class KeyMemberSummary {
+	public static final int ID = 1;
+	public static final int EMBEDDED_ID = 1 << 1;
+	public static final int VERSION = 1 << 2;
+	public static final int TENANT_ID = 1 << 3;
+	public static final int NATURAL_ID = 1 << 4;
+
+	private static final Map<Class<? extends Annotation>, Integer> KEY_ROLES = Map.ofEntries(
+			entry( Id.class, ID ),
+			entry( EmbeddedId.class, EMBEDDED_ID ),
+			entry( Version.class, VERSION ),
+			entry( TenantId.class, TENANT_ID ),
+			entry( NaturalId.class, NATURAL_ID )
+	);
+
+	private final Access explicitAccess;
+	private final MemberDetails idMember;
+	private final Map<MemberDetails, Integer> keyRoles;
+
+	private KeyMemberSummary(Access explicitAccess, MemberDetails idMember, Map<MemberDetails, Integer> keyRoles) {
+		this.explicitAccess = explicitAccess;
+		this.idMember = idMember;
+		this.keyRoles = keyRoles;
+	}
+
+	public static KeyMemberSummary from(ClassDetails classDetails) {
+		final Map<MemberDetails, Integer> keyRoles = new IdentityHashMap<>();
+		// methods first, matching the precedence of the id member in determining the access type
+		final MemberDetails idMethod = collectKeyRoles( classDetails.getMethods(), keyRoles );
+		final MemberDetails idField = collectKeyRoles( classDetails.getFields(), keyRoles );
+		if ( classDetails.isRecord() ) {
+			collectKeyRoles( classDetails.getRecordComponents(), keyRoles );
+		}
+
+		return new KeyMemberSummary(
+				classDetails.getDirectAnnotationUsage( Access.class ),
+				idMethod != null ? idMethod : idField,
+				keyRoles.isEmpty() ? Map.of() : keyRoles
+		);
+	}
+
+	/**
+	 * @return The first of the members which is an id or embedded-id, if any
+	 */
+	private static MemberDetails collectKeyRoles(List<? extends MemberDetails> members, Map<MemberDetails, Integer> keyRoles) {
+		MemberDetails idMember = null;
+		for ( int i = 0; i < members.size(); i++ ) {
+			final MemberDetails member = members.get( i );
+			int roles = 0;
+			for ( Annotation usage : member.getDirectAnnotationUsages() ) {
+				final Integer role = KEY_ROLES.get( usage.annotationType() );
+				if ( role != null ) {
+					roles |= role;
+				}
+			}
+
+			if ( roles != 0 ) {
+				keyRoles.put( member, roles );
+				if ( idMember == null && ( roles & ( ID | EMBEDDED_ID ) ) != 0 ) {
+					idMember = member;
+				}
+			}
+		}
+		return idMember;
+	}
+
+	/**
+	 * The {@code @Access} of the class, if any
+	 */
+	public Access getExplicitAccess() {
+		return explicitAccess;
+	}
+
+	/**
+	 * The member of the class annotated with {@code @Id} or {@code @EmbeddedId}, methods taking
+	 * precedence over fields, if any
+	 */
+	public MemberDetails getIdMember() {
+		return idMember;
+	}
+
+	/**
+	 * Whether any of the members of the class play a part in the keys of its hierarchy
+	 */
+	public boolean hasKeyMembers() {
+		return !keyRoles.isEmpty();
+	}
+
+	/**
+	 * The key roles of the member, as a bitmask of {@linkplain #ID}, {@linkplain #EMBEDDED_ID},
+	 * {@linkplain #VERSION}, {@linkplain #TENANT_ID} and {@linkplain #NATURAL_ID}
+	 */
+	public int getKeyRoles(MemberDetails member) {
+		final Integer roles = keyRoles.get( member );
+		return roles == null ? 0 : roles;
+	}
+}
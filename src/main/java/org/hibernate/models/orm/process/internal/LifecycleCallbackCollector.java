@@ -8,12 +8,12 @@ package org.hibernate.models.orm.process.internal;
 
 import java.lang.annotation.Annotation;
 import java.util.Locale;
+import java.util.Map;
 
 import org.hibernate.boot.models.JpaEventListenerStyle;
 import org.hibernate.boot.models.spi.JpaEventListener;
 import org.hibernate.models.ModelsException;
 import org.hibernate.models.orm.process.spi.AllMemberConsumer;
-import org.hibernate.models.orm.process.spi.ModelCategorizationContext;
 import org.hibernate.models.spi.ClassDetails;
 import org.hibernate.models.spi.MemberDetails;
 import org.hibernate.models.spi.MethodDetails;
@@ -26,24 +26,61 @@ import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreRemove;
 import jakarta.persistence.PreUpdate;
 
+import static java.util.Map.entry;
 import static org.hibernate.boot.models.spi.JpaEventListener.matchesSignature;
 
 /**
  * AllMemberConsumer implementation for collecting method-details for
  * JPA callback methods.
+ * <p/>
+ * Each method's annotations are scanned once, against a table of the callback
+ * annotations.  The kinds of callback found are tracked as a bitmask - see
+ * {@linkplain #getCallbackKinds()}.
+ * <p/>
+ * A method annotated for several events is the callback for each of them.  It
+ * then conflicts with any other method annotated for one of those events.
  *
  * @author Steve Ebersole
  */
 public class LifecycleCallbackCollector implements AllMemberConsumer {
+	public static final int PRE_PERSIST = 0;
+	public static final int POST_PERSIST = 1;
+	public static final int PRE_REMOVE = 2;
+	public static final int POST_REMOVE = 3;
+	public static final int PRE_UPDATE = 4;
+	public static final int POST_UPDATE = 5;
+	public static final int POST_LOAD = 6;
+
+	/**
+	 * The callback annotations, indexed by the kind of callback each designates
+	 */
+	private static final Class<?>[] CALLBACK_ANNOTATIONS = {
+			PrePersist.class,
+			PostPersist.class,
+			PreRemove.class,
+			PostRemove.class,
+			PreUpdate.class,
+			PostUpdate.class,
+			PostLoad.class
+	};
+
+	/**
+	 * The kind of callback designated by each callback annotation
+	 */
+	private static final Map<Class<? extends Annotation>, Integer> CALLBACK_KINDS = Map.ofEntries(
+			entry( PrePersist.class, PRE_PERSIST ),
+			entry( PostPersist.class, POST_PERSIST ),
+			entry( PreRemove.class, PRE_REMOVE ),
+			entry( PostRemove.class, POST_REMOVE ),
+			entry( PreUpdate.class, PRE_UPDATE ),
+			entry( PostUpdate.class, POST_UPDATE ),
+			entry( PostLoad.class, POST_LOAD )
+	);
+
 	private final ClassDetails managedTypeDetails;
 
-	private MethodDetails prePersist;
-	private MethodDetails postPersist;
-	private MethodDetails preUpdate;
-	private MethodDetails postUpdate;
-	private MethodDetails preRemove;
-	private MethodDetails postRemove;
-	private MethodDetails postLoad;
+	private final MethodDetails[] callbacks = new MethodDetails[CALLBACK_ANNOTATIONS.length];
+	private int callbackKinds;
 
 	public LifecycleCallbackCollector(ClassDetails managedTypeDetails) {
 		this.managedTypeDetails = managedTypeDetails;
@@ -57,76 +94,64 @@ public class LifecycleCallbackCollector implements AllMemberConsumer {
 
 		final MethodDetails methodDetails = (MethodDetails) memberDetails;
 
-		if ( methodDetails.hasDirectAnnotationUsage( PrePersist.class )
-				&& matchesSignature( JpaEventListenerStyle.CALLBACK, methodDetails ) ) {
-			prePersist = apply( methodDetails, PrePersist.class, managedTypeDetails, prePersist );
-		}
-		else if ( methodDetails.hasDirectAnnotationUsage( PostPersist.class )
-				&& matchesSignature( JpaEventListenerStyle.CALLBACK, methodDetails ) ) {
-			postPersist = apply( methodDetails, PostPersist.class, managedTypeDetails, postPersist );
-		}
-		else if ( methodDetails.hasDirectAnnotationUsage( PreRemove.class )
-				&& matchesSignature( JpaEventListenerStyle.CALLBACK, methodDetails ) ) {
-			preRemove = apply( methodDetails, PreRemove.class, managedTypeDetails, preRemove );
-		}
-		else if ( methodDetails.hasDirectAnnotationUsage( PostRemove.class )
-				&& matchesSignature( JpaEventListenerStyle.CALLBACK, methodDetails ) ) {
-			postRemove = apply( methodDetails, PostRemove.class, managedTypeDetails, postRemove );
+		int methodKinds = 0;
+		for ( Annotation usage : methodDetails.getDirectAnnotationUsages() ) {
+			final Integer kind = CALLBACK_KINDS.get( usage.annotationType() );
+			if ( kind != null ) {
+				methodKinds |= 1 << kind;
+			}
 		}
-		else if ( methodDetails.hasDirectAnnotationUsage( PreUpdate.class )
-				&& matchesSignature( JpaEventListenerStyle.CALLBACK, methodDetails ) ) {
-			preUpdate = apply( methodDetails, PreUpdate.class, managedTypeDetails, preUpdate );
-		}
-		else if ( methodDetails.hasDirectAnnotationUsage( PostUpdate.class )
-				&& matchesSignature( JpaEventListenerStyle.CALLBACK, methodDetails ) ) {
-			postUpdate = apply( methodDetails, PostUpdate.class, managedTypeDetails, postUpdate );
+
+		if ( methodKinds == 0 || !matchesSignature( JpaEventListenerStyle.CALLBACK, methodDetails ) ) {
+			return;
 		}
-		else if ( methodDetails.hasDirectAnnotationUsage( PostLoad.class )
-				&& matchesSignature( JpaEventListenerStyle.CALLBACK, methodDetails ) ) {
-			postLoad = apply( methodDetails, PostLoad.class, managedTypeDetails, postLoad );
+
+		// a method may be the callback for several kinds of event
+		for ( int kinds = methodKinds; kinds != 0; kinds &= kinds - 1 ) {
+			final int kind = Integer.numberOfTrailingZeros( kinds );
+			if ( callbacks[kind] != null ) {
+				throw new ModelsException(
+						String.format(
+								Locale.ROOT,
+								"Encountered multiple @%s methods [%s] - %s, %s",
+								CALLBACK_ANNOTATIONS[kind].getSimpleName(),
+								managedTypeDetails.getClassName(),
+								callbacks[kind].getName(),
+								methodDetails.getName()
+						)
+				);
+			}
+			callbacks[kind] = methodDetails;
 		}
+		callbackKinds |= methodKinds;
 	}
 
-	private static <A extends Annotation> MethodDetails apply(
-			MethodDetails incomingValue,
-			Class<A> annotationType,
-			ClassDetails managedTypeDetails,
-			MethodDetails currentValue) {
-		if ( currentValue != null ) {
-			throw new ModelsException(
-					String.format(
-							Locale.ROOT,
-							"Encountered multiple @%s methods [%s] - %s, %s",
-							annotationType.getSimpleName(),
-							managedTypeDetails.getClassName(),
-							currentValue.getName(),
-							incomingValue.getName()
-					)
-			);
-		}
-		return incomingValue;
+	/**
+	 * Bitmask of the kinds of callback collected, with bit {@code 1 << kind} set
+	 * for each of {@linkplain #PRE_PERSIST}, {@linkplain #POST_PERSIST}, etc.
+	 * found.  {@code 0} if the type defines no callbacks.
+	 */
+	public int getCallbackKinds() {
+		return callbackKinds;
 	}
 
+	/**
+	 * The callbacks of the type, or {@code null} if it defines none
+	 */
 	public JpaEventListener resolve() {
-		if ( prePersist != null
-				|| postPersist != null
-				|| preUpdate != null
-				|| postUpdate != null
-				|| preRemove != null
-				|| postRemove != null
-				|| postLoad != null ) {
-			return new JpaEventListener(
-					JpaEventListenerStyle.CALLBACK,
-					managedTypeDetails,
-					prePersist,
-					postPersist,
-					preRemove,
-					postRemove,
-					preUpdate,
-					postUpdate,
-					postLoad
-			);
+		if ( callbackKinds == 0 ) {
+			return null;
 		}
-		return null;
+		return new JpaEventListener(
+				JpaEventListenerStyle.CALLBACK,
+				managedTypeDetails,
+				callbacks[PRE_PERSIST],
+				callbacks[POST_PERSIST],
+				callbacks[PRE_REMOVE],
+				callbacks[POST_REMOVE],
+				callbacks[PRE_UPDATE],
+				callbacks[POST_UPDATE],
+				callbacks[POST_LOAD]
+		);
 	}
 }
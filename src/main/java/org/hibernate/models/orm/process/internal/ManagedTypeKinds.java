@@ -0,0 +1,92 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process.internal;
+
+import java.lang.annotation.Annotation;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.models.spi.ClassDetails;
+
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.MappedSuperclass;
+
+/**
+ * The managed-type kind (entity, mapped-superclass, embeddable) of classes, determined once
+ * per class for the duration of a categorization and shared by all its phases.
+ * <p/>
+ * The kind is held as a bitmask of {@linkplain #ENTITY}, {@linkplain #MAPPED_SUPERCLASS} and
+ * {@linkplain #EMBEDDABLE}, {@code 0} for a plain class.  The same scan of the class's annotations
+ * also records, as {@linkplain #GLOBAL_REGISTRATIONS}, whether the class carries any annotation defining
+ * global registrations, so that classes without can skip collecting them.  ClassDetails do not define equality,
+ * so the cache is keyed by identity.  Safe for concurrent use.
+ * <p/>
+ * Classes must not be looked up before any XML mappings which may apply to them are applied.
+ *
+ * @author Steve Ebersole
+ */
+public class ManagedTypeKinds {
+	public static final byte ENTITY = 1;
+	public static final byte MAPPED_SUPERCLASS = 1 << 1;
+	public static final byte EMBEDDABLE = 1 << 2;
+	public static final byte GLOBAL_REGISTRATIONS = 1 << 3;
+
+	private final Map<ClassDetails, Byte> kinds = new ConcurrentHashMap<>();
+
+	/**
+	 * The kind of the class, as a bitmask
+	 */
+	public byte kindOf(ClassDetails classDetails) {
+		return kinds.computeIfAbsent( classDetails, ManagedTypeKinds::determineKind );
+	}
+
+	public boolean isEntity(ClassDetails classDetails) {
+		return ( kindOf( classDetails ) & ENTITY ) != 0;
+	}
+
+	public boolean isMappedSuperclass(ClassDetails classDetails) {
+		return ( kindOf( classDetails ) & MAPPED_SUPERCLASS ) != 0;
+	}
+
+	public boolean isIdentifiable(ClassDetails classDetails) {
+		return ( kindOf( classDetails ) & ( ENTITY | MAPPED_SUPERCLASS ) ) != 0;
+	}
+
+	public boolean isEmbeddable(ClassDetails classDetails) {
+		return ( kindOf( classDetails ) & EMBEDDABLE ) != 0;
+	}
+
+	/**
+	 * Whether the class carries any annotation defining global registrations
+	 *
+	 * @see GlobalRegistrationsImpl#collectClassRegistrations
+	 */
+	public boolean hasGlobalRegistrations(ClassDetails classDetails) {
+		return ( kindOf( classDetails ) & GLOBAL_REGISTRATIONS ) != 0;
+	}
+
+	private static byte determineKind(ClassDetails classDetails) {
+		byte kind = 0;
+		for ( Annotation usage : classDetails.getDirectAnnotationUsages() ) {
+			final Class<? extends Annotation> annotationType = usage.annotationType();
+			if ( annotationType == Entity.class ) {
+				kind |= ENTITY;
+			}
+			else if ( annotationType == MappedSuperclass.class ) {
+				kind |= MAPPED_SUPERCLASS;
+			}
+			else if ( annotationType == Embeddable.class ) {
+				kind |= EMBEDDABLE;
+			}
+			else if ( GlobalRegistrationsImpl.isClassRegistrationAnnotation( annotationType ) ) {
+				kind |= GLOBAL_REGISTRATIONS;
+			}
+		}
+		return kind;
+	}
+}
@@ -7,10 +7,14 @@
 package org.hibernate.models.orm.process.internal;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 
 import org.hibernate.boot.models.spi.GlobalRegistrations;
 import org.hibernate.boot.models.spi.JpaEventListener;
 import org.hibernate.models.orm.process.spi.ModelCategorizationContext;
+import org.hibernate.models.spi.ClassDetails;
 import org.hibernate.models.spi.SourceModelBuildingContext;
 
 import jakarta.persistence.SharedCacheMode;
@@ -22,14 +26,39 @@ public class ModelCategorizationContextImpl implements ModelCategorizationContex
 	private final SourceModelBuildingContext modelsContext;
 	private final GlobalRegistrations globalRegistrations;
 	private final SharedCacheMode sharedCacheMode;
+	private final HierarchyRootResolver hierarchyRootResolver;
+	private final Predicate<ClassDetails> supersededClasses;
+	private final Map<ClassDetails, KeyMemberSummary> keyMemberSummaries = new ConcurrentHashMap<>();
 
 	public ModelCategorizationContextImpl(
 			SourceModelBuildingContext modelsContext,
 			GlobalRegistrations globalRegistrations,
 			SharedCacheMode sharedCacheMode) {
+		this( modelsContext, globalRegistrations, sharedCacheMode, new HierarchyRootResolver( new ManagedTypeKinds() ) );
+	}
+
+	public ModelCategorizationContextImpl(
+			SourceModelBuildingContext modelsContext,
+			GlobalRegistrations globalRegistrations,
+			SharedCacheMode sharedCacheMode,
+			HierarchyRootResolver hierarchyRootResolver) {
+		this( modelsContext, globalRegistrations, sharedCacheMode, hierarchyRootResolver, (classDetails) -> false );
+	}
+
+	/**
+	 * @param supersededClasses Which class details were replaced in the registry, to be skipped as subtypes
+	 */
+	public ModelCategorizationContextImpl(
+			SourceModelBuildingContext modelsContext,
+			GlobalRegistrations globalRegistrations,
+			SharedCacheMode sharedCacheMode,
+			HierarchyRootResolver hierarchyRootResolver,
+			Predicate<ClassDetails> supersededClasses) {
 		this.modelsContext = modelsContext;
 		this.globalRegistrations = globalRegistrations;
 		this.sharedCacheMode = sharedCacheMode;
+		this.hierarchyRootResolver = hierarchyRootResolver;
+		this.supersededClasses = supersededClasses;
 	}
 
 	@Override
@@ -50,4 +79,19 @@ public class ModelCategorizationContextImpl implements ModelCategorizationContex
 	public List<JpaEventListener> getDefaultEventListeners() {
 		return getGlobalRegistrations().getEntityListenerRegistrations();
 	}
+
+	@Override
+	public HierarchyRootResolver getHierarchyRootResolver() {
+		return hierarchyRootResolver;
+	}
+
+	@Override
+	public KeyMemberSummary getKeyMemberSummary(ClassDetails classDetails) {
+		return keyMemberSummaries.computeIfAbsent( classDetails, KeyMemberSummary::from );
+	}
+
+	@Override
+	public boolean isSuperseded(ClassDetails classDetails) {
+		return supersededClasses.test( classDetails );
+	}
 }
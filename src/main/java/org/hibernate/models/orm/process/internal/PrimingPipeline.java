@@ -0,0 +1,197 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import org.hibernate.boot.model.process.spi.ManagedResources;
+import org.hibernate.boot.models.xml.spi.PersistenceUnitMetadata;
+import org.hibernate.boot.models.xml.spi.XmlPreProcessingResult;
+import org.hibernate.boot.models.xml.spi.XmlPreProcessor;
+import org.hibernate.boot.registry.classloading.spi.ClassLoadingException;
+import org.hibernate.models.internal.MutableClassDetailsRegistry;
+import org.hibernate.models.internal.jdk.JdkBuilders;
+import org.hibernate.models.orm.process.internal.classfile.ClassFile;
+import org.hibernate.models.orm.process.internal.classfile.ClassFileClassDetailsBuilder;
+import org.hibernate.models.orm.process.internal.classfile.ClassFileReader;
+import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.ClassLoading;
+import org.hibernate.models.spi.SourceModelBuildingContext;
+
+/**
+ * Overlaps the {@linkplain XmlPreProcessor pre-processing} of the XML mappings with the priming
+ * of the ClassDetails registry, as a small graph of tasks each started as soon as its inputs are
+ * ready -
+ * <pre>
+ *   XML pre-processing  ──►  probe XML-mapped classes  ─────────────────────┐
+ *                                                                           ├──►  register XML-mapped classes
+ *   probe annotated classes  ──►  register annotated classes and packages,  │
+ *   probe package-info       ──►  collect package-level registrations  ─────┘
+ * </pre>
+ * Probing - reading the class file, or loading and introspecting the class - does not touch the
+ * registry and runs concurrently with everything else.  The registry is not safe for concurrent
+ * misses, so the registering tasks depend on one another and never run concurrently.
+ * <p/>
+ * The outcome is the same as {@linkplain XmlPreProcessor#preProcessXmlResources pre-processing}
+ * followed by priming, including the order of the primed classes.  Serial categorization runs the
+ * same pipeline, with each task run in turn on the calling thread.
+ *
+ * @author Steve Ebersole
+ */
+public class PrimingPipeline {
+	private final CompletableFuture<XmlPreProcessingResult> xmlPreProcessing;
+	private final CompletableFuture<List<ClassDetails>> primedClasses;
+
+	private final SourceModelBuildingContext modelsContext;
+	private final ClassLoading classLoading;
+	private final MutableClassDetailsRegistry classDetailsRegistry;
+	private final ClassFileClassDetailsBuilder classFileBuilder;
+
+	/**
+	 * Start the pipeline on the given {@code executor}.  When {@code null}, each task runs on the calling
+	 * thread as soon as its inputs are ready - so the pipeline has completed by the time this returns.
+	 */
+	public static PrimingPipeline start(
+			ManagedResources managedResources,
+			PersistenceUnitMetadata persistenceUnitMetadata,
+			DomainModelCategorizationCollector modelCategorizationCollector,
+			SourceModelBuildingContext modelsContext,
+			CategorizationOptions categorizationOptions,
+			Executor executor) {
+		return new PrimingPipeline(
+				managedResources,
+				persistenceUnitMetadata,
+				modelCategorizationCollector,
+				modelsContext,
+				categorizationOptions.shouldReadClassFiles() ? new ClassFileClassDetailsBuilder( modelsContext ) : null,
+				executor == null ? Runnable::run : executor
+		);
+	}
+
+	private PrimingPipeline(
+			ManagedResources managedResources,
+			PersistenceUnitMetadata persistenceUnitMetadata,
+			DomainModelCategorizationCollector modelCategorizationCollector,
+			SourceModelBuildingContext modelsContext,
+			ClassFileClassDetailsBuilder classFileBuilder,
+			Executor executor) {
+		this.modelsContext = modelsContext;
+		this.classLoading = modelsContext.getClassLoading();
+		this.classDetailsRegistry = modelsContext.getClassDetailsRegistry().as( MutableClassDetailsRegistry.class );
+		this.classFileBuilder = classFileBuilder;
+
+		this.xmlPreProcessing = CompletableFuture.supplyAsync(
+				() -> XmlPreProcessor.preProcessXmlResources( managedResources, persistenceUnitMetadata ),
+				executor
+		);
+
+		final List<Class<?>> classReferences = new ArrayList<>( managedResources.getAnnotatedClassReferences() );
+		final List<String> packageInfoNames = new ArrayList<>( managedResources.getAnnotatedPackageNames().size() );
+		managedResources.getAnnotatedPackageNames().forEach( (packageName) -> packageInfoNames.add( packageName + ".package-info" ) );
+		final List<String> classNames = new ArrayList<>( managedResources.getAnnotatedClassNames() );
+
+		final CompletableFuture<List<Class<?>>> introspectedReferences = ConcurrencyHelper.allOf(
+				ConcurrencyHelper.forkAll( classReferences, PrimingPipeline::introspect, executor )
+		);
+		final CompletableFuture<List<Object>> probedPackages = ConcurrencyHelper.allOf(
+				ConcurrencyHelper.forkAll( packageInfoNames, this::probe, executor )
+		);
+		final CompletableFuture<List<Object>> probedClasses = ConcurrencyHelper.allOf(
+				ConcurrencyHelper.forkAll( classNames, this::probe, executor )
+		);
+		final CompletableFuture<List<Object>> probedMappedClasses = xmlPreProcessing.thenCompose(
+				(result) -> ConcurrencyHelper.allOf( ConcurrencyHelper.forkAll( result.getMappedClasses(), this::probe, executor ) )
+		);
+
+		final CompletableFuture<List<ClassDetails>> annotatedClasses = CompletableFuture
+				.allOf( introspectedReferences, probedPackages, probedClasses )
+				.thenApply( (ignored) -> {
+					final List<ClassDetails> primed = new ArrayList<>();
+					introspectedReferences.join().forEach( (aClass) -> primed.add( classDetailsRegistry.resolveClassDetails(
+							aClass.getName(),
+							(name) -> JdkBuilders.buildClassDetailsStatic( aClass, modelsContext )
+					) ) );
+					final List<ClassDetails> packageInfos = new ArrayList<>( packageInfoNames.size() );
+					register( packageInfoNames, probedPackages.join(), true, packageInfos );
+					// package-info cannot be the subject of XML mappings, so its registrations need not wait for the XML
+					packageInfos.forEach( modelCategorizationCollector::collectRegistrationsAhead );
+					primed.addAll( packageInfos );
+					register( classNames, probedClasses.join(), false, primed );
+					return primed;
+				} );
+
+		this.primedClasses = annotatedClasses.thenCombine(
+				probedMappedClasses,
+				(primed, probedMapped) -> {
+					register( xmlPreProcessing.join().getMappedClasses(), probedMapped, false, primed );
+					return primed;
+				}
+		);
+	}
+
+	/**
+	 * The result of pre-processing the XML mappings
+	 */
+	public CompletableFuture<XmlPreProcessingResult> xmlPreProcessing() {
+		return xmlPreProcessing;
+	}
+
+	/**
+	 * The ClassDetails for the managed classes
+	 */
+	public CompletableFuture<List<ClassDetails>> primedClasses() {
+		return primedClasses;
+	}
+
+	/**
+	 * The class file of the named class when {@linkplain ClassFileClassDetailsBuilder reading class files},
+	 * otherwise the loaded and introspected class.  {@code null} if there is no such class.
+	 */
+	private Object probe(String className) {
+		if ( classFileBuilder != null ) {
+			return ClassFileReader.readClassFile( className, classLoading );
+		}
+		try {
+			return introspect( classLoading.classForName( className ) );
+		}
+		catch (ClassLoadingException classLoadingException) {
+			return null;
+		}
+	}
+
+	private void register(List<String> classNames, List<Object> probed, boolean packageInfos, List<ClassDetails> primed) {
+		for ( int i = 0; i < classNames.size(); i++ ) {
+			final Object probedClass = probed.get( i );
+			if ( probedClass instanceof ClassFile classFile ) {
+				primed.add( classFileBuilder.resolveClassDetails( classFile ) );
+			}
+			else if ( packageInfos ) {
+				if ( probedClass instanceof Class<?> packageInfoClass ) {
+					primed.add( classDetailsRegistry.resolveClassDetails(
+							packageInfoClass.getName(),
+							(name) -> JdkBuilders.buildClassDetailsStatic( packageInfoClass, modelsContext )
+					) );
+				}
+				// otherwise, no package-info, so there can be no annotations... just skip it
+			}
+			else {
+				// the class is loaded already, or has no class file (e.g. a dynamic model); when
+				// there is no such class at all, this reports the failure
+				primed.add( classDetailsRegistry.resolveClassDetails( classNames.get( i ) ) );
+			}
+		}
+	}
+
+	private static Class<?> introspect(Class<?> aClass) {
+		// the JDK caches these, making the later building of ClassDetails cheap
+		aClass.getDeclaredAnnotations();
+		aClass.getDeclaredFields();
+		aClass.getDeclaredMethods();
+		return aClass;
+	}
+}
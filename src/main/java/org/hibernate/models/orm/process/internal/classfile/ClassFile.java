@@ -0,0 +1,101 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process.internal.classfile;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The parts of a class file needed to build {@linkplain ClassFileClassDetails ClassDetails} -
+ * names, modifiers, generic signatures and runtime-visible annotations.
+ * <p/>
+ * Class names are binary names ({@code org.acme.Outer$Inner}); types are kept as the field
+ * descriptors and signatures of the class file.
+ *
+ * @param signature The generic signature of the class, or {@code null} if it is not generic
+ * and neither is its superclass nor any of its interfaces
+ * @param record Whether the class file has a {@code Record} attribute
+ *
+ * @author Steve Ebersole
+ */
+public record ClassFile(
+		int accessFlags,
+		String className,
+		String superClassName,
+		List<String> interfaceNames,
+		String signature,
+		boolean record,
+		List<AnnotationInfo> annotations,
+		List<MemberInfo> fields,
+		List<MemberInfo> methods) {
+
+	public static final int ACC_STATIC = 0x0008;
+	public static final int ACC_TRANSIENT = 0x0080;
+	public static final int ACC_INTERFACE = 0x0200;
+	public static final int ACC_ABSTRACT = 0x0400;
+	public static final int ACC_SYNTHETIC = 0x1000;
+	public static final int ACC_ENUM = 0x4000;
+
+	public boolean isInterface() {
+		return ( accessFlags & ACC_INTERFACE ) != 0;
+	}
+
+	public boolean isAbstract() {
+		return ( accessFlags & ACC_ABSTRACT ) != 0;
+	}
+
+	public boolean isEnum() {
+		return ( accessFlags & ACC_ENUM ) != 0;
+	}
+
+	/**
+	 * A field or method.
+	 *
+	 * @param accessFlags The access flags, which match {@linkplain java.lang.reflect.Modifier modifiers}
+	 * @param descriptor The erased type of a field, or the erased parameter and return types of a method
+	 * @param signature The generic type of the member, or {@code null} if it is not generic
+	 */
+	public record MemberInfo(
+			int accessFlags,
+			String name,
+			String descriptor,
+			String signature,
+			List<AnnotationInfo> annotations) {
+
+		public boolean isStatic() {
+			return ( accessFlags & ACC_STATIC ) != 0;
+		}
+
+		public boolean isTransient() {
+			return ( accessFlags & ACC_TRANSIENT ) != 0;
+		}
+
+		public boolean isSynthetic() {
+			return ( accessFlags & ACC_SYNTHETIC ) != 0;
+		}
+	}
+
+	/**
+	 * A runtime-visible annotation.  Values are boxed constants and strings, {@linkplain EnumConstant enum constants},
+	 * {@linkplain ClassConstant classes}, nested annotations and lists (for arrays).  Only explicitly specified
+	 * values are present.
+	 *
+	 * @param typeName The binary name of the annotation type
+	 */
+	public record AnnotationInfo(String typeName, Map<String, Object> values) {
+	}
+
+	/**
+	 * @param typeName The binary name of the enum type
+	 */
+	public record EnumConstant(String typeName, String name) {
+	}
+
+	/**
+	 * @param descriptor The field descriptor of the class, e.g. {@code Lorg/acme/Book;} or {@code I}
+	 */
+	public record ClassConstant(String descriptor) {
+	}
+}
@@ -0,0 +1,133 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process.internal.classfile;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.models.internal.ClassTypeDetailsImpl;
+import org.hibernate.models.internal.dynamic.DynamicClassDetails;
+import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.FieldDetails;
+import org.hibernate.models.spi.MethodDetails;
+import org.hibernate.models.spi.SourceModelBuildingContext;
+import org.hibernate.models.spi.TypeDetails;
+
+/**
+ * {@linkplain ClassDetails} built from a {@linkplain ClassFile class file}, without loading the class.
+ * The class is only loaded if something asks for it - {@linkplain #toJavaClass()} or
+ * {@linkplain org.hibernate.models.spi.MemberDetails#toJavaMember() toJavaMember()}.
+ * <p/>
+ * Fields and methods, as well as the implemented interfaces, are built on first access, as building
+ * them resolves the types they reference - which may in turn reference this class.  They are built
+ * once, under this class's lock, with the referenced types resolved through the builder (which
+ * serializes the creation of missing classes on the registry), so they may be accessed concurrently.
+ *
+ * @see ClassFileClassDetailsBuilder
+ *
+ * @author Steve Ebersole
+ */
+public class ClassFileClassDetails extends DynamicClassDetails {
+	private final ClassFile classFile;
+	private final ClassFileClassDetailsBuilder builder;
+
+	private volatile boolean membersBuilt;
+	private volatile List<TypeDetails> implementedInterfaces;
+
+	public ClassFileClassDetails(
+			ClassFile classFile,
+			ClassDetails superClass,
+			ClassFileClassDetailsBuilder builder,
+			SourceModelBuildingContext modelsContext) {
+		super(
+				classFile.className(),
+				classFile.className(),
+				classFile.isAbstract(),
+				superClass,
+				superClass == null ? null : new ClassTypeDetailsImpl( superClass, TypeDetails.Kind.CLASS ),
+				modelsContext
+		);
+		this.classFile = classFile;
+		this.builder = builder;
+	}
+
+	public ClassFile getClassFile() {
+		return classFile;
+	}
+
+	@Override
+	public boolean isResolved() {
+		return true;
+	}
+
+	@Override
+	public boolean isInterface() {
+		return classFile.isInterface();
+	}
+
+	@Override
+	public boolean isEnum() {
+		return classFile.isEnum();
+	}
+
+	@Override
+	public List<TypeDetails> getImplementedInterfaces() {
+		List<TypeDetails> interfaces = implementedInterfaces;
+		if ( interfaces == null ) {
+			synchronized ( this ) {
+				interfaces = implementedInterfaces;
+				if ( interfaces == null ) {
+					final List<TypeDetails> resolved = new ArrayList<>( classFile.interfaceNames().size() );
+					for ( String interfaceName : classFile.interfaceNames() ) {
+						resolved.add( new ClassTypeDetailsImpl( builder.resolveClassDetails( interfaceName ), TypeDetails.Kind.CLASS ) );
+					}
+					interfaces = List.copyOf( resolved );
+					implementedInterfaces = interfaces;
+				}
+			}
+		}
+		return interfaces;
+	}
+
+	@Override
+	public boolean isImplementor(Class<?> checkType) {
+		// walk the declarations rather than loading the class
+		if ( checkType.getName().equals( getClassName() ) ) {
+			return true;
+		}
+		if ( getSuperClass() != null && getSuperClass().isImplementor( checkType ) ) {
+			return true;
+		}
+		for ( TypeDetails implementedInterface : getImplementedInterfaces() ) {
+			if ( implementedInterface.isImplementor( checkType ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public List<FieldDetails> getFields() {
+		buildMembers();
+		return super.getFields();
+	}
+
+	@Override
+	public List<MethodDetails> getMethods() {
+		buildMembers();
+		return super.getMethods();
+	}
+
+	private void buildMembers() {
+		if ( !membersBuilt ) {
+			synchronized ( this ) {
+				if ( !membersBuilt ) {
+					builder.buildMembers( this );
+					membersBuilt = true;
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,439 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process.internal.classfile;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.models.internal.ClassTypeDetailsImpl;
+import org.hibernate.models.internal.MutableClassDetailsRegistry;
+import org.hibernate.models.internal.ParameterizedTypeDetailsImpl;
+import org.hibernate.models.internal.PrimitiveTypeDetailsImpl;
+import org.hibernate.models.internal.WildcardTypeDetailsImpl;
+import org.hibernate.models.internal.jdk.JdkBuilders;
+import org.hibernate.models.orm.process.internal.ConcurrencyHelper;
+import org.hibernate.models.orm.process.internal.classfile.ClassFile.AnnotationInfo;
+import org.hibernate.models.orm.process.internal.classfile.ClassFile.ClassConstant;
+import org.hibernate.models.orm.process.internal.classfile.ClassFile.EnumConstant;
+import org.hibernate.models.orm.process.internal.classfile.ClassFile.MemberInfo;
+import org.hibernate.models.spi.AnnotationDescriptor;
+import org.hibernate.models.spi.AttributeDescriptor;
+import org.hibernate.models.spi.ClassBasedTypeDetails;
+import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.MethodDetails;
+import org.hibernate.models.spi.MutableAnnotationTarget;
+import org.hibernate.models.spi.SourceModelBuildingContext;
+import org.hibernate.models.spi.TypeDetails;
+import org.hibernate.models.spi.TypeDetailsHelper;
+
+import static org.hibernate.models.orm.process.spi.ModelCategorizationLogging.MODEL_CATEGORIZATION_LOGGER;
+
+/**
+ * Builds {@linkplain ClassFileClassDetails ClassDetails} from class files, so that the classes
+ * of the domain model can be categorized without being loaded, linked and initialized.
+ * <p/>
+ * Types referenced from those classes - superclasses, interfaces, the types of fields, getters and
+ * setters - are built the same way, except for JDK types which are built through reflection as usual.
+ * Classes which cannot be described without interpreting type variables - generic classes, subclasses of
+ * parameterized types, and fields or accessors whose type involves a type variable - are built through
+ * reflection as well, as are records and classes without a class file.
+ * <p/>
+ * Annotation usages are created from the class file's {@code RuntimeVisibleAnnotations}.  Their types
+ * are loaded, as are the values of annotation members of type {@code Class}.
+ * <p/>
+ * Classes are resolved through {@linkplain ConcurrencyHelper#resolveClassDetails ConcurrencyHelper},
+ * which serializes the creation of missing classes on the registry, so that the members of different
+ * classes may be built concurrently.  A class's members are built under its own lock, which is always
+ * taken before (never while holding) the registry's.
+ *
+ * @author Steve Ebersole
+ */
+public class ClassFileClassDetailsBuilder {
+	private final SourceModelBuildingContext modelsContext;
+	private final MutableClassDetailsRegistry classDetailsRegistry;
+
+	public ClassFileClassDetailsBuilder(SourceModelBuildingContext modelsContext) {
+		this.modelsContext = modelsContext;
+		this.classDetailsRegistry = modelsContext.getClassDetailsRegistry().as( MutableClassDetailsRegistry.class );
+	}
+
+	/**
+	 * Resolve the details of the named class, building them from its class file if not already registered.
+	 */
+	public ClassDetails resolveClassDetails(String className) {
+		if ( !isClassFileCandidate( className ) ) {
+			return ConcurrencyHelper.resolveClassDetails( classDetailsRegistry, className );
+		}
+		return ConcurrencyHelper.resolveClassDetails( classDetailsRegistry, className, this::buildClassDetails );
+	}
+
+	/**
+	 * Resolve the details of the class described by an already read class file, building them from it
+	 * if not already registered.
+	 */
+	public ClassDetails resolveClassDetails(ClassFile classFile) {
+		return ConcurrencyHelper.resolveClassDetails( classDetailsRegistry, classFile.className(), (name) -> buildClassDetails( classFile ) );
+	}
+
+	private static boolean isClassFileCandidate(String className) {
+		return !className.startsWith( "java." )
+				&& !className.startsWith( "[" )
+				&& primitiveDescriptor( className ) == 0;
+	}
+
+	private ClassDetails buildClassDetails(String className) {
+		final ClassFile classFile = ClassFileReader.readClassFile( className, modelsContext.getClassLoading() );
+		if ( classFile == null ) {
+			// e.g. a class generated at runtime
+			return JdkBuilders.buildClassDetailsStatic( className, modelsContext );
+		}
+		return buildClassDetails( classFile );
+	}
+
+	private ClassDetails buildClassDetails(ClassFile classFile) {
+		if ( !isSupported( classFile ) ) {
+			MODEL_CATEGORIZATION_LOGGER.debugf( "Building details of `%s` through reflection", classFile.className() );
+			return JdkBuilders.buildClassDetailsStatic( classFile.className(), modelsContext );
+		}
+
+		final ClassDetails superClass = classFile.superClassName() == null
+				? null
+				: resolveClassDetails( classFile.superClassName() );
+		final ClassFileClassDetails classDetails = new ClassFileClassDetails( classFile, superClass, this, modelsContext );
+		applyAnnotations( classFile.annotations(), classDetails );
+		return classDetails;
+	}
+
+	private static boolean isSupported(ClassFile classFile) {
+		if ( classFile.record() || classFile.signature() != null ) {
+			return false;
+		}
+		for ( MemberInfo field : classFile.fields() ) {
+			if ( !field.isSynthetic() && !isSupportedSignature( field.signature() ) ) {
+				return false;
+			}
+		}
+		for ( MemberInfo method : classFile.methods() ) {
+			if ( !method.isSynthetic()
+					&& determineMethodKind( method ) != MethodDetails.MethodKind.OTHER
+					&& !isSupportedSignature( method.signature() ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Whether the signature can be interpreted without type variables - it references none, does not
+	 * declare any (generic methods) and has no parameterized outer types.
+	 */
+	private static boolean isSupportedSignature(String signature) {
+		if ( signature == null ) {
+			return true;
+		}
+		if ( signature.charAt( 0 ) == '<' ) {
+			return false;
+		}
+		for ( int i = 0; i < signature.length(); i++ ) {
+			final char c = signature.charAt( i );
+			if ( c == 'L' ) {
+				// skip the class name, which may itself contain a `T`
+				while ( signature.charAt( i ) != ';' && signature.charAt( i ) != '<' ) {
+					i++;
+				}
+			}
+			else if ( c == 'T' ) {
+				return false;
+			}
+			else if ( c == '>' && i + 1 < signature.length() && signature.charAt( i + 1 ) == '.' ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	void buildMembers(ClassFileClassDetails classDetails) {
+		final ClassFile classFile = classDetails.getClassFile();
+
+		for ( MemberInfo field : classFile.fields() ) {
+			if ( field.isSynthetic() || field.isStatic() || field.isTransient() ) {
+				// dynamic fields are always persistable; the others are never attributes anyway
+				continue;
+			}
+			final TypeDetails type = new TypeReader( typeSignature( field ), 0, classDetails ).readType();
+			final ClassFileFieldDetails fieldDetails = new ClassFileFieldDetails(
+					field.name(),
+					type,
+					classDetails,
+					field.accessFlags(),
+					type.getTypeKind() == TypeDetails.Kind.ARRAY,
+					isPlural( type ),
+					modelsContext
+			);
+			applyAnnotations( field.annotations(), fieldDetails );
+			classDetails.addField( fieldDetails );
+		}
+
+		for ( MemberInfo method : classFile.methods() ) {
+			if ( method.isSynthetic() || method.name().startsWith( "<" ) ) {
+				// constructors and static initializers are not methods as far as reflection is concerned
+				continue;
+			}
+			final MethodDetails.MethodKind methodKind = determineMethodKind( method );
+			final String signature = typeSignature( method );
+			final TypeDetails type = switch ( methodKind ) {
+				case GETTER -> new TypeReader( signature, signature.indexOf( ')' ) + 1, classDetails ).readType();
+				case SETTER -> new TypeReader( signature, 1, classDetails ).readType();
+				default -> null;
+			};
+			final ClassFileMethodDetails methodDetails = new ClassFileMethodDetails(
+					method.name(),
+					type,
+					classDetails,
+					methodKind,
+					method.accessFlags(),
+					type != null && type.getTypeKind() == TypeDetails.Kind.ARRAY,
+					type != null && isPlural( type ),
+					method.descriptor(),
+					this,
+					modelsContext
+			);
+			applyAnnotations( method.annotations(), methodDetails );
+			classDetails.addMethod( methodDetails );
+		}
+	}
+
+	private static String typeSignature(MemberInfo member) {
+		return member.signature() == null ? member.descriptor() : member.signature();
+	}
+
+	private static boolean isPlural(TypeDetails type) {
+		if ( type.getTypeKind() == TypeDetails.Kind.ARRAY ) {
+			return true;
+		}
+		final ClassDetails rawClass = TypeDetailsHelper.resolveRawClass( type );
+		return rawClass.isImplementor( Collection.class ) || rawClass.isImplementor( Map.class );
+	}
+
+	/**
+	 * Mirrors {@linkplain JdkBuilders#buildMethodDetails}
+	 */
+	private static MethodDetails.MethodKind determineMethodKind(MemberInfo method) {
+		if ( method.isStatic() ) {
+			return MethodDetails.MethodKind.OTHER;
+		}
+		final String name = method.name();
+		final List<String> parameterDescriptors = parameterDescriptors( method.descriptor() );
+		final String returnDescriptor = returnDescriptor( method.descriptor() );
+		if ( parameterDescriptors.isEmpty() && !"V".equals( returnDescriptor ) ) {
+			if ( name.startsWith( "get" ) ) {
+				return MethodDetails.MethodKind.GETTER;
+			}
+			if ( name.startsWith( "is" )
+					&& ( "Z".equals( returnDescriptor ) || "Ljava/lang/Boolean;".equals( returnDescriptor ) ) ) {
+				return MethodDetails.MethodKind.GETTER;
+			}
+		}
+		if ( parameterDescriptors.size() == 1 && "V".equals( returnDescriptor ) && name.startsWith( "set" ) ) {
+			return MethodDetails.MethodKind.SETTER;
+		}
+		return MethodDetails.MethodKind.OTHER;
+	}
+
+	static List<String> parameterDescriptors(String methodDescriptor) {
+		final List<String> parameterDescriptors = new ArrayList<>();
+		int position = 1;
+		while ( methodDescriptor.charAt( position ) != ')' ) {
+			final int start = position;
+			while ( methodDescriptor.charAt( position ) == '[' ) {
+				position++;
+			}
+			if ( methodDescriptor.charAt( position ) == 'L' ) {
+				position = methodDescriptor.indexOf( ';', position );
+			}
+			position++;
+			parameterDescriptors.add( methodDescriptor.substring( start, position ) );
+		}
+		return parameterDescriptors;
+	}
+
+	static String returnDescriptor(String methodDescriptor) {
+		return methodDescriptor.substring( methodDescriptor.indexOf( ')' ) + 1 );
+	}
+
+	/**
+	 * Resolve the details of the class described by a field descriptor, or {@code V}
+	 */
+	ClassDetails resolveDescriptor(String descriptor) {
+		return switch ( descriptor.charAt( 0 ) ) {
+			case 'L' -> resolveClassDetails( ClassFileReader.binaryName( descriptor ) );
+			case '[' -> ConcurrencyHelper.resolveClassDetails( classDetailsRegistry, descriptor.replace( '/', '.' ) );
+			case 'V' -> ClassDetails.VOID_CLASS_DETAILS;
+			default -> ConcurrencyHelper.resolveClassDetails( classDetailsRegistry, primitiveClass( descriptor.charAt( 0 ) ).getName() );
+		};
+	}
+
+	/**
+	 * Reads {@linkplain TypeDetails} from a field descriptor or a
+	 * {@linkplain #isSupportedSignature supported} signature
+	 */
+	private class TypeReader {
+		private final String signature;
+		private final ClassDetails owner;
+		private int position;
+
+		private TypeReader(String signature, int position, ClassDetails owner) {
+			this.signature = signature;
+			this.position = position;
+			this.owner = owner;
+		}
+
+		private TypeDetails readType() {
+			final char c = signature.charAt( position++ );
+			return switch ( c ) {
+				case 'L' -> readClassType();
+				case '[' -> TypeDetailsHelper.arrayOf( readType(), modelsContext );
+				case 'V' -> ClassBasedTypeDetails.VOID_TYPE_DETAILS;
+				default -> new PrimitiveTypeDetailsImpl( ConcurrencyHelper.resolveClassDetails( classDetailsRegistry, primitiveClass( c ).getName() ) );
+			};
+		}
+
+		private TypeDetails readClassType() {
+			final int start = position;
+			while ( signature.charAt( position ) != ';' && signature.charAt( position ) != '<' ) {
+				position++;
+			}
+			final ClassDetails rawClass = resolveClassDetails( signature.substring( start, position ).replace( '/', '.' ) );
+			if ( signature.charAt( position ) == '<' ) {
+				position++;
+				final List<TypeDetails> arguments = new ArrayList<>();
+				while ( signature.charAt( position ) != '>' ) {
+					arguments.add( readTypeArgument() );
+				}
+				// `>;`
+				position += 2;
+				return new ParameterizedTypeDetailsImpl( rawClass, arguments, owner );
+			}
+			position++;
+			return new ClassTypeDetailsImpl( rawClass, TypeDetails.Kind.CLASS );
+		}
+
+		private TypeDetails readTypeArgument() {
+			return switch ( signature.charAt( position ) ) {
+				case '*' -> {
+					position++;
+					yield new WildcardTypeDetailsImpl( ClassBasedTypeDetails.OBJECT_TYPE_DETAILS, true );
+				}
+				case '+' -> {
+					position++;
+					yield new WildcardTypeDetailsImpl( readType(), true );
+				}
+				case '-' -> {
+					position++;
+					yield new WildcardTypeDetailsImpl( readType(), false );
+				}
+				default -> readType();
+			};
+		}
+	}
+
+	private void applyAnnotations(List<AnnotationInfo> annotations, MutableAnnotationTarget target) {
+		for ( AnnotationInfo annotation : annotations ) {
+			final Annotation usage = createUsage( annotation );
+			if ( usage != null ) {
+				target.addAnnotationUsage( usage );
+			}
+		}
+	}
+
+	private <A extends Annotation> A createUsage(AnnotationInfo annotation) {
+		final Class<A> annotationType = modelsContext.getClassLoading().findClassForName( annotation.typeName() );
+		if ( annotationType == null || !annotationType.isAnnotation() ) {
+			// as with reflection, annotations which are not available are ignored
+			return null;
+		}
+
+		final AnnotationDescriptor<A> descriptor = modelsContext.getAnnotationDescriptorRegistry().getDescriptor( annotationType );
+		final Map<String, Object> values = new HashMap<>();
+		for ( AttributeDescriptor<?> attribute : descriptor.getAttributes() ) {
+			final Method attributeMethod = attribute.getAttributeMethod();
+			final Object value = annotation.values().get( attribute.getName() );
+			values.put(
+					attribute.getName(),
+					value == null ? attributeMethod.getDefaultValue() : toAttributeValue( value, attributeMethod.getReturnType() )
+			);
+		}
+		return descriptor.createUsage( values, modelsContext );
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private Object toAttributeValue(Object value, Class<?> type) {
+		if ( value instanceof List<?> values ) {
+			final Class<?> componentType = type.getComponentType();
+			final Object array = Array.newInstance( componentType, values.size() );
+			for ( int i = 0; i < values.size(); i++ ) {
+				Array.set( array, i, toAttributeValue( values.get( i ), componentType ) );
+			}
+			return array;
+		}
+		if ( value instanceof EnumConstant enumConstant ) {
+			return Enum.valueOf( (Class) type, enumConstant.name() );
+		}
+		if ( value instanceof ClassConstant classConstant ) {
+			return toJavaClass( classConstant.descriptor() );
+		}
+		if ( value instanceof AnnotationInfo nested ) {
+			return createUsage( nested );
+		}
+		return value;
+	}
+
+	private Class<?> toJavaClass(String descriptor) {
+		return switch ( descriptor.charAt( 0 ) ) {
+			case 'L' -> modelsContext.getClassLoading().classForName( ClassFileReader.binaryName( descriptor ) );
+			case '[' -> toJavaClass( descriptor.substring( 1 ) ).arrayType();
+			default -> primitiveClass( descriptor.charAt( 0 ) );
+		};
+	}
+
+	private static Class<?> primitiveClass(char descriptor) {
+		return switch ( descriptor ) {
+			case 'Z' -> boolean.class;
+			case 'B' -> byte.class;
+			case 'C' -> char.class;
+			case 'S' -> short.class;
+			case 'I' -> int.class;
+			case 'J' -> long.class;
+			case 'F' -> float.class;
+			case 'D' -> double.class;
+			case 'V' -> void.class;
+			default -> throw new IllegalArgumentException( "Not a primitive type descriptor - " + descriptor );
+		};
+	}
+
+	/**
+	 * The descriptor of the named primitive type, or {@code 0} if the name is not that of a primitive type
+	 */
+	private static char primitiveDescriptor(String className) {
+		return switch ( className ) {
+			case "boolean" -> 'Z';
+			case "byte" -> 'B';
+			case "char" -> 'C';
+			case "short" -> 'S';
+			case "int" -> 'I';
+			case "long" -> 'J';
+			case "float" -> 'F';
+			case "double" -> 'D';
+			case "void" -> 'V';
+			default -> 0;
+		};
+	}
+}
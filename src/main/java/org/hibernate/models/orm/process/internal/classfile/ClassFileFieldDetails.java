@@ -0,0 +1,41 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process.internal.classfile;
+
+import java.lang.reflect.Member;
+
+import org.hibernate.models.ModelsException;
+import org.hibernate.models.internal.dynamic.DynamicFieldDetails;
+import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.SourceModelBuildingContext;
+import org.hibernate.models.spi.TypeDetails;
+
+/**
+ * A field of a {@linkplain ClassFileClassDetails}
+ *
+ * @author Steve Ebersole
+ */
+public class ClassFileFieldDetails extends DynamicFieldDetails {
+	public ClassFileFieldDetails(
+			String name,
+			TypeDetails type,
+			ClassDetails declaringType,
+			int modifiers,
+			boolean isArray,
+			boolean isPlural,
+			SourceModelBuildingContext modelsContext) {
+		super( name, type, declaringType, modifiers, isArray, isPlural, modelsContext );
+	}
+
+	@Override
+	public Member toJavaMember() {
+		try {
+			return getDeclaringType().toJavaClass().getDeclaredField( getName() );
+		}
+		catch (NoSuchFieldException e) {
+			throw new ModelsException( "Class file and class of " + getDeclaringType().getName() + " do not match", e );
+		}
+	}
+}
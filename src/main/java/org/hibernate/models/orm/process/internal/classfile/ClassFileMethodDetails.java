@@ -0,0 +1,81 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process.internal.classfile;
+
+import java.lang.reflect.Member;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.models.ModelsException;
+import org.hibernate.models.internal.dynamic.DynamicMethodDetails;
+import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.SourceModelBuildingContext;
+import org.hibernate.models.spi.TypeDetails;
+
+/**
+ * A method of a {@linkplain ClassFileClassDetails}.  The return and argument types are
+ * resolved from the method descriptor on first access.
+ *
+ * @author Steve Ebersole
+ */
+public class ClassFileMethodDetails extends DynamicMethodDetails {
+	private final String descriptor;
+	private final ClassFileClassDetailsBuilder builder;
+
+	private ClassDetails returnType;
+	private List<ClassDetails> argumentTypes;
+
+	public ClassFileMethodDetails(
+			String name,
+			TypeDetails type,
+			ClassDetails declaringType,
+			MethodKind methodKind,
+			int modifiers,
+			boolean isArray,
+			boolean isPlural,
+			String descriptor,
+			ClassFileClassDetailsBuilder builder,
+			SourceModelBuildingContext modelsContext) {
+		super( name, type, declaringType, methodKind, modifiers, isArray, isPlural, null, null, modelsContext );
+		this.descriptor = descriptor;
+		this.builder = builder;
+	}
+
+	@Override
+	public ClassDetails getReturnType() {
+		if ( returnType == null ) {
+			returnType = builder.resolveDescriptor( ClassFileClassDetailsBuilder.returnDescriptor( descriptor ) );
+		}
+		return returnType;
+	}
+
+	@Override
+	public List<ClassDetails> getArgumentTypes() {
+		if ( argumentTypes == null ) {
+			final List<String> parameterDescriptors = ClassFileClassDetailsBuilder.parameterDescriptors( descriptor );
+			final List<ClassDetails> types = new ArrayList<>( parameterDescriptors.size() );
+			for ( String parameterDescriptor : parameterDescriptors ) {
+				types.add( builder.resolveDescriptor( parameterDescriptor ) );
+			}
+			argumentTypes = types;
+		}
+		return argumentTypes;
+	}
+
+	@Override
+	public Member toJavaMember() {
+		final List<ClassDetails> argumentTypes = getArgumentTypes();
+		final Class<?>[] parameterTypes = new Class<?>[argumentTypes.size()];
+		for ( int i = 0; i < parameterTypes.length; i++ ) {
+			parameterTypes[i] = argumentTypes.get( i ).toJavaClass();
+		}
+		try {
+			return getDeclaringType().toJavaClass().getDeclaredMethod( getName(), parameterTypes );
+		}
+		catch (NoSuchMethodException e) {
+			throw new ModelsException( "Class file and class of " + getDeclaringType().getName() + " do not match", e );
+		}
+	}
+}
@@ -0,0 +1,251 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process.internal.classfile;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.models.ModelsException;
+import org.hibernate.models.orm.process.internal.classfile.ClassFile.AnnotationInfo;
+import org.hibernate.models.orm.process.internal.classfile.ClassFile.ClassConstant;
+import org.hibernate.models.orm.process.internal.classfile.ClassFile.EnumConstant;
+import org.hibernate.models.orm.process.internal.classfile.ClassFile.MemberInfo;
+import org.hibernate.models.spi.ClassLoading;
+
+/**
+ * Reads a {@linkplain ClassFile} from the bytes of a class file (JVMS chapter 4), without
+ * loading the class.  Only the constant pool, the class, field and method declarations and
+ * their {@code Signature}, {@code RuntimeVisibleAnnotations} and {@code Record} attributes
+ * are interpreted - code and all other attributes are skipped.
+ *
+ * @author Steve Ebersole
+ */
+public class ClassFileReader {
+	private static final int MAGIC = 0xCAFEBABE;
+
+	private static final int CONSTANT_UTF8 = 1;
+	private static final int CONSTANT_INTEGER = 3;
+	private static final int CONSTANT_FLOAT = 4;
+	private static final int CONSTANT_LONG = 5;
+	private static final int CONSTANT_DOUBLE = 6;
+	private static final int CONSTANT_CLASS = 7;
+	private static final int CONSTANT_STRING = 8;
+	private static final int CONSTANT_FIELD_REF = 9;
+	private static final int CONSTANT_METHOD_REF = 10;
+	private static final int CONSTANT_INTERFACE_METHOD_REF = 11;
+	private static final int CONSTANT_NAME_AND_TYPE = 12;
+	private static final int CONSTANT_METHOD_HANDLE = 15;
+	private static final int CONSTANT_METHOD_TYPE = 16;
+	private static final int CONSTANT_DYNAMIC = 17;
+	private static final int CONSTANT_INVOKE_DYNAMIC = 18;
+	private static final int CONSTANT_MODULE = 19;
+	private static final int CONSTANT_PACKAGE = 20;
+
+	/**
+	 * Read the class file of the named class through the {@linkplain ClassLoading#locateResource resource API}.
+	 *
+	 * @return The class file, or {@code null} if there is no class file for the name
+	 */
+	public static ClassFile readClassFile(String className, ClassLoading classLoading) {
+		final URL resource = classLoading.locateResource( className.replace( '.', '/' ) + ".class" );
+		if ( resource == null ) {
+			return null;
+		}
+		try ( InputStream inputStream = resource.openStream() ) {
+			return read( inputStream.readAllBytes() );
+		}
+		catch (IOException e) {
+			throw new ModelsException( "Unable to read class file of " + className + " - " + resource, e );
+		}
+	}
+
+	public static ClassFile read(byte[] bytes) {
+		try {
+			return new ClassFileReader( new DataInputStream( new ByteArrayInputStream( bytes ) ) ).readClassFile();
+		}
+		catch (IOException | RuntimeException e) {
+			throw new ModelsException( "Unable to interpret class file", e );
+		}
+	}
+
+	private final DataInputStream input;
+
+	/**
+	 * The constant pool.  Utf8, numeric and string constants hold their value; class constants hold the
+	 * index of their name.  Other entries are never referenced from the parts interpreted here.
+	 */
+	private Object[] constants;
+
+	private ClassFileReader(DataInputStream input) {
+		this.input = input;
+	}
+
+	private ClassFile readClassFile() throws IOException {
+		if ( input.readInt() != MAGIC ) {
+			throw new ModelsException( "Not a class file" );
+		}
+		// minor and major version
+		input.skipBytes( 4 );
+
+		readConstantPool();
+
+		final int accessFlags = input.readUnsignedShort();
+		final String className = className( input.readUnsignedShort() );
+		final int superClassIndex = input.readUnsignedShort();
+		final String superClassName = superClassIndex == 0 ? null : className( superClassIndex );
+
+		final int interfaceCount = input.readUnsignedShort();
+		final List<String> interfaceNames = new ArrayList<>( interfaceCount );
+		for ( int i = 0; i < interfaceCount; i++ ) {
+			interfaceNames.add( className( input.readUnsignedShort() ) );
+		}
+
+		final List<MemberInfo> fields = readMembers();
+		final List<MemberInfo> methods = readMembers();
+
+		final Attributes attributes = readAttributes();
+		return new ClassFile(
+				accessFlags,
+				className,
+				superClassName,
+				interfaceNames,
+				attributes.signature,
+				attributes.record,
+				attributes.annotations,
+				fields,
+				methods
+		);
+	}
+
+	private void readConstantPool() throws IOException {
+		final int count = input.readUnsignedShort();
+		constants = new Object[count];
+		for ( int i = 1; i < count; i++ ) {
+			final int tag = input.readUnsignedByte();
+			switch ( tag ) {
+				case CONSTANT_UTF8 -> constants[i] = input.readUTF();
+				case CONSTANT_INTEGER -> constants[i] = input.readInt();
+				case CONSTANT_FLOAT -> constants[i] = input.readFloat();
+				// 8-byte constants take up two entries
+				case CONSTANT_LONG -> constants[i++] = input.readLong();
+				case CONSTANT_DOUBLE -> constants[i++] = input.readDouble();
+				case CONSTANT_CLASS -> constants[i] = input.readUnsignedShort();
+				case CONSTANT_STRING, CONSTANT_METHOD_TYPE, CONSTANT_MODULE, CONSTANT_PACKAGE -> input.skipBytes( 2 );
+				case CONSTANT_FIELD_REF, CONSTANT_METHOD_REF, CONSTANT_INTERFACE_METHOD_REF,
+						CONSTANT_NAME_AND_TYPE, CONSTANT_DYNAMIC, CONSTANT_INVOKE_DYNAMIC -> input.skipBytes( 4 );
+				case CONSTANT_METHOD_HANDLE -> input.skipBytes( 3 );
+				default -> throw new ModelsException( "Unexpected constant pool tag - " + tag );
+			}
+		}
+	}
+
+	private List<MemberInfo> readMembers() throws IOException {
+		final int count = input.readUnsignedShort();
+		final List<MemberInfo> members = new ArrayList<>( count );
+		for ( int i = 0; i < count; i++ ) {
+			final int accessFlags = input.readUnsignedShort();
+			final String name = utf8( input.readUnsignedShort() );
+			final String descriptor = utf8( input.readUnsignedShort() );
+			final Attributes attributes = readAttributes();
+			members.add( new MemberInfo( accessFlags, name, descriptor, attributes.signature, attributes.annotations ) );
+		}
+		return members;
+	}
+
+	private static class Attributes {
+		private String signature;
+		private boolean record;
+		private List<AnnotationInfo> annotations = List.of();
+	}
+
+	private Attributes readAttributes() throws IOException {
+		final Attributes attributes = new Attributes();
+		final int count = input.readUnsignedShort();
+		for ( int i = 0; i < count; i++ ) {
+			final String name = utf8( input.readUnsignedShort() );
+			final int length = input.readInt();
+			switch ( name ) {
+				case "Signature" -> attributes.signature = utf8( input.readUnsignedShort() );
+				case "RuntimeVisibleAnnotations" -> {
+					final int annotationCount = input.readUnsignedShort();
+					final List<AnnotationInfo> annotations = new ArrayList<>( annotationCount );
+					for ( int a = 0; a < annotationCount; a++ ) {
+						annotations.add( readAnnotation() );
+					}
+					attributes.annotations = annotations;
+				}
+				case "Record" -> {
+					attributes.record = true;
+					input.skipBytes( length );
+				}
+				default -> input.skipBytes( length );
+			}
+		}
+		return attributes;
+	}
+
+	private AnnotationInfo readAnnotation() throws IOException {
+		final String typeName = binaryName( utf8( input.readUnsignedShort() ) );
+		final int count = input.readUnsignedShort();
+		final Map<String, Object> values = new HashMap<>();
+		for ( int i = 0; i < count; i++ ) {
+			final String name = utf8( input.readUnsignedShort() );
+			values.put( name, readElementValue() );
+		}
+		return new AnnotationInfo( typeName, values );
+	}
+
+	private Object readElementValue() throws IOException {
+		final char tag = (char) input.readUnsignedByte();
+		return switch ( tag ) {
+			case 'B' -> (byte) (int) (Integer) constant( input.readUnsignedShort() );
+			case 'C' -> (char) (int) (Integer) constant( input.readUnsignedShort() );
+			case 'S' -> (short) (int) (Integer) constant( input.readUnsignedShort() );
+			case 'Z' -> (Integer) constant( input.readUnsignedShort() ) != 0;
+			case 'I', 'J', 'F', 'D', 's' -> constant( input.readUnsignedShort() );
+			case 'e' -> {
+				final String typeName = binaryName( utf8( input.readUnsignedShort() ) );
+				yield new EnumConstant( typeName, utf8( input.readUnsignedShort() ) );
+			}
+			case 'c' -> new ClassConstant( utf8( input.readUnsignedShort() ) );
+			case '@' -> readAnnotation();
+			case '[' -> {
+				final int count = input.readUnsignedShort();
+				final List<Object> values = new ArrayList<>( count );
+				for ( int i = 0; i < count; i++ ) {
+					values.add( readElementValue() );
+				}
+				yield values;
+			}
+			default -> throw new ModelsException( "Unexpected annotation element value tag - " + tag );
+		};
+	}
+
+	private Object constant(int index) {
+		return constants[index];
+	}
+
+	private String utf8(int index) {
+		return (String) constants[index];
+	}
+
+	private String className(int classIndex) {
+		return utf8( (Integer) constants[classIndex] ).replace( '/', '.' );
+	}
+
+	/**
+	 * The binary name of the class described by a field descriptor of the form {@code Lorg/acme/Book;}
+	 */
+	static String binaryName(String descriptor) {
+		return descriptor.substring( 1, descriptor.length() - 1 ).replace( '/', '.' );
+	}
+}
@@ -0,0 +1,96 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process.internal.jfr;
+
+import org.hibernate.models.orm.process.spi.CategorizationMetrics.Phase;
+import org.hibernate.models.orm.process.spi.EntityHierarchy;
+import org.hibernate.models.orm.process.spi.IdentifiableTypeMetadata;
+import org.hibernate.models.spi.ClassDetails;
+
+/**
+ * Helper for emitting the model categorization JFR events.  The {@code begin*} methods
+ * return {@code null} when the event is not enabled in any recording, which the
+ * {@code end*} methods accept - so the cost outside a recording is an allocation the
+ * JIT is free to eliminate.
+ *
+ * @author Steve Ebersole
+ */
+public class CategorizationEvents {
+	public static CategorizationPhaseEvent beginPhase(Phase phase) {
+		final CategorizationPhaseEvent event = new CategorizationPhaseEvent();
+		if ( !event.isEnabled() ) {
+			return null;
+		}
+		event.phase = phase.name();
+		event.begin();
+		return event;
+	}
+
+	public static void endPhase(CategorizationPhaseEvent event) {
+		if ( event == null ) {
+			return;
+		}
+		event.commit();
+	}
+
+	public static EntityHierarchyBuildEvent beginHierarchy(ClassDetails rootEntity) {
+		final EntityHierarchyBuildEvent event = new EntityHierarchyBuildEvent();
+		if ( !event.isEnabled() ) {
+			return null;
+		}
+		event.rootEntity = rootEntity.getName();
+		event.begin();
+		return event;
+	}
+
+	public static void endHierarchy(EntityHierarchyBuildEvent event, EntityHierarchy hierarchy) {
+		if ( event == null ) {
+			return;
+		}
+		event.end();
+		if ( event.shouldCommit() ) {
+			final IdentifiableTypeMetadata root = hierarchy.getRoot();
+			event.subtypeCount = countSubtypes( root );
+			event.attributeCount = countAttributes( root );
+			event.commit();
+		}
+	}
+
+	private static int countSubtypes(IdentifiableTypeMetadata type) {
+		int count = 0;
+		for ( IdentifiableTypeMetadata subType : type.getSubTypes() ) {
+			count += 1 + countSubtypes( subType );
+		}
+		return count;
+	}
+
+	private static int countAttributes(IdentifiableTypeMetadata type) {
+		int count = type.getNumberOfAttributes();
+		for ( IdentifiableTypeMetadata subType : type.getSubTypes() ) {
+			count += countAttributes( subType );
+		}
+		return count;
+	}
+
+	public static ClassCategorizationEvent beginClass() {
+		final ClassCategorizationEvent event = new ClassCategorizationEvent();
+		if ( !event.isEnabled() ) {
+			return null;
+		}
+		event.begin();
+		return event;
+	}
+
+	public static void endClass(ClassCategorizationEvent event, ClassDetails classDetails) {
+		if ( event == null ) {
+			return;
+		}
+		event.end();
+		if ( event.shouldCommit() ) {
+			event.className = classDetails.getName();
+			event.commit();
+		}
+	}
+}
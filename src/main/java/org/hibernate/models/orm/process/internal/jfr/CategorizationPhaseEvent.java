@@ -0,0 +1,30 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process.internal.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event covering one {@linkplain org.hibernate.models.orm.process.spi.CategorizationMetrics.Phase phase}
+ * of model categorization.
+ *
+ * @author Steve Ebersole
+ */
+@Name( CategorizationPhaseEvent.NAME )
+@Label( "Model Categorization Phase" )
+@Category( { "Hibernate ORM", "Model Categorization" } )
+@Description( "A phase of the categorization of the domain model" )
+@StackTrace( false )
+public class CategorizationPhaseEvent extends Event {
+	public static final String NAME = "org.hibernate.orm.models.CategorizationPhase";
+
+	@Label( "Phase" )
+	public String phase;
+}
@@ -0,0 +1,34 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process.internal.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JFR event for the categorization of a single class which took longer than the
+ * threshold - {@value #DEFAULT_THRESHOLD} by default, adjustable through the recording's
+ * settings for this event.
+ *
+ * @author Steve Ebersole
+ */
+@Name( ClassCategorizationEvent.NAME )
+@Label( "Slow Class Categorization" )
+@Category( { "Hibernate ORM", "Model Categorization" } )
+@Description( "Categorization of a class which exceeded the threshold" )
+@StackTrace( false )
+@Threshold( ClassCategorizationEvent.DEFAULT_THRESHOLD )
+public class ClassCategorizationEvent extends Event {
+	public static final String NAME = "org.hibernate.orm.models.ClassCategorization";
+	public static final String DEFAULT_THRESHOLD = "10 ms";
+
+	@Label( "Class Name" )
+	public String className;
+}
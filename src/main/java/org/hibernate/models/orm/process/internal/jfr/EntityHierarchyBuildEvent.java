@@ -0,0 +1,37 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process.internal.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event covering the building of a single entity hierarchy.
+ *
+ * @author Steve Ebersole
+ */
+@Name( EntityHierarchyBuildEvent.NAME )
+@Label( "Entity Hierarchy Build" )
+@Category( { "Hibernate ORM", "Model Categorization" } )
+@Description( "Building of an entity hierarchy during categorization of the domain model" )
+@StackTrace( false )
+public class EntityHierarchyBuildEvent extends Event {
+	public static final String NAME = "org.hibernate.orm.models.EntityHierarchyBuild";
+
+	@Label( "Root Entity" )
+	public String rootEntity;
+
+	@Label( "Subtype Count" )
+	@Description( "The number of types in the hierarchy other than the root" )
+	public int subtypeCount;
+
+	@Label( "Attribute Count" )
+	@Description( "The number of attributes across all types in the hierarchy" )
+	public int attributeCount;
+}
@@ -0,0 +1,42 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process.internal.snapshot;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+
+import static org.hibernate.models.orm.process.spi.ModelCategorizationLogging.MODEL_CATEGORIZATION_LOGGER;
+
+/**
+ * Reads a {@linkplain org.hibernate.models.orm.process.spi.CategorizationSettings#CATEGORIZATION_INDEX categorization index} -
+ * a {@linkplain DomainModelSnapshot snapshot} written at build time by the
+ * {@linkplain org.hibernate.models.orm.process.spi.CategorizationIndexer indexer} and packaged as a
+ * classpath resource.  As with the {@linkplain SnapshotStore snapshot file}, problems reading the index
+ * are never fatal.
+ *
+ * @author Steve Ebersole
+ */
+public class CategorizationIndex {
+	/**
+	 * Load the index, provided it was written under the given {@code key}.
+	 *
+	 * @return The snapshot, or {@code null}
+	 */
+	public static DomainModelSnapshot load(URL resource, byte[] key) {
+		try ( InputStream inputStream = new BufferedInputStream( resource.openStream() ) ) {
+			final DomainModelSnapshot snapshot = SnapshotFormat.read( key, inputStream );
+			if ( snapshot == null ) {
+				MODEL_CATEGORIZATION_LOGGER.debugf( "Categorization index `%s` does not match the domain model", resource );
+			}
+			return snapshot;
+		}
+		catch (IOException | RuntimeException e) {
+			MODEL_CATEGORIZATION_LOGGER.debugf( e, "Unable to read categorization index `%s`", resource );
+			return null;
+		}
+	}
+}
@@ -0,0 +1,119 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process.internal.snapshot;
+
+import java.util.List;
+
+import org.hibernate.boot.models.AttributeNature;
+import org.hibernate.boot.models.JpaEventListenerStyle;
+import org.hibernate.engine.OptimisticLockStyle;
+import org.hibernate.models.orm.process.spi.ManagedTypeMetadata;
+import org.hibernate.models.spi.AnnotationTarget;
+
+import jakarta.persistence.AccessType;
+import jakarta.persistence.InheritanceType;
+
+/**
+ * Detached form of the {@linkplain org.hibernate.models.orm.process.spi.EntityHierarchy entity hierarchies}
+ * of a {@linkplain org.hibernate.models.orm.process.spi.CategorizedDomainModel categorized domain model}.
+ * Classes, members and listeners are referenced by name only, so a snapshot can be
+ * {@linkplain SnapshotFormat written} and later {@linkplain SnapshotRestorer restored} against
+ * a {@linkplain org.hibernate.models.spi.ClassDetailsRegistry registry} without interpreting
+ * any annotations.
+ *
+ * @author Steve Ebersole
+ */
+public record DomainModelSnapshot(List<HierarchySnapshot> hierarchies) {
+
+	public record HierarchySnapshot(
+			String rootEntityName,
+			TypeSnapshot absoluteRoot,
+			InheritanceType inheritanceType,
+			OptimisticLockStyle optimisticLockStyle,
+			KeySnapshot idMapping,
+			KeySnapshot naturalIdMapping,
+			AttributeReference versionAttribute,
+			AttributeReference tenantIdAttribute,
+			CacheRegionSnapshot cacheRegion,
+			String naturalIdCacheRegionName) {
+	}
+
+	/**
+	 * @param entity The entity-specific details; {@code null} for mapped-superclasses
+	 */
+	public record TypeSnapshot(
+			String className,
+			ManagedTypeMetadata.Kind kind,
+			AccessType accessType,
+			List<AttributeSnapshot> attributes,
+			List<ListenerSnapshot> hierarchyListeners,
+			List<ListenerSnapshot> completeListeners,
+			EntitySnapshot entity,
+			List<TypeSnapshot> subTypes) {
+	}
+
+	public record EntitySnapshot(
+			String entityName,
+			String jpaEntityName,
+			boolean mutable,
+			boolean cacheable,
+			List<String> synchronizedTableNames,
+			int batchSize,
+			boolean dynamicInsert,
+			boolean dynamicUpdate,
+			CustomSqlSnapshot customInsert,
+			CustomSqlSnapshot customUpdate,
+			CustomSqlSnapshot customDelete,
+			String discriminatorMatchValue) {
+	}
+
+	public record CustomSqlSnapshot(String sql, boolean callable, String verifyClassName) {
+	}
+
+	/**
+	 * @param memberKind Whether the attribute is backed by a field, getter or record component
+	 */
+	public record AttributeSnapshot(
+			String name,
+			AttributeNature nature,
+			AnnotationTarget.Kind memberKind,
+			String memberName) {
+	}
+
+	/**
+	 * @param prePersist The name of the {@code @PrePersist} method, if one; the same for the others
+	 */
+	public record ListenerSnapshot(
+			JpaEventListenerStyle style,
+			String listenerClassName,
+			String prePersist,
+			String postPersist,
+			String preRemove,
+			String postRemove,
+			String preUpdate,
+			String postUpdate,
+			String postLoad) {
+	}
+
+	public enum KeyNature { BASIC, AGGREGATED, NON_AGGREGATED }
+
+	/**
+	 * @param keyClassName The id-class, if one, for {@linkplain KeyNature#NON_AGGREGATED non-aggregated} keys
+	 */
+	public record KeySnapshot(KeyNature nature, List<AttributeReference> attributes, String keyClassName) {
+	}
+
+	/**
+	 * Reference to an attribute by the name of its declaring type within the hierarchy and its name.
+	 */
+	public record AttributeReference(String typeName, String attributeName) {
+	}
+
+	public record CacheRegionSnapshot(
+			String regionName,
+			org.hibernate.cache.spi.access.AccessType accessType,
+			boolean cacheLazyProperties) {
+	}
+}
@@ -0,0 +1,56 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process.internal.snapshot;
+
+import org.hibernate.boot.models.AttributeNature;
+import org.hibernate.models.orm.process.internal.snapshot.DomainModelSnapshot.AttributeSnapshot;
+import org.hibernate.models.orm.process.spi.AttributeMetadata;
+import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.MemberDetails;
+
+/**
+ * AttributeMetadata restored from a {@linkplain MappedSnapshot mapped snapshot}.  The name and
+ * nature come straight from the snapshot; the backing member is only resolved (which may
+ * mean reflecting on the declaring class) when first asked for.
+ *
+ * @author Steve Ebersole
+ */
+public class LazyAttributeMetadata implements AttributeMetadata {
+	private final ClassDetails declaringType;
+	private final AttributeSnapshot snapshot;
+
+	private volatile MemberDetails member;
+
+	public LazyAttributeMetadata(ClassDetails declaringType, AttributeSnapshot snapshot) {
+		this.declaringType = declaringType;
+		this.snapshot = snapshot;
+	}
+
+	@Override
+	public String name() {
+		return snapshot.name();
+	}
+
+	@Override
+	public AttributeNature nature() {
+		return snapshot.nature();
+	}
+
+	@Override
+	public MemberDetails member() {
+		MemberDetails resolved = member;
+		if ( resolved == null ) {
+			// resolution is idempotent, so racing threads simply do the same work
+			resolved = SnapshotRestorer.resolveMember( declaringType, snapshot );
+			member = resolved;
+		}
+		return resolved;
+	}
+
+	@Override
+	public String toString() {
+		return "AttributeMetadata(`" + snapshot.name() + "`)";
+	}
+}
@@ -0,0 +1,138 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process.internal.snapshot;
+
+import java.util.Locale;
+
+import org.hibernate.engine.OptimisticLockStyle;
+import org.hibernate.models.orm.process.internal.CategorizationHelper;
+import org.hibernate.models.orm.process.spi.AttributeMetadata;
+import org.hibernate.models.orm.process.spi.CacheRegion;
+import org.hibernate.models.orm.process.spi.EntityHierarchy;
+import org.hibernate.models.orm.process.spi.EntityTypeMetadata;
+import org.hibernate.models.orm.process.spi.IdentifiableTypeMetadata;
+import org.hibernate.models.orm.process.spi.KeyMapping;
+import org.hibernate.models.orm.process.spi.ModelCategorizationContext;
+import org.hibernate.models.orm.process.spi.NaturalIdCacheRegion;
+
+import jakarta.persistence.InheritanceType;
+
+/**
+ * EntityHierarchy backed by a hierarchy of a {@linkplain MappedSnapshot mapped snapshot}, which
+ * is decoded and {@linkplain SnapshotRestorer restored} when first accessed.  The restored types
+ * report this view as their hierarchy.
+ * <p/>
+ * Since decoding resolves classes, the hierarchy should be accessed while the
+ * {@linkplain ModelCategorizationContext categorization context} is still usable.
+ *
+ * @author Steve Ebersole
+ */
+public class LazyEntityHierarchy implements EntityHierarchy {
+	private final MappedSnapshot snapshot;
+	private final int index;
+	private final String rootEntityName;
+	private final ModelCategorizationContext categorizationContext;
+
+	private volatile EntityHierarchy delegate;
+
+	public LazyEntityHierarchy(
+			MappedSnapshot snapshot,
+			int index,
+			String rootEntityName,
+			ModelCategorizationContext categorizationContext) {
+		this.snapshot = snapshot;
+		this.index = index;
+		this.rootEntityName = rootEntityName;
+		this.categorizationContext = categorizationContext;
+	}
+
+	/**
+	 * The name of the root entity class, available without decoding.
+	 */
+	public String getRootEntityName() {
+		return rootEntityName;
+	}
+
+	/**
+	 * Whether the hierarchy has been decoded yet.
+	 */
+	public boolean isDecoded() {
+		return delegate != null;
+	}
+
+	private EntityHierarchy delegate() {
+		EntityHierarchy resolved = delegate;
+		if ( resolved == null ) {
+			synchronized ( this ) {
+				resolved = delegate;
+				if ( resolved == null ) {
+					resolved = SnapshotRestorer.restore( snapshot.decodeHierarchy( index ), categorizationContext, this );
+					delegate = resolved;
+				}
+			}
+		}
+		return resolved;
+	}
+
+	@Override
+	public EntityTypeMetadata getRoot() {
+		return delegate().getRoot();
+	}
+
+	@Override
+	public IdentifiableTypeMetadata getAbsoluteRoot() {
+		return delegate().getAbsoluteRoot();
+	}
+
+	@Override
+	public void forEachType(HierarchyTypeVisitor typeVisitor) {
+		CategorizationHelper.forEachType( this, typeVisitor );
+	}
+
+	@Override
+	public InheritanceType getInheritanceType() {
+		return delegate().getInheritanceType();
+	}
+
+	@Override
+	public KeyMapping getIdMapping() {
+		return delegate().getIdMapping();
+	}
+
+	@Override
+	public KeyMapping getNaturalIdMapping() {
+		return delegate().getNaturalIdMapping();
+	}
+
+	@Override
+	public AttributeMetadata getVersionAttribute() {
+		return delegate().getVersionAttribute();
+	}
+
+	@Override
+	public AttributeMetadata getTenantIdAttribute() {
+		return delegate().getTenantIdAttribute();
+	}
+
+	@Override
+	public OptimisticLockStyle getOptimisticLockStyle() {
+		return delegate().getOptimisticLockStyle();
+	}
+
+	@Override
+	public CacheRegion getCacheRegion() {
+		return delegate().getCacheRegion();
+	}
+
+	@Override
+	public NaturalIdCacheRegion getNaturalIdCacheRegion() {
+		return delegate().getNaturalIdCacheRegion();
+	}
+
+	@Override
+	public String toString() {
+		return String.format( Locale.ROOT, "EntityHierarchy(`%s` (lazy))", rootEntityName );
+	}
+}
@@ -0,0 +1,123 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process.internal.snapshot;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.hibernate.models.ModelsException;
+import org.hibernate.models.orm.process.internal.snapshot.DomainModelSnapshot.HierarchySnapshot;
+
+/**
+ * A {@linkplain SnapshotFormat snapshot} read through a read-only {@linkplain MappedByteBuffer memory mapping}.
+ * Hierarchies are decoded individually, on request, using the snapshot's offsets - so JVMs
+ * mapping the same file share its pages through the OS page cache, and hierarchies which are
+ * never requested are never decoded onto the heap.
+ * <p/>
+ * Safe for use from multiple threads; each decode works against its own view of the buffer.
+ *
+ * @author Steve Ebersole
+ */
+public class MappedSnapshot {
+	private final Path file;
+	private final ByteBuffer buffer;
+	private final int[] offsets;
+
+	private MappedSnapshot(Path file, ByteBuffer buffer, int[] offsets) {
+		this.file = file;
+		this.buffer = buffer;
+		this.offsets = offsets;
+	}
+
+	/**
+	 * Maps the snapshot file, provided it was written in this format and for the given key.
+	 *
+	 * @return The mapped snapshot, or {@code null} if the file does not contain a snapshot in
+	 * this format version or the snapshot is for a different key
+	 */
+	public static MappedSnapshot map(Path file, byte[] expectedKey) throws IOException {
+		final MappedByteBuffer buffer;
+		try ( FileChannel channel = FileChannel.open( file, StandardOpenOption.READ ) ) {
+			// the mapping remains valid after the channel is closed
+			buffer = channel.map( FileChannel.MapMode.READ_ONLY, 0, channel.size() );
+		}
+
+		final DataInputStream input = new DataInputStream( new ByteBufferInputStream( buffer.duplicate() ) );
+		if ( !SnapshotFormat.readHeader( expectedKey, input ) ) {
+			return null;
+		}
+
+		final int[] offsets = new int[input.readInt()];
+		for ( int i = 0; i < offsets.length; i++ ) {
+			offsets[i] = input.readInt();
+		}
+		return new MappedSnapshot( file, buffer, offsets );
+	}
+
+	public Path getFile() {
+		return file;
+	}
+
+	public int getNumberOfHierarchies() {
+		return offsets.length;
+	}
+
+	/**
+	 * The name of the root entity of the indicated hierarchy, decoding nothing else.
+	 */
+	public String getRootEntityName(int index) {
+		try {
+			return SnapshotFormat.readString( hierarchyInput( index ) );
+		}
+		catch (IOException e) {
+			throw new ModelsException( "Unable to read categorization snapshot `" + file + "`", e );
+		}
+	}
+
+	public HierarchySnapshot decodeHierarchy(int index) {
+		try {
+			return SnapshotFormat.decodeHierarchy( hierarchyInput( index ) );
+		}
+		catch (IOException e) {
+			throw new ModelsException( "Unable to read categorization snapshot `" + file + "`", e );
+		}
+	}
+
+	private DataInputStream hierarchyInput(int index) {
+		final ByteBuffer view = buffer.duplicate();
+		// skip the length prefix
+		view.position( offsets[index] + Integer.BYTES );
+		return new DataInputStream( new ByteBufferInputStream( view ) );
+	}
+
+	private static class ByteBufferInputStream extends InputStream {
+		private final ByteBuffer buffer;
+
+		private ByteBufferInputStream(ByteBuffer buffer) {
+			this.buffer = buffer;
+		}
+
+		@Override
+		public int read() {
+			return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+		}
+
+		@Override
+		public int read(byte[] bytes, int offset, int length) {
+			if ( !buffer.hasRemaining() ) {
+				return -1;
+			}
+			final int read = Math.min( length, buffer.remaining() );
+			buffer.get( bytes, offset, read );
+			return read;
+		}
+	}
+}
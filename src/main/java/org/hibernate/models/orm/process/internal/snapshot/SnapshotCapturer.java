@@ -0,0 +1,202 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process.internal.snapshot;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.boot.models.spi.JpaEventListener;
+import org.hibernate.models.ModelsException;
+import org.hibernate.models.orm.process.internal.EntityTypeMetadataImpl;
+import org.hibernate.models.orm.process.internal.ImmutableEntityTypeMetadata;
+import org.hibernate.models.orm.process.internal.snapshot.DomainModelSnapshot.AttributeReference;
+import org.hibernate.models.orm.process.internal.snapshot.DomainModelSnapshot.AttributeSnapshot;
+import org.hibernate.models.orm.process.internal.snapshot.DomainModelSnapshot.CacheRegionSnapshot;
+import org.hibernate.models.orm.process.internal.snapshot.DomainModelSnapshot.CustomSqlSnapshot;
+import org.hibernate.models.orm.process.internal.snapshot.DomainModelSnapshot.EntitySnapshot;
+import org.hibernate.models.orm.process.internal.snapshot.DomainModelSnapshot.HierarchySnapshot;
+import org.hibernate.models.orm.process.internal.snapshot.DomainModelSnapshot.KeyNature;
+import org.hibernate.models.orm.process.internal.snapshot.DomainModelSnapshot.KeySnapshot;
+import org.hibernate.models.orm.process.internal.snapshot.DomainModelSnapshot.ListenerSnapshot;
+import org.hibernate.models.orm.process.internal.snapshot.DomainModelSnapshot.TypeSnapshot;
+import org.hibernate.models.orm.process.spi.AggregatedKeyMapping;
+import org.hibernate.models.orm.process.spi.AttributeMetadata;
+import org.hibernate.models.orm.process.spi.BasicKeyMapping;
+import org.hibernate.models.orm.process.spi.CacheRegion;
+import org.hibernate.models.orm.process.spi.CustomSql;
+import org.hibernate.models.orm.process.spi.EntityHierarchy;
+import org.hibernate.models.orm.process.spi.EntityTypeMetadata;
+import org.hibernate.models.orm.process.spi.IdentifiableTypeMetadata;
+import org.hibernate.models.orm.process.spi.KeyMapping;
+import org.hibernate.models.orm.process.spi.NonAggregatedKeyMapping;
+import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.MethodDetails;
+
+/**
+ * Captures {@linkplain EntityHierarchy entity hierarchies} as a {@linkplain DomainModelSnapshot snapshot}.
+ *
+ * @author Steve Ebersole
+ */
+public class SnapshotCapturer {
+	public static DomainModelSnapshot capture(Collection<EntityHierarchy> entityHierarchies) {
+		final List<HierarchySnapshot> hierarchies = new ArrayList<>( entityHierarchies.size() );
+		for ( EntityHierarchy entityHierarchy : entityHierarchies ) {
+			hierarchies.add( capture( entityHierarchy ) );
+		}
+		return new DomainModelSnapshot( hierarchies );
+	}
+
+	public static HierarchySnapshot capture(EntityHierarchy hierarchy) {
+		// key mappings, version, etc. refer to attributes of the hierarchy's types by identity
+		final Map<AttributeMetadata, AttributeReference> attributeReferences = new IdentityHashMap<>();
+		final TypeSnapshot absoluteRoot = captureType( hierarchy.getAbsoluteRoot(), attributeReferences );
+
+		final CacheRegion cacheRegion = hierarchy.getCacheRegion();
+		return new HierarchySnapshot(
+				hierarchy.getRoot().getClassDetails().getName(),
+				absoluteRoot,
+				hierarchy.getInheritanceType(),
+				hierarchy.getOptimisticLockStyle(),
+				captureKey( hierarchy.getIdMapping(), attributeReferences ),
+				captureKey( hierarchy.getNaturalIdMapping(), attributeReferences ),
+				reference( hierarchy.getVersionAttribute(), attributeReferences ),
+				reference( hierarchy.getTenantIdAttribute(), attributeReferences ),
+				cacheRegion == null
+						? null
+						: new CacheRegionSnapshot( cacheRegion.getRegionName(), cacheRegion.getAccessType(), cacheRegion.isCacheLazyProperties() ),
+				hierarchy.getNaturalIdCacheRegion() == null ? null : hierarchy.getNaturalIdCacheRegion().getRegionName()
+		);
+	}
+
+	private static TypeSnapshot captureType(
+			IdentifiableTypeMetadata type,
+			Map<AttributeMetadata, AttributeReference> attributeReferences) {
+		final String className = type.getClassDetails().getName();
+
+		final List<AttributeSnapshot> attributes = new ArrayList<>( type.getNumberOfAttributes() );
+		type.forEachAttribute( (index, attribute) -> {
+			attributes.add( new AttributeSnapshot(
+					attribute.name(),
+					attribute.nature(),
+					attribute.member().getKind(),
+					attribute.member().getName()
+			) );
+			attributeReferences.put( attribute, new AttributeReference( className, attribute.name() ) );
+		} );
+
+		final List<TypeSnapshot> subTypes = new ArrayList<>( type.getNumberOfSubTypes() );
+		type.forEachSubType( (subType) -> subTypes.add( captureType( subType, attributeReferences ) ) );
+
+		return new TypeSnapshot(
+				className,
+				type.getManagedTypeKind(),
+				type.getAccessType(),
+				attributes,
+				captureListeners( type.getHierarchyJpaEventListeners() ),
+				captureListeners( type.getCompleteJpaEventListeners() ),
+				type instanceof EntityTypeMetadata entityType ? captureEntity( entityType ) : null,
+				subTypes
+		);
+	}
+
+	private static EntitySnapshot captureEntity(EntityTypeMetadata entityType) {
+		final String discriminatorMatchValue;
+		if ( entityType instanceof EntityTypeMetadataImpl entityTypeImpl ) {
+			discriminatorMatchValue = entityTypeImpl.getDiscriminatorMatchValue();
+		}
+		else if ( entityType instanceof ImmutableEntityTypeMetadata immutableEntityType ) {
+			discriminatorMatchValue = immutableEntityType.getDiscriminatorMatchValue();
+		}
+		else {
+			discriminatorMatchValue = null;
+		}
+
+		return new EntitySnapshot(
+				entityType.getEntityName(),
+				entityType.getJpaEntityName(),
+				entityType.isMutable(),
+				entityType.isCacheable(),
+				List.of( entityType.getSynchronizedTableNames() ),
+				entityType.getBatchSize(),
+				entityType.isDynamicInsert(),
+				entityType.isDynamicUpdate(),
+				captureCustomSql( entityType.getCustomInsert() ),
+				captureCustomSql( entityType.getCustomUpdate() ),
+				captureCustomSql( entityType.getCustomDelete() ),
+				discriminatorMatchValue
+		);
+	}
+
+	private static CustomSqlSnapshot captureCustomSql(CustomSql customSql) {
+		if ( customSql == null ) {
+			return null;
+		}
+		return new CustomSqlSnapshot(
+				customSql.sql(),
+				customSql.isCallable(),
+				customSql.verify() == null ? null : customSql.verify().getName()
+		);
+	}
+
+	private static List<ListenerSnapshot> captureListeners(List<JpaEventListener> listeners) {
+		final List<ListenerSnapshot> snapshots = new ArrayList<>( listeners.size() );
+		for ( int i = 0; i < listeners.size(); i++ ) {
+			final JpaEventListener listener = listeners.get( i );
+			snapshots.add( new ListenerSnapshot(
+					listener.getStyle(),
+					listener.getCallbackClass().getName(),
+					methodName( listener.getPrePersistMethod() ),
+					methodName( listener.getPostPersistMethod() ),
+					methodName( listener.getPreRemoveMethod() ),
+					methodName( listener.getPostRemoveMethod() ),
+					methodName( listener.getPreUpdateMethod() ),
+					methodName( listener.getPostUpdateMethod() ),
+					methodName( listener.getPostLoadMethod() )
+			) );
+		}
+		return snapshots;
+	}
+
+	private static String methodName(MethodDetails method) {
+		return method == null ? null : method.getName();
+	}
+
+	private static KeySnapshot captureKey(
+			KeyMapping keyMapping,
+			Map<AttributeMetadata, AttributeReference> attributeReferences) {
+		if ( keyMapping == null ) {
+			return null;
+		}
+		if ( keyMapping instanceof NonAggregatedKeyMapping nonAggregatedKeyMapping ) {
+			final List<AttributeReference> attributes = new ArrayList<>( nonAggregatedKeyMapping.idAttributes().size() );
+			nonAggregatedKeyMapping.forEachAttribute( (index, attribute) -> attributes.add( reference( attribute, attributeReferences ) ) );
+			final ClassDetails idClassType = nonAggregatedKeyMapping.idClassType();
+			return new KeySnapshot( KeyNature.NON_AGGREGATED, attributes, idClassType == null ? null : idClassType.getName() );
+		}
+		if ( keyMapping instanceof AggregatedKeyMapping aggregatedKeyMapping ) {
+			return new KeySnapshot( KeyNature.AGGREGATED, List.of( reference( aggregatedKeyMapping.attribute(), attributeReferences ) ), null );
+		}
+		if ( keyMapping instanceof BasicKeyMapping basicKeyMapping ) {
+			return new KeySnapshot( KeyNature.BASIC, List.of( reference( basicKeyMapping.attribute(), attributeReferences ) ), null );
+		}
+		throw new ModelsException( "Unexpected key mapping - " + keyMapping );
+	}
+
+	private static AttributeReference reference(
+			AttributeMetadata attribute,
+			Map<AttributeMetadata, AttributeReference> attributeReferences) {
+		if ( attribute == null ) {
+			return null;
+		}
+		final AttributeReference reference = attributeReferences.get( attribute );
+		if ( reference == null ) {
+			throw new ModelsException( "Attribute is not part of the hierarchy - " + attribute );
+		}
+		return reference;
+	}
+}
@@ -0,0 +1,437 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process.internal.snapshot;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.hibernate.boot.models.AttributeNature;
+import org.hibernate.boot.models.JpaEventListenerStyle;
+import org.hibernate.engine.OptimisticLockStyle;
+import org.hibernate.models.orm.process.internal.snapshot.DomainModelSnapshot.AttributeReference;
+import org.hibernate.models.orm.process.internal.snapshot.DomainModelSnapshot.AttributeSnapshot;
+import org.hibernate.models.orm.process.internal.snapshot.DomainModelSnapshot.CacheRegionSnapshot;
+import org.hibernate.models.orm.process.internal.snapshot.DomainModelSnapshot.CustomSqlSnapshot;
+import org.hibernate.models.orm.process.internal.snapshot.DomainModelSnapshot.EntitySnapshot;
+import org.hibernate.models.orm.process.internal.snapshot.DomainModelSnapshot.HierarchySnapshot;
+import org.hibernate.models.orm.process.internal.snapshot.DomainModelSnapshot.KeyNature;
+import org.hibernate.models.orm.process.internal.snapshot.DomainModelSnapshot.KeySnapshot;
+import org.hibernate.models.orm.process.internal.snapshot.DomainModelSnapshot.ListenerSnapshot;
+import org.hibernate.models.orm.process.internal.snapshot.DomainModelSnapshot.TypeSnapshot;
+import org.hibernate.models.orm.process.spi.ManagedTypeMetadata;
+import org.hibernate.models.spi.AnnotationTarget;
+
+import jakarta.persistence.AccessType;
+import jakarta.persistence.InheritanceType;
+
+/**
+ * Binary encoding of a {@linkplain DomainModelSnapshot snapshot}.
+ * <pre>
+ *     int       magic
+ *     int       format version
+ *     int, byte key length and bytes
+ *     int       number of hierarchies
+ *     int       offset of each hierarchy, from the start of the snapshot
+ *     (int, byte length and encoding of each hierarchy)
+ * </pre>
+ * The offsets allow each hierarchy to be {@linkplain MappedSnapshot decoded} independently
+ * of the others, and only when needed.  Enums are written by name rather than ordinal so
+ * that a snapshot does not silently change meaning across versions of the enums.
+ *
+ * @author Steve Ebersole
+ */
+public class SnapshotFormat {
+	/**
+	 * {@code HMOS} - Hibernate Models ORM Snapshot
+	 */
+	public static final int MAGIC = 0x484D4F53;
+
+	/**
+	 * Incremented whenever the encoding changes
+	 */
+	public static final int VERSION = 2;
+
+	public static void write(byte[] key, DomainModelSnapshot snapshot, OutputStream outputStream) throws IOException {
+		final DataOutputStream output = new DataOutputStream( outputStream );
+		output.writeInt( MAGIC );
+		output.writeInt( VERSION );
+		output.writeInt( key.length );
+		output.write( key );
+
+		final List<HierarchySnapshot> hierarchies = snapshot.hierarchies();
+		final List<byte[]> encodedHierarchies = new ArrayList<>( hierarchies.size() );
+		for ( HierarchySnapshot hierarchy : hierarchies ) {
+			encodedHierarchies.add( encodeHierarchy( hierarchy ) );
+		}
+
+		output.writeInt( encodedHierarchies.size() );
+		int offset = output.size() + Integer.BYTES * encodedHierarchies.size();
+		for ( byte[] encoded : encodedHierarchies ) {
+			output.writeInt( offset );
+			offset += Integer.BYTES + encoded.length;
+		}
+		for ( byte[] encoded : encodedHierarchies ) {
+			output.writeInt( encoded.length );
+			output.write( encoded );
+		}
+		output.flush();
+	}
+
+	/**
+	 * Reads a snapshot, provided it was written in this format and for the given key.
+	 *
+	 * @return The snapshot, or {@code null} if the stream does not contain a snapshot in
+	 * this format version or the snapshot is for a different key
+	 */
+	public static DomainModelSnapshot read(byte[] expectedKey, InputStream inputStream) throws IOException {
+		final DataInputStream input = new DataInputStream( inputStream );
+		if ( !readHeader( expectedKey, input ) ) {
+			return null;
+		}
+
+		final int numberOfHierarchies = input.readInt();
+		// the offsets are only needed for random access
+		input.skipBytes( Integer.BYTES * numberOfHierarchies );
+
+		final List<HierarchySnapshot> hierarchies = new ArrayList<>( numberOfHierarchies );
+		for ( int i = 0; i < numberOfHierarchies; i++ ) {
+			// as is the length prefix
+			input.readInt();
+			hierarchies.add( decodeHierarchy( input ) );
+		}
+		return new DomainModelSnapshot( hierarchies );
+	}
+
+	/**
+	 * Reads and verifies the header.
+	 *
+	 * @return {@code true} if the magic, format version and key all match
+	 */
+	public static boolean readHeader(byte[] expectedKey, DataInput input) throws IOException {
+		if ( input.readInt() != MAGIC ) {
+			return false;
+		}
+		if ( input.readInt() != VERSION ) {
+			return false;
+		}
+		final byte[] key = new byte[input.readInt()];
+		input.readFully( key );
+		return Arrays.equals( expectedKey, key );
+	}
+
+
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// encoding
+
+	public static byte[] encodeHierarchy(HierarchySnapshot hierarchy) throws IOException {
+		final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		final DataOutputStream output = new DataOutputStream( buffer );
+
+		// first, so that it can be read without decoding the rest
+		writeString( hierarchy.rootEntityName(), output );
+		writeType( hierarchy.absoluteRoot(), output );
+		writeEnum( hierarchy.inheritanceType(), output );
+		writeEnum( hierarchy.optimisticLockStyle(), output );
+		writeKey( hierarchy.idMapping(), output );
+		writeKey( hierarchy.naturalIdMapping(), output );
+		writeAttributeReference( hierarchy.versionAttribute(), output );
+		writeAttributeReference( hierarchy.tenantIdAttribute(), output );
+
+		final CacheRegionSnapshot cacheRegion = hierarchy.cacheRegion();
+		output.writeBoolean( cacheRegion != null );
+		if ( cacheRegion != null ) {
+			writeString( cacheRegion.regionName(), output );
+			writeEnum( cacheRegion.accessType(), output );
+			output.writeBoolean( cacheRegion.cacheLazyProperties() );
+		}
+		writeString( hierarchy.naturalIdCacheRegionName(), output );
+
+		output.flush();
+		return buffer.toByteArray();
+	}
+
+	private static void writeType(TypeSnapshot type, DataOutput output) throws IOException {
+		writeString( type.className(), output );
+		writeEnum( type.kind(), output );
+		writeEnum( type.accessType(), output );
+
+		output.writeInt( type.attributes().size() );
+		for ( AttributeSnapshot attribute : type.attributes() ) {
+			writeString( attribute.name(), output );
+			writeEnum( attribute.nature(), output );
+			writeEnum( attribute.memberKind(), output );
+			writeString( attribute.memberName(), output );
+		}
+
+		writeListeners( type.hierarchyListeners(), output );
+		writeListeners( type.completeListeners(), output );
+
+		final EntitySnapshot entity = type.entity();
+		output.writeBoolean( entity != null );
+		if ( entity != null ) {
+			writeString( entity.entityName(), output );
+			writeString( entity.jpaEntityName(), output );
+			output.writeBoolean( entity.mutable() );
+			output.writeBoolean( entity.cacheable() );
+			output.writeInt( entity.synchronizedTableNames().size() );
+			for ( String tableName : entity.synchronizedTableNames() ) {
+				writeString( tableName, output );
+			}
+			output.writeInt( entity.batchSize() );
+			output.writeBoolean( entity.dynamicInsert() );
+			output.writeBoolean( entity.dynamicUpdate() );
+			writeCustomSql( entity.customInsert(), output );
+			writeCustomSql( entity.customUpdate(), output );
+			writeCustomSql( entity.customDelete(), output );
+			writeString( entity.discriminatorMatchValue(), output );
+		}
+
+		output.writeInt( type.subTypes().size() );
+		for ( TypeSnapshot subType : type.subTypes() ) {
+			writeType( subType, output );
+		}
+	}
+
+	private static void writeListeners(List<ListenerSnapshot> listeners, DataOutput output) throws IOException {
+		output.writeInt( listeners.size() );
+		for ( ListenerSnapshot listener : listeners ) {
+			writeEnum( listener.style(), output );
+			writeString( listener.listenerClassName(), output );
+			writeString( listener.prePersist(), output );
+			writeString( listener.postPersist(), output );
+			writeString( listener.preRemove(), output );
+			writeString( listener.postRemove(), output );
+			writeString( listener.preUpdate(), output );
+			writeString( listener.postUpdate(), output );
+			writeString( listener.postLoad(), output );
+		}
+	}
+
+	private static void writeCustomSql(CustomSqlSnapshot customSql, DataOutput output) throws IOException {
+		output.writeBoolean( customSql != null );
+		if ( customSql != null ) {
+			writeString( customSql.sql(), output );
+			output.writeBoolean( customSql.callable() );
+			writeString( customSql.verifyClassName(), output );
+		}
+	}
+
+	private static void writeKey(KeySnapshot key, DataOutput output) throws IOException {
+		output.writeBoolean( key != null );
+		if ( key != null ) {
+			writeEnum( key.nature(), output );
+			output.writeInt( key.attributes().size() );
+			for ( AttributeReference attribute : key.attributes() ) {
+				writeAttributeReference( attribute, output );
+			}
+			writeString( key.keyClassName(), output );
+		}
+	}
+
+	private static void writeAttributeReference(AttributeReference reference, DataOutput output) throws IOException {
+		output.writeBoolean( reference != null );
+		if ( reference != null ) {
+			writeString( reference.typeName(), output );
+			writeString( reference.attributeName(), output );
+		}
+	}
+
+	private static void writeEnum(Enum<?> value, DataOutput output) throws IOException {
+		writeString( value == null ? null : value.name(), output );
+	}
+
+	/**
+	 * Unlike {@linkplain DataOutput#writeUTF}, handles {@code null} and is not limited to 64k
+	 * (custom SQL, e.g., may be long)
+	 */
+	private static void writeString(String value, DataOutput output) throws IOException {
+		if ( value == null ) {
+			output.writeInt( -1 );
+		}
+		else {
+			final byte[] bytes = value.getBytes( StandardCharsets.UTF_8 );
+			output.writeInt( bytes.length );
+			output.write( bytes );
+		}
+	}
+
+
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// decoding
+
+	public static HierarchySnapshot decodeHierarchy(DataInput input) throws IOException {
+		final String rootEntityName = readString( input );
+		final TypeSnapshot absoluteRoot = readType( input );
+		final InheritanceType inheritanceType = readEnum( InheritanceType.class, input );
+		final OptimisticLockStyle optimisticLockStyle = readEnum( OptimisticLockStyle.class, input );
+		final KeySnapshot idMapping = readKey( input );
+		final KeySnapshot naturalIdMapping = readKey( input );
+		final AttributeReference versionAttribute = readAttributeReference( input );
+		final AttributeReference tenantIdAttribute = readAttributeReference( input );
+
+		final CacheRegionSnapshot cacheRegion;
+		if ( input.readBoolean() ) {
+			cacheRegion = new CacheRegionSnapshot(
+					readString( input ),
+					readEnum( org.hibernate.cache.spi.access.AccessType.class, input ),
+					input.readBoolean()
+			);
+		}
+		else {
+			cacheRegion = null;
+		}
+
+		return new HierarchySnapshot(
+				rootEntityName,
+				absoluteRoot,
+				inheritanceType,
+				optimisticLockStyle,
+				idMapping,
+				naturalIdMapping,
+				versionAttribute,
+				tenantIdAttribute,
+				cacheRegion,
+				readString( input )
+		);
+	}
+
+	private static TypeSnapshot readType(DataInput input) throws IOException {
+		final String className = readString( input );
+		final ManagedTypeMetadata.Kind kind = readEnum( ManagedTypeMetadata.Kind.class, input );
+		final AccessType accessType = readEnum( AccessType.class, input );
+
+		final int numberOfAttributes = input.readInt();
+		final List<AttributeSnapshot> attributes = new ArrayList<>( numberOfAttributes );
+		for ( int i = 0; i < numberOfAttributes; i++ ) {
+			attributes.add( new AttributeSnapshot(
+					readString( input ),
+					readEnum( AttributeNature.class, input ),
+					readEnum( AnnotationTarget.Kind.class, input ),
+					readString( input )
+			) );
+		}
+
+		final List<ListenerSnapshot> hierarchyListeners = readListeners( input );
+		final List<ListenerSnapshot> completeListeners = readListeners( input );
+
+		final EntitySnapshot entity;
+		if ( input.readBoolean() ) {
+			final String entityName = readString( input );
+			final String jpaEntityName = readString( input );
+			final boolean mutable = input.readBoolean();
+			final boolean cacheable = input.readBoolean();
+			final int numberOfTableNames = input.readInt();
+			final List<String> synchronizedTableNames = new ArrayList<>( numberOfTableNames );
+			for ( int i = 0; i < numberOfTableNames; i++ ) {
+				synchronizedTableNames.add( readString( input ) );
+			}
+			entity = new EntitySnapshot(
+					entityName,
+					jpaEntityName,
+					mutable,
+					cacheable,
+					synchronizedTableNames,
+					input.readInt(),
+					input.readBoolean(),
+					input.readBoolean(),
+					readCustomSql( input ),
+					readCustomSql( input ),
+					readCustomSql( input ),
+					readString( input )
+			);
+		}
+		else {
+			entity = null;
+		}
+
+		final int numberOfSubTypes = input.readInt();
+		final List<TypeSnapshot> subTypes = new ArrayList<>( numberOfSubTypes );
+		for ( int i = 0; i < numberOfSubTypes; i++ ) {
+			subTypes.add( readType( input ) );
+		}
+
+		return new TypeSnapshot(
+				className,
+				kind,
+				accessType,
+				attributes,
+				hierarchyListeners,
+				completeListeners,
+				entity,
+				subTypes
+		);
+	}
+
+	private static List<ListenerSnapshot> readListeners(DataInput input) throws IOException {
+		final int numberOfListeners = input.readInt();
+		final List<ListenerSnapshot> listeners = new ArrayList<>( numberOfListeners );
+		for ( int i = 0; i < numberOfListeners; i++ ) {
+			listeners.add( new ListenerSnapshot(
+					readEnum( JpaEventListenerStyle.class, input ),
+					readString( input ),
+					readString( input ),
+					readString( input ),
+					readString( input ),
+					readString( input ),
+					readString( input ),
+					readString( input ),
+					readString( input )
+			) );
+		}
+		return listeners;
+	}
+
+	private static CustomSqlSnapshot readCustomSql(DataInput input) throws IOException {
+		if ( !input.readBoolean() ) {
+			return null;
+		}
+		return new CustomSqlSnapshot( readString( input ), input.readBoolean(), readString( input ) );
+	}
+
+	private static KeySnapshot readKey(DataInput input) throws IOException {
+		if ( !input.readBoolean() ) {
+			return null;
+		}
+		final KeyNature nature = readEnum( KeyNature.class, input );
+		final int numberOfAttributes = input.readInt();
+		final List<AttributeReference> attributes = new ArrayList<>( numberOfAttributes );
+		for ( int i = 0; i < numberOfAttributes; i++ ) {
+			attributes.add( readAttributeReference( input ) );
+		}
+		return new KeySnapshot( nature, attributes, readString( input ) );
+	}
+
+	private static AttributeReference readAttributeReference(DataInput input) throws IOException {
+		if ( !input.readBoolean() ) {
+			return null;
+		}
+		return new AttributeReference( readString( input ), readString( input ) );
+	}
+
+	private static <E extends Enum<E>> E readEnum(Class<E> enumType, DataInput input) throws IOException {
+		final String name = readString( input );
+		return name == null ? null : Enum.valueOf( enumType, name );
+	}
+
+	public static String readString(DataInput input) throws IOException {
+		final int length = input.readInt();
+		if ( length < 0 ) {
+			return null;
+		}
+		final byte[] bytes = new byte[length];
+		input.readFully( bytes );
+		return new String( bytes, StandardCharsets.UTF_8 );
+	}
+}
@@ -0,0 +1,184 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process.internal.snapshot;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.hibernate.boot.jaxb.Origin;
+import org.hibernate.boot.jaxb.spi.Binding;
+import org.hibernate.boot.jaxb.spi.JaxbBindableMappingDescriptor;
+import org.hibernate.boot.models.xml.spi.PersistenceUnitMetadata;
+import org.hibernate.boot.spi.MappingDefaults;
+import org.hibernate.models.ModelsException;
+import org.hibernate.models.orm.process.internal.CategorizationOptions;
+import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.ClassLoading;
+
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.SharedCacheMode;
+
+import static org.hibernate.models.orm.process.spi.ModelCategorizationLogging.MODEL_CATEGORIZATION_LOGGER;
+
+/**
+ * Computes the key identifying a {@linkplain DomainModelSnapshot snapshot} - a digest of
+ * everything categorization depends upon: the bytes of the managed classes (and their entity
+ * listeners), the XML mappings, the persistence-unit and mapping defaults (however supplied) and
+ * the settings which influence categorization.  Any change to those results in a different key,
+ * and therefore a snapshot miss.
+ *
+ * @author Steve Ebersole
+ */
+public class SnapshotKey {
+	public static final String DIGEST_ALGORITHM = "SHA-256";
+
+	/**
+	 * Computes the key.
+	 *
+	 * @return The key, or {@code null} if it could not be computed because an XML mapping's
+	 * content could not be located (in which case there can be no snapshot).
+	 */
+	public static byte[] compute(
+			Collection<ClassDetails> managedClasses,
+			Collection<Binding<JaxbBindableMappingDescriptor>> xmlMappings,
+			SharedCacheMode sharedCacheMode,
+			PersistenceUnitMetadata persistenceUnitMetadata,
+			MappingDefaults mappingDefaults,
+			CategorizationOptions categorizationOptions,
+			ClassLoading classLoading) {
+		final MessageDigest digest = createDigest();
+		digestString( Integer.toString( SnapshotFormat.VERSION ), digest );
+		digestString( sharedCacheMode == null ? null : sharedCacheMode.name(), digest );
+		digestPersistenceUnitMetadata( persistenceUnitMetadata, digest );
+		digestMappingDefaults( mappingDefaults, digest );
+		// the other settings (parallelism, metrics, ...) do not change the categorized hierarchies
+		digestString( Boolean.toString( categorizationOptions.shouldReadClassFiles() ), digest );
+
+		final Set<String> classNames = new TreeSet<>();
+		managedClasses.forEach( (classDetails) -> {
+			classNames.add( classDetails.getName() );
+			// listeners are not managed classes, but their callbacks are part of the categorization
+			final EntityListeners entityListeners = classDetails.getDirectAnnotationUsage( EntityListeners.class );
+			if ( entityListeners != null ) {
+				for ( Class<?> listenerClass : entityListeners.value() ) {
+					classNames.add( listenerClass.getName() );
+				}
+			}
+		} );
+		for ( String className : classNames ) {
+			digestString( className, digest );
+			// dynamic models have no class file; they are defined by the XML, which is digested below
+			digestBytes( classLoading.locateResource( className.replace( '.', '/' ) + ".class" ), digest );
+		}
+
+		for ( Binding<JaxbBindableMappingDescriptor> xmlMapping : xmlMappings ) {
+			final Origin origin = xmlMapping.getOrigin();
+			final URL xmlUrl = locateXml( origin, classLoading );
+			if ( xmlUrl == null ) {
+				MODEL_CATEGORIZATION_LOGGER.debugf( "Unable to locate XML mapping `%s` - snapshots are disabled", origin.getName() );
+				return null;
+			}
+			digestString( origin.getName(), digest );
+			digestBytes( xmlUrl, digest );
+		}
+
+		return digest.digest();
+	}
+
+	private static void digestPersistenceUnitMetadata(PersistenceUnitMetadata persistenceUnitMetadata, MessageDigest digest) {
+		digestString( Boolean.toString( persistenceUnitMetadata.areXmlMappingsComplete() ), digest );
+		digestString( persistenceUnitMetadata.getDefaultSchema(), digest );
+		digestString( persistenceUnitMetadata.getDefaultCatalog(), digest );
+		digestString( stringValue( persistenceUnitMetadata.getAccessType() ), digest );
+		digestString( persistenceUnitMetadata.getDefaultAccessStrategyName(), digest );
+		digestString( stringValue( persistenceUnitMetadata.getDefaultCascadeTypes() ), digest );
+		digestString( Boolean.toString( persistenceUnitMetadata.useQuotedIdentifiers() ), digest );
+	}
+
+	private static void digestMappingDefaults(MappingDefaults mappingDefaults, MessageDigest digest) {
+		digestString( mappingDefaults.getImplicitSchemaName(), digest );
+		digestString( mappingDefaults.getImplicitCatalogName(), digest );
+		digestString( Boolean.toString( mappingDefaults.shouldImplicitlyQuoteIdentifiers() ), digest );
+		digestString( mappingDefaults.getImplicitIdColumnName(), digest );
+		digestString( mappingDefaults.getImplicitTenantIdColumnName(), digest );
+		digestString( mappingDefaults.getImplicitDiscriminatorColumnName(), digest );
+		digestString( mappingDefaults.getImplicitPackageName(), digest );
+		digestString( Boolean.toString( mappingDefaults.isAutoImportEnabled() ), digest );
+		digestString( mappingDefaults.getImplicitCascadeStyleName(), digest );
+		digestString( mappingDefaults.getImplicitPropertyAccessorName(), digest );
+		digestString( Boolean.toString( mappingDefaults.areEntitiesImplicitlyLazy() ), digest );
+		digestString( Boolean.toString( mappingDefaults.areCollectionsImplicitlyLazy() ), digest );
+		digestString( stringValue( mappingDefaults.getImplicitCacheAccessType() ), digest );
+		digestString( stringValue( mappingDefaults.getImplicitListClassification() ), digest );
+	}
+
+	private static String stringValue(Object value) {
+		return value == null ? null : value.toString();
+	}
+
+	private static URL locateXml(Origin origin, ClassLoading classLoading) {
+		if ( origin == null || origin.getName() == null ) {
+			return null;
+		}
+		final URL resource = classLoading.locateResource( origin.getName() );
+		if ( resource != null ) {
+			return resource;
+		}
+		try {
+			final Path path = Path.of( origin.getName() );
+			return Files.isRegularFile( path ) ? path.toUri().toURL() : null;
+		}
+		catch (Exception e) {
+			return null;
+		}
+	}
+
+	private static void digestString(String value, MessageDigest digest) {
+		if ( value == null ) {
+			digest.update( (byte) 0 );
+		}
+		else {
+			digest.update( (byte) 1 );
+			digest.update( value.getBytes( StandardCharsets.UTF_8 ) );
+			digest.update( (byte) 0 );
+		}
+	}
+
+	private static void digestBytes(URL url, MessageDigest digest) {
+		if ( url == null ) {
+			digest.update( (byte) 0 );
+			return;
+		}
+		digest.update( (byte) 1 );
+		try ( InputStream stream = url.openStream() ) {
+			final byte[] buffer = new byte[8192];
+			int read;
+			while ( ( read = stream.read( buffer ) ) != -1 ) {
+				digest.update( buffer, 0, read );
+			}
+		}
+		catch (IOException e) {
+			throw new ModelsException( "Unable to read `" + url + "` for snapshot key", e );
+		}
+	}
+
+	private static MessageDigest createDigest() {
+		try {
+			return MessageDigest.getInstance( DIGEST_ALGORITHM );
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new ModelsException( "Digest algorithm not available - " + DIGEST_ALGORITHM, e );
+		}
+	}
+}
@@ -0,0 +1,302 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process.internal.snapshot;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.boot.models.JpaEventListenerStyle;
+import org.hibernate.boot.models.spi.JpaEventListener;
+import org.hibernate.jdbc.Expectation;
+import org.hibernate.models.ModelsException;
+import org.hibernate.models.orm.process.internal.AbstractImmutableIdentifiableTypeMetadata;
+import org.hibernate.models.orm.process.internal.AggregatedKeyMappingImpl;
+import org.hibernate.models.orm.process.internal.AttributeMetadataImpl;
+import org.hibernate.models.orm.process.internal.BasicKeyMappingImpl;
+import org.hibernate.models.orm.process.internal.ConcurrencyHelper;
+import org.hibernate.models.orm.process.internal.ImmutableEntityHierarchy;
+import org.hibernate.models.orm.process.internal.ImmutableEntityTypeMetadata;
+import org.hibernate.models.orm.process.internal.ImmutableMappedSuperclassTypeMetadata;
+import org.hibernate.models.orm.process.internal.NonAggregatedKeyMappingImpl;
+import org.hibernate.models.orm.process.internal.snapshot.DomainModelSnapshot.AttributeReference;
+import org.hibernate.models.orm.process.internal.snapshot.DomainModelSnapshot.AttributeSnapshot;
+import org.hibernate.models.orm.process.internal.snapshot.DomainModelSnapshot.CacheRegionSnapshot;
+import org.hibernate.models.orm.process.internal.snapshot.DomainModelSnapshot.CustomSqlSnapshot;
+import org.hibernate.models.orm.process.internal.snapshot.DomainModelSnapshot.EntitySnapshot;
+import org.hibernate.models.orm.process.internal.snapshot.DomainModelSnapshot.HierarchySnapshot;
+import org.hibernate.models.orm.process.internal.snapshot.DomainModelSnapshot.KeySnapshot;
+import org.hibernate.models.orm.process.internal.snapshot.DomainModelSnapshot.ListenerSnapshot;
+import org.hibernate.models.orm.process.internal.snapshot.DomainModelSnapshot.TypeSnapshot;
+import org.hibernate.models.orm.process.spi.AttributeMetadata;
+import org.hibernate.models.orm.process.spi.CacheRegion;
+import org.hibernate.models.orm.process.spi.CustomSql;
+import org.hibernate.models.orm.process.spi.EntityHierarchy;
+import org.hibernate.models.orm.process.spi.EntityTypeMetadata;
+import org.hibernate.models.orm.process.spi.KeyMapping;
+import org.hibernate.models.orm.process.spi.ModelCategorizationContext;
+import org.hibernate.models.orm.process.spi.NaturalIdCacheRegion;
+import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.ClassDetailsRegistry;
+import org.hibernate.models.spi.MemberDetails;
+import org.hibernate.models.spi.MethodDetails;
+import org.hibernate.models.spi.RecordComponentDetails;
+
+/**
+ * Restores {@linkplain EntityHierarchy entity hierarchies} from a {@linkplain DomainModelSnapshot snapshot}.
+ * Classes and members are looked up by name in the {@linkplain ClassDetailsRegistry registry};
+ * no annotations are interpreted.  A snapshot which does not match the registry (a class or
+ * member no longer exists, e.g.) results in a {@linkplain ModelsException}.
+ *
+ * @author Steve Ebersole
+ */
+public class SnapshotRestorer {
+	public static Set<EntityHierarchy> restore(DomainModelSnapshot snapshot, ModelCategorizationContext categorizationContext) {
+		final Set<EntityHierarchy> hierarchies = new LinkedHashSet<>();
+		for ( HierarchySnapshot hierarchySnapshot : snapshot.hierarchies() ) {
+			hierarchies.add( restore( hierarchySnapshot, categorizationContext ) );
+		}
+		return hierarchies;
+	}
+
+	public static EntityHierarchy restore(HierarchySnapshot snapshot, ModelCategorizationContext categorizationContext) {
+		return restore( snapshot, categorizationContext, null );
+	}
+
+	/**
+	 * Restores the hierarchy on behalf of a (lazy) {@code view} of it.  The types report the
+	 * view as their hierarchy, and the members backing attributes are only resolved when first
+	 * accessed.
+	 */
+	public static EntityHierarchy restore(
+			HierarchySnapshot snapshot,
+			ModelCategorizationContext categorizationContext,
+			EntityHierarchy view) {
+		final Map<String, AbstractImmutableIdentifiableTypeMetadata> types = new HashMap<>();
+		final AbstractImmutableIdentifiableTypeMetadata absoluteRoot = restoreType(
+				snapshot.absoluteRoot(),
+				null,
+				types,
+				view != null,
+				categorizationContext
+		);
+
+		if ( !( types.get( snapshot.rootEntityName() ) instanceof EntityTypeMetadata rootEntity ) ) {
+			throw mismatch( "root entity `%s` is not part of its hierarchy", snapshot.rootEntityName() );
+		}
+
+		final CacheRegionSnapshot cacheRegion = snapshot.cacheRegion();
+		return new ImmutableEntityHierarchy(
+				absoluteRoot,
+				rootEntity,
+				snapshot.inheritanceType(),
+				snapshot.optimisticLockStyle(),
+				restoreKey( snapshot.idMapping(), types, categorizationContext ),
+				restoreKey( snapshot.naturalIdMapping(), types, categorizationContext ),
+				resolveAttribute( snapshot.versionAttribute(), types ),
+				resolveAttribute( snapshot.tenantIdAttribute(), types ),
+				cacheRegion == null
+						? null
+						: new CacheRegion( cacheRegion.regionName(), cacheRegion.accessType(), cacheRegion.cacheLazyProperties() ),
+				snapshot.naturalIdCacheRegionName() == null ? null : new NaturalIdCacheRegion( snapshot.naturalIdCacheRegionName() ),
+				view
+		);
+	}
+
+	private static AbstractImmutableIdentifiableTypeMetadata restoreType(
+			TypeSnapshot snapshot,
+			AbstractImmutableIdentifiableTypeMetadata superType,
+			Map<String, AbstractImmutableIdentifiableTypeMetadata> types,
+			boolean lazyMembers,
+			ModelCategorizationContext categorizationContext) {
+		final ClassDetails classDetails = resolveClassDetails( snapshot.className(), categorizationContext );
+
+		final List<AttributeMetadata> attributes = new ArrayList<>( snapshot.attributes().size() );
+		for ( AttributeSnapshot attribute : snapshot.attributes() ) {
+			if ( lazyMembers ) {
+				attributes.add( new LazyAttributeMetadata( classDetails, attribute ) );
+			}
+			else {
+				attributes.add( new AttributeMetadataImpl(
+						attribute.name(),
+						attribute.nature(),
+						resolveMember( classDetails, attribute )
+				) );
+			}
+		}
+
+		final List<JpaEventListener> hierarchyListeners = restoreListeners( snapshot.hierarchyListeners(), categorizationContext );
+		final List<JpaEventListener> completeListeners = restoreListeners( snapshot.completeListeners(), categorizationContext );
+
+		final AbstractImmutableIdentifiableTypeMetadata type;
+		final EntitySnapshot entity = snapshot.entity();
+		if ( entity != null ) {
+			type = new ImmutableEntityTypeMetadata(
+					classDetails,
+					snapshot.accessType(),
+					attributes,
+					superType,
+					hierarchyListeners,
+					completeListeners,
+					entity.entityName(),
+					entity.jpaEntityName(),
+					entity.mutable(),
+					entity.cacheable(),
+					entity.synchronizedTableNames().toArray( String[]::new ),
+					entity.batchSize(),
+					entity.dynamicInsert(),
+					entity.dynamicUpdate(),
+					restoreCustomSql( entity.customInsert(), categorizationContext ),
+					restoreCustomSql( entity.customUpdate(), categorizationContext ),
+					restoreCustomSql( entity.customDelete(), categorizationContext ),
+					entity.discriminatorMatchValue()
+			);
+		}
+		else {
+			type = new ImmutableMappedSuperclassTypeMetadata(
+					classDetails,
+					snapshot.accessType(),
+					attributes,
+					superType,
+					hierarchyListeners,
+					completeListeners
+			);
+		}
+		types.put( snapshot.className(), type );
+
+		for ( TypeSnapshot subType : snapshot.subTypes() ) {
+			restoreType( subType, type, types, lazyMembers, categorizationContext );
+		}
+
+		return type;
+	}
+
+	static MemberDetails resolveMember(ClassDetails classDetails, AttributeSnapshot attribute) {
+		final String memberName = attribute.memberName();
+		switch ( attribute.memberKind() ) {
+			case FIELD -> {
+				final MemberDetails field = classDetails.findFieldByName( memberName );
+				if ( field != null ) {
+					return field;
+				}
+			}
+			case METHOD -> {
+				final List<MethodDetails> methods = classDetails.getMethods();
+				for ( int i = 0; i < methods.size(); i++ ) {
+					final MethodDetails method = methods.get( i );
+					if ( method.getName().equals( memberName ) && method.getArgumentTypes().isEmpty() ) {
+						return method;
+					}
+				}
+			}
+			case RECORD_COMPONENT -> {
+				final List<RecordComponentDetails> recordComponents = classDetails.getRecordComponents();
+				for ( int i = 0; i < recordComponents.size(); i++ ) {
+					if ( recordComponents.get( i ).getName().equals( memberName ) ) {
+						return recordComponents.get( i );
+					}
+				}
+			}
+			default -> {
+			}
+		}
+		throw mismatch( "no %s `%s` on `%s`", attribute.memberKind(), memberName, classDetails.getName() );
+	}
+
+	private static List<JpaEventListener> restoreListeners(
+			List<ListenerSnapshot> snapshots,
+			ModelCategorizationContext categorizationContext) {
+		final List<JpaEventListener> listeners = new ArrayList<>( snapshots.size() );
+		for ( int i = 0; i < snapshots.size(); i++ ) {
+			final ListenerSnapshot snapshot = snapshots.get( i );
+			final ClassDetails listenerClass = resolveClassDetails( snapshot.listenerClassName(), categorizationContext );
+			listeners.add( new JpaEventListener(
+					snapshot.style(),
+					listenerClass,
+					resolveCallback( listenerClass, snapshot.style(), snapshot.prePersist() ),
+					resolveCallback( listenerClass, snapshot.style(), snapshot.postPersist() ),
+					resolveCallback( listenerClass, snapshot.style(), snapshot.preRemove() ),
+					resolveCallback( listenerClass, snapshot.style(), snapshot.postRemove() ),
+					resolveCallback( listenerClass, snapshot.style(), snapshot.preUpdate() ),
+					resolveCallback( listenerClass, snapshot.style(), snapshot.postUpdate() ),
+					resolveCallback( listenerClass, snapshot.style(), snapshot.postLoad() )
+			) );
+		}
+		return listeners;
+	}
+
+	private static MethodDetails resolveCallback(ClassDetails listenerClass, JpaEventListenerStyle style, String methodName) {
+		if ( methodName == null ) {
+			return null;
+		}
+		final List<MethodDetails> methods = listenerClass.getMethods();
+		for ( int i = 0; i < methods.size(); i++ ) {
+			final MethodDetails method = methods.get( i );
+			if ( method.getName().equals( methodName ) && JpaEventListener.matchesSignature( style, method ) ) {
+				return method;
+			}
+		}
+		throw mismatch( "no callback method `%s` on `%s`", methodName, listenerClass.getName() );
+	}
+
+	private static CustomSql restoreCustomSql(CustomSqlSnapshot snapshot, ModelCategorizationContext categorizationContext) {
+		if ( snapshot == null ) {
+			return null;
+		}
+		final Class<? extends Expectation> verify = snapshot.verifyClassName() == null
+				? null
+				: categorizationContext.getModelsContext().getClassLoading().classForName( snapshot.verifyClassName() );
+		return new CustomSql( snapshot.sql(), snapshot.callable(), verify );
+	}
+
+	private static KeyMapping restoreKey(
+			KeySnapshot snapshot,
+			Map<String, AbstractImmutableIdentifiableTypeMetadata> types,
+			ModelCategorizationContext categorizationContext) {
+		if ( snapshot == null ) {
+			return null;
+		}
+		return switch ( snapshot.nature() ) {
+			case BASIC -> new BasicKeyMappingImpl( resolveAttribute( snapshot.attributes().get( 0 ), types ) );
+			case AGGREGATED -> new AggregatedKeyMappingImpl( resolveAttribute( snapshot.attributes().get( 0 ), types ) );
+			case NON_AGGREGATED -> {
+				final List<AttributeMetadata> attributes = new ArrayList<>( snapshot.attributes().size() );
+				for ( AttributeReference reference : snapshot.attributes() ) {
+					attributes.add( resolveAttribute( reference, types ) );
+				}
+				yield new NonAggregatedKeyMappingImpl(
+						attributes,
+						snapshot.keyClassName() == null ? null : resolveClassDetails( snapshot.keyClassName(), categorizationContext )
+				);
+			}
+		};
+	}
+
+	private static AttributeMetadata resolveAttribute(
+			AttributeReference reference,
+			Map<String, AbstractImmutableIdentifiableTypeMetadata> types) {
+		if ( reference == null ) {
+			return null;
+		}
+		final AbstractImmutableIdentifiableTypeMetadata type = types.get( reference.typeName() );
+		final AttributeMetadata attribute = type == null ? null : type.findAttribute( reference.attributeName() );
+		if ( attribute == null ) {
+			throw mismatch( "no attribute `%s` on `%s`", reference.attributeName(), reference.typeName() );
+		}
+		return attribute;
+	}
+
+	private static ClassDetails resolveClassDetails(String name, ModelCategorizationContext categorizationContext) {
+		return ConcurrencyHelper.resolveClassDetails( categorizationContext.getClassDetailsRegistry(), name );
+	}
+
+	private static ModelsException mismatch(String pattern, Object... arguments) {
+		return new ModelsException( "Snapshot does not match the domain model - " + String.format( Locale.ROOT, pattern, arguments ) );
+	}
+}
@@ -0,0 +1,122 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process.internal.snapshot;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+import static org.hibernate.models.orm.process.spi.ModelCategorizationLogging.MODEL_CATEGORIZATION_LOGGER;
+import static org.hibernate.models.orm.process.spi.ModelCategorizationLogging.MODEL_CATEGORIZATION_MSG_LOGGER;
+
+/**
+ * Stores a {@linkplain DomainModelSnapshot snapshot} in a file.
+ * <p/>
+ * Snapshots are written to a temporary file which is then moved into place, so that
+ * concurrently starting JVMs sharing the file never see a partially written snapshot.
+ * A snapshot may be {@linkplain #load loaded} fully or {@linkplain #map mapped}.
+ * Problems reading or writing the file are never fatal - they simply mean categorization
+ * is performed as if there were no snapshot.
+ *
+ * @author Steve Ebersole
+ */
+public class SnapshotStore {
+	private final Path file;
+
+	public SnapshotStore(Path file) {
+		this.file = file;
+	}
+
+	public Path getFile() {
+		return file;
+	}
+
+	/**
+	 * Load the snapshot, provided it exists and was stored under the given {@code key}.
+	 *
+	 * @return The snapshot, or {@code null}
+	 */
+	public DomainModelSnapshot load(byte[] key) {
+		if ( !Files.isRegularFile( file ) ) {
+			MODEL_CATEGORIZATION_LOGGER.debugf( "No categorization snapshot at `%s`", file );
+			return null;
+		}
+
+		try ( InputStream inputStream = new BufferedInputStream( Files.newInputStream( file ) ) ) {
+			final DomainModelSnapshot snapshot = SnapshotFormat.read( key, inputStream );
+			if ( snapshot == null ) {
+				MODEL_CATEGORIZATION_LOGGER.debugf( "Categorization snapshot `%s` is out of date", file );
+			}
+			return snapshot;
+		}
+		catch (IOException | RuntimeException e) {
+			MODEL_CATEGORIZATION_LOGGER.debugf( e, "Unable to read categorization snapshot `%s`", file );
+			return null;
+		}
+	}
+
+	/**
+	 * Map the snapshot, provided it exists and was stored under the given {@code key}.
+	 *
+	 * @return The mapped snapshot, or {@code null}
+	 */
+	public MappedSnapshot map(byte[] key) {
+		if ( !Files.isRegularFile( file ) ) {
+			MODEL_CATEGORIZATION_LOGGER.debugf( "No categorization snapshot at `%s`", file );
+			return null;
+		}
+
+		try {
+			final MappedSnapshot snapshot = MappedSnapshot.map( file, key );
+			if ( snapshot == null ) {
+				MODEL_CATEGORIZATION_LOGGER.debugf( "Categorization snapshot `%s` is out of date", file );
+			}
+			return snapshot;
+		}
+		catch (IOException | RuntimeException e) {
+			MODEL_CATEGORIZATION_LOGGER.debugf( e, "Unable to map categorization snapshot `%s`", file );
+			return null;
+		}
+	}
+
+	public void store(byte[] key, DomainModelSnapshot snapshot) {
+		Path tempFile = null;
+		try {
+			final Path directory = file.toAbsolutePath().getParent();
+			Files.createDirectories( directory );
+			tempFile = Files.createTempFile( directory, file.getFileName().toString(), ".tmp" );
+			try ( OutputStream outputStream = new BufferedOutputStream( Files.newOutputStream( tempFile ) ) ) {
+				SnapshotFormat.write( key, snapshot, outputStream );
+			}
+			moveIntoPlace( tempFile );
+			MODEL_CATEGORIZATION_LOGGER.debugf( "Stored categorization snapshot `%s`", file );
+		}
+		catch (IOException | RuntimeException e) {
+			MODEL_CATEGORIZATION_MSG_LOGGER.unableToStoreSnapshot( file.toString(), e );
+			if ( tempFile != null ) {
+				try {
+					Files.deleteIfExists( tempFile );
+				}
+				catch (IOException ignore) {
+				}
+			}
+		}
+	}
+
+	private void moveIntoPlace(Path tempFile) throws IOException {
+		try {
+			Files.move( tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+		}
+		catch (AtomicMoveNotSupportedException e) {
+			Files.move( tempFile, file, StandardCopyOption.REPLACE_EXISTING );
+		}
+	}
+}
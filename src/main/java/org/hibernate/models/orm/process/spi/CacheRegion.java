@@ -41,6 +41,12 @@ public class CacheRegion {
 		}
 	}
 
+	public CacheRegion(String regionName, AccessType accessType, boolean cacheLazyProperties) {
+		this.regionName = regionName;
+		this.accessType = accessType;
+		this.cacheLazyProperties = cacheLazyProperties;
+	}
+
 	private AccessType interpretAccessStrategy(CacheConcurrencyStrategy usage) {
 		if ( usage == null ) {
 			return null;
@@ -0,0 +1,176 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process.spi;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.internal.BootstrapContextImpl;
+import org.hibernate.boot.internal.MetadataBuilderImpl;
+import org.hibernate.boot.model.process.spi.ManagedResources;
+import org.hibernate.boot.model.process.spi.MetadataBuildingProcess;
+import org.hibernate.boot.models.xml.internal.PersistenceUnitMetadataImpl;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.models.ModelsException;
+
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.SharedCacheMode;
+
+import static org.hibernate.models.orm.process.spi.ModelCategorizationLogging.MODEL_CATEGORIZATION_LOGGER;
+
+/**
+ * Build-time entry point which categorizes a domain model ahead of time and writes its entity
+ * hierarchies as a {@linkplain CategorizationSettings#CATEGORIZATION_INDEX categorization index}, to be
+ * packaged with the domain model's classes.  At runtime, categorization finds the index on the classpath
+ * and, provided it was built from exactly the same classes, XML mappings and relevant settings (validated
+ * by a digest of them), restores the entity hierarchies from it rather than building them.
+ * <p/>
+ * Usable as a main class - e.g. from a Gradle {@code JavaExec} task - whose classpath contains the
+ * domain model and its XML mappings:
+ * <pre>
+ *     CategorizationIndexer &lt;output directory&gt; (&lt;classes directory&gt; | &lt;XML mapping resource&gt; | --shared-cache-mode=&lt;mode&gt;)...
+ * </pre>
+ * Entities, mapped superclasses and embeddables are discovered in the classes directories.  XML mappings
+ * are named as classpath resources, the way the application names them (e.g. {@code META-INF/orm.xml}),
+ * as their names are part of the digest.
+ *
+ * @author Steve Ebersole
+ */
+public class CategorizationIndexer {
+	/**
+	 * The resource the index is written to, relative to the output directory, and looked up at runtime
+	 */
+	public static final String DEFAULT_INDEX_RESOURCE = "META-INF/hibernate-models/categorization.idx";
+
+	private static final String SHARED_CACHE_MODE_ARG = "--shared-cache-mode=";
+
+	public static void main(String[] args) {
+		if ( args.length < 2 ) {
+			throw new ModelsException(
+					"Expecting the output directory followed by classes directories and/or XML mapping resources"
+			);
+		}
+
+		final Path outputDirectory = Path.of( args[0] );
+		final List<Path> classesDirectories = new ArrayList<>();
+		final List<String> xmlMappings = new ArrayList<>();
+		SharedCacheMode sharedCacheMode = SharedCacheMode.UNSPECIFIED;
+		for ( int i = 1; i < args.length; i++ ) {
+			if ( args[i].startsWith( SHARED_CACHE_MODE_ARG ) ) {
+				sharedCacheMode = SharedCacheMode.valueOf( args[i].substring( SHARED_CACHE_MODE_ARG.length() ) );
+			}
+			else if ( args[i].endsWith( ".xml" ) ) {
+				xmlMappings.add( args[i] );
+			}
+			else {
+				classesDirectories.add( Path.of( args[i] ) );
+			}
+		}
+
+		final Set<String> classNames = new TreeSet<>();
+		final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+		classesDirectories.forEach( (classesDirectory) -> collectManagedClassNames( classesDirectory, classLoader, classNames ) );
+
+		final CategorizedDomainModel domainModel = index(
+				classNames,
+				xmlMappings,
+				sharedCacheMode,
+				outputDirectory.resolve( DEFAULT_INDEX_RESOURCE )
+		);
+		MODEL_CATEGORIZATION_LOGGER.infof(
+				"Wrote categorization index of %s entity hierarchies to `%s`",
+				domainModel.entityHierarchies().size(),
+				outputDirectory.resolve( DEFAULT_INDEX_RESOURCE )
+		);
+	}
+
+	/**
+	 * Categorize the given classes and XML mappings, writing the index to the given file.
+	 *
+	 * @param classNames Names of the domain model's classes
+	 * @param xmlMappings Names of the domain model's XML mappings, as classpath resources
+	 * @param sharedCacheMode The shared-cache mode the domain model is used with
+	 * @param indexFile The file to write the index to
+	 *
+	 * @return The categorized domain model
+	 */
+	public static CategorizedDomainModel index(
+			Collection<String> classNames,
+			Collection<String> xmlMappings,
+			SharedCacheMode sharedCacheMode,
+			Path indexFile) {
+		final StandardServiceRegistry serviceRegistry = new StandardServiceRegistryBuilder()
+				.applySetting( CategorizationSettings.SNAPSHOT_FILE, indexFile.toString() )
+				.build();
+		try {
+			final MetadataSources metadataSources = new MetadataSources( serviceRegistry );
+			classNames.forEach( metadataSources::addAnnotatedClassName );
+			xmlMappings.forEach( metadataSources::addResource );
+
+			final BootstrapContextImpl bootstrapContext = new BootstrapContextImpl(
+					serviceRegistry,
+					new MetadataBuilderImpl.MetadataBuildingOptionsImpl( serviceRegistry )
+			);
+			final ManagedResources managedResources = MetadataBuildingProcess.prepare( metadataSources, bootstrapContext );
+			// the index is simply a snapshot, written by categorization
+			final CategorizedDomainModel domainModel = ManagedResourcesCategorizer.categorizeManagedResources(
+					managedResources,
+					new PersistenceUnitMetadataImpl(),
+					new MetadataBuilderImpl.MappingDefaultsImpl( serviceRegistry ),
+					sharedCacheMode,
+					bootstrapContext
+			);
+			if ( !Files.isRegularFile( indexFile ) ) {
+				throw new ModelsException( "Unable to write categorization index `" + indexFile + "`" );
+			}
+			return domainModel;
+		}
+		finally {
+			StandardServiceRegistryBuilder.destroy( serviceRegistry );
+		}
+	}
+
+	private static void collectManagedClassNames(Path classesDirectory, ClassLoader classLoader, Set<String> classNames) {
+		try ( Stream<Path> files = Files.walk( classesDirectory ) ) {
+			files.filter( (file) -> file.getFileName().toString().endsWith( ".class" ) ).forEach( (file) -> {
+				final String relativeName = classesDirectory.relativize( file ).toString();
+				final String className = relativeName.substring( 0, relativeName.length() - ".class".length() )
+						.replace( file.getFileSystem().getSeparator(), "." );
+				if ( className.endsWith( "package-info" ) || className.endsWith( "module-info" ) ) {
+					return;
+				}
+				if ( isManagedClass( className, classLoader ) ) {
+					classNames.add( className );
+				}
+			} );
+		}
+		catch (IOException e) {
+			throw new ModelsException( "Unable to scan classes directory `" + classesDirectory + "`", e );
+		}
+	}
+
+	private static boolean isManagedClass(String className, ClassLoader classLoader) {
+		try {
+			final Class<?> javaClass = Class.forName( className, false, classLoader );
+			return javaClass.isAnnotationPresent( Entity.class )
+					|| javaClass.isAnnotationPresent( MappedSuperclass.class )
+					|| javaClass.isAnnotationPresent( Embeddable.class );
+		}
+		catch (ClassNotFoundException | LinkageError e) {
+			throw new ModelsException( "Unable to load class `" + className + "` for categorization index", e );
+		}
+	}
+}
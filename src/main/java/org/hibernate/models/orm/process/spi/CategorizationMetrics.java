@@ -0,0 +1,82 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process.spi;
+
+import java.util.List;
+
+/**
+ * Metrics about the {@linkplain ManagedResourcesCategorizer categorization} of a
+ * domain model, broken down by {@linkplain Phase phase}.  Collected only when
+ * {@value CategorizationSettings#COLLECT_METRICS} is enabled.
+ * <p/>
+ * CPU time and allocation are measured for the categorizing thread only; work a phase
+ * fans out over an executor shows up in its wall time alone.
+ *
+ * @see CategorizedDomainModel#metrics()
+ *
+ * @author Steve Ebersole
+ */
+public interface CategorizationMetrics {
+	/**
+	 * The phases of categorization, in the order in which they are performed.  With parallel
+	 * categorization, {@linkplain #XML_PRE_PROCESSING} and {@linkplain #CLASS_PRIMING} overlap.
+	 */
+	enum Phase {
+		/**
+		 * Pre-processing of the XML mappings
+		 */
+		XML_PRE_PROCESSING,
+		/**
+		 * Registering the managed classes with the ClassDetails registry
+		 */
+		CLASS_PRIMING,
+		/**
+		 * Processing of the XML mappings
+		 */
+		XML_PROCESSING,
+		/**
+		 * Applying the XML overrides
+		 */
+		XML_OVERRIDES,
+		/**
+		 * Categorization of the managed classes
+		 */
+		CLASS_CATEGORIZATION,
+		/**
+		 * Building of the entity hierarchies
+		 */
+		HIERARCHY_BUILDING,
+		/**
+		 * Creation of the CategorizedDomainModel
+		 */
+		RESULT_CREATION
+	}
+
+	/**
+	 * The measurements for a single phase.  A value of {@code -1} indicates the
+	 * measurement is not supported by the JVM.
+	 *
+	 * @param wallTimeNanos Elapsed time, in nanoseconds
+	 * @param cpuTimeNanos CPU time used by the categorizing thread, in nanoseconds
+	 * @param allocatedBytes Bytes allocated by the categorizing thread
+	 */
+	record PhaseMetrics(Phase phase, long wallTimeNanos, long cpuTimeNanos, long allocatedBytes) {
+	}
+
+	/**
+	 * Whether metrics were collected.  When not, all other methods report nothing.
+	 */
+	boolean isEnabled();
+
+	/**
+	 * The metrics for the given phase, or {@code null} if not collected.
+	 */
+	PhaseMetrics getPhaseMetrics(Phase phase);
+
+	/**
+	 * The metrics for all collected phases, in {@linkplain Phase phase order}.
+	 */
+	List<PhaseMetrics> getPhaseMetrics();
+}
@@ -0,0 +1,124 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process.spi;
+
+/**
+ * Settings which influence how {@linkplain ManagedResourcesCategorizer categorization}
+ * is performed.
+ *
+ * @author Steve Ebersole
+ */
+public interface CategorizationSettings {
+	/**
+	 * Whether categorization may fan independent work (entity hierarchies, etc.)
+	 * out over multiple threads.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see #PARALLEL_THRESHOLD
+	 * @see #CATEGORIZATION_EXECUTOR
+	 */
+	String PARALLEL_CATEGORIZATION = "hibernate.models.orm.parallel";
+
+	/**
+	 * The number of units of work (e.g. root entities) below which categorization
+	 * stays serial even when {@linkplain #PARALLEL_CATEGORIZATION parallel} categorization
+	 * is enabled.  Below this size the cost of scheduling outweighs the benefit.
+	 *
+	 * @settingDefault {@code 50}
+	 */
+	String PARALLEL_THRESHOLD = "hibernate.models.orm.parallel_threshold";
+
+	/**
+	 * The {@linkplain java.util.concurrent.Executor executor} to use for
+	 * {@linkplain #PARALLEL_CATEGORIZATION parallel} categorization.  Accepts
+	 * an {@code Executor} instance.
+	 *
+	 * @settingDefault {@linkplain java.util.concurrent.ForkJoinPool#commonPool()}
+	 */
+	String CATEGORIZATION_EXECUTOR = "hibernate.models.orm.executor";
+
+	/**
+	 * Whether to collect {@linkplain CategorizationMetrics metrics} (wall time, CPU time
+	 * and allocation per phase) during categorization.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see CategorizedDomainModel#metrics()
+	 */
+	String COLLECT_METRICS = "hibernate.models.orm.metrics";
+
+	/**
+	 * Path of a file in which to keep a snapshot of the categorized entity hierarchies.
+	 * The snapshot is keyed by a digest of the managed classes, XML mappings and relevant
+	 * settings; when the key matches, the hierarchies are restored from the snapshot rather
+	 * than built by interpreting the domain model's annotations.  Otherwise, the hierarchies
+	 * are built and the snapshot is (re)written.
+	 *
+	 * @settingDefault none - no snapshot is used
+	 *
+	 * @see #SNAPSHOT_MAPPED
+	 */
+	String SNAPSHOT_FILE = "hibernate.models.orm.snapshot_file";
+
+	/**
+	 * Whether the {@linkplain #SNAPSHOT_FILE snapshot} should be read through a read-only memory
+	 * mapping, with each entity hierarchy decoded only when first accessed.  JVMs on the same host
+	 * using the same snapshot then share its pages, and hierarchies which are never accessed are
+	 * never decoded.
+	 * <p/>
+	 * Note that any problem restoring a hierarchy is then only reported on its first access,
+	 * rather than causing the hierarchies to be built as if there were no snapshot.
+	 *
+	 * @settingDefault {@code false}
+	 */
+	String SNAPSHOT_MAPPED = "hibernate.models.orm.snapshot_mapped";
+
+	/**
+	 * Name of the classpath resource holding the categorization index - the entity hierarchies
+	 * categorized at build time by the {@linkplain CategorizationIndexer indexer}.  When the resource
+	 * exists and was built from exactly the same classes, XML mappings and relevant settings, the
+	 * hierarchies are restored from it rather than built by interpreting the domain model's annotations.
+	 * An empty value disables the lookup.
+	 * <p/>
+	 * The index is not consulted when a {@linkplain #SNAPSHOT_FILE snapshot file} is configured.
+	 *
+	 * @settingDefault {@value CategorizationIndexer#DEFAULT_INDEX_RESOURCE}
+	 */
+	String CATEGORIZATION_INDEX = "hibernate.models.orm.categorization_index";
+
+	/**
+	 * Whether the categorized model should retain what is needed to later
+	 * {@linkplain ManagedResourcesCategorizer#recategorizeManagedResources re-categorize} it
+	 * incrementally - namely, which global registrations each class and XML mapping contributed,
+	 * and which classes each XML mapping maps.
+	 *
+	 * @settingDefault {@code false}
+	 */
+	String INCREMENTAL = "hibernate.models.orm.incremental";
+
+	/**
+	 * Whether the classes of the domain model which are named, rather than passed as {@code Class} references,
+	 * should be categorized from their class files - read through the
+	 * {@linkplain org.hibernate.models.spi.ClassLoading#locateResource resource API} - rather than by loading
+	 * them and using reflection.  Those classes are then not loaded, linked or initialized by categorization,
+	 * saving both time and metaspace for classes which are not otherwise used early.
+	 * <p/>
+	 * Annotation types and classes named by annotations are still loaded, as are classes which cannot be
+	 * described without interpreting type variables, and records.
+	 *
+	 * @settingDefault {@code false}
+	 */
+	String READ_CLASS_FILES = "hibernate.models.orm.read_class_files";
+
+	/**
+	 * Whether the categorized model should be {@linkplain CategorizedDomainModel#freeze() frozen} into
+	 * a compact, immutable form once built - dropping the state only needed while building it, which
+	 * otherwise stays reachable for as long as the model is.
+	 *
+	 * @settingDefault {@code false}
+	 */
+	String FREEZE = "hibernate.models.orm.freeze";
+}
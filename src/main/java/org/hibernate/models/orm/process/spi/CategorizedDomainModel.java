@@ -16,6 +16,9 @@ import org.hibernate.boot.models.spi.GlobalRegistrations;
 import org.hibernate.boot.models.xml.spi.PersistenceUnitMetadata;
 import org.hibernate.internal.util.IndexedConsumer;
 import org.hibernate.internal.util.KeyedConsumer;
+import org.hibernate.models.orm.process.internal.CategorizationMetricsImpl;
+import org.hibernate.models.orm.process.internal.CategorizationSources;
+import org.hibernate.models.orm.process.internal.DomainModelFreezer;
 import org.hibernate.models.spi.ClassDetails;
 
 /**
@@ -25,6 +28,18 @@ import org.hibernate.models.spi.ClassDetails;
  * <p/>
  * We also know about all {@linkplain #globalRegistrations() global registrations} -
  * sequence-generators, named-queries, ...
+ * <p/>
+ * When {@linkplain CategorizationSettings#COLLECT_METRICS enabled}, {@linkplain #metrics() metrics}
+ * about the categorization itself are available as well.
+ * <p/>
+ * When {@linkplain CategorizationSettings#INCREMENTAL enabled}, the {@linkplain #sources() sources} of
+ * the model are retained so that it can be
+ * {@linkplain ManagedResourcesCategorizer#recategorizeManagedResources re-categorized} incrementally.
+ * <p/>
+ * Once built, the model can be {@linkplain #freeze() frozen} into a compact, immutable form.
+ *
+ * @param sources What each class and XML mapping contributed to the model, used internally for
+ * incremental re-categorization; {@code null} unless incremental categorization is enabled
  *
  * @author Steve Ebersole
  */
@@ -33,7 +48,54 @@ public record CategorizedDomainModel(
 		Map<String, ClassDetails> mappedSuperclasses,
 		Map<String, ClassDetails> embeddables,
 		PersistenceUnitMetadata persistenceUnitMetadata,
-		GlobalRegistrations globalRegistrations) {
+		GlobalRegistrations globalRegistrations,
+		CategorizationMetrics metrics,
+		CategorizationSources sources) {
+
+	public CategorizedDomainModel(
+			Set<EntityHierarchy> entityHierarchies,
+			Map<String, ClassDetails> mappedSuperclasses,
+			Map<String, ClassDetails> embeddables,
+			PersistenceUnitMetadata persistenceUnitMetadata,
+			GlobalRegistrations globalRegistrations,
+			CategorizationMetrics metrics) {
+		this(
+				entityHierarchies,
+				mappedSuperclasses,
+				embeddables,
+				persistenceUnitMetadata,
+				globalRegistrations,
+				metrics,
+				null
+		);
+	}
+
+	public CategorizedDomainModel(
+			Set<EntityHierarchy> entityHierarchies,
+			Map<String, ClassDetails> mappedSuperclasses,
+			Map<String, ClassDetails> embeddables,
+			PersistenceUnitMetadata persistenceUnitMetadata,
+			GlobalRegistrations globalRegistrations) {
+		this(
+				entityHierarchies,
+				mappedSuperclasses,
+				embeddables,
+				persistenceUnitMetadata,
+				globalRegistrations,
+				CategorizationMetricsImpl.DISABLED
+		);
+	}
+
+	/**
+	 * A compact, immutable form of this model, with equivalent content.  The entity hierarchies no
+	 * longer refer to the state used to build them, and their attributes are held in tables rather
+	 * than as one object each; collections are array-backed.
+	 *
+	 * @see CategorizationSettings#FREEZE
+	 */
+	public CategorizedDomainModel freeze() {
+		return DomainModelFreezer.freeze( this );
+	}
 
 	/**
 	 * Iteration over the {@linkplain #entityHierarchies() entity hierarchies}
@@ -9,28 +9,67 @@
  */
 package org.hibernate.models.orm.process.spi;
 
-import java.util.HashMap;
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
 import org.hibernate.boot.internal.RootMappingDefaults;
+import org.hibernate.boot.jaxb.mapping.spi.JaxbEntityMappingsImpl;
+import org.hibernate.boot.jaxb.spi.Binding;
+import org.hibernate.boot.jaxb.spi.JaxbBindableMappingDescriptor;
+import org.hibernate.boot.model.process.internal.ManagedResourcesImpl;
 import org.hibernate.boot.model.process.spi.ManagedResources;
 import org.hibernate.boot.models.xml.spi.PersistenceUnitMetadata;
 import org.hibernate.boot.models.xml.spi.XmlPreProcessingResult;
 import org.hibernate.boot.models.xml.spi.XmlPreProcessor;
 import org.hibernate.boot.models.xml.spi.XmlProcessingResult;
 import org.hibernate.boot.models.xml.spi.XmlProcessor;
-import org.hibernate.boot.registry.classloading.spi.ClassLoadingException;
 import org.hibernate.boot.spi.BootstrapContext;
 import org.hibernate.boot.spi.MappingDefaults;
+import org.hibernate.models.ModelsException;
 import org.hibernate.models.internal.MutableClassDetailsRegistry;
 import org.hibernate.models.internal.jdk.JdkBuilders;
+import org.hibernate.models.orm.process.internal.CategorizationImpact;
+import org.hibernate.models.orm.process.internal.CategorizationMetricsImpl;
+import org.hibernate.models.orm.process.internal.CategorizationOptions;
+import org.hibernate.models.orm.process.internal.CategorizationSources;
+import org.hibernate.models.orm.process.internal.ConcurrencyHelper;
 import org.hibernate.models.orm.process.internal.DomainModelCategorizationCollector;
+import org.hibernate.models.orm.process.internal.GlobalRegistrationsImpl;
 import org.hibernate.models.orm.process.internal.ModelCategorizationContextImpl;
+import org.hibernate.models.orm.process.internal.PrimingPipeline;
+import org.hibernate.models.orm.process.internal.jfr.CategorizationEvents;
+import org.hibernate.models.orm.process.internal.jfr.CategorizationPhaseEvent;
+import org.hibernate.models.orm.process.internal.snapshot.CategorizationIndex;
+import org.hibernate.models.orm.process.internal.snapshot.DomainModelSnapshot;
+import org.hibernate.models.orm.process.internal.snapshot.LazyEntityHierarchy;
+import org.hibernate.models.orm.process.internal.snapshot.MappedSnapshot;
+import org.hibernate.models.orm.process.internal.snapshot.SnapshotCapturer;
+import org.hibernate.models.orm.process.internal.snapshot.SnapshotKey;
+import org.hibernate.models.orm.process.internal.snapshot.SnapshotRestorer;
+import org.hibernate.models.orm.process.internal.snapshot.SnapshotStore;
+import org.hibernate.models.orm.process.spi.CategorizationMetrics.Phase;
 import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.ClassDetailsRegistry;
 import org.hibernate.models.spi.ClassLoading;
+import org.hibernate.models.spi.FieldDetails;
+import org.hibernate.models.spi.MemberDetails;
+import org.hibernate.models.spi.MethodDetails;
 import org.hibernate.models.spi.SourceModelBuildingContext;
+import org.hibernate.models.spi.TypeDetails;
 
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.MappedSuperclass;
 import jakarta.persistence.SharedCacheMode;
 
 import static org.hibernate.models.orm.process.internal.EntityHierarchyBuilder.createEntityHierarchies;
@@ -57,18 +96,38 @@ public class ManagedResourcesCategorizer {
 			BootstrapContext bootstrapContext) {
 
 		final SourceModelBuildingContext modelsContext = bootstrapContext.getModelsContext();
+		final CategorizationOptions categorizationOptions = new CategorizationOptions( bootstrapContext );
+		final CategorizationMetricsImpl metrics = CategorizationMetricsImpl.create( categorizationOptions.shouldCollectMetrics() );
+		CategorizationPhaseEvent phaseEvent;
 
-		final XmlPreProcessingResult xmlPreProcessingResult = XmlPreProcessor.preProcessXmlResources(
-				managedResources,
-				persistenceUnitMetadata
+		final DomainModelCategorizationCollector modelCategorizationCollector = new DomainModelCategorizationCollector(
+				modelsContext,
+				bootstrapContext,
+				categorizationOptions.isIncremental() ? CategorizationSources.create( managedResources ) : null
 		);
 
-		primeClassDetailsRegistry( managedResources, xmlPreProcessingResult, modelsContext, bootstrapContext );
+		// Whether to run the phases in parallel is decided once, up front, from the number of managed
+		// types the resources list - the executor (or null, for serial) is then passed through every phase
+		final Executor executor = categorizationOptions.shouldParallelize( countManagedTypes( managedResources ) )
+				? categorizationOptions.getExecutor()
+				: null;
 
-		final DomainModelCategorizationCollector modelCategorizationCollector = new DomainModelCategorizationCollector(
+		// the XML pre-processing and the priming of the annotated classes overlap, so both phases span the
+		// pipeline.  serially, the pipeline simply runs each of its steps in turn on the calling thread
+		final CategorizationPhaseEvent preProcessingEvent = beginPhase( Phase.XML_PRE_PROCESSING, metrics );
+		final CategorizationPhaseEvent primingEvent = beginPhase( Phase.CLASS_PRIMING, metrics );
+		final PrimingPipeline pipeline = PrimingPipeline.start(
+				managedResources,
+				persistenceUnitMetadata,
+				modelCategorizationCollector,
 				modelsContext,
-				bootstrapContext
+				categorizationOptions,
+				executor
 		);
+		final XmlPreProcessingResult xmlPreProcessingResult = ConcurrencyHelper.join( pipeline.xmlPreProcessing() );
+		endPhase( Phase.XML_PRE_PROCESSING, preProcessingEvent, metrics );
+		final List<ClassDetails> primedClasses = ConcurrencyHelper.join( pipeline.primedClasses() );
+		endPhase( Phase.CLASS_PRIMING, primingEvent, metrics );
 
 		final RootMappingDefaults rootMappingDefaults = new RootMappingDefaults(
 				optionDefaults,
@@ -77,22 +136,32 @@ public class ManagedResourcesCategorizer {
 
 		// Apply the mapping bits of the XML.
 		// The result is a collection of override (aka, non-complete) XML to be processed lastly
+		// In parallel, the registrations of the documents are collected concurrently once all are processed
+		phaseEvent = beginPhase( Phase.XML_PROCESSING, metrics );
 		final XmlProcessingResult xmlProcessingResult = XmlProcessor.processXml(
 				xmlPreProcessingResult,
 				persistenceUnitMetadata,
-				modelCategorizationCollector::apply,
+				executor != null ? modelCategorizationCollector::defer : modelCategorizationCollector::apply,
 				modelsContext,
 				bootstrapContext,
 				rootMappingDefaults
 		);
+		if ( executor != null ) {
+			modelCategorizationCollector.applyDeferredDocuments( executor );
+		}
+		endPhase( Phase.XML_PROCESSING, phaseEvent, metrics );
 
 		// Apply the overrides.
+		phaseEvent = beginPhase( Phase.XML_OVERRIDES, metrics );
 		xmlProcessingResult.apply();
+		endPhase( Phase.XML_OVERRIDES, phaseEvent, metrics );
 
-		// With lots of classes this could become unwieldy.
-		// The alternative is to keep track of "managed classes" and just use those, but that requires some redesign
-		// in XmlProcessor, etc.
-		modelsContext.getClassDetailsRegistry().forEachClassDetails( modelCategorizationCollector::apply );
+		// Categorize just the managed classes (plus the classes they implicitly pull in) rather
+		// than everything in the registry, which also holds listeners, converters, JDK types, etc.
+		phaseEvent = beginPhase( Phase.CLASS_CATEGORIZATION, metrics );
+		final List<ClassDetails> managedClasses = collectManagedClasses( primedClasses );
+		modelCategorizationCollector.apply( managedClasses, executor );
+		endPhase( Phase.CLASS_CATEGORIZATION, phaseEvent, metrics );
 
 
 		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
@@ -110,65 +179,536 @@ public class ManagedResourcesCategorizer {
 		final ModelCategorizationContextImpl mappingBuildingContext = new ModelCategorizationContextImpl(
 				modelsContext,
 				modelCategorizationCollector.getGlobalRegistrations(),
-				sharedCacheMode
+				sharedCacheMode,
+				modelCategorizationCollector.getHierarchyRootResolver()
 		);
 
 		// Collect the entity hierarchies based on the set of `rootEntities`
-		final Set<EntityHierarchy> entityHierarchies;
+		phaseEvent = beginPhase( Phase.HIERARCHY_BUILDING, metrics );
+		final Set<EntityHierarchy> entityHierarchies = resolveEntityHierarchies(
+				managedResources,
+				managedClasses,
+				sharedCacheMode,
+				persistenceUnitMetadata,
+				optionDefaults,
+				modelCategorizationCollector,
+				mappingBuildingContext,
+				categorizationOptions,
+				executor
+		);
+		endPhase( Phase.HIERARCHY_BUILDING, phaseEvent, metrics );
+
+		phaseEvent = beginPhase( Phase.RESULT_CREATION, metrics );
+		final CategorizedDomainModel result = modelCategorizationCollector.createResult(
+				entityHierarchies,
+				persistenceUnitMetadata,
+				metrics
+		);
+		final CategorizedDomainModel completedResult = categorizationOptions.shouldFreeze() ? result.freeze() : result;
+		endPhase( Phase.RESULT_CREATION, phaseEvent, metrics );
+
+		return completedResult;
+	}
+
+	/**
+	 * Re-categorize a previously categorized domain model after some of its classes and/or XML mappings
+	 * changed.  Only the entity hierarchies, mapped superclasses, embeddables and global registrations
+	 * affected by the changes are recomputed; everything else is reused from the previous model.
+	 * <p/>
+	 * The previous model must have been categorized with {@linkplain CategorizationSettings#INCREMENTAL incremental}
+	 * categorization enabled, and against the same {@linkplain SourceModelBuildingContext models context} - whose
+	 * class details are reused, and are replaced for the changed classes.  Otherwise, as well as when the changes
+	 * influence the persistence-unit defaults, a complete categorization is performed instead.
+	 *
+	 * @param previousModel The model categorized before the changes
+	 * @param changes What changed since the previous model was categorized
+	 * @param managedResources The classes and mappings of the application's domain model, as they are now
+	 */
+	public static CategorizedDomainModel recategorizeManagedResources(
+			CategorizedDomainModel previousModel,
+			ManagedResourcesChanges changes,
+			ManagedResources managedResources,
+			PersistenceUnitMetadata persistenceUnitMetadata,
+			MappingDefaults optionDefaults,
+			SharedCacheMode sharedCacheMode,
+			BootstrapContext bootstrapContext) {
+		final CategorizationSources previousSources = previousModel.sources();
+		if ( previousSources == null ) {
+			MODEL_CATEGORIZATION_LOGGER.debugf( "Previous domain model was not categorized incrementally - performing complete categorization" );
+			return categorizeManagedResources( managedResources, persistenceUnitMetadata, optionDefaults, sharedCacheMode, bootstrapContext );
+		}
+
+		final Map<String, JaxbEntityMappingsImpl> documents = CategorizationSources.collectDocuments( managedResources );
+		if ( CategorizationImpact.affectsPersistenceUnitMetadata( changes, previousSources, documents ) ) {
+			MODEL_CATEGORIZATION_LOGGER.debugf( "Persistence-unit metadata changed - performing complete categorization" );
+			return categorizeManagedResources( managedResources, persistenceUnitMetadata, optionDefaults, sharedCacheMode, bootstrapContext );
+		}
+
+		final SourceModelBuildingContext modelsContext = bootstrapContext.getModelsContext();
+		final CategorizationOptions categorizationOptions = new CategorizationOptions( bootstrapContext );
+
+		final CategorizationImpact impact = CategorizationImpact.resolve(
+				previousModel,
+				previousSources,
+				changes,
+				documents,
+				modelsContext.getClassLoading()
+		);
+
+		final Set<String> excludedClasses = new HashSet<>( impact.getRebuiltClasses() );
+		excludedClasses.addAll( impact.getRemovedClasses() );
+		final CategorizationSources sources = previousSources.retain(
+				excludedClasses,
+				impact.getExcludedDocuments(),
+				managedResources
+		);
+
+		rebuildClassDetails( impact.getRebuiltClasses(), impact.getRemovedClasses(), sources, modelsContext );
+		final DomainModelCategorizationCollector modelCategorizationCollector = new DomainModelCategorizationCollector(
+				modelsContext,
+				bootstrapContext,
+				sources
+		);
+
+		// re-apply the XML mappings of the rebuilt classes
+		if ( !impact.getReprocessedDocuments().isEmpty() ) {
+			final ManagedResourcesImpl changedResources = new ManagedResourcesImpl();
+			managedResources.getXmlMappingBindings().forEach( (binding) -> {
+				if ( impact.getReprocessedDocuments().contains( binding.getOrigin().getName() ) ) {
+					changedResources.addXmlBinding( binding );
+				}
+			} );
+			XmlProcessor.processXml(
+					XmlPreProcessor.preProcessXmlResources( changedResources, persistenceUnitMetadata ),
+					persistenceUnitMetadata,
+					modelCategorizationCollector::apply,
+					modelsContext,
+					bootstrapContext,
+					new RootMappingDefaults( optionDefaults, persistenceUnitMetadata )
+			).apply();
+		}
+
+		// categorize the rebuilt classes, plus any not yet known classes they pull in
+		final ClassDetailsRegistry classDetailsRegistry = modelsContext.getClassDetailsRegistry();
+		final List<ClassDetails> rebuiltClasses = new ArrayList<>( impact.getRebuiltClasses().size() );
+		impact.getRebuiltClasses().forEach( (className) -> {
+			final ClassDetails classDetails = classDetailsRegistry.findClassDetails( className );
+			if ( classDetails != null ) {
+				rebuiltClasses.add( classDetails );
+			}
+		} );
+		final List<ClassDetails> classesToCategorize = new ArrayList<>();
+		collectManagedClasses( rebuiltClasses ).forEach( (classDetails) -> {
+			if ( impact.getRebuiltClasses().contains( classDetails.getName() ) || !previousSources.isKnownClass( classDetails.getName() ) ) {
+				classesToCategorize.add( classDetails );
+			}
+		} );
+		final Executor executor = categorizationOptions.shouldParallelize( classesToCategorize.size() )
+				? categorizationOptions.getExecutor()
+				: null;
+		modelCategorizationCollector.apply( classesToCategorize, executor );
+
+		final GlobalRegistrationsImpl globalRegistrations = sources.composeRegistrations( modelsContext, bootstrapContext );
+		final ModelCategorizationContextImpl mappingBuildingContext = new ModelCategorizationContextImpl(
+				modelsContext,
+				globalRegistrations,
+				sharedCacheMode,
+				modelCategorizationCollector.getHierarchyRootResolver(),
+				sources::isSuperseded
+		);
+
+		// rebuild the affected hierarchies - those rooted at a re-categorized root plus those whose root
+		// was not itself rebuilt
+		final Set<ClassDetails> rootEntities = new HashSet<>( modelCategorizationCollector.getRootEntities() );
+		final Set<EntityHierarchy> entityHierarchies = new LinkedHashSet<>();
+		previousModel.forEachEntityHierarchy( (index, hierarchy) -> {
+			if ( !impact.isAffected( hierarchy ) ) {
+				entityHierarchies.add( hierarchy );
+				return;
+			}
+			final String rootName = hierarchy.getRoot().getClassDetails().getName();
+			if ( !impact.isExcluded( rootName ) ) {
+				rootEntities.add( classDetailsRegistry.resolveClassDetails( rootName ) );
+			}
+		} );
+		entityHierarchies.addAll( createEntityHierarchies(
+				rootEntities,
+				ManagedResourcesCategorizer::ignore,
+				mappingBuildingContext,
+				executor
+		) );
+
+		final Map<String, ClassDetails> mappedSuperclasses = new ConcurrentHashMap<>( modelCategorizationCollector.getMappedSuperclasses() );
+		previousModel.mappedSuperclasses().forEach( (name, classDetails) -> {
+			if ( !impact.isExcluded( name ) ) {
+				mappedSuperclasses.putIfAbsent( name, classDetails );
+			}
+		} );
+		final Map<String, ClassDetails> embeddables = new ConcurrentHashMap<>( modelCategorizationCollector.getEmbeddables() );
+		previousModel.embeddables().forEach( (name, classDetails) -> {
+			if ( !impact.isExcluded( name ) ) {
+				embeddables.putIfAbsent( name, classDetails );
+			}
+		} );
+
+		MODEL_CATEGORIZATION_LOGGER.debugf(
+				"Re-categorized %s classes and %s XML mappings, rebuilding %s of %s entity hierarchies",
+				classesToCategorize.size(),
+				impact.getReprocessedDocuments().size(),
+				impact.getNumberOfAffectedHierarchies(),
+				previousModel.entityHierarchies().size()
+		);
+
+		final CategorizedDomainModel result = new CategorizedDomainModel(
+				entityHierarchies,
+				mappedSuperclasses,
+				embeddables,
+				persistenceUnitMetadata,
+				globalRegistrations,
+				CategorizationMetricsImpl.DISABLED,
+				sources
+		);
+		return categorizationOptions.shouldFreeze() ? result.freeze() : result;
+	}
+
+	/**
+	 * Replaces the details of the given classes in the registry with ones built from the classes
+	 * as they are now.  Super classes are rebuilt before their subclasses, which resolve them.
+	 * <p/>
+	 * The registry tracks the direct subtypes of each class, which is how hierarchies are discovered,
+	 * and keeps listing the previous details of rebuilt and removed classes there; those are
+	 * {@linkplain CategorizationSources#supersede superseded} in the sources instead.
+	 */
+	private static void rebuildClassDetails(
+			Set<String> classNames,
+			Set<String> removedClassNames,
+			CategorizationSources sources,
+			SourceModelBuildingContext modelsContext) {
+		final MutableClassDetailsRegistry classDetailsRegistry = modelsContext.getClassDetailsRegistry().as( MutableClassDetailsRegistry.class );
+		removedClassNames.forEach( (className) -> supersede( className, sources, classDetailsRegistry ) );
+		final Set<String> rebuilt = new HashSet<>();
+		classNames.forEach( (className) -> rebuildClassDetails( className, classNames, rebuilt, sources, classDetailsRegistry, modelsContext ) );
+	}
+
+	private static void rebuildClassDetails(
+			String className,
+			Set<String> classNames,
+			Set<String> rebuilt,
+			CategorizationSources sources,
+			MutableClassDetailsRegistry classDetailsRegistry,
+			SourceModelBuildingContext modelsContext) {
+		if ( !rebuilt.add( className ) ) {
+			return;
+		}
+
+		final Class<?> javaClass = modelsContext.getClassLoading().findClassForName( className );
+		if ( javaClass == null ) {
+			// e.g. a dynamic model, which the XML re-creates
+			return;
+		}
+
+		final Class<?> superClass = javaClass.getSuperclass();
+		if ( superClass != null && classNames.contains( superClass.getName() ) ) {
+			rebuildClassDetails( superClass.getName(), classNames, rebuilt, sources, classDetailsRegistry, modelsContext );
+		}
+		supersede( className, sources, classDetailsRegistry );
+		classDetailsRegistry.addClassDetails( className, JdkBuilders.buildClassDetailsStatic( javaClass, modelsContext ) );
+	}
+
+	private static void supersede(String className, CategorizationSources sources, MutableClassDetailsRegistry classDetailsRegistry) {
+		final ClassDetails previous = classDetailsRegistry.findClassDetails( className );
+		if ( previous != null ) {
+			sources.supersede( previous );
+		}
+	}
+
+	/**
+	 * Restores the entity hierarchies from the {@linkplain CategorizationSettings#SNAPSHOT_FILE snapshot},
+	 * if one is configured and up to date.  Otherwise, builds them (and writes the snapshot, if one is configured).
+	 * Without a snapshot file, the {@linkplain CategorizationSettings#CATEGORIZATION_INDEX categorization index} is used.
+	 */
+	private static Set<EntityHierarchy> resolveEntityHierarchies(
+			ManagedResources managedResources,
+			List<ClassDetails> managedClasses,
+			SharedCacheMode sharedCacheMode,
+			PersistenceUnitMetadata persistenceUnitMetadata,
+			MappingDefaults optionDefaults,
+			DomainModelCategorizationCollector modelCategorizationCollector,
+			ModelCategorizationContextImpl mappingBuildingContext,
+			CategorizationOptions categorizationOptions,
+			Executor executor) {
+		final Path snapshotFile = categorizationOptions.getSnapshotFile();
+		if ( snapshotFile == null ) {
+			return resolveIndexedEntityHierarchies(
+					managedResources,
+					managedClasses,
+					sharedCacheMode,
+					persistenceUnitMetadata,
+					optionDefaults,
+					modelCategorizationCollector,
+					mappingBuildingContext,
+					categorizationOptions,
+					executor
+			);
+		}
+
+		final byte[] snapshotKey = SnapshotKey.compute(
+				managedClasses,
+				managedResources.getXmlMappingBindings(),
+				sharedCacheMode,
+				persistenceUnitMetadata,
+				optionDefaults,
+				categorizationOptions,
+				mappingBuildingContext.getModelsContext().getClassLoading()
+		);
+		if ( snapshotKey == null ) {
+			return buildEntityHierarchies( modelCategorizationCollector, mappingBuildingContext, executor );
+		}
+
+		final SnapshotStore snapshotStore = new SnapshotStore( snapshotFile );
+		final Set<EntityHierarchy> restored = categorizationOptions.isSnapshotMapped()
+				? mapEntityHierarchies( snapshotStore, snapshotKey, modelCategorizationCollector, mappingBuildingContext )
+				: restoreEntityHierarchies( snapshotStore.load( snapshotKey ), modelCategorizationCollector, mappingBuildingContext );
+		if ( restored != null ) {
+			MODEL_CATEGORIZATION_LOGGER.debugf( "Restored %s entity hierarchies from snapshot `%s`", restored.size(), snapshotFile );
+			return restored;
+		}
+
+		final Set<EntityHierarchy> entityHierarchies = buildEntityHierarchies(
+				modelCategorizationCollector,
+				mappingBuildingContext,
+				executor
+		);
+		snapshotStore.store( snapshotKey, SnapshotCapturer.capture( entityHierarchies ) );
+		return entityHierarchies;
+	}
+
+	/**
+	 * Restores the entity hierarchies from the {@linkplain CategorizationSettings#CATEGORIZATION_INDEX categorization index},
+	 * if there is one on the classpath and it matches the domain model.  Otherwise, builds them.  Unlike the snapshot
+	 * file, the index is never written here - it is written at build time by the {@linkplain CategorizationIndexer indexer}.
+	 */
+	private static Set<EntityHierarchy> resolveIndexedEntityHierarchies(
+			ManagedResources managedResources,
+			List<ClassDetails> managedClasses,
+			SharedCacheMode sharedCacheMode,
+			PersistenceUnitMetadata persistenceUnitMetadata,
+			MappingDefaults optionDefaults,
+			DomainModelCategorizationCollector modelCategorizationCollector,
+			ModelCategorizationContextImpl mappingBuildingContext,
+			CategorizationOptions categorizationOptions,
+			Executor executor) {
+		final String indexResourceName = categorizationOptions.getIndexResourceName();
+		if ( indexResourceName == null ) {
+			return buildEntityHierarchies( modelCategorizationCollector, mappingBuildingContext, executor );
+		}
+
+		final ClassLoading classLoading = mappingBuildingContext.getModelsContext().getClassLoading();
+		final URL indexUrl = classLoading.locateResource( indexResourceName );
+		if ( indexUrl == null ) {
+			return buildEntityHierarchies( modelCategorizationCollector, mappingBuildingContext, executor );
+		}
+
+		final byte[] indexKey = SnapshotKey.compute(
+				managedClasses,
+				managedResources.getXmlMappingBindings(),
+				sharedCacheMode,
+				persistenceUnitMetadata,
+				optionDefaults,
+				categorizationOptions,
+				classLoading
+		);
+		if ( indexKey != null ) {
+			final Set<EntityHierarchy> restored = restoreEntityHierarchies(
+					CategorizationIndex.load( indexUrl, indexKey ),
+					modelCategorizationCollector,
+					mappingBuildingContext
+			);
+			if ( restored != null ) {
+				MODEL_CATEGORIZATION_LOGGER.debugf( "Restored %s entity hierarchies from categorization index `%s`", restored.size(), indexUrl );
+				return restored;
+			}
+		}
+
+		return buildEntityHierarchies( modelCategorizationCollector, mappingBuildingContext, executor );
+	}
+
+	private static Set<EntityHierarchy> restoreEntityHierarchies(
+			DomainModelSnapshot snapshot,
+			DomainModelCategorizationCollector modelCategorizationCollector,
+			ModelCategorizationContextImpl mappingBuildingContext) {
+		if ( snapshot == null ) {
+			return null;
+		}
+
+		final List<String> snapshotRootEntityNames = new ArrayList<>( snapshot.hierarchies().size() );
+		snapshot.hierarchies().forEach( (hierarchy) -> snapshotRootEntityNames.add( hierarchy.rootEntityName() ) );
+		if ( !matchesRootEntities( snapshotRootEntityNames, modelCategorizationCollector ) ) {
+			return null;
+		}
+
+		try {
+			return SnapshotRestorer.restore( snapshot, mappingBuildingContext );
+		}
+		catch (ModelsException e) {
+			MODEL_CATEGORIZATION_LOGGER.debugf( e, "Unable to restore categorization snapshot - ignoring" );
+			return null;
+		}
+	}
+
+	/**
+	 * Form of {@linkplain #restoreEntityHierarchies} which maps the snapshot and decodes each
+	 * hierarchy only when it is first accessed.
+	 */
+	private static Set<EntityHierarchy> mapEntityHierarchies(
+			SnapshotStore snapshotStore,
+			byte[] snapshotKey,
+			DomainModelCategorizationCollector modelCategorizationCollector,
+			ModelCategorizationContextImpl mappingBuildingContext) {
+		final MappedSnapshot snapshot = snapshotStore.map( snapshotKey );
+		if ( snapshot == null ) {
+			return null;
+		}
+
+		final List<String> snapshotRootEntityNames = new ArrayList<>( snapshot.getNumberOfHierarchies() );
+		for ( int i = 0; i < snapshot.getNumberOfHierarchies(); i++ ) {
+			snapshotRootEntityNames.add( snapshot.getRootEntityName( i ) );
+		}
+		if ( !matchesRootEntities( snapshotRootEntityNames, modelCategorizationCollector ) ) {
+			return null;
+		}
+
+		final Set<EntityHierarchy> hierarchies = new LinkedHashSet<>();
+		for ( int i = 0; i < snapshotRootEntityNames.size(); i++ ) {
+			hierarchies.add( new LazyEntityHierarchy( snapshot, i, snapshotRootEntityNames.get( i ), mappingBuildingContext ) );
+		}
+		return hierarchies;
+	}
+
+	/**
+	 * A cheap sanity check, on top of the key, that the snapshot describes these root entities
+	 */
+	private static boolean matchesRootEntities(
+			List<String> snapshotRootEntityNames,
+			DomainModelCategorizationCollector modelCategorizationCollector) {
+		final Set<String> rootEntityNames = new HashSet<>();
+		modelCategorizationCollector.getRootEntities().forEach( (rootEntity) -> rootEntityNames.add( rootEntity.getName() ) );
+		if ( !rootEntityNames.equals( new HashSet<>( snapshotRootEntityNames ) ) ) {
+			MODEL_CATEGORIZATION_LOGGER.debugf( "Categorization snapshot does not match the root entities - ignoring" );
+			return false;
+		}
+		return true;
+	}
+
+	private static Set<EntityHierarchy> buildEntityHierarchies(
+			DomainModelCategorizationCollector modelCategorizationCollector,
+			ModelCategorizationContextImpl mappingBuildingContext,
+			Executor executor) {
 		if ( MODEL_CATEGORIZATION_LOGGER.isDebugEnabled() ) {
-			final Map<String,ClassDetails> unusedMappedSuperClasses = new HashMap<>( modelCategorizationCollector.getMappedSuperclasses() );
-			entityHierarchies = createEntityHierarchies(
+			// concurrent as the hierarchies might be built in parallel
+			final Map<String,ClassDetails> unusedMappedSuperClasses = new ConcurrentHashMap<>( modelCategorizationCollector.getMappedSuperclasses() );
+			final Set<EntityHierarchy> entityHierarchies = createEntityHierarchies(
 					modelCategorizationCollector.getRootEntities(),
 					(identifiableType) -> {
 						if ( identifiableType instanceof MappedSuperclassTypeMetadata ) {
 							unusedMappedSuperClasses.remove( identifiableType.getClassDetails().getClassName() );
 						}
 					},
-					mappingBuildingContext
+					mappingBuildingContext,
+					executor
 			);
 			warnAboutUnusedMappedSuperclasses( unusedMappedSuperClasses );
-		}
-		else {
-			entityHierarchies = createEntityHierarchies(
-					modelCategorizationCollector.getRootEntities(),
-					ManagedResourcesCategorizer::ignore,
-					mappingBuildingContext
-			);
+			return entityHierarchies;
 		}
 
-		return modelCategorizationCollector.createResult( entityHierarchies, persistenceUnitMetadata );
+		return createEntityHierarchies(
+				modelCategorizationCollector.getRootEntities(),
+				ManagedResourcesCategorizer::ignore,
+				mappingBuildingContext,
+				executor
+		);
 	}
 
-	private static void primeClassDetailsRegistry(
-			ManagedResources managedResources,
-			XmlPreProcessingResult xmlPreProcessingResult,
-			SourceModelBuildingContext modelsContext,
-			BootstrapContext bootstrapContext) {
-		final MutableClassDetailsRegistry classDetailsRegistry = modelsContext.getClassDetailsRegistry().as( MutableClassDetailsRegistry.class );
+	private static CategorizationPhaseEvent beginPhase(Phase phase, CategorizationMetricsImpl metrics) {
+		metrics.beginPhase( phase );
+		return CategorizationEvents.beginPhase( phase );
+	}
 
-		managedResources.getAnnotatedClassReferences().forEach( aClass -> {
-			classDetailsRegistry.resolveClassDetails(
-					aClass.getName(),
-					(name) -> JdkBuilders.buildClassDetailsStatic( aClass, modelsContext )
-			);
-		} );
+	private static void endPhase(Phase phase, CategorizationPhaseEvent phaseEvent, CategorizationMetricsImpl metrics) {
+		CategorizationEvents.endPhase( phaseEvent );
+		metrics.endPhase( phase );
+	}
 
-		managedResources.getAnnotatedPackageNames().forEach( (packageName) -> {
-			try {
-				final Class<?> packageInfoClass = modelsContext.getClassLoading().classForName( packageName + ".package-info" );
-				classDetailsRegistry.resolveClassDetails(
-						packageInfoClass.getName(),
-						(name) -> JdkBuilders.buildClassDetailsStatic( packageInfoClass, modelsContext )
-				);
+	/**
+	 * The number of managed types listed by the resources - the annotated classes and packages, plus
+	 * the entities, mapped-superclasses and embeddables of the XML mappings - which decides whether to
+	 * categorize in parallel.  The XML mappings are already bound, so counting them is cheap.
+	 */
+	private static int countManagedTypes(ManagedResources managedResources) {
+		int count = managedResources.getAnnotatedClassReferences().size()
+				+ managedResources.getAnnotatedPackageNames().size()
+				+ managedResources.getAnnotatedClassNames().size();
+		for ( Binding<? extends JaxbBindableMappingDescriptor> binding : managedResources.getXmlMappingBindings() ) {
+			if ( binding.getRoot() instanceof JaxbEntityMappingsImpl jaxbRoot ) {
+				count += jaxbRoot.getEntities().size()
+						+ jaxbRoot.getMappedSuperclasses().size()
+						+ jaxbRoot.getEmbeddables().size();
 			}
-			catch (ClassLoadingException classLoadingException) {
-				// no package-info, so there can be no annotations... just skip it
+			else {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Collects the managed classes - the explicitly listed (primed) classes plus the classes they
+	 * implicitly pull in, namely their super classes and the embeddables used by their attributes.
+	 * <p/>
+	 * The members of every collected class are built here, serially, however the classes were primed -
+	 * building them resolves types through the registry, and the phases which follow may run in parallel.
+	 */
+	private static List<ClassDetails> collectManagedClasses(List<ClassDetails> primedClasses) {
+		final Map<String, ClassDetails> managedClasses = new LinkedHashMap<>();
+		final ArrayDeque<ClassDetails> toProcess = new ArrayDeque<>( primedClasses );
+		while ( !toProcess.isEmpty() ) {
+			final ClassDetails classDetails = toProcess.poll();
+			if ( managedClasses.putIfAbsent( classDetails.getName(), classDetails ) != null ) {
+				continue;
+			}
+
+			final ClassDetails superClass = classDetails.getSuperClass();
+			if ( superClass != null && !Object.class.getName().equals( superClass.getName() ) ) {
+				toProcess.add( superClass );
 			}
-		} );
 
-		managedResources.getAnnotatedClassNames().forEach( classDetailsRegistry::resolveClassDetails );
+			final List<FieldDetails> fields = classDetails.getFields();
+			final List<MethodDetails> methods = classDetails.getMethods();
+			if ( classDetails.hasDirectAnnotationUsage( Entity.class )
+					|| classDetails.hasDirectAnnotationUsage( MappedSuperclass.class )
+					|| classDetails.hasDirectAnnotationUsage( Embeddable.class ) ) {
+				fields.forEach( (member) -> collectEmbeddables( member, toProcess ) );
+				methods.forEach( (member) -> collectEmbeddables( member, toProcess ) );
+			}
+		}
+		return new ArrayList<>( managedClasses.values() );
+	}
 
-		xmlPreProcessingResult.getMappedClasses().forEach( classDetailsRegistry::resolveClassDetails );
+	private static void collectEmbeddables(MemberDetails member, ArrayDeque<ClassDetails> toProcess) {
+		collectEmbeddable( member.getAssociatedType(), toProcess );
+		if ( member.isPlural() && member.getType().isImplementor( Map.class ) ) {
+			collectEmbeddable( member.getMapKeyType(), toProcess );
+		}
+	}
+
+	private static void collectEmbeddable(TypeDetails type, ArrayDeque<ClassDetails> toProcess) {
+		if ( type == null ) {
+			return;
+		}
+		final ClassDetails typeClassDetails = type.determineRawClass();
+		if ( typeClassDetails != null && typeClassDetails.hasDirectAnnotationUsage( Embeddable.class ) ) {
+			toProcess.add( typeClassDetails );
+		}
 	}
 
 	private static void ignore(IdentifiableTypeMetadata identifiableTypeMetadata) {
@@ -0,0 +1,51 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process.spi;
+
+import java.util.Set;
+
+/**
+ * Describes how the {@linkplain org.hibernate.boot.model.process.spi.ManagedResources managed resources}
+ * changed since a domain model was categorized, for
+ * {@linkplain ManagedResourcesCategorizer#recategorizeManagedResources incremental re-categorization}.
+ * <p/>
+ * Classes are identified by name, XML mappings by the name of their
+ * {@linkplain org.hibernate.boot.jaxb.Origin origin}.  Added classes and mappings are simply
+ * reported as changed.
+ *
+ * @param changedClasses Names of the classes which were added or changed
+ * @param removedClasses Names of the classes which were removed
+ * @param changedXmlMappings Names of the XML mappings which were added or changed
+ * @param removedXmlMappings Names of the XML mappings which were removed
+ *
+ * @author Steve Ebersole
+ */
+public record ManagedResourcesChanges(
+		Set<String> changedClasses,
+		Set<String> removedClasses,
+		Set<String> changedXmlMappings,
+		Set<String> removedXmlMappings) {
+
+	public ManagedResourcesChanges {
+		changedClasses = changedClasses == null ? Set.of() : Set.copyOf( changedClasses );
+		removedClasses = removedClasses == null ? Set.of() : Set.copyOf( removedClasses );
+		changedXmlMappings = changedXmlMappings == null ? Set.of() : Set.copyOf( changedXmlMappings );
+		removedXmlMappings = removedXmlMappings == null ? Set.of() : Set.copyOf( removedXmlMappings );
+	}
+
+	/**
+	 * Changes to classes only.
+	 */
+	public static ManagedResourcesChanges ofClasses(Set<String> changedClasses, Set<String> removedClasses) {
+		return new ManagedResourcesChanges( changedClasses, removedClasses, null, null );
+	}
+
+	public boolean isEmpty() {
+		return changedClasses.isEmpty()
+				&& removedClasses.isEmpty()
+				&& changedXmlMappings.isEmpty()
+				&& removedXmlMappings.isEmpty();
+	}
+}
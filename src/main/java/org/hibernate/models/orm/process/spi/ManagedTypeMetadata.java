@@ -44,8 +44,17 @@ public interface ManagedTypeMetadata {
 	 */
 	Collection<AttributeMetadata> getAttributes();
 
+	/**
+	 * Find the declared attribute with the given name, or {@code null} if there is none
+	 */
 	AttributeMetadata findAttribute(String name);
 
+	/**
+	 * The position of the declared attribute with the given name within
+	 * {@linkplain #getAttributes()}, or {@code -1} if there is none
+	 */
+	int attributeIndex(String name);
+
 	/**
 	 * Visit each declared attributes
 	 */
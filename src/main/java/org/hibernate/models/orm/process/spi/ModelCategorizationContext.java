@@ -9,7 +9,11 @@ package org.hibernate.models.orm.process.spi;
 import java.util.List;
 
 import org.hibernate.boot.models.spi.JpaEventListener;
+import org.hibernate.models.orm.process.internal.HierarchyRootResolver;
+import org.hibernate.models.orm.process.internal.KeyMemberSummary;
+import org.hibernate.models.orm.process.internal.ManagedTypeKinds;
 import org.hibernate.models.orm.process.internal.StandardPersistentAttributeMemberResolver;
+import org.hibernate.models.spi.ClassDetails;
 import org.hibernate.models.spi.ClassDetailsRegistry;
 import org.hibernate.models.spi.SourceModelBuildingContext;
 
@@ -34,4 +38,29 @@ public interface ModelCategorizationContext {
 	}
 
 	List<JpaEventListener> getDefaultEventListeners();
+
+	/**
+	 * Where the managed types sit in their hierarchies, each resolved once for the categorization
+	 */
+	HierarchyRootResolver getHierarchyRootResolver();
+
+	/**
+	 * The kinds of the managed types, each determined once for the categorization
+	 */
+	default ManagedTypeKinds getManagedTypeKinds() {
+		return getHierarchyRootResolver().getManagedTypeKinds();
+	}
+
+	/**
+	 * The key members of the class, summarized once for the categorization
+	 */
+	KeyMemberSummary getKeyMemberSummary(ClassDetails classDetails);
+
+	/**
+	 * Whether the details were replaced in the registry (by an incremental re-categorization), though
+	 * it may still list them as a subtype.  Such details are not walked.
+	 */
+	default boolean isSuperseded(ClassDetails classDetails) {
+		return false;
+	}
 }
@@ -10,12 +10,14 @@ import org.hibernate.Internal;
 
 import org.jboss.logging.BasicLogger;
 import org.jboss.logging.Logger;
+import org.jboss.logging.annotations.Cause;
 import org.jboss.logging.annotations.LogMessage;
 import org.jboss.logging.annotations.Message;
 import org.jboss.logging.annotations.MessageLogger;
 import org.jboss.logging.annotations.ValidIdRange;
 
 import static org.jboss.logging.Logger.Level.INFO;
+import static org.jboss.logging.Logger.Level.WARN;
 
 /**
  * todo : find the proper min/max id range
@@ -42,4 +44,8 @@ public interface ModelCategorizationLogging extends BasicLogger {
 	@LogMessage(level = INFO)
 	@Message( id = 999902, value = "Entity `%s` used both @DynamicUpdate and @SQLUpdate" )
 	void dynamicAndCustomUpdate(String entityName);
+
+	@LogMessage(level = WARN)
+	@Message( id = 999903, value = "Unable to store categorization snapshot `%s`" )
+	void unableToStoreSnapshot(String file, @Cause Throwable cause);
 }
@@ -23,6 +23,10 @@ public class NaturalIdCacheRegion {
 		this.regionName = determineRegionName( cacheAnnotation, cacheRegion );
 	}
 
+	public NaturalIdCacheRegion(String regionName) {
+		this.regionName = regionName;
+	}
+
 	private static String determineRegionName(NaturalIdCache cacheAnnotation, CacheRegion cacheRegion) {
 		if ( cacheAnnotation != null ) {
 			final String explicitRegionName = cacheAnnotation.region();
@@ -12,8 +12,10 @@ import org.hibernate.boot.model.process.spi.ManagedResources;
 import org.hibernate.boot.model.process.spi.MetadataBuildingProcess;
 import org.hibernate.boot.models.xml.internal.PersistenceUnitMetadataImpl;
 import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.spi.BootstrapContext;
 import org.hibernate.models.orm.process.spi.CategorizedDomainModel;
 import org.hibernate.models.orm.process.spi.ManagedResourcesCategorizer;
+import org.hibernate.models.orm.process.synthetic.SyntheticModelGenerator;
 
 import org.hibernate.testing.boot.BootstrapContextImpl;
 
@@ -48,4 +50,29 @@ public class TestingHelper {
 		);
 	}
 
+	/**
+	 * Generate the synthetic model into a new bootstrap context and categorize it
+	 */
+	public static CategorizedDomainModel categorizeSyntheticModel(
+			SyntheticModelGenerator generator,
+			StandardServiceRegistry serviceRegistry) {
+		return categorizeSyntheticModel( generator, new BootstrapContextImpl( serviceRegistry ), serviceRegistry );
+	}
+
+	/**
+	 * Generate the synthetic model into the given bootstrap context and categorize it
+	 */
+	public static CategorizedDomainModel categorizeSyntheticModel(
+			SyntheticModelGenerator generator,
+			BootstrapContext bootstrapContext,
+			StandardServiceRegistry serviceRegistry) {
+		final ManagedResources managedResources = generator.generate( bootstrapContext.getModelsContext() ).createManagedResources();
+		return ManagedResourcesCategorizer.categorizeManagedResources(
+				managedResources,
+				new PersistenceUnitMetadataImpl(),
+				new MetadataBuilderImpl.MappingDefaultsImpl( serviceRegistry ),
+				SharedCacheMode.UNSPECIFIED,
+				bootstrapContext
+		);
+	}
 }
@@ -6,6 +6,7 @@
 package org.hibernate.models.orm.process.attr;
 
 import org.hibernate.boot.models.AttributeNature;
+import org.hibernate.boot.models.MultipleAttributeNaturesException;
 import org.hibernate.models.orm.process.TestingHelper;
 import org.hibernate.models.orm.process.spi.AttributeMetadata;
 import org.hibernate.models.orm.process.spi.CategorizedDomainModel;
@@ -17,6 +18,7 @@ import org.hibernate.testing.orm.junit.ServiceRegistryScope;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.hibernate.models.orm.process.TestingHelper.metadataSources;
 
 /**
@@ -67,5 +69,65 @@ public class AttributeTests {
 		final AttributeMetadata pluralAny = root.findAttribute( "anyOthers" );
 		assertThat( pluralAny.nature() ).isEqualTo( AttributeNature.MANY_TO_ANY );
 
+		// the embeddable is not listed explicitly, but is pulled in through the attributes
+		assertThat( domainModel.embeddables() ).containsOnlyKeys( Component.class.getName() );
+		assertThat( domainModel.mappedSuperclasses() ).isEmpty();
+	}
+
+	@Test
+	void testImpliedNatures(ServiceRegistryScope registryScope) {
+		final CategorizedDomainModel domainModel = TestingHelper.categorizeDomainModel(
+				metadataSources( registryScope.getRegistry(), ImpliedNatures.class ),
+				registryScope.getRegistry()
+		);
+
+		final EntityTypeMetadata root = domainModel.entityHierarchies().iterator().next().getRoot();
+		assertThat( root.findAttribute( "version" ).nature() ).isEqualTo( AttributeNature.BASIC );
+		assertThat( root.findAttribute( "text" ).nature() ).isEqualTo( AttributeNature.BASIC );
+		assertThat( root.findAttribute( "anything" ).nature() ).isEqualTo( AttributeNature.ANY );
+		// `@Enumerated` applies to the elements, and does not make the collection basic
+		assertThat( root.findAttribute( "statuses" ).nature() ).isEqualTo( AttributeNature.ELEMENT_COLLECTION );
+	}
+
+	@Test
+	void testAttributeIndex(ServiceRegistryScope registryScope) {
+		final CategorizedDomainModel domainModel = TestingHelper.categorizeDomainModel(
+				metadataSources( registryScope.getRegistry(), WideEntity.class, Representative.class ),
+				registryScope.getRegistry()
+		);
+
+		for ( EntityHierarchy hierarchy : domainModel.entityHierarchies() ) {
+			final EntityTypeMetadata root = hierarchy.getRoot();
+			root.forEachAttribute( (position, attribute) -> {
+				// a non-interned copy of the name must resolve the same
+				final String name = new String( attribute.name() );
+				assertThat( root.attributeIndex( name ) ).isEqualTo( position );
+				assertThat( root.findAttribute( name ) ).isSameAs( attribute );
+			} );
+			assertThat( root.attributeIndex( "nonExistent" ) ).isEqualTo( -1 );
+			assertThat( root.findAttribute( "nonExistent" ) ).isNull();
+			// the same for wide and narrow types
+			assertThat( root.attributeIndex( null ) ).isEqualTo( -1 );
+			assertThat( root.findAttribute( null ) ).isNull();
+		}
+
+		final EntityTypeMetadata wide = domainModel.entityHierarchies().stream()
+				.map( EntityHierarchy::getRoot )
+				.filter( (root) -> root.getClassDetails().getName().equals( WideEntity.class.getName() ) )
+				.findFirst()
+				.orElseThrow();
+		assertThat( wide.getNumberOfAttributes() ).isEqualTo( 25 );
+		assertThat( wide.attributeIndex( "id" ) ).isGreaterThanOrEqualTo( 0 );
+		assertThat( wide.findAttribute( "attribute24" ).nature() ).isEqualTo( AttributeNature.BASIC );
+	}
+
+	@Test
+	void testConflictingNatures(ServiceRegistryScope registryScope) {
+		assertThatThrownBy( () -> TestingHelper.categorizeDomainModel(
+				metadataSources( registryScope.getRegistry(), ConflictingNatures.class ),
+				registryScope.getRegistry()
+		) )
+				.isInstanceOf( MultipleAttributeNaturesException.class )
+				.hasMessageContaining( "representative" );
 	}
 }
@@ -0,0 +1,22 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process.attr;
+
+import jakarta.persistence.Basic;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+/**
+ * @author Steve Ebersole
+ */
+@Entity
+public class ConflictingNatures {
+	@Id
+	private Integer id;
+	@Basic
+	@ManyToOne
+	private Representative representative;
+}
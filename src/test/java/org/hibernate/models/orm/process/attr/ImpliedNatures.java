@@ -0,0 +1,39 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process.attr;
+
+import java.util.Set;
+
+import org.hibernate.annotations.AnyDiscriminator;
+import org.hibernate.annotations.AnyKeyJavaClass;
+import org.hibernate.annotations.Nationalized;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Version;
+
+/**
+ * @author Steve Ebersole
+ */
+@Entity
+public class ImpliedNatures {
+	@Id
+	private Integer id;
+	@Version
+	private Integer version;
+	@Lob
+	@Nationalized
+	private String text;
+	@AnyDiscriminator
+	@AnyKeyJavaClass( Integer.class )
+	private Representative anything;
+	@ElementCollection
+	@Enumerated( EnumType.STRING )
+	private Set<Status> statuses;
+}
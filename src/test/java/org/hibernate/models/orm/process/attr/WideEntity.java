@@ -0,0 +1,44 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+
+package org.hibernate.models.orm.process.attr;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+/**
+ * An entity with enough attributes for lookups to go through an index
+ *
+ * @author Steve Ebersole
+ */
+@Entity
+public class WideEntity {
+	@Id
+	private Integer id;
+	private String attribute01;
+	private String attribute02;
+	private String attribute03;
+	private String attribute04;
+	private String attribute05;
+	private String attribute06;
+	private String attribute07;
+	private String attribute08;
+	private String attribute09;
+	private String attribute10;
+	private String attribute11;
+	private String attribute12;
+	private String attribute13;
+	private String attribute14;
+	private String attribute15;
+	private String attribute16;
+	private String attribute17;
+	private String attribute18;
+	private String attribute19;
+	private String attribute20;
+	private String attribute21;
+	private String attribute22;
+	private String attribute23;
+	private String attribute24;
+}
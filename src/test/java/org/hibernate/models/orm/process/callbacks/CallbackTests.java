@@ -9,6 +9,9 @@ package org.hibernate.models.orm.process.callbacks;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import org.hibernate.boot.models.JpaEventListenerStyle;
+import org.hibernate.boot.models.spi.JpaEventListener;
+import org.hibernate.models.ModelsException;
 import org.hibernate.models.orm.process.TestingHelper;
 import org.hibernate.models.orm.process.spi.CategorizedDomainModel;
 import org.hibernate.models.orm.process.spi.EntityHierarchy;
@@ -20,6 +23,7 @@ import org.hibernate.testing.orm.junit.ServiceRegistryScope;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.hibernate.models.orm.process.TestingHelper.metadataSources;
 
 /**
@@ -62,4 +66,47 @@ public class CallbackTests {
 				.getClassName();
 		assertThat( callbackClassName ).isEqualTo( Listener1.class.getName() );
 	}
+
+	@Test
+	@ServiceRegistry
+	void testMultipleCallbacks(ServiceRegistryScope registryScope) {
+		final CategorizedDomainModel domainModel = TestingHelper.categorizeDomainModel(
+				metadataSources( registryScope.getRegistry(), MultipleCallbacks.class, NoCallbacks.class ),
+				registryScope.getRegistry()
+		);
+
+		assertThat( domainModel.entityHierarchies() ).hasSize( 2 );
+		domainModel.forEachEntityHierarchy( (index, hierarchy) -> {
+			final EntityTypeMetadata root = hierarchy.getRoot();
+			if ( root.getClassDetails().getName().equals( NoCallbacks.class.getName() ) ) {
+				assertThat( root.getHierarchyJpaEventListeners() ).isEmpty();
+				assertThat( root.getCompleteJpaEventListeners() ).isEmpty();
+				return;
+			}
+
+			assertThat( root.getHierarchyJpaEventListeners() ).hasSize( 1 );
+			final JpaEventListener callbacks = root.getHierarchyJpaEventListeners().get( 0 );
+			assertThat( callbacks.getStyle() ).isEqualTo( JpaEventListenerStyle.CALLBACK );
+			assertThat( callbacks.getPrePersistMethod().getName() ).isEqualTo( "beforeWrite" );
+			// the same method is registered for each of its events
+			assertThat( callbacks.getPreUpdateMethod() ).isSameAs( callbacks.getPrePersistMethod() );
+			assertThat( callbacks.getPostLoadMethod().getName() ).isEqualTo( "wasLoaded" );
+			assertThat( callbacks.getPostPersistMethod() ).isNull();
+			assertThat( callbacks.getPreRemoveMethod() ).isNull();
+			assertThat( callbacks.getPostRemoveMethod() ).isNull();
+			assertThat( callbacks.getPostUpdateMethod() ).isNull();
+		} );
+	}
+
+	@Test
+	@ServiceRegistry
+	void testConflictingCallbacks(ServiceRegistryScope registryScope) {
+		// `beforeWrite` is the @PreUpdate callback as well as the @PrePersist one, so `beforeUpdate` is a second
+		assertThatThrownBy( () -> TestingHelper.categorizeDomainModel(
+				metadataSources( registryScope.getRegistry(), ConflictingCallbacks.class ),
+				registryScope.getRegistry()
+		) )
+				.isInstanceOf( ModelsException.class )
+				.hasMessageContaining( "@PreUpdate" );
+	}
 }
@@ -0,0 +1,31 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process.callbacks;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+
+/**
+ * Entity with a method which is the callback for multiple events, one of
+ * which also has another callback method
+ *
+ * @author Steve Ebersole
+ */
+@Entity
+public class ConflictingCallbacks {
+	@Id
+	private Integer id;
+
+	@PrePersist
+	@PreUpdate
+	public void beforeWrite() {}
+
+	@PreUpdate
+	public void beforeUpdate() {}
+}
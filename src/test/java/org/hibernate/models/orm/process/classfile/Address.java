@@ -0,0 +1,18 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process.classfile;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+/**
+ * @author Steve Ebersole
+ */
+@Embeddable
+public class Address {
+	@Column(name = "street_name", length = 120)
+	private String street;
+	private String city;
+}
@@ -0,0 +1,209 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process.classfile;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.models.AttributeNature;
+import org.hibernate.boot.registry.BootstrapServiceRegistryBuilder;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.models.orm.process.internal.classfile.ClassFileClassDetails;
+import org.hibernate.models.orm.process.internal.classfile.ClassFileClassDetailsBuilder;
+import org.hibernate.models.orm.process.internal.snapshot.SnapshotCapturer;
+import org.hibernate.models.orm.process.spi.CategorizationSettings;
+import org.hibernate.models.orm.process.spi.CategorizedDomainModel;
+import org.hibernate.models.orm.process.spi.EntityHierarchy;
+import org.hibernate.models.orm.process.spi.EntityTypeMetadata;
+import org.hibernate.models.spi.ClassDetails;
+
+import org.hibernate.testing.boot.BootstrapContextImpl;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.AccessType;
+import jakarta.persistence.Column;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.models.orm.process.TestingHelper.categorizeDomainModel;
+
+/**
+ * @author Steve Ebersole
+ */
+public class ClassFileCategorizationTests {
+	private static final List<String> DOMAIN_MODEL = List.of(
+			Publisher.class.getName(),
+			Title.class.getName(),
+			Address.class.getName()
+	);
+
+	@Test
+	void testCategorizedFromClassFiles() throws IOException {
+		try ( IsolatingClassLoader classLoader = new IsolatingClassLoader() ) {
+			final StandardServiceRegistry serviceRegistry = new StandardServiceRegistryBuilder(
+					new BootstrapServiceRegistryBuilder().applyClassLoader( classLoader ).build()
+			).applySetting( CategorizationSettings.READ_CLASS_FILES, true ).build();
+			try {
+				final CategorizedDomainModel domainModel = categorizeDomainModel( metadataSources( serviceRegistry ), serviceRegistry );
+
+				// none of the domain model classes were loaded
+				assertThat( DOMAIN_MODEL ).noneMatch( classLoader::isLoaded );
+
+				final Map<String, EntityHierarchy> hierarchies = byRootName( domainModel );
+				assertThat( hierarchies ).containsOnlyKeys( Publisher.class.getName(), Title.class.getName() );
+
+				final EntityTypeMetadata publisher = hierarchies.get( Publisher.class.getName() ).getRoot();
+				assertThat( publisher.getClassDetails() ).isInstanceOf( ClassFileClassDetails.class );
+				assertThat( publisher.getAccessType() ).isEqualTo( AccessType.FIELD );
+				assertThat( publisher.getNumberOfAttributes() ).isEqualTo( 5 );
+				assertThat( publisher.findAttribute( "id" ).nature() ).isEqualTo( AttributeNature.BASIC );
+				assertThat( publisher.findAttribute( "status" ).nature() ).isEqualTo( AttributeNature.BASIC );
+				assertThat( publisher.findAttribute( "address" ).nature() ).isEqualTo( AttributeNature.EMBEDDED );
+				assertThat( publisher.findAttribute( "titles" ).nature() ).isEqualTo( AttributeNature.ONE_TO_MANY );
+				assertThat( publisher.findAttribute( "titles" ).member().getElementType().determineRawClass().getName() )
+						.isEqualTo( Title.class.getName() );
+
+				final EntityTypeMetadata title = hierarchies.get( Title.class.getName() ).getRoot();
+				assertThat( title.getAccessType() ).isEqualTo( AccessType.PROPERTY );
+				assertThat( title.findAttribute( "publisher" ).nature() ).isEqualTo( AttributeNature.TO_ONE );
+
+				final Column streetColumn = domainModel.embeddables().get( Address.class.getName() )
+						.findFieldByName( "street" )
+						.getDirectAnnotationUsage( Column.class );
+				assertThat( streetColumn.name() ).isEqualTo( "street_name" );
+				assertThat( streetColumn.length() ).isEqualTo( 120 );
+				assertThat( streetColumn.nullable() ).isTrue();
+
+				assertThat( domainModel.globalRegistrations().getNamedQueryRegistrations() )
+						.containsOnlyKeys( "Publisher.byName", "Publisher.active" );
+			}
+			finally {
+				StandardServiceRegistryBuilder.destroy( serviceRegistry );
+			}
+		}
+	}
+
+	@Test
+	void testSameAsReflection() {
+		final CategorizedDomainModel fromClassFiles = categorize( true );
+		final CategorizedDomainModel fromClasses = categorize( false );
+
+		// hierarchies and subtypes are not ordered
+		assertThat( SnapshotCapturer.capture( fromClassFiles.entityHierarchies() ) )
+				.usingRecursiveComparison()
+				.ignoringCollectionOrder()
+				.isEqualTo( SnapshotCapturer.capture( fromClasses.entityHierarchies() ) );
+		assertThat( fromClassFiles.embeddables() ).containsOnlyKeys( fromClasses.embeddables().keySet() );
+	}
+
+	@Test
+	void testConcurrentAccess() throws Exception {
+		final StandardServiceRegistry serviceRegistry = new StandardServiceRegistryBuilder().build();
+		final ExecutorService executor = Executors.newFixedThreadPool( 8 );
+		try {
+			final BootstrapContextImpl bootstrapContext = new BootstrapContextImpl( serviceRegistry );
+			final ClassFileClassDetailsBuilder builder = new ClassFileClassDetailsBuilder( bootstrapContext.getModelsContext() );
+			final List<ClassDetails> classes = DOMAIN_MODEL.stream().map( builder::resolveClassDetails ).toList();
+			assertThat( classes ).allMatch( ClassFileClassDetails.class::isInstance );
+
+			// members and interfaces are built once, whichever thread gets there first, and the
+			// types they reference are resolved to the same details
+			final CountDownLatch start = new CountDownLatch( 1 );
+			final List<Future<List<Object>>> results = new ArrayList<>();
+			for ( int i = 0; i < 8; i++ ) {
+				results.add( executor.submit( () -> {
+					start.await();
+					final List<Object> seen = new ArrayList<>();
+					for ( ClassDetails classDetails : classes ) {
+						seen.add( classDetails.getImplementedInterfaces() );
+						seen.add( classDetails.getFields() );
+						seen.add( classDetails.getMethods() );
+						classDetails.getFields().forEach( (field) -> seen.add( field.getType().determineRawClass() ) );
+					}
+					return seen;
+				} ) );
+			}
+			start.countDown();
+
+			final List<Object> first = results.get( 0 ).get();
+			for ( Future<List<Object>> result : results ) {
+				final List<Object> seen = result.get();
+				assertThat( seen ).hasSameSizeAs( first );
+				for ( int i = 0; i < seen.size(); i++ ) {
+					assertThat( seen.get( i ) ).isSameAs( first.get( i ) );
+				}
+			}
+		}
+		finally {
+			executor.shutdownNow();
+			StandardServiceRegistryBuilder.destroy( serviceRegistry );
+		}
+	}
+
+	private static CategorizedDomainModel categorize(boolean readClassFiles) {
+		final StandardServiceRegistry serviceRegistry = new StandardServiceRegistryBuilder()
+				.applySetting( CategorizationSettings.READ_CLASS_FILES, readClassFiles )
+				.build();
+		try {
+			return categorizeDomainModel( metadataSources( serviceRegistry ), serviceRegistry );
+		}
+		finally {
+			StandardServiceRegistryBuilder.destroy( serviceRegistry );
+		}
+	}
+
+	private static MetadataSources metadataSources(StandardServiceRegistry serviceRegistry) {
+		final MetadataSources metadataSources = new MetadataSources( serviceRegistry );
+		DOMAIN_MODEL.forEach( metadataSources::addAnnotatedClassName );
+		return metadataSources;
+	}
+
+	private static Map<String, EntityHierarchy> byRootName(CategorizedDomainModel domainModel) {
+		return domainModel.entityHierarchies().stream().collect( Collectors.toMap(
+				(hierarchy) -> hierarchy.getRoot().getClassDetails().getName(),
+				Function.identity()
+		) );
+	}
+
+	/**
+	 * Defines its own copies of the domain model classes, so that whether they were loaded can be checked
+	 */
+	private static class IsolatingClassLoader extends URLClassLoader {
+		private static final String PREFIX = Publisher.class.getPackageName() + ".";
+
+		private IsolatingClassLoader() {
+			super(
+					new URL[] { Publisher.class.getProtectionDomain().getCodeSource().getLocation() },
+					ClassFileCategorizationTests.class.getClassLoader()
+			);
+		}
+
+		@Override
+		protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+			if ( name.startsWith( PREFIX ) && !name.startsWith( ClassFileCategorizationTests.class.getName() ) ) {
+				synchronized ( getClassLoadingLock( name ) ) {
+					final Class<?> loaded = findLoadedClass( name );
+					return loaded == null ? findClass( name ) : loaded;
+				}
+			}
+			return super.loadClass( name, resolve );
+		}
+
+		private boolean isLoaded(String name) {
+			return findLoadedClass( name ) != null;
+		}
+	}
+}
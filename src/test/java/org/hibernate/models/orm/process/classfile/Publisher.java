@@ -0,0 +1,50 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process.classfile;
+
+import java.util.Set;
+
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Id;
+import jakarta.persistence.NamedQueries;
+import jakarta.persistence.NamedQuery;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.QueryHint;
+
+/**
+ * @author Steve Ebersole
+ */
+@Entity(name = "Publisher")
+@NamedQueries({
+		@NamedQuery(name = "Publisher.byName", query = "from Publisher where name = :name"),
+		@NamedQuery(
+				name = "Publisher.active",
+				query = "from Publisher where status = ACTIVE",
+				hints = @QueryHint(name = "org.hibernate.readOnly", value = "true")
+		)
+})
+public class Publisher {
+	public enum Status { ACTIVE, RETIRED }
+
+	@Id
+	private Integer id;
+	private String name;
+	@Enumerated(EnumType.STRING)
+	private Status status;
+	@Embedded
+	private Address address;
+	@OneToMany(mappedBy = "publisher")
+	private Set<Title> titles;
+	private static int instances;
+	private transient int hash;
+
+	static {
+		// categorization must not initialize the class
+		instances = -1;
+	}
+}
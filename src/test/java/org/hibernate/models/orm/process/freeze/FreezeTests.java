@@ -0,0 +1,234 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process.freeze;
+
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.management.ObjectName;
+
+import org.hibernate.models.orm.process.TestingHelper;
+import org.hibernate.models.orm.process.callbacks.HierarchyRoot;
+import org.hibernate.models.orm.process.callbacks.HierarchySuper;
+import org.hibernate.models.orm.process.id.AggregatedIdEntity;
+import org.hibernate.models.orm.process.id.NonAggregatedIdEntity;
+import org.hibernate.models.orm.process.inheritance.JoinedRoot;
+import org.hibernate.models.orm.process.inheritance.JoinedSub1;
+import org.hibernate.models.orm.process.inheritance.JoinedSub2;
+import org.hibernate.models.orm.process.internal.AttributeMetadataImpl;
+import org.hibernate.models.orm.process.internal.EntityTypeMetadataImpl;
+import org.hibernate.models.orm.process.internal.ImmutableEntityHierarchy;
+import org.hibernate.models.orm.process.internal.snapshot.SnapshotCapturer;
+import org.hibernate.models.orm.process.spi.AttributeMetadata;
+import org.hibernate.models.orm.process.spi.CategorizationSettings;
+import org.hibernate.models.orm.process.spi.CategorizedDomainModel;
+import org.hibernate.models.orm.process.spi.EntityHierarchy;
+import org.hibernate.models.orm.process.spi.EntityTypeMetadata;
+import org.hibernate.models.orm.process.synthetic.SyntheticModelGenerator;
+
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.ServiceRegistryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.InheritanceType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.models.orm.process.TestingHelper.categorizeDomainModel;
+import static org.hibernate.models.orm.process.TestingHelper.metadataSources;
+
+/**
+ * @author Steve Ebersole
+ */
+public class FreezeTests {
+	private static final Class<?>[] DOMAIN_MODEL = {
+			HierarchyRoot.class,
+			HierarchySuper.class,
+			JoinedRoot.class,
+			JoinedSub1.class,
+			JoinedSub2.class,
+			NonAggregatedIdEntity.class,
+			AggregatedIdEntity.class
+	};
+
+	@Test
+	@ServiceRegistry
+	void testFrozenModel(ServiceRegistryScope registryScope) {
+		final CategorizedDomainModel built = categorizeDomainModel(
+				metadataSources( registryScope.getRegistry(), DOMAIN_MODEL ),
+				registryScope.getRegistry()
+		);
+		final CategorizedDomainModel frozen = built.freeze();
+
+		assertThat( frozen.entityHierarchies() ).hasSize( 4 );
+		assertThat( frozen.entityHierarchies() ).allMatch( ImmutableEntityHierarchy.class::isInstance );
+		assertThat( frozen.entityHierarchies() )
+				.extracting( (hierarchy) -> hierarchy.getRoot().getEntityName() )
+				.containsExactlyElementsOf( built.entityHierarchies().stream().map( (hierarchy) -> hierarchy.getRoot().getEntityName() ).toList() );
+
+		// the frozen hierarchies hold exactly the same information as the built ones
+		assertThat( SnapshotCapturer.capture( frozen.entityHierarchies() ) )
+				.isEqualTo( SnapshotCapturer.capture( built.entityHierarchies() ) );
+		assertThat( frozen.mappedSuperclasses() ).isEqualTo( built.mappedSuperclasses() );
+		assertThat( frozen.embeddables() ).isEqualTo( built.embeddables() );
+
+		// freezing an already frozen model keeps its hierarchies
+		assertThat( frozen.freeze().entityHierarchies() ).containsExactlyElementsOf( frozen.entityHierarchies() );
+
+		assertThatThrownBy( () -> frozen.entityHierarchies().clear() ).isInstanceOf( UnsupportedOperationException.class );
+		assertThatThrownBy( () -> frozen.embeddables().clear() ).isInstanceOf( UnsupportedOperationException.class );
+	}
+
+	@Test
+	@ServiceRegistry
+	void testFrozenAttributes(ServiceRegistryScope registryScope) {
+		final CategorizedDomainModel frozen = categorizeDomainModel(
+				metadataSources( registryScope.getRegistry(), NonAggregatedIdEntity.class, JoinedRoot.class, JoinedSub1.class ),
+				registryScope.getRegistry()
+		).freeze();
+
+		final EntityHierarchy hierarchy = findHierarchy( frozen, NonAggregatedIdEntity.class );
+		final EntityTypeMetadata root = hierarchy.getRoot();
+		assertThat( root.getHierarchy() ).isSameAs( hierarchy );
+
+		// attributes are views of the type's table - the same instance on each access
+		final AttributeMetadata id1 = root.findAttribute( "id1" );
+		assertThat( id1.name() ).isEqualTo( "id1" );
+		assertThat( id1.member().getName() ).isEqualTo( "id1" );
+		assertThat( root.findAttribute( "id1" ) ).isSameAs( id1 );
+		assertThat( root.getAttributes().iterator().next() ).isSameAs( root.getAttributes().iterator().next() );
+		assertThat( root.findAttribute( "id2" ) ).isNotSameAs( id1 );
+		assertThat( root.getAttributes() ).containsOnlyOnce( id1 );
+
+		assertThat( hierarchy.getIdMapping().contains( id1 ) ).isTrue();
+		assertThat( hierarchy.getIdMapping().contains( root.findAttribute( "id2" ) ) ).isTrue();
+		assertThat( hierarchy.getIdMapping().contains( root.findAttribute( "version" ) ) ).isFalse();
+		assertThat( hierarchy.getVersionAttribute() ).isSameAs( root.findAttribute( "version" ) );
+		assertThat( hierarchy.getTenantIdAttribute() ).isSameAs( root.findAttribute( "tenantId" ) );
+		assertThat( hierarchy.getNaturalIdMapping().contains( root.findAttribute( "naturalKey1" ) ) ).isTrue();
+
+		final EntityHierarchy joinedHierarchy = findHierarchy( frozen, JoinedRoot.class );
+		assertThat( joinedHierarchy.getRoot().getNumberOfSubTypes() ).isEqualTo( 1 );
+		joinedHierarchy.getRoot().forEachSubType( (subType) -> {
+			assertThat( subType.getSuperType() ).isSameAs( joinedHierarchy.getRoot() );
+			assertThat( subType.getHierarchy() ).isSameAs( joinedHierarchy );
+		} );
+	}
+
+	@Test
+	@ServiceRegistry( settings = @Setting( name = CategorizationSettings.FREEZE, value = "true" ) )
+	void testFreezeSetting(ServiceRegistryScope registryScope) {
+		final CategorizedDomainModel domainModel = categorizeDomainModel(
+				metadataSources( registryScope.getRegistry(), DOMAIN_MODEL ),
+				registryScope.getRegistry()
+		);
+		assertThat( domainModel.entityHierarchies() ).hasSize( 4 );
+		assertThat( domainModel.entityHierarchies() ).allMatch( ImmutableEntityHierarchy.class::isInstance );
+	}
+
+	/**
+	 * Compares the live heap (per a class histogram) while the built model is reachable with that
+	 * once only its frozen form is.  Only the classes specific to the model are compared - plain
+	 * collections and arrays are shared with too much else on the heap.
+	 */
+	@Test
+	@ServiceRegistry
+	void testRetainedHeap(ServiceRegistryScope registryScope) throws Exception {
+		final int entityCount = 400;
+		// the first histogram also loads what taking one needs
+		classHistogram();
+
+		CategorizedDomainModel built = TestingHelper.categorizeSyntheticModel(
+				new SyntheticModelGenerator()
+						.entityCount( entityCount )
+						.hierarchyDepth( 4 )
+						.inheritanceTypes( InheritanceType.SINGLE_TABLE, InheritanceType.JOINED )
+						.basicAttributes( 10 )
+						.toOneAttributes( 2 )
+						.oneToManyAttributes( 1 )
+						.elementCollectionAttributes( 1 )
+						.embeddables( 5 )
+						.mappedSuperclasses( 5 ),
+				registryScope.getRegistry()
+		);
+		final Map<String, long[]> builtHistogram = classHistogram();
+		final int numberOfHierarchies = built.entityHierarchies().size();
+
+		final CategorizedDomainModel frozen = built.freeze();
+		built = null;
+		final Map<String, long[]> frozenHistogram = classHistogram();
+		assertThat( frozen.entityHierarchies() ).hasSize( numberOfHierarchies );
+
+		// no per-attribute objects nor types built by interpreting annotations remain
+		assertThat( instances( builtHistogram, EntityTypeMetadataImpl.class ) - instances( frozenHistogram, EntityTypeMetadataImpl.class ) )
+				.isGreaterThanOrEqualTo( entityCount );
+		assertThat( instances( builtHistogram, AttributeMetadataImpl.class ) - instances( frozenHistogram, AttributeMetadataImpl.class ) )
+				.isGreaterThanOrEqualTo( entityCount * 10L );
+
+		final long builtBytes = bytes( builtHistogram, MODEL_CLASSES );
+		final long frozenBytes = bytes( frozenHistogram, MODEL_CLASSES );
+		assertThat( frozenBytes )
+				.as( "Heap of the categorized model (built: %s bytes)", builtBytes )
+				.isLessThan( builtBytes * 6 / 10 );
+	}
+
+	private static final String[] MODEL_CLASSES = {
+			"org.hibernate.models.orm.process.",
+			"[Lorg.hibernate.models.orm.process.",
+			"[Lorg.hibernate.models.spi.MemberDetails;",
+			"org.hibernate.boot.model.source.spi.AttributePath",
+			"org.hibernate.boot.model.source.spi.AttributeRole"
+	};
+	private static final Pattern HISTOGRAM_LINE = Pattern.compile( "^\\s*\\d+:\\s+(\\d+)\\s+(\\d+)\\s+(\\S+).*$" );
+
+	/**
+	 * Instance count and bytes of each class on the heap, after a full collection
+	 */
+	private static Map<String, long[]> classHistogram() throws Exception {
+		final String histogram = (String) ManagementFactory.getPlatformMBeanServer().invoke(
+				new ObjectName( "com.sun.management:type=DiagnosticCommand" ),
+				"gcClassHistogram",
+				new Object[] { null },
+				new String[] { String[].class.getName() }
+		);
+		final Map<String, long[]> classes = new HashMap<>();
+		for ( String line : histogram.split( "\n" ) ) {
+			final Matcher matcher = HISTOGRAM_LINE.matcher( line );
+			if ( matcher.matches() ) {
+				classes.put( matcher.group( 3 ), new long[] { Long.parseLong( matcher.group( 1 ) ), Long.parseLong( matcher.group( 2 ) ) } );
+			}
+		}
+		return classes;
+	}
+
+	private static long instances(Map<String, long[]> histogram, Class<?> type) {
+		final long[] entry = histogram.get( type.getName() );
+		return entry == null ? 0 : entry[0];
+	}
+
+	private static long bytes(Map<String, long[]> histogram, String[] classNamePrefixes) {
+		long bytes = 0;
+		for ( Map.Entry<String, long[]> entry : histogram.entrySet() ) {
+			for ( String prefix : classNamePrefixes ) {
+				if ( entry.getKey().startsWith( prefix ) ) {
+					bytes += entry.getValue()[1];
+				}
+			}
+		}
+		return bytes;
+	}
+
+	private static EntityHierarchy findHierarchy(CategorizedDomainModel domainModel, Class<?> rootClass) {
+		final List<EntityHierarchy> matches = domainModel.entityHierarchies().stream()
+				.filter( (hierarchy) -> hierarchy.getRoot().getClassDetails().getName().equals( rootClass.getName() ) )
+				.toList();
+		assertThat( matches ).hasSize( 1 );
+		return matches.get( 0 );
+	}
+}
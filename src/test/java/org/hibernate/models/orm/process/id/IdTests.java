@@ -10,8 +10,10 @@ import java.util.Set;
 
 import org.hibernate.annotations.NaturalId;
 import org.hibernate.annotations.TenantId;
+import org.hibernate.boot.registry.StandardServiceRegistry;
 import org.hibernate.cache.spi.access.AccessType;
 import org.hibernate.models.orm.process.TestingHelper;
+import org.hibernate.models.orm.process.internal.KeyMemberSummary;
 import org.hibernate.models.orm.process.spi.AggregatedKeyMapping;
 import org.hibernate.models.orm.process.spi.AttributeMetadata;
 import org.hibernate.models.orm.process.spi.BasicKeyMapping;
@@ -19,7 +21,9 @@ import org.hibernate.models.orm.process.spi.CategorizedDomainModel;
 import org.hibernate.models.orm.process.spi.EntityHierarchy;
 import org.hibernate.models.orm.process.spi.EntityTypeMetadata;
 import org.hibernate.models.orm.process.spi.NonAggregatedKeyMapping;
+import org.hibernate.models.spi.ClassDetails;
 
+import org.hibernate.testing.boot.BootstrapContextImpl;
 import org.hibernate.testing.orm.junit.ServiceRegistry;
 import org.hibernate.testing.orm.junit.ServiceRegistryScope;
 import org.junit.jupiter.api.Test;
@@ -127,4 +131,22 @@ public class IdTests {
 		assertThat( entityHierarchy.getInheritanceType() ).isNotNull();
 		assertThat( entityHierarchy.getInheritanceType() ).isEqualTo( InheritanceType.TABLE_PER_CLASS );
 	}
+
+	@Test
+	void testKeyMemberSummary(ServiceRegistryScope registryScope) {
+		final StandardServiceRegistry serviceRegistry = registryScope.getRegistry();
+		final BootstrapContextImpl bootstrapContext = new BootstrapContextImpl( serviceRegistry );
+		final ClassDetails classDetails = bootstrapContext.getModelsContext()
+				.getClassDetailsRegistry()
+				.resolveClassDetails( BasicIdEntity.class.getName() );
+
+		final KeyMemberSummary keyMembers = KeyMemberSummary.from( classDetails );
+		assertThat( keyMembers.getExplicitAccess() ).isNull();
+		assertThat( keyMembers.hasKeyMembers() ).isTrue();
+		assertThat( keyMembers.getIdMember().getName() ).isEqualTo( "id" );
+		assertThat( keyMembers.getKeyRoles( classDetails.findFieldByName( "id" ) ) ).isEqualTo( KeyMemberSummary.ID );
+		assertThat( keyMembers.getKeyRoles( classDetails.findFieldByName( "version" ) ) ).isEqualTo( KeyMemberSummary.VERSION );
+		assertThat( keyMembers.getKeyRoles( classDetails.findFieldByName( "tenantId" ) ) ).isEqualTo( KeyMemberSummary.TENANT_ID );
+		assertThat( keyMembers.getKeyRoles( classDetails.findFieldByName( "naturalId" ) ) ).isEqualTo( KeyMemberSummary.NATURAL_ID );
+	}
 }
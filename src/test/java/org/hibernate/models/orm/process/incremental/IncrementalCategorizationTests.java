@@ -0,0 +1,235 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process.incremental;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.internal.MetadataBuilderImpl;
+import org.hibernate.boot.model.process.spi.ManagedResources;
+import org.hibernate.boot.model.process.spi.MetadataBuildingProcess;
+import org.hibernate.boot.models.xml.internal.PersistenceUnitMetadataImpl;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.models.orm.process.callbacks.HierarchyRoot;
+import org.hibernate.models.orm.process.callbacks.HierarchySuper;
+import org.hibernate.models.orm.process.id.AggregatedIdEntity;
+import org.hibernate.models.orm.process.inheritance.JoinedRoot;
+import org.hibernate.models.orm.process.inheritance.JoinedSub1;
+import org.hibernate.models.orm.process.inheritance.JoinedSub2;
+import org.hibernate.models.orm.process.parallel.Author;
+import org.hibernate.models.orm.process.parallel.Book;
+import org.hibernate.models.orm.process.spi.AttributeMetadata;
+import org.hibernate.models.orm.process.spi.CategorizationSettings;
+import org.hibernate.models.orm.process.spi.CategorizedDomainModel;
+import org.hibernate.models.orm.process.spi.EntityHierarchy;
+import org.hibernate.models.orm.process.spi.ManagedResourcesCategorizer;
+import org.hibernate.models.orm.process.spi.ManagedResourcesChanges;
+import org.hibernate.models.orm.process.xml.SimpleEntity;
+import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.ClassDetailsRegistry;
+
+import org.hibernate.testing.boot.BootstrapContextImpl;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.ServiceRegistryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.SharedCacheMode;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.models.orm.process.TestingHelper.metadataSources;
+
+/**
+ * @author Steve Ebersole
+ */
+@ServiceRegistry( settings = @Setting( name = CategorizationSettings.INCREMENTAL, value = "true" ) )
+public class IncrementalCategorizationTests {
+	private static final String SIMPLE_COMPLETE_XML = "mappings/complete/simple-complete.xml";
+
+	@Test
+	void testChangedClass(ServiceRegistryScope registryScope) {
+		final StandardServiceRegistry serviceRegistry = registryScope.getRegistry();
+		final BootstrapContextImpl bootstrapContext = new BootstrapContextImpl( serviceRegistry );
+		final Class<?>[] classes = {
+				JoinedRoot.class, JoinedSub1.class, JoinedSub2.class,
+				HierarchyRoot.class, HierarchySuper.class,
+				Author.class, Book.class
+		};
+
+		final CategorizedDomainModel previous = categorize( metadataSources( serviceRegistry, classes ), bootstrapContext );
+		assertThat( previous.sources() ).isNotNull();
+		final ClassDetailsRegistry classDetailsRegistry = bootstrapContext.getModelsContext().getClassDetailsRegistry();
+		final ClassDetails previousSub1 = classDetailsRegistry.getClassDetails( JoinedSub1.class.getName() );
+
+		final CategorizedDomainModel recategorized = recategorize(
+				previous,
+				ManagedResourcesChanges.ofClasses( Set.of( JoinedSub1.class.getName() ), null ),
+				metadataSources( serviceRegistry, classes ),
+				bootstrapContext
+		);
+
+		final Map<String, EntityHierarchy> previousHierarchies = byRootName( previous );
+		final Map<String, EntityHierarchy> hierarchies = byRootName( recategorized );
+		assertThat( hierarchies ).containsOnlyKeys( previousHierarchies.keySet() );
+
+		// only the hierarchy containing the changed class is rebuilt
+		assertThat( hierarchies.get( JoinedRoot.class.getName() ) ).isNotSameAs( previousHierarchies.get( JoinedRoot.class.getName() ) );
+		assertThat( hierarchies.get( JoinedRoot.class.getName() ).getRoot().getNumberOfSubTypes() ).isEqualTo( 2 );
+		assertThat( hierarchies.get( HierarchyRoot.class.getName() ) ).isSameAs( previousHierarchies.get( HierarchyRoot.class.getName() ) );
+		assertThat( hierarchies.get( Author.class.getName() ) ).isSameAs( previousHierarchies.get( Author.class.getName() ) );
+		assertThat( hierarchies.get( Book.class.getName() ) ).isSameAs( previousHierarchies.get( Book.class.getName() ) );
+
+		assertThat( recategorized.mappedSuperclasses() ).containsOnlyKeys( HierarchySuper.class.getName() );
+		assertThat( recategorized.globalRegistrations().getNamedQueryRegistrations() )
+				.containsOnlyKeys( "Author.byName", "Book.byTitle" );
+		assertThat( recategorized.globalRegistrations().getFilterDefRegistrations() ).containsOnlyKeys( "published" );
+
+		// the registry's subtypes are left as they are - the previous details are skipped instead
+		assertThat( classDetailsRegistry.getDirectSubTypes( JoinedRoot.class.getName() ) ).contains( previousSub1 );
+		assertThat( recategorized.sources().isSuperseded( previousSub1 ) ).isTrue();
+
+		// which carries over to the next re-categorization
+		final CategorizedDomainModel recategorizedAgain = recategorize(
+				recategorized,
+				ManagedResourcesChanges.ofClasses( Set.of( JoinedSub1.class.getName() ), null ),
+				metadataSources( serviceRegistry, classes ),
+				bootstrapContext
+		);
+		assertThat( byRootName( recategorizedAgain ).get( JoinedRoot.class.getName() ).getRoot().getNumberOfSubTypes() ).isEqualTo( 2 );
+	}
+
+	@Test
+	void testAddedAndRemovedClasses(ServiceRegistryScope registryScope) {
+		final StandardServiceRegistry serviceRegistry = registryScope.getRegistry();
+		final BootstrapContextImpl bootstrapContext = new BootstrapContextImpl( serviceRegistry );
+
+		final CategorizedDomainModel previous = categorize(
+				metadataSources( serviceRegistry, JoinedRoot.class, JoinedSub1.class, JoinedSub2.class, Author.class, Book.class ),
+				bootstrapContext
+		);
+
+		final CategorizedDomainModel recategorized = recategorize(
+				previous,
+				ManagedResourcesChanges.ofClasses( Set.of( AggregatedIdEntity.class.getName() ), Set.of( Book.class.getName() ) ),
+				metadataSources( serviceRegistry, JoinedRoot.class, JoinedSub1.class, JoinedSub2.class, Author.class, AggregatedIdEntity.class ),
+				bootstrapContext
+		);
+
+		final Map<String, EntityHierarchy> previousHierarchies = byRootName( previous );
+		final Map<String, EntityHierarchy> hierarchies = byRootName( recategorized );
+		assertThat( hierarchies ).containsOnlyKeys(
+				JoinedRoot.class.getName(),
+				Author.class.getName(),
+				AggregatedIdEntity.class.getName()
+		);
+		assertThat( hierarchies.get( JoinedRoot.class.getName() ) ).isSameAs( previousHierarchies.get( JoinedRoot.class.getName() ) );
+		assertThat( hierarchies.get( Author.class.getName() ) ).isSameAs( previousHierarchies.get( Author.class.getName() ) );
+
+		// the embeddables the added class pulls in are categorized as well
+		assertThat( recategorized.embeddables() ).containsOnlyKeys(
+				AggregatedIdEntity.Pk.class.getName(),
+				AggregatedIdEntity.NatKey.class.getName()
+		);
+
+		// the removed class' registrations are gone
+		assertThat( recategorized.globalRegistrations().getNamedQueryRegistrations() ).containsOnlyKeys( "Author.byName" );
+		assertThat( recategorized.globalRegistrations().getFilterDefRegistrations() ).isEmpty();
+	}
+
+	@Test
+	void testChangedXmlMapping(ServiceRegistryScope registryScope) {
+		final StandardServiceRegistry serviceRegistry = registryScope.getRegistry();
+		final BootstrapContextImpl bootstrapContext = new BootstrapContextImpl( serviceRegistry );
+
+		final CategorizedDomainModel previous = categorize(
+				metadataSources( serviceRegistry, Author.class ).addResource( SIMPLE_COMPLETE_XML ),
+				bootstrapContext
+		);
+
+		final CategorizedDomainModel recategorized = recategorize(
+				previous,
+				new ManagedResourcesChanges( null, null, Set.of( SIMPLE_COMPLETE_XML ), null ),
+				metadataSources( serviceRegistry, Author.class ).addResource( SIMPLE_COMPLETE_XML ),
+				bootstrapContext
+		);
+
+		final Map<String, EntityHierarchy> previousHierarchies = byRootName( previous );
+		final Map<String, EntityHierarchy> hierarchies = byRootName( recategorized );
+		assertThat( hierarchies ).containsOnlyKeys( Author.class.getName(), SimpleEntity.class.getName() );
+		assertThat( hierarchies.get( Author.class.getName() ) ).isSameAs( previousHierarchies.get( Author.class.getName() ) );
+
+		// the mapped class is rebuilt and the XML applied to it again
+		final EntityHierarchy simpleHierarchy = hierarchies.get( SimpleEntity.class.getName() );
+		assertThat( simpleHierarchy ).isNotSameAs( previousHierarchies.get( SimpleEntity.class.getName() ) );
+		final AttributeMetadata idAttribute = simpleHierarchy.getRoot().findAttribute( "id" );
+		assertThat( idAttribute.member().getDirectAnnotationUsage( Column.class ).name() ).isEqualTo( "pk" );
+		assertThat( simpleHierarchy.getRoot().getNumberOfAttributes() ).isEqualTo( 2 );
+	}
+
+	@Test
+	void testNotIncremental() {
+		final StandardServiceRegistry serviceRegistry = new StandardServiceRegistryBuilder().build();
+		try {
+			final BootstrapContextImpl bootstrapContext = new BootstrapContextImpl( serviceRegistry );
+
+			final CategorizedDomainModel previous = categorize( metadataSources( serviceRegistry, Author.class, Book.class ), bootstrapContext );
+			assertThat( previous.sources() ).isNull();
+
+			// without the sources, everything is categorized again
+			final CategorizedDomainModel recategorized = recategorize(
+					previous,
+					ManagedResourcesChanges.ofClasses( Set.of( Book.class.getName() ), null ),
+					metadataSources( serviceRegistry, Author.class, Book.class ),
+					bootstrapContext
+			);
+			assertThat( byRootName( recategorized ).get( Author.class.getName() ) )
+					.isNotSameAs( byRootName( previous ).get( Author.class.getName() ) );
+		}
+		finally {
+			StandardServiceRegistryBuilder.destroy( serviceRegistry );
+		}
+	}
+
+	private static CategorizedDomainModel categorize(MetadataSources metadataSources, BootstrapContext bootstrapContext) {
+		final ManagedResources managedResources = MetadataBuildingProcess.prepare( metadataSources, bootstrapContext );
+		return ManagedResourcesCategorizer.categorizeManagedResources(
+				managedResources,
+				new PersistenceUnitMetadataImpl(),
+				new MetadataBuilderImpl.MappingDefaultsImpl( bootstrapContext.getServiceRegistry() ),
+				SharedCacheMode.UNSPECIFIED,
+				bootstrapContext
+		);
+	}
+
+	private static CategorizedDomainModel recategorize(
+			CategorizedDomainModel previous,
+			ManagedResourcesChanges changes,
+			MetadataSources metadataSources,
+			BootstrapContext bootstrapContext) {
+		final ManagedResources managedResources = MetadataBuildingProcess.prepare( metadataSources, bootstrapContext );
+		return ManagedResourcesCategorizer.recategorizeManagedResources(
+				previous,
+				changes,
+				managedResources,
+				previous.persistenceUnitMetadata(),
+				new MetadataBuilderImpl.MappingDefaultsImpl( bootstrapContext.getServiceRegistry() ),
+				SharedCacheMode.UNSPECIFIED,
+				bootstrapContext
+		);
+	}
+
+	private static Map<String, EntityHierarchy> byRootName(CategorizedDomainModel domainModel) {
+		return domainModel.entityHierarchies().stream().collect( Collectors.toMap(
+				(hierarchy) -> hierarchy.getRoot().getClassDetails().getName(),
+				Function.identity()
+		) );
+	}
+}
@@ -0,0 +1,115 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process.index;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.boot.registry.BootstrapServiceRegistryBuilder;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.models.orm.process.callbacks.HierarchyRoot;
+import org.hibernate.models.orm.process.callbacks.HierarchySuper;
+import org.hibernate.models.orm.process.id.AggregatedIdEntity;
+import org.hibernate.models.orm.process.inheritance.JoinedRoot;
+import org.hibernate.models.orm.process.inheritance.JoinedSub1;
+import org.hibernate.models.orm.process.inheritance.JoinedSub2;
+import org.hibernate.models.orm.process.internal.EntityHierarchyImpl;
+import org.hibernate.models.orm.process.internal.ImmutableEntityHierarchy;
+import org.hibernate.models.orm.process.internal.snapshot.SnapshotCapturer;
+import org.hibernate.models.orm.process.spi.CategorizationIndexer;
+import org.hibernate.models.orm.process.spi.CategorizationSettings;
+import org.hibernate.models.orm.process.spi.CategorizedDomainModel;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jakarta.persistence.SharedCacheMode;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.models.orm.process.TestingHelper.categorizeDomainModel;
+import static org.hibernate.models.orm.process.TestingHelper.metadataSources;
+
+/**
+ * @author Steve Ebersole
+ */
+public class CategorizationIndexTests {
+	private static final Class<?>[] DOMAIN_MODEL = {
+			HierarchyRoot.class,
+			HierarchySuper.class,
+			JoinedRoot.class,
+			JoinedSub1.class,
+			JoinedSub2.class,
+			AggregatedIdEntity.class
+	};
+
+	@Test
+	void testRestoredFromIndex(@TempDir Path indexDirectory) throws IOException {
+		final CategorizedDomainModel indexed = writeIndex( indexDirectory );
+		assertThat( indexed.entityHierarchies() ).hasSize( 3 );
+
+		final CategorizedDomainModel restored = categorize( indexDirectory, null, DOMAIN_MODEL );
+		assertThat( restored.entityHierarchies() ).hasSize( 3 );
+		assertThat( restored.entityHierarchies() ).allMatch( ImmutableEntityHierarchy.class::isInstance );
+		assertThat( SnapshotCapturer.capture( restored.entityHierarchies() ) )
+				.isEqualTo( SnapshotCapturer.capture( indexed.entityHierarchies() ) );
+
+		// the things outside the index are still collected
+		assertThat( restored.mappedSuperclasses() ).containsOnlyKeys( HierarchySuper.class.getName() );
+	}
+
+	@Test
+	void testIndexOfDifferentDomainModel(@TempDir Path indexDirectory) throws IOException {
+		writeIndex( indexDirectory );
+
+		// the index does not describe these classes - they are categorized as usual
+		final CategorizedDomainModel domainModel = categorize( indexDirectory, null, JoinedRoot.class, JoinedSub1.class, JoinedSub2.class );
+		assertThat( domainModel.entityHierarchies() ).hasSize( 1 );
+		assertThat( domainModel.entityHierarchies() ).allMatch( EntityHierarchyImpl.class::isInstance );
+	}
+
+	@Test
+	void testIndexDisabled(@TempDir Path indexDirectory) throws IOException {
+		writeIndex( indexDirectory );
+
+		final CategorizedDomainModel domainModel = categorize( indexDirectory, "", DOMAIN_MODEL );
+		assertThat( domainModel.entityHierarchies() ).allMatch( EntityHierarchyImpl.class::isInstance );
+	}
+
+	private static CategorizedDomainModel writeIndex(Path indexDirectory) throws IOException {
+		final Path indexFile = indexDirectory.resolve( CategorizationIndexer.DEFAULT_INDEX_RESOURCE );
+		final CategorizedDomainModel indexed = CategorizationIndexer.index(
+				Stream.of( DOMAIN_MODEL ).map( Class::getName ).toList(),
+				List.of(),
+				SharedCacheMode.UNSPECIFIED,
+				indexFile
+		);
+		assertThat( indexFile ).exists();
+		assertThat( Files.size( indexFile ) ).isGreaterThan( 0L );
+		return indexed;
+	}
+
+	private static CategorizedDomainModel categorize(Path indexDirectory, String indexSetting, Class<?>... classes) throws IOException {
+		try ( URLClassLoader indexClassLoader = new URLClassLoader( new URL[] { indexDirectory.toUri().toURL() }, null ) ) {
+			final StandardServiceRegistryBuilder registryBuilder = new StandardServiceRegistryBuilder(
+					new BootstrapServiceRegistryBuilder().applyClassLoader( indexClassLoader ).build()
+			);
+			if ( indexSetting != null ) {
+				registryBuilder.applySetting( CategorizationSettings.CATEGORIZATION_INDEX, indexSetting );
+			}
+			final StandardServiceRegistry serviceRegistry = registryBuilder.build();
+			try {
+				return categorizeDomainModel( metadataSources( serviceRegistry, classes ), serviceRegistry );
+			}
+			finally {
+				StandardServiceRegistryBuilder.destroy( serviceRegistry );
+			}
+		}
+	}
+}
@@ -5,15 +5,26 @@
 
 package org.hibernate.models.orm.process.inheritance;
 
+import org.hibernate.boot.registry.StandardServiceRegistry;
 import org.hibernate.models.orm.process.TestingHelper;
+import org.hibernate.models.orm.process.internal.EntityHierarchyBuilder;
+import org.hibernate.models.orm.process.internal.GlobalRegistrationsImpl;
+import org.hibernate.models.orm.process.internal.HierarchyRootResolver;
+import org.hibernate.models.orm.process.internal.ManagedTypeKinds;
+import org.hibernate.models.orm.process.internal.ModelCategorizationContextImpl;
+import org.hibernate.models.orm.process.parallel.Book;
 import org.hibernate.models.orm.process.spi.CategorizedDomainModel;
 import org.hibernate.models.orm.process.spi.EntityHierarchy;
+import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.ClassDetailsRegistry;
 
+import org.hibernate.testing.boot.BootstrapContextImpl;
 import org.hibernate.testing.orm.junit.ServiceRegistry;
 import org.hibernate.testing.orm.junit.ServiceRegistryScope;
 import org.junit.jupiter.api.Test;
 
 import jakarta.persistence.InheritanceType;
+import jakarta.persistence.SharedCacheMode;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -68,4 +79,41 @@ public class InheritanceTests {
 		assertThat( entityHierarchy.getInheritanceType() ).isEqualTo( InheritanceType.TABLE_PER_CLASS );
 		assertThat( entityHierarchy.getRoot().getSubTypes() ).hasSize( 2 );
 	}
+
+	@Test
+	void testManagedTypeKinds(ServiceRegistryScope registryScope) {
+		final StandardServiceRegistry serviceRegistry = registryScope.getRegistry();
+		final BootstrapContextImpl bootstrapContext = new BootstrapContextImpl( serviceRegistry );
+		final ClassDetailsRegistry classDetailsRegistry = bootstrapContext.getModelsContext().getClassDetailsRegistry();
+		final ClassDetails root = classDetailsRegistry.resolveClassDetails( JoinedRoot.class.getName() );
+		final ClassDetails sub = classDetailsRegistry.resolveClassDetails( JoinedSub1.class.getName() );
+		final ClassDetails plain = classDetailsRegistry.resolveClassDetails( String.class.getName() );
+
+		final ManagedTypeKinds managedTypeKinds = new ManagedTypeKinds();
+		assertThat( managedTypeKinds.kindOf( root ) ).isEqualTo( ManagedTypeKinds.ENTITY );
+		assertThat( managedTypeKinds.isEntity( sub ) ).isTrue();
+		assertThat( managedTypeKinds.isIdentifiable( sub ) ).isTrue();
+		assertThat( managedTypeKinds.isMappedSuperclass( sub ) ).isFalse();
+		assertThat( managedTypeKinds.isEmbeddable( sub ) ).isFalse();
+		assertThat( managedTypeKinds.kindOf( plain ) ).isEqualTo( (byte) 0 );
+		assertThat( managedTypeKinds.hasGlobalRegistrations( root ) ).isFalse();
+
+		final ClassDetails registering = classDetailsRegistry.resolveClassDetails( Book.class.getName() );
+		assertThat( managedTypeKinds.isEntity( registering ) ).isTrue();
+		assertThat( managedTypeKinds.hasGlobalRegistrations( registering ) ).isTrue();
+
+		final HierarchyRootResolver hierarchyRootResolver = new HierarchyRootResolver( managedTypeKinds );
+		assertThat( hierarchyRootResolver.isRoot( root ) ).isTrue();
+		assertThat( hierarchyRootResolver.isRoot( sub ) ).isFalse();
+		assertThat( hierarchyRootResolver.findNearestEntitySuperClass( sub ) ).isSameAs( root );
+		assertThat( hierarchyRootResolver.findAbsoluteRoot( root ) ).isSameAs( root );
+
+		final ModelCategorizationContextImpl modelContext = new ModelCategorizationContextImpl(
+				bootstrapContext.getModelsContext(),
+				new GlobalRegistrationsImpl( bootstrapContext.getModelsContext(), bootstrapContext ),
+				SharedCacheMode.UNSPECIFIED
+		);
+		assertThat( EntityHierarchyBuilder.isRoot( root, modelContext ) ).isTrue();
+		assertThat( EntityHierarchyBuilder.isRoot( sub, modelContext ) ).isFalse();
+	}
 }
@@ -0,0 +1,86 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process.jfr;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import org.hibernate.models.orm.process.inheritance.JoinedRoot;
+import org.hibernate.models.orm.process.inheritance.JoinedSub1;
+import org.hibernate.models.orm.process.inheritance.JoinedSub2;
+import org.hibernate.models.orm.process.internal.jfr.CategorizationPhaseEvent;
+import org.hibernate.models.orm.process.internal.jfr.ClassCategorizationEvent;
+import org.hibernate.models.orm.process.internal.jfr.EntityHierarchyBuildEvent;
+import org.hibernate.models.orm.process.spi.CategorizationMetrics.Phase;
+
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.ServiceRegistryScope;
+import org.junit.jupiter.api.Test;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.models.orm.process.TestingHelper.categorizeDomainModel;
+import static org.hibernate.models.orm.process.TestingHelper.metadataSources;
+
+/**
+ * @author Steve Ebersole
+ */
+@ServiceRegistry
+public class CategorizationEventTests {
+	@Test
+	void testEvents(ServiceRegistryScope registryScope) throws Exception {
+		final Path recordingFile = Files.createTempFile( "categorization", ".jfr" );
+		try {
+			try ( Recording recording = new Recording() ) {
+				recording.enable( CategorizationPhaseEvent.NAME );
+				recording.enable( EntityHierarchyBuildEvent.NAME );
+				recording.enable( ClassCategorizationEvent.NAME ).withThreshold( Duration.ZERO );
+				recording.start();
+
+				categorizeDomainModel(
+						metadataSources( registryScope.getRegistry(), JoinedRoot.class, JoinedSub1.class, JoinedSub2.class ),
+						registryScope.getRegistry()
+				);
+
+				recording.stop();
+				recording.dump( recordingFile );
+			}
+
+			final List<RecordedEvent> events = RecordingFile.readAllEvents( recordingFile );
+
+			assertThat( events.stream().filter( (event) -> event.getEventType().getName().equals( CategorizationPhaseEvent.NAME ) ) )
+					.extracting( (event) -> event.getString( "phase" ) )
+					.containsExactlyInAnyOrder( names( Phase.values() ) );
+
+			final List<RecordedEvent> hierarchyEvents = events.stream()
+					.filter( (event) -> event.getEventType().getName().equals( EntityHierarchyBuildEvent.NAME ) )
+					.toList();
+			assertThat( hierarchyEvents ).hasSize( 1 );
+			assertThat( hierarchyEvents.get( 0 ).getString( "rootEntity" ) ).isEqualTo( JoinedRoot.class.getName() );
+			assertThat( hierarchyEvents.get( 0 ).getInt( "subtypeCount" ) ).isEqualTo( 2 );
+			assertThat( hierarchyEvents.get( 0 ).getInt( "attributeCount" ) ).isGreaterThan( 0 );
+
+			assertThat( events.stream().filter( (event) -> event.getEventType().getName().equals( ClassCategorizationEvent.NAME ) ) )
+					.extracting( (event) -> event.getString( "className" ) )
+					.contains( JoinedRoot.class.getName(), JoinedSub1.class.getName(), JoinedSub2.class.getName() );
+		}
+		finally {
+			Files.deleteIfExists( recordingFile );
+		}
+	}
+
+	private static String[] names(Phase[] phases) {
+		final String[] names = new String[phases.length];
+		for ( int i = 0; i < phases.length; i++ ) {
+			names[i] = phases[i].name();
+		}
+		return names;
+	}
+}
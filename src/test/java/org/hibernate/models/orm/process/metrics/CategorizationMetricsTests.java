@@ -0,0 +1,65 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process.metrics;
+
+import org.hibernate.models.orm.process.inheritance.JoinedRoot;
+import org.hibernate.models.orm.process.inheritance.JoinedSub1;
+import org.hibernate.models.orm.process.spi.CategorizationMetrics;
+import org.hibernate.models.orm.process.spi.CategorizationMetrics.Phase;
+import org.hibernate.models.orm.process.spi.CategorizationMetrics.PhaseMetrics;
+import org.hibernate.models.orm.process.spi.CategorizationSettings;
+import org.hibernate.models.orm.process.spi.CategorizedDomainModel;
+
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.ServiceRegistryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.models.orm.process.TestingHelper.categorizeDomainModel;
+import static org.hibernate.models.orm.process.TestingHelper.metadataSources;
+
+/**
+ * @author Steve Ebersole
+ */
+public class CategorizationMetricsTests {
+	@Test
+	@ServiceRegistry( settings = @Setting( name = CategorizationSettings.COLLECT_METRICS, value = "true" ) )
+	void testMetricsCollected(ServiceRegistryScope registryScope) {
+		final CategorizedDomainModel domainModel = categorizeDomainModel(
+				metadataSources( registryScope.getRegistry(), JoinedRoot.class, JoinedSub1.class ),
+				registryScope.getRegistry()
+		);
+
+		final CategorizationMetrics metrics = domainModel.metrics();
+		assertThat( metrics.isEnabled() ).isTrue();
+		assertThat( metrics.getPhaseMetrics() ).hasSize( Phase.values().length );
+		assertThat( metrics.getPhaseMetrics() ).extracting( PhaseMetrics::phase ).containsExactly( Phase.values() );
+
+		for ( PhaseMetrics phaseMetrics : metrics.getPhaseMetrics() ) {
+			assertThat( phaseMetrics.wallTimeNanos() ).isGreaterThanOrEqualTo( 0 );
+			assertThat( phaseMetrics.cpuTimeNanos() ).isGreaterThanOrEqualTo( -1 );
+			assertThat( phaseMetrics.allocatedBytes() ).isGreaterThanOrEqualTo( -1 );
+		}
+
+		// building the hierarchy certainly allocates
+		final PhaseMetrics hierarchyBuilding = metrics.getPhaseMetrics( Phase.HIERARCHY_BUILDING );
+		assertThat( hierarchyBuilding.allocatedBytes() ).isNotEqualTo( 0 );
+	}
+
+	@Test
+	@ServiceRegistry
+	void testMetricsDisabledByDefault(ServiceRegistryScope registryScope) {
+		final CategorizedDomainModel domainModel = categorizeDomainModel(
+				metadataSources( registryScope.getRegistry(), JoinedRoot.class, JoinedSub1.class ),
+				registryScope.getRegistry()
+		);
+
+		final CategorizationMetrics metrics = domainModel.metrics();
+		assertThat( metrics.isEnabled() ).isFalse();
+		assertThat( metrics.getPhaseMetrics() ).isEmpty();
+		assertThat( metrics.getPhaseMetrics( Phase.HIERARCHY_BUILDING ) ).isNull();
+	}
+}
@@ -0,0 +1,21 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+
+package org.hibernate.models.orm.process.parallel;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.NamedQuery;
+
+/**
+ * @author Steve Ebersole
+ */
+@Entity(name = "Author")
+@NamedQuery(name = "Author.byName", query = "from Author where name = :name")
+public class Author {
+	@Id
+	private Integer id;
+	private String name;
+}
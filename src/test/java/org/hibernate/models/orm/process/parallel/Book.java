@@ -0,0 +1,25 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+
+package org.hibernate.models.orm.process.parallel;
+
+import org.hibernate.annotations.FilterDef;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.NamedQuery;
+
+/**
+ * @author Steve Ebersole
+ */
+@Entity(name = "Book")
+@NamedQuery(name = "Book.byTitle", query = "from Book where title = :title")
+@FilterDef(name = "published", defaultCondition = "published = true")
+public class Book {
+	@Id
+	private Integer id;
+	private String title;
+	private boolean published;
+}
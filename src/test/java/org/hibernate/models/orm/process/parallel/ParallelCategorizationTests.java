@@ -0,0 +1,201 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process.parallel;
+
+import java.util.List;
+
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.models.spi.GlobalRegistrations;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.models.orm.process.TestingHelper;
+import org.hibernate.models.orm.process.inheritance.JoinedRoot;
+import org.hibernate.models.orm.process.inheritance.JoinedSub1;
+import org.hibernate.models.orm.process.inheritance.JoinedSub2;
+import org.hibernate.models.orm.process.inheritance.SingleRoot;
+import org.hibernate.models.orm.process.inheritance.SingleSub1;
+import org.hibernate.models.orm.process.inheritance.SingleSub2;
+import org.hibernate.models.orm.process.inheritance.UndefinedSingleRoot;
+import org.hibernate.models.orm.process.inheritance.UnionRoot;
+import org.hibernate.models.orm.process.inheritance.UnionSub1;
+import org.hibernate.models.orm.process.inheritance.UnionSub2;
+import org.hibernate.models.orm.process.spi.CategorizationSettings;
+import org.hibernate.models.orm.process.spi.CategorizedDomainModel;
+import org.hibernate.models.orm.process.spi.EntityHierarchy;
+import org.hibernate.models.orm.process.xml.SimpleEntity;
+
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.ServiceRegistryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.InheritanceType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Steve Ebersole
+ */
+@ServiceRegistry( settings = {
+		@Setting( name = CategorizationSettings.PARALLEL_CATEGORIZATION, value = "true" ),
+		@Setting( name = CategorizationSettings.PARALLEL_THRESHOLD, value = "1" )
+} )
+public class ParallelCategorizationTests {
+	@Test
+	void testParallelHierarchies(ServiceRegistryScope registryScope) {
+		final CategorizedDomainModel domainModel = TestingHelper.categorizeDomainModel(
+				TestingHelper.metadataSources(
+						registryScope.getRegistry(),
+						UnionSub2.class, UnionSub1.class, UnionRoot.class,
+						SingleRoot.class, SingleSub1.class, SingleSub2.class,
+						JoinedSub1.class, JoinedRoot.class, JoinedSub2.class,
+						UndefinedSingleRoot.class
+				),
+				registryScope.getRegistry()
+		);
+
+		assertThat( domainModel.entityHierarchies() ).hasSize( 4 );
+
+		// the hierarchies are ordered by root name, regardless of completion order
+		final List<String> rootNames = domainModel.entityHierarchies()
+				.stream()
+				.map( (hierarchy) -> hierarchy.getRoot().getClassDetails().getName() )
+				.toList();
+		assertThat( rootNames ).containsExactly(
+				JoinedRoot.class.getName(),
+				SingleRoot.class.getName(),
+				UndefinedSingleRoot.class.getName(),
+				UnionRoot.class.getName()
+		);
+
+		for ( EntityHierarchy hierarchy : domainModel.entityHierarchies() ) {
+			if ( hierarchy.getRoot().getClassDetails().getName().equals( UndefinedSingleRoot.class.getName() ) ) {
+				assertThat( hierarchy.getInheritanceType() ).isEqualTo( InheritanceType.SINGLE_TABLE );
+				assertThat( hierarchy.getRoot().getNumberOfSubTypes() ).isEqualTo( 0 );
+			}
+			else {
+				assertThat( hierarchy.getRoot().getNumberOfSubTypes() ).isEqualTo( 2 );
+			}
+		}
+	}
+
+	@Test
+	void testParallelGlobalRegistrations(ServiceRegistryScope registryScope) {
+		final CategorizedDomainModel domainModel = TestingHelper.categorizeDomainModel(
+				TestingHelper.metadataSources( registryScope.getRegistry(), Book.class, Author.class ),
+				registryScope.getRegistry()
+		);
+
+		assertThat( domainModel.entityHierarchies() ).hasSize( 2 );
+
+		final GlobalRegistrations globalRegistrations = domainModel.globalRegistrations();
+		assertThat( globalRegistrations.getNamedQueryRegistrations() ).containsOnlyKeys( "Book.byTitle", "Author.byName" );
+		assertThat( globalRegistrations.getFilterDefRegistrations() ).containsOnlyKeys( "published" );
+	}
+
+	@Test
+	void testParallelPriming(ServiceRegistryScope registryScope) {
+		final MetadataSources metadataSources = new MetadataSources( registryScope.getRegistry() )
+				.addAnnotatedClass( Book.class )
+				.addAnnotatedClassName( Author.class.getName() )
+				.addPackage( Book.class.getPackage() );
+		final CategorizedDomainModel domainModel = TestingHelper.categorizeDomainModel(
+				metadataSources,
+				registryScope.getRegistry()
+		);
+
+		assertThat( domainModel.entityHierarchies() ).hasSize( 2 );
+		assertThat( domainModel.globalRegistrations().getSequenceGeneratorRegistrations() ).containsOnlyKeys( "book_seq" );
+	}
+
+	@Test
+	void testPipelinedXmlAndPriming(ServiceRegistryScope registryScope) {
+		final MetadataSources metadataSources = new MetadataSources( registryScope.getRegistry() )
+				.addAnnotatedClass( Book.class )
+				.addAnnotatedClassName( Author.class.getName() )
+				.addPackage( Book.class.getPackage() )
+				.addResource( "mappings/complete/simple-complete.xml" );
+		final CategorizedDomainModel domainModel = TestingHelper.categorizeDomainModel(
+				metadataSources,
+				registryScope.getRegistry()
+		);
+
+		assertThat( domainModel.entityHierarchies() ).hasSize( 3 );
+		final EntityHierarchy simpleHierarchy = domainModel.entityHierarchies()
+				.stream()
+				.filter( (hierarchy) -> hierarchy.getRoot().getClassDetails().getName().equals( SimpleEntity.class.getName() ) )
+				.findFirst()
+				.orElseThrow();
+		// the XML was applied to the class primed from its XML-mapped name
+		assertThat( simpleHierarchy.getRoot().findAttribute( "id" ).member().getDirectAnnotationUsage( Column.class ).name() )
+				.isEqualTo( "pk" );
+
+		// the package-level registrations, collected ahead, are merged in
+		final GlobalRegistrations globalRegistrations = domainModel.globalRegistrations();
+		assertThat( globalRegistrations.getSequenceGeneratorRegistrations() ).containsOnlyKeys( "book_seq" );
+		assertThat( globalRegistrations.getNamedQueryRegistrations() ).containsOnlyKeys( "Book.byTitle", "Author.byName" );
+	}
+
+	@Test
+	@ServiceRegistry( settings = {
+			@Setting( name = CategorizationSettings.PARALLEL_CATEGORIZATION, value = "true" ),
+			@Setting( name = CategorizationSettings.PARALLEL_THRESHOLD, value = "3" )
+	} )
+	void testSingleXmlMappingParallelCategorization(ServiceRegistryScope registryScope) {
+		// a single XML mapping, but the classes it lists are enough for every phase to run in parallel
+		final CategorizedDomainModel domainModel = TestingHelper.categorizeDomainModel(
+				new MetadataSources( registryScope.getRegistry() ).addResource( "mappings/parallel/inheritance.xml" ),
+				registryScope.getRegistry()
+		);
+
+		assertThat( domainModel.entityHierarchies() ).hasSize( 3 );
+		for ( EntityHierarchy hierarchy : domainModel.entityHierarchies() ) {
+			assertThat( hierarchy.getRoot().getNumberOfSubTypes() ).isEqualTo( 2 );
+			assertThat( hierarchy.getRoot().findAttribute( "id" ) ).isNotNull();
+			assertThat( hierarchy.getRoot().findAttribute( "name" ) ).isNotNull();
+		}
+	}
+
+	@Test
+	void testParallelXmlRegistrations(ServiceRegistryScope registryScope) {
+		final CategorizedDomainModel domainModel = TestingHelper.categorizeDomainModel(
+				xmlRegistrationSources( registryScope.getRegistry() ),
+				registryScope.getRegistry()
+		);
+
+		final StandardServiceRegistry serialRegistry = new StandardServiceRegistryBuilder().build();
+		try {
+			final CategorizedDomainModel serialModel = TestingHelper.categorizeDomainModel(
+					xmlRegistrationSources( serialRegistry ),
+					serialRegistry
+			);
+
+			// merged in document order, as when applied one at a time
+			final GlobalRegistrations globalRegistrations = domainModel.globalRegistrations();
+			final GlobalRegistrations serialRegistrations = serialModel.globalRegistrations();
+			assertThat( globalRegistrations.getFilterDefRegistrations() ).containsOnlyKeys( "amount_filter", "name_filter" );
+			assertThat( globalRegistrations.getSequenceGeneratorRegistrations() )
+					.containsOnlyKeys( serialRegistrations.getSequenceGeneratorRegistrations().keySet() );
+			assertThat( globalRegistrations.getJavaTypeRegistrations() ).hasSize( 1 );
+			assertThat( globalRegistrations.getConverterRegistrations() )
+					.extracting( (registration) -> registration.getConverterType().getName() )
+					.containsExactlyElementsOf( serialRegistrations.getConverterRegistrations()
+							.stream()
+							.map( (registration) -> registration.getConverterType().getName() )
+							.toList() );
+		}
+		finally {
+			StandardServiceRegistryBuilder.destroy( serialRegistry );
+		}
+	}
+
+	private static MetadataSources xmlRegistrationSources(StandardServiceRegistry serviceRegistry) {
+		return new MetadataSources( serviceRegistry )
+				.addResource( "mappings/parallel/registrations-1.xml" )
+				.addResource( "mappings/parallel/registrations-2.xml" )
+				.addResource( "mappings/complete/simple-complete.xml" );
+	}
+}
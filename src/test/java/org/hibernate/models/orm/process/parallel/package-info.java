@@ -0,0 +1,12 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+
+/**
+ * @author Steve Ebersole
+ */
+@SequenceGenerator(name = "book_seq", sequenceName = "book_sequence")
+package org.hibernate.models.orm.process.parallel;
+
+import jakarta.persistence.SequenceGenerator;
@@ -0,0 +1,47 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process.registrations;
+
+import org.hibernate.boot.models.spi.GlobalRegistrations;
+import org.hibernate.models.orm.process.TestingHelper;
+import org.hibernate.models.orm.process.spi.CategorizedDomainModel;
+
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.ServiceRegistryScope;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.models.orm.process.TestingHelper.metadataSources;
+
+/**
+ * @author Steve Ebersole
+ */
+public class RegistrationTests {
+	@Test
+	@ServiceRegistry
+	void testClassRegistrations(ServiceRegistryScope registryScope) {
+		final CategorizedDomainModel domainModel = TestingHelper.categorizeDomainModel(
+				metadataSources( registryScope.getRegistry(), RegistrationsEntity.class ),
+				registryScope.getRegistry()
+		);
+
+		final GlobalRegistrations registrations = domainModel.globalRegistrations();
+		assertThat( registrations.getJavaTypeRegistrations() ).hasSize( 1 );
+		assertThat( registrations.getJavaTypeRegistrations().get( 0 ).getDomainType().getName() )
+				.isEqualTo( String.class.getName() );
+		assertThat( registrations.getJdbcTypeRegistrations() ).hasSize( 1 );
+		assertThat( registrations.getConverterRegistrations() ).isEmpty();
+		assertThat( registrations.getUserTypeRegistrations() ).isEmpty();
+
+		// repeated, so collected through their containers
+		assertThat( registrations.getFilterDefRegistrations() ).containsOnlyKeys( "first", "second" );
+		assertThat( registrations.getFilterDefRegistrations().get( "second" ).getDefaultCondition() ).isEqualTo( "id > 2" );
+		assertThat( registrations.getNamedQueryRegistrations() ).containsOnlyKeys( "all", "byId" );
+
+		assertThat( registrations.getNamedNativeQueryRegistrations() ).containsOnlyKeys( "native" );
+		assertThat( registrations.getSqlResultSetMappingRegistrations() ).containsOnlyKeys( "mapping" );
+		assertThat( registrations.getNamedStoredProcedureQueryRegistrations() ).isEmpty();
+	}
+}
@@ -0,0 +1,36 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process.registrations;
+
+import org.hibernate.annotations.FilterDef;
+import org.hibernate.annotations.JavaTypeRegistration;
+import org.hibernate.annotations.JdbcTypeRegistration;
+import org.hibernate.type.descriptor.java.StringJavaType;
+import org.hibernate.type.descriptor.jdbc.VarcharJdbcType;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.NamedNativeQuery;
+import jakarta.persistence.NamedQuery;
+import jakarta.persistence.SqlResultSetMapping;
+
+/**
+ * Entity defining global registrations, some of them repeated
+ *
+ * @author Steve Ebersole
+ */
+@Entity
+@JavaTypeRegistration(javaType = String.class, descriptorClass = StringJavaType.class)
+@JdbcTypeRegistration(VarcharJdbcType.class)
+@FilterDef(name = "first", defaultCondition = "id > 1")
+@FilterDef(name = "second", defaultCondition = "id > 2")
+@NamedQuery(name = "all", query = "from RegistrationsEntity")
+@NamedQuery(name = "byId", query = "from RegistrationsEntity where id = :id")
+@NamedNativeQuery(name = "native", query = "select * from RegistrationsEntity")
+@SqlResultSetMapping(name = "mapping")
+public class RegistrationsEntity {
+	@Id
+	private Integer id;
+}
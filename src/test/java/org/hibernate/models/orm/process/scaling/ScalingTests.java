@@ -0,0 +1,143 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process.scaling;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.models.orm.process.TestingHelper;
+import org.hibernate.models.orm.process.internal.EntityHierarchyBuilder;
+import org.hibernate.models.orm.process.internal.ModelCategorizationContextImpl;
+import org.hibernate.models.orm.process.spi.CategorizationSettings;
+import org.hibernate.models.orm.process.spi.CategorizedDomainModel;
+import org.hibernate.models.orm.process.synthetic.SyntheticModelGenerator;
+import org.hibernate.models.spi.ClassDetails;
+
+import org.hibernate.testing.boot.BootstrapContextImpl;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.ServiceRegistryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import com.sun.management.ThreadMXBean;
+import jakarta.persistence.InheritanceType;
+import jakarta.persistence.SharedCacheMode;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Guards against categorization cost growing super-linearly with the size of the domain model, by
+ * categorizing {@linkplain SyntheticModelGenerator synthetic models} of {@code N} and {@code 10N}
+ * entities and comparing -
+ * <ul>
+ *     <li>
+ *         the bytes allocated by the whole categorization, which covers every phase (root detection,
+ *         class categorization, global registrations, listener copying, etc.)
+ *     </li>
+ *     <li>
+ *         the number of types visited while building the hierarchies.  Mapped superclasses are shared
+ *         by many root entities, so walking into the other hierarchies below them makes the count quadratic
+ *     </li>
+ * </ul>
+ * Growth beyond 10 times the tolerance fails the test.  Categorization is serial, so that the
+ * allocations are those of the testing thread and nearly deterministic.  Time is too noisy to assert
+ * on here; it is measured across model sizes by the {@code SyntheticCategorizationBenchmark} JMH benchmark.
+ * <p/>
+ * {@code N} is set by the {@value #SIZE} system property - e.g. {@code gradle test -Pcategorization.scaling.size=1000}.
+ *
+ * @author Steve Ebersole
+ */
+@ServiceRegistry( settings = @Setting( name = CategorizationSettings.PARALLEL_CATEGORIZATION, value = "false" ) )
+public class ScalingTests {
+	public static final String SIZE = "categorization.scaling.size";
+	public static final int DEFAULT_SIZE = 200;
+
+	private static final double ALLOCATION_TOLERANCE = 1.5;
+	// the fixed number of mapped superclasses is visited once per hierarchy, so the growth is linear
+	private static final double VISIT_TOLERANCE = 1.1;
+
+	private static final int RUNS = 3;
+
+	@Test
+	void testNearLinearScaling(ServiceRegistryScope registryScope) {
+		final int size = Integer.getInteger( SIZE, DEFAULT_SIZE );
+
+		// warm up, so that the smaller model is not charged for class loading and the like
+		measure( size, registryScope );
+		measure( size, registryScope );
+
+		final Measurement small = measure( size, registryScope );
+		final Measurement large = measure( size * 10, registryScope );
+
+		assertThat( (double) large.allocatedBytes() / small.allocatedBytes() )
+				.as( "Growth of categorization allocations from %s to %s entities (%s, %s)", size, size * 10, small, large )
+				.isLessThanOrEqualTo( 10 * ALLOCATION_TOLERANCE );
+		assertThat( (double) large.visitedTypes() / small.visitedTypes() )
+				.as( "Growth of visited types from %s to %s entities (%s, %s)", size, size * 10, small, large )
+				.isLessThanOrEqualTo( 10 * VISIT_TOLERANCE );
+	}
+
+	/**
+	 * The fewest bytes allocated over several runs, to discount noise, and the types visited
+	 * building the hierarchies of the last
+	 */
+	private static Measurement measure(int entityCount, ServiceRegistryScope registryScope) {
+		final StandardServiceRegistry serviceRegistry = registryScope.getRegistry();
+		final ThreadMXBean threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+		long bestAllocatedBytes = Long.MAX_VALUE;
+		BootstrapContext bootstrapContext = null;
+		CategorizedDomainModel domainModel = null;
+		for ( int i = 0; i < RUNS; i++ ) {
+			bootstrapContext = new BootstrapContextImpl( serviceRegistry );
+			final long allocatedBytesBefore = threadMXBean.getCurrentThreadAllocatedBytes();
+			domainModel = TestingHelper.categorizeSyntheticModel(
+					generator( entityCount ),
+					bootstrapContext,
+					serviceRegistry
+			);
+			bestAllocatedBytes = Math.min( bestAllocatedBytes, threadMXBean.getCurrentThreadAllocatedBytes() - allocatedBytesBefore );
+			assertThat( domainModel.entityHierarchies() ).hasSize( entityCount / 4 );
+		}
+
+		final Set<ClassDetails> rootEntities = new LinkedHashSet<>();
+		domainModel.forEachEntityHierarchy( (index, hierarchy) -> rootEntities.add( hierarchy.getRoot().getClassDetails() ) );
+		final AtomicInteger visits = new AtomicInteger();
+		EntityHierarchyBuilder.createEntityHierarchies(
+				rootEntities,
+				(type) -> visits.incrementAndGet(),
+				new ModelCategorizationContextImpl(
+						bootstrapContext.getModelsContext(),
+						domainModel.globalRegistrations(),
+						SharedCacheMode.UNSPECIFIED
+				)
+		);
+
+		return new Measurement( entityCount, bestAllocatedBytes, visits.get() );
+	}
+
+	/**
+	 * Hierarchies of every shape and a fixed number of mapped superclasses and embeddables, so
+	 * that their fan-in grows with the model
+	 */
+	private static SyntheticModelGenerator generator(int entityCount) {
+		return new SyntheticModelGenerator()
+				.entityCount( entityCount )
+				.hierarchyDepth( 4 )
+				.inheritanceTypes( InheritanceType.SINGLE_TABLE, InheritanceType.JOINED, InheritanceType.TABLE_PER_CLASS )
+				.basicAttributes( 5 )
+				.toOneAttributes( 1 )
+				.oneToManyAttributes( 1 )
+				.elementCollectionAttributes( 1 )
+				.embeddables( 5 )
+				.mappedSuperclasses( 5 );
+	}
+
+	private record Measurement(int entityCount, long allocatedBytes, int visitedTypes) {
+	}
+}
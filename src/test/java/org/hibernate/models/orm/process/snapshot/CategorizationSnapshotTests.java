@@ -0,0 +1,179 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process.snapshot;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.models.orm.process.callbacks.HierarchyRoot;
+import org.hibernate.models.orm.process.callbacks.HierarchySuper;
+import org.hibernate.models.orm.process.id.AggregatedIdEntity;
+import org.hibernate.models.orm.process.id.NonAggregatedIdEntity;
+import org.hibernate.models.orm.process.inheritance.JoinedRoot;
+import org.hibernate.models.orm.process.inheritance.JoinedSub1;
+import org.hibernate.models.orm.process.inheritance.JoinedSub2;
+import org.hibernate.models.orm.process.internal.EntityHierarchyImpl;
+import org.hibernate.models.orm.process.internal.ImmutableEntityHierarchy;
+import org.hibernate.models.orm.process.internal.snapshot.LazyEntityHierarchy;
+import org.hibernate.models.orm.process.internal.snapshot.SnapshotCapturer;
+import org.hibernate.models.orm.process.spi.CategorizationSettings;
+import org.hibernate.models.orm.process.spi.CategorizedDomainModel;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.models.orm.process.TestingHelper.categorizeDomainModel;
+import static org.hibernate.models.orm.process.TestingHelper.metadataSources;
+
+/**
+ * @author Steve Ebersole
+ */
+public class CategorizationSnapshotTests {
+	private static final Class<?>[] DOMAIN_MODEL = {
+			HierarchyRoot.class,
+			HierarchySuper.class,
+			JoinedRoot.class,
+			JoinedSub1.class,
+			JoinedSub2.class,
+			NonAggregatedIdEntity.class,
+			AggregatedIdEntity.class
+	};
+
+	@Test
+	void testRestoredFromSnapshot(@TempDir Path tempDir) {
+		final Path snapshotFile = tempDir.resolve( "categorization.snapshot" );
+
+		final CategorizedDomainModel built = categorize( snapshotFile, DOMAIN_MODEL );
+		assertThat( snapshotFile ).exists();
+		assertThat( built.entityHierarchies() ).allMatch( EntityHierarchyImpl.class::isInstance );
+
+		final CategorizedDomainModel restored = categorize( snapshotFile, DOMAIN_MODEL );
+		assertThat( restored.entityHierarchies() ).hasSize( 4 );
+		assertThat( restored.entityHierarchies() ).allMatch( ImmutableEntityHierarchy.class::isInstance );
+
+		// the restored hierarchies hold exactly the same information as the built ones
+		assertThat( SnapshotCapturer.capture( restored.entityHierarchies() ) )
+				.isEqualTo( SnapshotCapturer.capture( built.entityHierarchies() ) );
+
+		// the things outside the snapshot are still collected
+		assertThat( restored.mappedSuperclasses() ).containsOnlyKeys( HierarchySuper.class.getName() );
+		assertThat( restored.embeddables() ).containsKeys( AggregatedIdEntity.Pk.class.getName(), AggregatedIdEntity.NatKey.class.getName() );
+	}
+
+	@Test
+	void testChangedDomainModel(@TempDir Path tempDir) {
+		final Path snapshotFile = tempDir.resolve( "categorization.snapshot" );
+
+		categorize( snapshotFile, JoinedRoot.class, JoinedSub1.class, JoinedSub2.class );
+
+		// a different set of classes is a different key - the snapshot is rebuilt...
+		final CategorizedDomainModel changed = categorize( snapshotFile, DOMAIN_MODEL );
+		assertThat( changed.entityHierarchies() ).hasSize( 4 );
+		assertThat( changed.entityHierarchies() ).allMatch( EntityHierarchyImpl.class::isInstance );
+
+		// ... and used next time
+		final CategorizedDomainModel restored = categorize( snapshotFile, DOMAIN_MODEL );
+		assertThat( restored.entityHierarchies() ).allMatch( ImmutableEntityHierarchy.class::isInstance );
+	}
+
+	@Test
+	void testChangedSettings(@TempDir Path tempDir) {
+		final Path snapshotFile = tempDir.resolve( "categorization.snapshot" );
+		categorize( snapshotFile, DOMAIN_MODEL );
+		assertThat( categorize( snapshotFile, DOMAIN_MODEL ).entityHierarchies() )
+				.allMatch( ImmutableEntityHierarchy.class::isInstance );
+
+		// a mapping default supplied through settings rather than XML is a different key...
+		final Map<String, Object> quotingSettings = Map.of( AvailableSettings.GLOBALLY_QUOTED_IDENTIFIERS, "true" );
+		assertThat( categorize( snapshotFile, quotingSettings, DOMAIN_MODEL ).entityHierarchies() )
+				.allMatch( EntityHierarchyImpl.class::isInstance );
+
+		// ... as is a categorization option influencing how the hierarchies are built
+		final Map<String, Object> classFileSettings = Map.of( CategorizationSettings.READ_CLASS_FILES, "true" );
+		categorize( snapshotFile, classFileSettings, DOMAIN_MODEL );
+		assertThat( categorize( snapshotFile, classFileSettings, DOMAIN_MODEL ).entityHierarchies() )
+				.allMatch( ImmutableEntityHierarchy.class::isInstance );
+		final Map<String, Object> reflectionSettings = Map.of( CategorizationSettings.READ_CLASS_FILES, "false" );
+		assertThat( categorize( snapshotFile, reflectionSettings, DOMAIN_MODEL ).entityHierarchies() )
+				.allMatch( EntityHierarchyImpl.class::isInstance );
+	}
+
+	@Test
+	void testUnreadableSnapshot(@TempDir Path tempDir) throws IOException {
+		final Path snapshotFile = tempDir.resolve( "categorization.snapshot" );
+		Files.writeString( snapshotFile, "not a snapshot" );
+
+		final CategorizedDomainModel domainModel = categorize( snapshotFile, DOMAIN_MODEL );
+		assertThat( domainModel.entityHierarchies() ).hasSize( 4 );
+		assertThat( domainModel.entityHierarchies() ).allMatch( EntityHierarchyImpl.class::isInstance );
+	}
+
+	@Test
+	void testMappedSnapshot(@TempDir Path tempDir) {
+		final Path snapshotFile = tempDir.resolve( "categorization.snapshot" );
+
+		final CategorizedDomainModel built = categorize( snapshotFile, DOMAIN_MODEL );
+		assertThat( built.entityHierarchies() ).allMatch( EntityHierarchyImpl.class::isInstance );
+
+		// decoding happens on access, so the registry must still be available
+		final StandardServiceRegistry serviceRegistry = serviceRegistry( snapshotFile, true );
+		try {
+			final CategorizedDomainModel mapped = categorizeDomainModel( metadataSources( serviceRegistry, DOMAIN_MODEL ), serviceRegistry );
+			assertThat( mapped.entityHierarchies() ).hasSize( 4 );
+			assertThat( mapped.entityHierarchies() ).allMatch( LazyEntityHierarchy.class::isInstance );
+			assertThat( mapped.entityHierarchies() ).noneMatch( (hierarchy) -> ( (LazyEntityHierarchy) hierarchy ).isDecoded() );
+
+			// accessing one hierarchy decodes only that one
+			final LazyEntityHierarchy joined = (LazyEntityHierarchy) mapped.entityHierarchies().stream()
+					.filter( (hierarchy) -> ( (LazyEntityHierarchy) hierarchy ).getRootEntityName().equals( JoinedRoot.class.getName() ) )
+					.findFirst()
+					.orElseThrow();
+			assertThat( joined.getRoot().getClassDetails().getName() ).isEqualTo( JoinedRoot.class.getName() );
+			assertThat( joined.isDecoded() ).isTrue();
+			assertThat( mapped.entityHierarchies() ).filteredOn( (hierarchy) -> hierarchy != joined )
+					.noneMatch( (hierarchy) -> ( (LazyEntityHierarchy) hierarchy ).isDecoded() );
+
+			// the types report the lazy view as their hierarchy
+			joined.forEachType( (type, superType, hierarchy, relation) -> assertThat( type.getHierarchy() ).isSameAs( joined ) );
+
+			assertThat( SnapshotCapturer.capture( mapped.entityHierarchies() ) )
+					.isEqualTo( SnapshotCapturer.capture( built.entityHierarchies() ) );
+		}
+		finally {
+			StandardServiceRegistryBuilder.destroy( serviceRegistry );
+		}
+	}
+
+	private static CategorizedDomainModel categorize(Path snapshotFile, Class<?>... classes) {
+		return categorize( snapshotFile, Map.of(), classes );
+	}
+
+	private static CategorizedDomainModel categorize(Path snapshotFile, Map<String, Object> settings, Class<?>... classes) {
+		final StandardServiceRegistry serviceRegistry = serviceRegistry( snapshotFile, false, settings );
+		try {
+			return categorizeDomainModel( metadataSources( serviceRegistry, classes ), serviceRegistry );
+		}
+		finally {
+			StandardServiceRegistryBuilder.destroy( serviceRegistry );
+		}
+	}
+
+	private static StandardServiceRegistry serviceRegistry(Path snapshotFile, boolean mapped) {
+		return serviceRegistry( snapshotFile, mapped, Map.of() );
+	}
+
+	private static StandardServiceRegistry serviceRegistry(Path snapshotFile, boolean mapped, Map<String, Object> settings) {
+		return new StandardServiceRegistryBuilder()
+				.applySetting( CategorizationSettings.SNAPSHOT_FILE, snapshotFile.toString() )
+				.applySetting( CategorizationSettings.SNAPSHOT_MAPPED, mapped )
+				.applySettings( settings )
+				.build();
+	}
+}
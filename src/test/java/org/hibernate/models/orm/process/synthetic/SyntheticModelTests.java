@@ -0,0 +1,120 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process.synthetic;
+
+import java.util.List;
+
+import org.hibernate.boot.models.AttributeNature;
+import org.hibernate.boot.models.spi.GlobalRegistrations;
+import org.hibernate.models.orm.process.TestingHelper;
+import org.hibernate.models.orm.process.spi.CategorizationSettings;
+import org.hibernate.models.orm.process.spi.CategorizedDomainModel;
+import org.hibernate.models.orm.process.spi.EntityHierarchy;
+import org.hibernate.models.orm.process.spi.EntityTypeMetadata;
+
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.ServiceRegistryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.InheritanceType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Steve Ebersole
+ */
+public class SyntheticModelTests {
+	@Test
+	@ServiceRegistry
+	void testSyntheticModel(ServiceRegistryScope registryScope) {
+		verifyCategorization( registryScope );
+	}
+
+	@Test
+	@ServiceRegistry( settings = {
+			@Setting( name = CategorizationSettings.PARALLEL_CATEGORIZATION, value = "true" ),
+			@Setting( name = CategorizationSettings.PARALLEL_THRESHOLD, value = "1" )
+	} )
+	void testParallelSyntheticModel(ServiceRegistryScope registryScope) {
+		verifyCategorization( registryScope );
+	}
+
+	@Test
+	@ServiceRegistry
+	void testNoInheritance(ServiceRegistryScope registryScope) {
+		final CategorizedDomainModel domainModel = TestingHelper.categorizeSyntheticModel(
+				new SyntheticModelGenerator().entityCount( 50 ).globalRegistrations( false ),
+				registryScope.getRegistry()
+		);
+		assertThat( domainModel.entityHierarchies() ).hasSize( 50 );
+		assertThat( domainModel.mappedSuperclasses() ).isEmpty();
+		assertThat( domainModel.embeddables() ).isEmpty();
+		assertThat( domainModel.globalRegistrations().getNamedQueryRegistrations() ).isEmpty();
+		for ( EntityHierarchy hierarchy : domainModel.entityHierarchies() ) {
+			assertThat( hierarchy.getInheritanceType() ).isEqualTo( InheritanceType.SINGLE_TABLE );
+			assertThat( hierarchy.getRoot().hasSubTypes() ).isFalse();
+			assertThat( hierarchy.getIdMapping() ).isNotNull();
+			assertThat( hierarchy.getVersionAttribute() ).isNotNull();
+		}
+	}
+
+	private static void verifyCategorization(ServiceRegistryScope registryScope) {
+		final CategorizedDomainModel domainModel = TestingHelper.categorizeSyntheticModel(
+				new SyntheticModelGenerator()
+						.entityCount( 12 )
+						.hierarchyDepth( 3 )
+						.inheritanceTypes( InheritanceType.SINGLE_TABLE, InheritanceType.JOINED, InheritanceType.TABLE_PER_CLASS )
+						.basicAttributes( 5 )
+						.oneToManyAttributes( 1 )
+						.elementCollectionAttributes( 1 )
+						.embeddables( 2 )
+						.mappedSuperclasses( 2 ),
+				registryScope.getRegistry()
+		);
+
+		assertThat( domainModel.entityHierarchies() ).hasSize( 4 );
+		assertThat( domainModel.mappedSuperclasses() ).hasSize( 2 );
+		assertThat( domainModel.embeddables() ).hasSize( 2 );
+
+		final List<InheritanceType> inheritanceTypes = domainModel.entityHierarchies()
+				.stream()
+				.map( EntityHierarchy::getInheritanceType )
+				.toList();
+		assertThat( inheritanceTypes ).containsExactlyInAnyOrder(
+				InheritanceType.SINGLE_TABLE,
+				InheritanceType.JOINED,
+				InheritanceType.TABLE_PER_CLASS,
+				InheritanceType.SINGLE_TABLE
+		);
+
+		for ( EntityHierarchy hierarchy : domainModel.entityHierarchies() ) {
+			// the id and version come from the mapped superclass
+			assertThat( hierarchy.getAbsoluteRoot().getClassDetails().getName() ).contains( "SyntheticMappedSuperclass" );
+			assertThat( hierarchy.getIdMapping() ).isNotNull();
+			assertThat( hierarchy.getVersionAttribute() ).isNotNull();
+
+			final EntityTypeMetadata root = hierarchy.getRoot();
+			assertThat( root.getNumberOfSubTypes() ).isEqualTo( 1 );
+			assertThat( root.getSubTypes().iterator().next().getNumberOfSubTypes() ).isEqualTo( 1 );
+
+			// 5 basic, 1 to-one, 1 one-to-many, 1 element-collection, the embedded
+			assertThat( root.getNumberOfAttributes() ).isEqualTo( 9 );
+			assertThat( root.findAttribute( "basic0_0" ).nature() ).isEqualTo( AttributeNature.BASIC );
+			assertThat( root.findAttribute( "toOne0_0" ).nature() ).isEqualTo( AttributeNature.TO_ONE );
+			assertThat( root.findAttribute( "oneToMany0_0" ).nature() ).isEqualTo( AttributeNature.ONE_TO_MANY );
+			assertThat( root.findAttribute( "elements0_0" ).nature() ).isEqualTo( AttributeNature.ELEMENT_COLLECTION );
+			assertThat( root.findAttribute( "component" ).nature() ).isEqualTo( AttributeNature.EMBEDDED );
+		}
+
+		final GlobalRegistrations globalRegistrations = domainModel.globalRegistrations();
+		assertThat( globalRegistrations.getNamedQueryRegistrations() ).hasSize( 4 );
+		// class-level generators are global only with JPA's global generator scope
+		assertThat( globalRegistrations.getSequenceGeneratorRegistrations() ).isEmpty();
+		assertThat( globalRegistrations.getFilterDefRegistrations() ).hasSize( 4 );
+		assertThat( globalRegistrations.getJavaTypeRegistrations() ).hasSize( 1 );
+		assertThat( globalRegistrations.getJdbcTypeRegistrations() ).hasSize( 1 );
+	}
+}
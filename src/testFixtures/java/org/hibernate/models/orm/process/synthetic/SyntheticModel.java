@@ -0,0 +1,83 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process.synthetic;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.boot.model.process.internal.ManagedResourcesImpl;
+import org.hibernate.boot.model.process.spi.ManagedResources;
+
+/**
+ * A domain model {@linkplain SyntheticModelGenerator generated} directly in a ClassDetails registry.
+ *
+ * @author Steve Ebersole
+ */
+public class SyntheticModel {
+	private final List<String> entityNames = new ArrayList<>();
+	private final List<String> rootEntityNames = new ArrayList<>();
+	private final List<String> mappedSuperclassNames = new ArrayList<>();
+	private final List<String> embeddableNames = new ArrayList<>();
+	private int numberOfGlobalRegistrations;
+
+	/**
+	 * The names of all the entities, roots and subclasses
+	 */
+	public List<String> getEntityNames() {
+		return entityNames;
+	}
+
+	/**
+	 * The names of the root entities, one per entity hierarchy
+	 */
+	public List<String> getRootEntityNames() {
+		return rootEntityNames;
+	}
+
+	public List<String> getMappedSuperclassNames() {
+		return mappedSuperclassNames;
+	}
+
+	public List<String> getEmbeddableNames() {
+		return embeddableNames;
+	}
+
+	/**
+	 * The number of class-level registrations (named queries, generators, filter definitions, type registrations)
+	 */
+	public int getNumberOfGlobalRegistrations() {
+		return numberOfGlobalRegistrations;
+	}
+
+	/**
+	 * Managed resources naming all the classes of the model, as scanning would
+	 */
+	public ManagedResources createManagedResources() {
+		final ManagedResourcesImpl managedResources = new ManagedResourcesImpl();
+		mappedSuperclassNames.forEach( managedResources::addAnnotatedClassName );
+		embeddableNames.forEach( managedResources::addAnnotatedClassName );
+		entityNames.forEach( managedResources::addAnnotatedClassName );
+		return managedResources;
+	}
+
+	void addEntity(String name, boolean root) {
+		entityNames.add( name );
+		if ( root ) {
+			rootEntityNames.add( name );
+		}
+	}
+
+	void addMappedSuperclass(String name) {
+		mappedSuperclassNames.add( name );
+	}
+
+	void addEmbeddable(String name) {
+		embeddableNames.add( name );
+	}
+
+	void addGlobalRegistrations(int count) {
+		numberOfGlobalRegistrations += count;
+	}
+}
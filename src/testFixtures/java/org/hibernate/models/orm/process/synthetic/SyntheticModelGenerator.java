@@ -0,0 +1,382 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.models.orm.process.synthetic;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.boot.models.HibernateAnnotations;
+import org.hibernate.boot.models.JpaAnnotations;
+import org.hibernate.boot.models.annotations.internal.DiscriminatorValueJpaAnnotation;
+import org.hibernate.boot.models.annotations.internal.EntityJpaAnnotation;
+import org.hibernate.boot.models.annotations.internal.FilterDefAnnotation;
+import org.hibernate.boot.models.annotations.internal.InheritanceJpaAnnotation;
+import org.hibernate.boot.models.annotations.internal.JavaTypeRegistrationAnnotation;
+import org.hibernate.boot.models.annotations.internal.JdbcTypeRegistrationAnnotation;
+import org.hibernate.boot.models.annotations.internal.NamedQueryJpaAnnotation;
+import org.hibernate.boot.models.annotations.internal.SequenceGeneratorJpaAnnotation;
+import org.hibernate.models.internal.ClassTypeDetailsImpl;
+import org.hibernate.models.internal.MutableClassDetailsRegistry;
+import org.hibernate.models.internal.ParameterizedTypeDetailsImpl;
+import org.hibernate.models.internal.dynamic.DynamicClassDetails;
+import org.hibernate.models.spi.ClassDetails;
+import org.hibernate.models.spi.SourceModelBuildingContext;
+import org.hibernate.models.spi.TypeDetails;
+import org.hibernate.type.descriptor.java.StringJavaType;
+import org.hibernate.type.descriptor.jdbc.VarcharJdbcType;
+
+import jakarta.persistence.InheritanceType;
+
+/**
+ * Generates a domain model of arbitrary size directly in the {@linkplain MutableClassDetailsRegistry ClassDetails registry},
+ * as {@linkplain DynamicClassDetails dynamic} ClassDetails - there are no classes, so nothing is compiled or loaded.
+ * <p/>
+ * The {@linkplain #entityCount entities} are organized in hierarchies of {@linkplain #hierarchyDepth a given depth},
+ * each a chain of subclasses under its root.  The hierarchies take turns at the {@linkplain #inheritanceTypes inheritance
+ * types}, and their roots at extending the {@linkplain #mappedSuperclasses mapped superclasses} (which then declare
+ * the id and version) and at embedding the {@linkplain #embeddables embeddables}.  Each entity has a configurable mix of
+ * basic, to-one, one-to-many and element-collection attributes; associations target the root of the previous hierarchy.
+ * With {@linkplain #globalRegistrations global registrations}, each root also declares a named query, a sequence
+ * generator and a filter definition, and the first root a java-type and a jdbc-type registration.
+ * <p/>
+ * The generated model is {@linkplain SyntheticModel#createManagedResources() categorized} as any other, against the
+ * {@linkplain SourceModelBuildingContext models context} it was generated into.
+ *
+ * @author Steve Ebersole
+ */
+public class SyntheticModelGenerator {
+	public static final String PACKAGE = "org.hibernate.models.orm.process.synthetic.model";
+
+	private static final Class<?>[] BASIC_TYPES = { String.class, Integer.class, LocalDate.class, BigDecimal.class, Boolean.class };
+
+	private int entityCount = 100;
+	private int hierarchyDepth = 1;
+	private List<InheritanceType> inheritanceTypes = List.of( InheritanceType.SINGLE_TABLE );
+	private int basicAttributes = 3;
+	private int toOneAttributes = 1;
+	private int oneToManyAttributes = 0;
+	private int elementCollectionAttributes = 0;
+	private int embeddables = 0;
+	private int mappedSuperclasses = 0;
+	private boolean globalRegistrations = true;
+
+	/**
+	 * The total number of entities, roots and subclasses.  Defaults to 100.
+	 */
+	public SyntheticModelGenerator entityCount(int entityCount) {
+		this.entityCount = entityCount;
+		return this;
+	}
+
+	/**
+	 * The number of entities per hierarchy, the root included.  Defaults to 1, i.e. no inheritance.
+	 */
+	public SyntheticModelGenerator hierarchyDepth(int hierarchyDepth) {
+		if ( hierarchyDepth < 1 ) {
+			throw new IllegalArgumentException( "Hierarchy depth must be at least 1 : " + hierarchyDepth );
+		}
+		this.hierarchyDepth = hierarchyDepth;
+		return this;
+	}
+
+	/**
+	 * The inheritance types the hierarchies take turns at.  Defaults to {@linkplain InheritanceType#SINGLE_TABLE}.
+	 */
+	public SyntheticModelGenerator inheritanceTypes(InheritanceType... inheritanceTypes) {
+		if ( inheritanceTypes.length == 0 ) {
+			throw new IllegalArgumentException( "At least one inheritance type is required" );
+		}
+		this.inheritanceTypes = List.of( inheritanceTypes );
+		return this;
+	}
+
+	/**
+	 * The number of basic attributes of each entity, besides id and version.  Defaults to 3.
+	 */
+	public SyntheticModelGenerator basicAttributes(int basicAttributes) {
+		this.basicAttributes = basicAttributes;
+		return this;
+	}
+
+	/**
+	 * The number of many-to-one attributes of each entity.  Defaults to 1.
+	 */
+	public SyntheticModelGenerator toOneAttributes(int toOneAttributes) {
+		this.toOneAttributes = toOneAttributes;
+		return this;
+	}
+
+	/**
+	 * The number of one-to-many (list) attributes of each entity.  Defaults to 0.
+	 */
+	public SyntheticModelGenerator oneToManyAttributes(int oneToManyAttributes) {
+		this.oneToManyAttributes = oneToManyAttributes;
+		return this;
+	}
+
+	/**
+	 * The number of element-collection (list of strings) attributes of each entity.  Defaults to 0.
+	 */
+	public SyntheticModelGenerator elementCollectionAttributes(int elementCollectionAttributes) {
+		this.elementCollectionAttributes = elementCollectionAttributes;
+		return this;
+	}
+
+	/**
+	 * The number of embeddables, shared among the root entities.  Defaults to 0.
+	 */
+	public SyntheticModelGenerator embeddables(int embeddables) {
+		this.embeddables = embeddables;
+		return this;
+	}
+
+	/**
+	 * The number of mapped superclasses, shared among the root entities - with fewer mapped superclasses than
+	 * hierarchies, each is extended by several roots.  Defaults to 0.
+	 */
+	public SyntheticModelGenerator mappedSuperclasses(int mappedSuperclasses) {
+		this.mappedSuperclasses = mappedSuperclasses;
+		return this;
+	}
+
+	/**
+	 * Whether the roots declare global registrations.  Defaults to {@code true}.
+	 */
+	public SyntheticModelGenerator globalRegistrations(boolean globalRegistrations) {
+		this.globalRegistrations = globalRegistrations;
+		return this;
+	}
+
+	/**
+	 * Generate the model into the models context's ClassDetails registry
+	 */
+	public SyntheticModel generate(SourceModelBuildingContext modelsContext) {
+		final MutableClassDetailsRegistry classDetailsRegistry = modelsContext.getClassDetailsRegistry().as( MutableClassDetailsRegistry.class );
+		final SyntheticModel model = new SyntheticModel();
+
+		final List<ClassDetails> embeddableClasses = new ArrayList<>( embeddables );
+		for ( int i = 0; i < embeddables; i++ ) {
+			embeddableClasses.add( generateEmbeddable( i, model, classDetailsRegistry, modelsContext ) );
+		}
+
+		final List<ClassDetails> mappedSuperclassClasses = new ArrayList<>( mappedSuperclasses );
+		for ( int i = 0; i < mappedSuperclasses; i++ ) {
+			mappedSuperclassClasses.add( generateMappedSuperclass( i, model, classDetailsRegistry, modelsContext ) );
+		}
+
+		int hierarchy = -1;
+		DynamicClassDetails root = null;
+		DynamicClassDetails previousRoot = null;
+		DynamicClassDetails previous = null;
+		for ( int i = 0; i < entityCount; i++ ) {
+			final int level = i % hierarchyDepth;
+			final DynamicClassDetails entity;
+			if ( level == 0 ) {
+				hierarchy++;
+				previousRoot = root;
+				entity = generateRoot(
+						i,
+						hierarchy,
+						mappedSuperclassClasses.isEmpty() ? null : mappedSuperclassClasses.get( hierarchy % mappedSuperclasses ),
+						embeddableClasses.isEmpty() ? null : embeddableClasses.get( hierarchy % embeddables ),
+						model,
+						classDetailsRegistry,
+						modelsContext
+				);
+				root = entity;
+			}
+			else {
+				entity = createEntity( i, false, previous, model, classDetailsRegistry, modelsContext );
+				if ( inheritanceType( hierarchy ) == InheritanceType.SINGLE_TABLE ) {
+					final DiscriminatorValueJpaAnnotation discriminatorValue = JpaAnnotations.DISCRIMINATOR_VALUE.createUsage( modelsContext );
+					discriminatorValue.value( entityName( i ) );
+					entity.addAnnotationUsage( discriminatorValue );
+				}
+			}
+			applyAttributes( entity, level, previousRoot == null ? root : previousRoot, classDetailsRegistry, modelsContext );
+			previous = entity;
+		}
+
+		return model;
+	}
+
+	private InheritanceType inheritanceType(int hierarchy) {
+		return inheritanceTypes.get( hierarchy % inheritanceTypes.size() );
+	}
+
+	private static String entityName(int index) {
+		return "SyntheticEntity" + index;
+	}
+
+	private ClassDetails generateEmbeddable(
+			int index,
+			SyntheticModel model,
+			MutableClassDetailsRegistry classDetailsRegistry,
+			SourceModelBuildingContext modelsContext) {
+		final String name = PACKAGE + ".SyntheticEmbeddable" + index;
+		final DynamicClassDetails embeddable = new DynamicClassDetails( name, name, false, null, null, modelsContext );
+		embeddable.addAnnotationUsage( JpaAnnotations.EMBEDDABLE.createUsage( modelsContext ) );
+		embeddable.applyAttribute( "street", classDetailsRegistry.resolveClassDetails( String.class.getName() ), false, false, modelsContext );
+		embeddable.applyAttribute( "number", classDetailsRegistry.resolveClassDetails( Integer.class.getName() ), false, false, modelsContext );
+		classDetailsRegistry.addClassDetails( name, embeddable );
+		model.addEmbeddable( name );
+		return embeddable;
+	}
+
+	private ClassDetails generateMappedSuperclass(
+			int index,
+			SyntheticModel model,
+			MutableClassDetailsRegistry classDetailsRegistry,
+			SourceModelBuildingContext modelsContext) {
+		final String name = PACKAGE + ".SyntheticMappedSuperclass" + index;
+		final DynamicClassDetails mappedSuperclass = new DynamicClassDetails( name, name, true, null, null, modelsContext );
+		mappedSuperclass.addAnnotationUsage( JpaAnnotations.MAPPED_SUPERCLASS.createUsage( modelsContext ) );
+		applyKeyAttributes( mappedSuperclass, classDetailsRegistry, modelsContext );
+		mappedSuperclass.applyAttribute( "createdOn", classDetailsRegistry.resolveClassDetails( LocalDate.class.getName() ), false, false, modelsContext );
+		classDetailsRegistry.addClassDetails( name, mappedSuperclass );
+		model.addMappedSuperclass( name );
+		return mappedSuperclass;
+	}
+
+	private DynamicClassDetails generateRoot(
+			int index,
+			int hierarchy,
+			ClassDetails mappedSuperclass,
+			ClassDetails embeddable,
+			SyntheticModel model,
+			MutableClassDetailsRegistry classDetailsRegistry,
+			SourceModelBuildingContext modelsContext) {
+		final DynamicClassDetails root = createEntity( index, true, mappedSuperclass, model, classDetailsRegistry, modelsContext );
+		if ( hierarchyDepth > 1 ) {
+			final InheritanceJpaAnnotation inheritance = JpaAnnotations.INHERITANCE.createUsage( modelsContext );
+			inheritance.strategy( inheritanceType( hierarchy ) );
+			root.addAnnotationUsage( inheritance );
+		}
+		if ( mappedSuperclass == null ) {
+			applyKeyAttributes( root, classDetailsRegistry, modelsContext );
+		}
+		if ( embeddable != null ) {
+			root.applyAttribute( "component", embeddable, false, false, modelsContext )
+					.addAnnotationUsage( JpaAnnotations.EMBEDDED.createUsage( modelsContext ) );
+		}
+		if ( globalRegistrations ) {
+			applyGlobalRegistrations( root, entityName( index ), index == 0, model, modelsContext );
+		}
+		return root;
+	}
+
+	private static DynamicClassDetails createEntity(
+			int index,
+			boolean root,
+			ClassDetails superClass,
+			SyntheticModel model,
+			MutableClassDetailsRegistry classDetailsRegistry,
+			SourceModelBuildingContext modelsContext) {
+		final String name = PACKAGE + "." + entityName( index );
+		final DynamicClassDetails entity = new DynamicClassDetails(
+				name,
+				name,
+				false,
+				superClass,
+				superClass == null ? null : new ClassTypeDetailsImpl( superClass, TypeDetails.Kind.CLASS ),
+				modelsContext
+		);
+		final EntityJpaAnnotation entityUsage = JpaAnnotations.ENTITY.createUsage( modelsContext );
+		entityUsage.name( entityName( index ) );
+		entity.addAnnotationUsage( entityUsage );
+		classDetailsRegistry.addClassDetails( name, entity );
+		model.addEntity( name, root );
+		return entity;
+	}
+
+	private static void applyKeyAttributes(
+			DynamicClassDetails classDetails,
+			MutableClassDetailsRegistry classDetailsRegistry,
+			SourceModelBuildingContext modelsContext) {
+		classDetails.applyAttribute( "id", classDetailsRegistry.resolveClassDetails( Long.class.getName() ), false, false, modelsContext )
+				.addAnnotationUsage( JpaAnnotations.ID.createUsage( modelsContext ) );
+		classDetails.applyAttribute( "version", classDetailsRegistry.resolveClassDetails( Integer.class.getName() ), false, false, modelsContext )
+				.addAnnotationUsage( JpaAnnotations.VERSION.createUsage( modelsContext ) );
+	}
+
+	private void applyAttributes(
+			DynamicClassDetails entity,
+			int level,
+			ClassDetails associationTarget,
+			MutableClassDetailsRegistry classDetailsRegistry,
+			SourceModelBuildingContext modelsContext) {
+		// the level keeps the names of inherited attributes distinct
+		final String suffix = level + "_";
+		for ( int i = 0; i < basicAttributes; i++ ) {
+			final Class<?> type = BASIC_TYPES[i % BASIC_TYPES.length];
+			entity.applyAttribute( "basic" + suffix + i, classDetailsRegistry.resolveClassDetails( type.getName() ), false, false, modelsContext );
+		}
+		for ( int i = 0; i < toOneAttributes; i++ ) {
+			entity.applyAttribute( "toOne" + suffix + i, associationTarget, false, false, modelsContext )
+					.addAnnotationUsage( JpaAnnotations.MANY_TO_ONE.createUsage( modelsContext ) );
+		}
+		if ( oneToManyAttributes > 0 ) {
+			final TypeDetails listType = listType( associationTarget, classDetailsRegistry );
+			for ( int i = 0; i < oneToManyAttributes; i++ ) {
+				entity.applyAttribute( "oneToMany" + suffix + i, listType, false, true, modelsContext )
+						.addAnnotationUsage( JpaAnnotations.ONE_TO_MANY.createUsage( modelsContext ) );
+			}
+		}
+		if ( elementCollectionAttributes > 0 ) {
+			final TypeDetails listType = listType( classDetailsRegistry.resolveClassDetails( String.class.getName() ), classDetailsRegistry );
+			for ( int i = 0; i < elementCollectionAttributes; i++ ) {
+				entity.applyAttribute( "elements" + suffix + i, listType, false, true, modelsContext )
+						.addAnnotationUsage( JpaAnnotations.ELEMENT_COLLECTION.createUsage( modelsContext ) );
+			}
+		}
+	}
+
+	private static TypeDetails listType(ClassDetails elementType, MutableClassDetailsRegistry classDetailsRegistry) {
+		return new ParameterizedTypeDetailsImpl(
+				classDetailsRegistry.resolveClassDetails( List.class.getName() ),
+				List.of( new ClassTypeDetailsImpl( elementType, TypeDetails.Kind.CLASS ) ),
+				null
+		);
+	}
+
+	private static void applyGlobalRegistrations(
+			DynamicClassDetails root,
+			String entityName,
+			boolean first,
+			SyntheticModel model,
+			SourceModelBuildingContext modelsContext) {
+		final NamedQueryJpaAnnotation namedQuery = JpaAnnotations.NAMED_QUERY.createUsage( modelsContext );
+		namedQuery.name( entityName + ".all" );
+		namedQuery.query( "from " + entityName );
+		root.addAnnotationUsage( namedQuery );
+
+		final SequenceGeneratorJpaAnnotation sequenceGenerator = JpaAnnotations.SEQUENCE_GENERATOR.createUsage( modelsContext );
+		sequenceGenerator.name( entityName + "_seq" );
+		sequenceGenerator.sequenceName( entityName + "_seq" );
+		root.addAnnotationUsage( sequenceGenerator );
+
+		final FilterDefAnnotation filterDef = HibernateAnnotations.FILTER_DEF.createUsage( modelsContext );
+		filterDef.name( entityName + "_filter" );
+		filterDef.defaultCondition( "1=1" );
+		root.addAnnotationUsage( filterDef );
+
+		model.addGlobalRegistrations( 3 );
+
+		if ( first ) {
+			final JavaTypeRegistrationAnnotation javaTypeRegistration = HibernateAnnotations.JAVA_TYPE_REGISTRATION.createUsage( modelsContext );
+			javaTypeRegistration.javaType( String.class );
+			javaTypeRegistration.descriptorClass( StringJavaType.class );
+			root.addAnnotationUsage( javaTypeRegistration );
+
+			final JdbcTypeRegistrationAnnotation jdbcTypeRegistration = HibernateAnnotations.JDBC_TYPE_REGISTRATION.createUsage( modelsContext );
+			jdbcTypeRegistration.value( VarcharJdbcType.class );
+			root.addAnnotationUsage( jdbcTypeRegistration );
+
+			model.addGlobalRegistrations( 2 );
+		}
+	}
+}